@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+#
+# Name: Sayantika Kandar
+# Purpose: Builds a class-data archive for the lightweight CLI (CourierLauncher)
+# and compares its cold start with the Spring Boot CLI.
+#
+# - Extracts the Spring Boot jar to target/extracted (plain jars, so the JVM
+#   can archive and map the classes).
+# - JDK 24+: one training run records an AOT cache (JEP 483, classes loaded
+#   and linked ahead of time). Older JDKs: a dynamic AppCDS archive.
+# - Prints the median wall time of RUNS runs for the Spring CLI, the launcher
+#   and the launcher with the archive.
+#
+# Usage (from the courier directory, after mvn package):
+#   scripts/cli-aot.sh [input-file] [runs]
+#
+# The input file is what the CLI reads from stdin (default: the sample
+# from the problem statement in delivery time mode).
+
+set -euo pipefail
+
+JAR=target/courier-0.0.1-SNAPSHOT.jar
+OUT=target/extracted
+APP="$OUT/courier-0.0.1-SNAPSHOT.jar"
+MAIN=com.everesteng.courier.CourierLauncher
+INPUT=${1:-}
+RUNS=${2:-10}
+
+if [ ! -f "$JAR" ]; then
+    echo "Missing $JAR, run mvn package first" >&2
+    exit 1
+fi
+
+# Sample input (delivery time mode)
+if [ -z "$INPUT" ]; then
+    INPUT=target/cli-sample.txt
+    printf '2\n100 5\nPKG1 50 30 OFR001\nPKG2 75 125 OFFR0008\nPKG3 175 100 OFFR003\nPKG4 110 60 OFR002\nPKG5 155 95 NA\n2 70 200\n' > "$INPUT"
+fi
+
+rm -rf "$OUT"
+java -Djarmode=tools -jar "$JAR" extract --destination "$OUT"
+
+# Major version of the java on the PATH
+VERSION=$(java -XshowSettings:properties -version 2>&1 | sed -n 's/ *java.specification.version = //p')
+
+if [ "$VERSION" -ge 24 ]; then
+    ARCHIVE=target/courier-cli.aot
+    java -XX:AOTMode=record -XX:AOTConfiguration=target/courier-cli.aotconf -cp "$APP" "$MAIN" < "$INPUT" > /dev/null
+    java -XX:AOTMode=create -XX:AOTConfiguration=target/courier-cli.aotconf -XX:AOTCache="$ARCHIVE" -cp "$APP" "$MAIN"
+    ARCHIVE_OPTION="-XX:AOTCache=$ARCHIVE"
+else
+    ARCHIVE=target/courier-cli.jsa
+    java -XX:ArchiveClassesAtExit="$ARCHIVE" -cp "$APP" "$MAIN" < "$INPUT" > /dev/null
+    ARCHIVE_OPTION="-XX:SharedArchiveFile=$ARCHIVE"
+fi
+
+# Median wall time in ms of RUNS runs of a command reading INPUT
+median() {
+    local times=()
+    for ((i = 0; i < RUNS; i++)); do
+        local start end
+        start=$(date +%s%N)
+        "$@" < "$INPUT" > /dev/null
+        end=$(date +%s%N)
+        times+=($(( (end - start) / 1000000 )))
+    done
+    printf '%s\n' "${times[@]}" | sort -n | sed -n "$(( (RUNS + 1) / 2 ))p"
+}
+
+echo "Spring CLI:          $(median java -jar "$JAR" --spring.main.web-application-type=none) ms"
+echo "Launcher:            $(median java -cp "$APP" "$MAIN") ms"
+echo "Launcher + archive:  $(median java "$ARCHIVE_OPTION" -cp "$APP" "$MAIN") ms"
+echo "Archive: $ARCHIVE (run with: java $ARCHIVE_OPTION -cp $APP $MAIN)"
@@ -0,0 +1,96 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Throughput of the JSON cost endpoint vs. the binary batch endpoint.
+ *
+ * Both run the controller method of EstimationController with the real
+ * services, starting from the raw request bytes and ending with the raw
+ * response bytes, so the difference is the encoding (no HTTP or sockets):
+ *
+ * - json:   Jackson decodes CostEstimateRequest, one Package and one
+ *           calculateFinalCost per package, Jackson encodes EstimateResponse.
+ * - binary: BatchCostCodec decodes straight into a PackageBatch, one
+ *           calculateFinalCosts for the whole batch, columnar response.
+ *
+ * Batches of 1k and 50k packages (partner batch size). Request and response
+ * sizes of both formats are printed once per trial.
+ *
+ * The json side runs on the Jackson version managed by the Spring Boot
+ * parent (2.19 for Boot 3.5.5); compare json numbers only within one
+ * Jackson version.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="BatchCost"
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.controller.EstimationController;
+import com.everesteng.courier.dto.CostEstimateRequest;
+import com.everesteng.courier.dto.PackageRequest;
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.io.BatchCostCodec;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.DiscountService;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import com.everesteng.courier.strategy.NoDiscount;
+import com.everesteng.courier.strategy.OFR001Discount;
+import com.everesteng.courier.strategy.OFR002Discount;
+import com.everesteng.courier.strategy.OFR003Discount;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchCostBenchmark {
+
+    // Base delivery cost of every batch
+    private static final int BASE_COST = 100;
+
+    @Param({"1000", "50000"})
+    int packageCount;
+
+    private ObjectMapper mapper;
+    private EstimationController controller;
+    private byte[] jsonRequest;
+    private byte[] binaryRequest;
+
+    @Setup
+    public void setUp() throws IOException, CourierServiceException {
+        DiscountService discountService = new DiscountService(List.of(
+                new OFR001Discount(), new OFR002Discount(), new OFR003Discount(), new NoDiscount()));
+        controller = new EstimationController(new CourierService(discountService,
+                new ShipmentService(), new DeliveryTimeService(), new VehicleService()));
+        mapper = new ObjectMapper();
+
+        List<Package> packages = ManifestFixtures.uniform(packageCount, 200);
+        List<PackageRequest> requests = packages.stream()
+                .map(p -> new PackageRequest(p.getId(), p.getWeight(), p.getDistance(), p.getOfferCode()))
+                .toList();
+        jsonRequest = mapper.writeValueAsBytes(new CostEstimateRequest(BASE_COST, requests));
+        binaryRequest = BatchCostCodec.encodeRequest(BASE_COST, packages);
+
+        System.out.printf("%n%d packages: JSON %d bytes in, %d out; binary %d bytes in, %d out%n",
+                packageCount, jsonRequest.length, json().length, binaryRequest.length, binary().length);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException, CourierServiceException {
+        CostEstimateRequest request = mapper.readValue(jsonRequest, CostEstimateRequest.class);
+        return mapper.writeValueAsBytes(controller.estimateCost(request));
+    }
+
+    @Benchmark
+    public byte[] binary() throws CourierServiceException {
+        return controller.estimateCostBatch(binaryRequest).getBody();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Benchmark of the two packing modes that pick the best subset per trip.
+ *
+ * Compares BranchAndBoundPacking with the knapsack DP of OptimalPacking as the
+ * vehicle capacity grows. Package weights are uniform up to capacity / 8, so a
+ * trip holds about the same number of packages at every capacity and only the
+ * capacity itself changes.
+ *
+ * - The DP cost grows with the capacity (O(trips × n × capacity)); it runs at
+ *   1k packages only, 10k at a 40,000 kg capacity takes minutes per operation.
+ * - The search runs with a 1 s / 10 million node budget per call and stops
+ *   early once every trip is proven; the gap of the plan is printed per trial.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="BranchAndBound"
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.packing.BranchAndBoundPacking;
+import com.everesteng.courier.packing.OptimalPacking;
+import com.everesteng.courier.packing.PackingResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BranchAndBoundBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SearchState {
+        @Param({"1000", "10000"})
+        int packageCount;
+
+        @Param({"200", "5000", "40000"})
+        int capacity;
+
+        List<Package> packages;
+        BranchAndBoundPacking packing;
+        PackingResult last;
+
+        @Setup
+        public void setUp() {
+            packages = ManifestFixtures.uniform(packageCount, capacity / 8);
+            packing = new BranchAndBoundPacking();
+        }
+
+        @TearDown
+        public void printGap() {
+            System.out.printf("%n%d packages, capacity %d: %d trips, %d unproven, gap %.6f%n",
+                    packageCount, capacity, last.shipments().size(), last.unprovenTrips(), last.gap());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DynamicProgrammingState {
+        @Param({"1000"})
+        int packageCount;
+
+        @Param({"200", "5000", "40000"})
+        int capacity;
+
+        List<Package> packages;
+        OptimalPacking packing;
+
+        @Setup
+        public void setUp() {
+            packages = ManifestFixtures.uniform(packageCount, capacity / 8);
+            packing = new OptimalPacking();
+        }
+    }
+
+    @Benchmark
+    public PackingResult branchAndBound(SearchState state) {
+        state.last = state.packing.search(state.packages, state.capacity);
+        return state.last;
+    }
+
+    @Benchmark
+    public List<Shipment> dynamicProgramming(DynamicProgrammingState state) throws CourierServiceException {
+        return state.packing.pack(state.packages, state.capacity);
+    }
+}
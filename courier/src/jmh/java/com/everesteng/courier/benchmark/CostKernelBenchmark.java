@@ -0,0 +1,94 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Scalar vs. Vector API cost kernel on the batch cost columns.
+ *
+ * One operation computes the pre-discount totals and the range-offer
+ * discounts of the whole batch (what calculateFinalCosts does before
+ * external codes and metrics):
+ *
+ * - scalar: ScalarCostKernel, one row per iteration
+ * - vector: CostKernel.preferred(), SIMD lanes with gathered rule columns
+ *
+ * The fork adds jdk.incubator.vector; without it both methods run the scalar
+ * kernel. Batches of 1k, 50k (partner batch size) and 1M packages.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="CostKernel"
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.offer.CostKernel;
+import com.everesteng.courier.offer.OfferRule;
+import com.everesteng.courier.offer.OfferRuleTable;
+import com.everesteng.courier.offer.ScalarCostKernel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class CostKernelBenchmark {
+
+    // Base delivery cost of every batch
+    private static final int BASE_COST = 100;
+
+    @Param({"1000", "50000", "1000000"})
+    int packageCount;
+
+    private OfferRuleTable table;
+    private CostKernel scalarKernel;
+    private CostKernel vectorKernel;
+    private int[] ordinals;
+    private int[] weights;
+    private int[] distances;
+    private int[] totals;
+    private int[] discounts;
+
+    @Setup
+    public void setUp() {
+        table = OfferRuleTable.compile(List.of(
+                new OfferRule("OFR001", 0, 199, 70, 200, 10),
+                new OfferRule("OFR002", 50, 150, 100, 250, 7),
+                new OfferRule("OFR003", 50, 250, 10, 150, 5)
+        ), List.of());
+        scalarKernel = new ScalarCostKernel();
+        vectorKernel = CostKernel.preferred();
+
+        List<Package> packages = ManifestFixtures.uniform(packageCount, 200);
+        ordinals = new int[packageCount];
+        weights = new int[packageCount];
+        distances = new int[packageCount];
+        for (int i = 0; i < packageCount; i++) {
+            Package pkg = packages.get(i);
+            ordinals[i] = table.ordinalOf(pkg.getOfferCode());
+            weights[i] = pkg.getWeight();
+            distances[i] = pkg.getDistance();
+        }
+        totals = new int[packageCount];
+        discounts = new int[packageCount];
+
+        System.out.printf("%nPreferred kernel: %s%n", vectorKernel.name());
+    }
+
+    @Benchmark
+    public int[] scalar() {
+        return run(scalarKernel);
+    }
+
+    @Benchmark
+    public int[] vector() {
+        return run(vectorKernel);
+    }
+
+    private int[] run(CostKernel kernel) {
+        kernel.totals(BASE_COST, weights, distances, totals, packageCount);
+        kernel.discounts(table, ordinals, weights, distances, totals, discounts, packageCount);
+        return discounts;
+    }
+}
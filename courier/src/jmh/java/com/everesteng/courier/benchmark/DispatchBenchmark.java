@@ -0,0 +1,78 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Scaling benchmark for the mixed-fleet dispatch simulator.
+ *
+ * Dispatches uniform manifests over a fleet of bikes, vans and trucks
+ * (different speeds, capacities and shifts) at up to 10k vehicles and
+ * 1M packages. Vehicle availability is reset before every invocation,
+ * since the simulator updates vehicles in place.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="Dispatch"
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.builder.VehicleBuilder;
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.DispatchResult;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Vehicle;
+import com.everesteng.courier.service.DispatchService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatchBenchmark {
+
+    // Heaviest package in the manifests
+    private static final int MAX_WEIGHT = 200;
+
+    @Param({"100", "10000"})
+    int vehicleCount;
+
+    @Param({"100000", "1000000"})
+    int packageCount;
+
+    List<Package> packages;
+    List<Vehicle> fleet;
+    DispatchService dispatchService;
+
+    @Setup
+    public void setUp() {
+        packages = ManifestFixtures.uniform(packageCount, MAX_WEIGHT);
+        dispatchService = new DispatchService();
+
+        // One bike, van and truck in turn, on early and late shifts
+        fleet = new ArrayList<>(vehicleCount);
+        for (int i = 0; i < vehicleCount; i++) {
+            VehicleBuilder builder = new VehicleBuilder().setVehicleId(i + 1);
+            switch (i % 3) {
+                case 0 -> builder.setVehicleClass("bike").setSpeed(40).setCapacity(30);
+                case 1 -> builder.setVehicleClass("van").setSpeed(70).setCapacity(200);
+                default -> builder.setVehicleClass("truck").setSpeed(55).setCapacity(600);
+            }
+            float shiftStart = (i % 2 == 0) ? 0 : 8;
+            fleet.add(builder.setShift(shiftStart, shiftStart + 10_000).build());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void resetFleet() {
+        for (Vehicle vehicle : fleet) {
+            vehicle.setAvailability(0);
+        }
+    }
+
+    @Benchmark
+    public DispatchResult dispatch() throws CourierServiceException {
+        return dispatchService.dispatch(packages, fleet);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Local load generator for the REST estimation endpoints.
+ *
+ * Starts many concurrent clients (one virtual thread each) that POST the same
+ * generated request in a closed loop, then reports throughput and latency
+ * percentiles. Run the application first, e.g.
+ *   java -jar target/courier-0.0.1-SNAPSHOT.jar --courier.cli.enabled=false
+ * then
+ *   mvn -Pbenchmark test-compile exec:exec \
+ *       -Dbenchmark.main=com.everesteng.courier.benchmark.EstimationLoadGenerator \
+ *       -Dbenchmark.args="clients=1000 duration=30 packages=50 endpoint=delivery"
+ *
+ * Options (key=value): url, endpoint (cost|delivery), clients, packages,
+ * warmup and duration (seconds). Each client waits for its response before
+ * sending the next request, so latencies exclude time a request would have
+ * spent queued behind a stalled client (closed-loop measurement).
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.model.Package;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class EstimationLoadGenerator {
+
+    private EstimationLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String url = options.getOrDefault("url", "http://localhost:8080");
+        String endpoint = options.getOrDefault("endpoint", "delivery");
+        int clients = Integer.parseInt(options.getOrDefault("clients", "256"));
+        int packages = Integer.parseInt(options.getOrDefault("packages", "50"));
+        long warmupNanos = Long.parseLong(options.getOrDefault("warmup", "5")) * 1_000_000_000L;
+        long durationNanos = Long.parseLong(options.getOrDefault("duration", "20")) * 1_000_000_000L;
+        if (!endpoint.equals("cost") && !endpoint.equals("delivery")) {
+            throw new IllegalArgumentException("endpoint must be cost or delivery");
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url + "/api/estimates/" + endpoint))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody(endpoint, packages)))
+                .build();
+
+        System.out.printf("POST %s, %d clients, %d packages/request, %ds warmup, %ds measured%n",
+                request.uri(), clients, packages, warmupNanos / 1_000_000_000L, durationNanos / 1_000_000_000L);
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long measureUntil = measureFrom + durationNanos;
+        long[][] latencies = new long[clients][];
+        int[] counts = new int[clients];
+        LongAdder errors = new LongAdder();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int id = c;
+                executor.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (true) {
+                        long sent = System.nanoTime();
+                        if (sent >= measureUntil) {
+                            break;
+                        }
+                        boolean ok;
+                        try {
+                            ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        long received = System.nanoTime();
+                        if (sent < measureFrom || received > measureUntil) {
+                            continue; // warmup, or finished after the window
+                        }
+                        if (!ok) {
+                            errors.increment();
+                            continue;
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = received - sent;
+                    }
+                    latencies[id] = samples;
+                    counts[id] = count;
+                });
+            }
+        }
+
+        // Merge per-client samples
+        int total = 0;
+        for (int count : counts) total += count;
+        long[] all = new long[total];
+        int position = 0;
+        for (int c = 0; c < clients; c++) {
+            System.arraycopy(latencies[c], 0, all, position, counts[c]);
+            position += counts[c];
+        }
+        Arrays.sort(all);
+
+        double seconds = durationNanos / 1e9;
+        System.out.printf("requests   %d (%d errors)%n", total, errors.sum());
+        System.out.printf("throughput %.0f req/s%n", total / seconds);
+        System.out.printf("p50        %.2f ms%n", percentile(all, 0.50));
+        System.out.printf("p90        %.2f ms%n", percentile(all, 0.90));
+        System.out.printf("p99        %.2f ms%n", percentile(all, 0.99));
+        System.out.printf("p99.9      %.2f ms%n", percentile(all, 0.999));
+        System.out.printf("max        %.2f ms%n", total > 0 ? all[total - 1] / 1e6 : 0.0);
+    }
+
+    // Nearest-rank percentile of sorted nanosecond samples, in milliseconds
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    // JSON body with generated packages that all fit in one vehicle
+    private static String requestBody(String endpoint, int count) {
+        List<Package> packages = ManifestFixtures.uniform(count, 200);
+        StringBuilder json = new StringBuilder("{\"baseCost\":100,\"packages\":[");
+        for (int i = 0; i < packages.size(); i++) {
+            Package pkg = packages.get(i);
+            if (i > 0) json.append(',');
+            json.append("{\"id\":\"").append(pkg.getId())
+                    .append("\",\"weight\":").append(pkg.getWeight())
+                    .append(",\"distance\":").append(pkg.getDistance())
+                    .append(",\"offerCode\":\"").append(pkg.getOfferCode()).append("\"}");
+        }
+        json.append(']');
+        if (endpoint.equals("delivery")) {
+            json.append(",\"fleet\":{\"numVehicles\":5,\"maxSpeed\":70,\"maxCarriableWeight\":200}");
+        }
+        return json.append('}').toString();
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+}
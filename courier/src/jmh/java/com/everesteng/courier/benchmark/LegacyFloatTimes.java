@@ -0,0 +1,112 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Copy of the original float time calculation of the batch path
+ * (DeliveryTimeService + VehicleService), kept only so benchmarks can compare
+ * it against the fixed-point hundredths used now.
+ *
+ * Times are float hours truncated with (int) (time * 100) / 100f, and
+ * availabilities are float sums, exactly as before the switch.
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.model.BatchShipments;
+import com.everesteng.courier.model.PackageBatch;
+
+final class LegacyFloatTimes {
+
+    private LegacyFloatTimes() {
+    }
+
+    /**
+     * Calculates package times, shipment times and vehicle assignment in float hours.
+     *
+     * @param shipments     packed shipments over a batch
+     * @param speed         delivery vehicle speed
+     * @param numVehicles   number of vehicles
+     * @param deliveryTimes output: delivery time of each batch row
+     * @param times         output: round-trip time of each shipment
+     * @param vehicles      output: vehicle ID of each shipment
+     */
+    static void plan(BatchShipments shipments, int speed, int numVehicles,
+                     float[] deliveryTimes, float[] times, int[] vehicles) {
+        PackageBatch batch = shipments.getBatch();
+
+        // Package times
+        for (int row = 0; row < batch.size(); row++) {
+            deliveryTimes[row] = oneWayTime(batch.getDistance(row), speed);
+        }
+
+        // Shipment times
+        for (int s = 0; s < shipments.count(); s++) {
+            int maxDistance = 0;
+            for (int k = shipments.start(s); k < shipments.end(s); k++) {
+                maxDistance = Math.max(maxDistance, batch.getDistance(shipments.getRow(k)));
+            }
+            times[s] = oneWayTime(maxDistance, speed) * 2;
+        }
+
+        // Vehicle assignment over a float-keyed heap
+        long[] heap = new long[numVehicles];
+        int size = 0;
+        for (int i = 1; i <= numVehicles; i++) {
+            size = offer(heap, size, i, 0);
+        }
+        for (int s = 0; s < shipments.count(); s++) {
+            long vehicle = heap[0];
+            size = poll(heap, size);
+            int vehicleId = (int) vehicle;
+            float availability = Float.intBitsToFloat((int) (vehicle >>> 32));
+
+            vehicles[s] = vehicleId;
+            for (int k = shipments.start(s); k < shipments.end(s); k++) {
+                deliveryTimes[shipments.getRow(k)] += availability;
+            }
+            size = offer(heap, size, vehicleId, availability + times[s]);
+        }
+    }
+
+    private static float oneWayTime(int distance, int speed) {
+        float time = ((float) distance / speed);
+        return (int) (time * 100) / 100f;
+    }
+
+    private static int offer(long[] heap, int size, int vehicleId, float availability) {
+        long entry = ((long) Float.floatToIntBits(availability) << 32) | (vehicleId & 0xFFFFFFFFL);
+        int k = size;
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            if (compare(entry, heap[parent]) >= 0) break;
+            heap[k] = heap[parent];
+            k = parent;
+        }
+        heap[k] = entry;
+        return size + 1;
+    }
+
+    private static int poll(long[] heap, int size) {
+        int n = size - 1;
+        if (n > 0) {
+            long x = heap[n];
+            int k = 0;
+            int half = n >>> 1;
+            while (k < half) {
+                int child = (k << 1) + 1;
+                long c = heap[child];
+                int right = child + 1;
+                if (right < n && compare(c, heap[right]) > 0) {
+                    c = heap[child = right];
+                }
+                if (compare(x, c) <= 0) break;
+                heap[k] = c;
+                k = child;
+            }
+            heap[k] = x;
+        }
+        return n;
+    }
+
+    private static int compare(long a, long b) {
+        return Float.compare(Float.intBitsToFloat((int) (a >>> 32)), Float.intBitsToFloat((int) (b >>> 32)));
+    }
+}
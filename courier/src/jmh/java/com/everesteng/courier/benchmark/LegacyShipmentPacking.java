@@ -0,0 +1,53 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Copy of the original ShipmentService.createShipments loop,
+ * kept only so benchmarks can compare it against the indexed packer.
+ *
+ * For every shipment it re-scans the whole sorted list and checks a
+ * HashSet of assigned packages, which makes it O(n²) in package count.
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.builder.ShipmentBuilder;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+
+import java.util.*;
+
+final class LegacyShipmentPacking {
+
+    private LegacyShipmentPacking() {
+    }
+
+    static List<Shipment> createShipments(List<Package> packages, int maxCarriableWeight) {
+        List<Package> sortedPackages = packages.stream()
+                .sorted(Comparator.comparingInt(Package::getWeight).reversed())
+                .toList();
+
+        List<Shipment> shipments = new ArrayList<>();
+        Set<Package> added = new HashSet<>();
+
+        while (added.size() < sortedPackages.size()) {
+            ShipmentBuilder builder = new ShipmentBuilder();
+            int currentWeight = 0;
+
+            for (Package pkg : sortedPackages) {
+                if (added.contains(pkg)) continue;
+                if (pkg.getWeight() + currentWeight <= maxCarriableWeight) {
+                    builder.addPackage(pkg);
+                    currentWeight += pkg.getWeight();
+                    added.add(pkg);
+                }
+            }
+
+            Shipment shipment = builder.build();
+            if (!shipment.getPackages().isEmpty()) {
+                shipments.add(shipment);
+            }
+        }
+
+        shipments.sort(Comparator.comparingInt(Shipment::getTotalWeight).reversed());
+        return shipments;
+    }
+}
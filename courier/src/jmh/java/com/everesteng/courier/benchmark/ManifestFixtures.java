@@ -0,0 +1,56 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Generates reproducible package manifests for the JMH benchmarks.
+ *
+ * - Uses a fixed seed so every fork and every run sees the same packages.
+ * - Weights follow a WeightDistribution between 1 and maxWeight (uniform by
+ *   default), distances are uniform between 1 and 250 km.
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.model.Package;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+final class ManifestFixtures {
+
+    // Offer codes cycled through the generated packages (including invalid ones)
+    private static final String[] OFFER_CODES = {"OFR001", "OFR002", "OFR003", "NA", "OFFR0008"};
+
+    private ManifestFixtures() {
+    }
+
+    /**
+     * Builds a list of packages with uniformly distributed weights.
+     *
+     * @param count     number of packages
+     * @param maxWeight heaviest package weight that may be generated
+     * @return generated packages, in generation order
+     */
+    static List<Package> uniform(int count, int maxWeight) {
+        return generate(count, WeightDistribution.UNIFORM, maxWeight);
+    }
+
+    /**
+     * Builds a list of packages whose weights follow the given distribution.
+     *
+     * @param count        number of packages
+     * @param distribution shape of the package weights
+     * @param maxWeight    heaviest package weight that may be generated
+     * @return generated packages, in generation order
+     */
+    static List<Package> generate(int count, WeightDistribution distribution, int maxWeight) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Package> packages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            packages.add(new Package("PKG" + i,
+                    distribution.next(random, maxWeight),
+                    1 + random.nextInt(250),
+                    OFFER_CODES[i % OFFER_CODES.length]));
+        }
+        return packages;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Compares manifest parsing paths.
+ *
+ * - scanner     → the CLI path: Scanner.nextLine(), trim(), split(), parseInt, new Package
+ * - mappedRows  → ManifestReader with the reused ManifestRow flyweight (no per-row objects)
+ * - mappedBatch → ManifestReader.readBatch() into a columnar PackageBatch
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ManifestParsing -prof gc"
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.io.ManifestReader;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ManifestParsingBenchmark {
+
+    @Param({"100000", "1000000"})
+    int packageCount;
+
+    Path manifest;
+
+    @Setup
+    public void setUp() throws IOException {
+        manifest = Files.createTempFile("manifest", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(manifest)) {
+            writer.write("100 " + packageCount);
+            writer.newLine();
+            for (Package pkg : ManifestFixtures.uniform(packageCount, 200)) {
+                writer.write(pkg.getId() + " " + pkg.getWeight() + " " + pkg.getDistance() + " " + pkg.getOfferCode());
+                writer.newLine();
+            }
+            writer.write("2 70 200");
+            writer.newLine();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(manifest);
+    }
+
+    @Benchmark
+    public List<Package> scanner() throws IOException {
+        try (Scanner scanner = new Scanner(manifest)) {
+            scanner.nextInt(); // base cost
+            int n = scanner.nextInt();
+            scanner.nextLine();
+
+            List<Package> packages = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                String[] parts = scanner.nextLine().trim().split("\\s+");
+                packages.add(new Package(parts[0],
+                        Integer.parseInt(parts[1]),
+                        Integer.parseInt(parts[2]),
+                        parts[3]));
+            }
+            return packages;
+        }
+    }
+
+    @Benchmark
+    public long mappedRows() throws IOException, CourierServiceException {
+        long[] checksum = new long[1];
+        new ManifestReader(manifest).read(row ->
+                checksum[0] += row.getWeight() + row.getDistance() + row.getOfferCode().length());
+        return checksum[0];
+    }
+
+    @Benchmark
+    public PackageBatch mappedBatch() throws IOException, CourierServiceException {
+        return new ManifestReader(manifest).readBatch();
+    }
+}
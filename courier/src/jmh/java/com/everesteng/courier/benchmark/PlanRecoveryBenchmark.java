@@ -0,0 +1,141 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Restart time of a durable PlannerSession and the cost of journaling.
+ *
+ *   - recover           → CourierService.recoverSession: read the snapshot and
+ *                         replay a journal tail of 10k events
+ *   - fullReplan        → planning the manifest from scratch (what a restart
+ *                         cost before the plan store)
+ *   - durableAddAndCancel → one add + cancel event on a session with a plan
+ *                         store (journal writes, batched fsync and the periodic
+ *                         snapshots included); compare with
+ *                         PlannerSessionBenchmark.addAndCancel
+ *
+ * Files live in a temporary directory, deleted after each trial; results
+ * depend heavily on the disk.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="PlanRecovery"
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.journal.PlanStore;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.DiscountService;
+import com.everesteng.courier.service.PlannerSession;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import com.everesteng.courier.strategy.NoDiscount;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PlanRecoveryBenchmark {
+
+    // Fleet used for every run
+    private static final int MAX_WEIGHT = 200;
+    private static final int SPEED = 70;
+    private static final int VEHICLES = 100;
+
+    // Journal tail replayed by every recovery, and distinct event packages
+    private static final int JOURNAL_EVENTS = 10_000;
+    private static final int EVENTS = 1024;
+
+    @Param({"100000", "1000000"})
+    int packageCount;
+
+    List<Package> packages;
+    CourierService courierService;
+    Path recoveryDir;
+    Path eventDir;
+
+    PlanStore eventStore;
+    PlannerSession durableSession;
+    Package[] events;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws CourierServiceException, IOException {
+        packages = ManifestFixtures.uniform(packageCount, MAX_WEIGHT);
+        courierService = new CourierService(new DiscountService(List.of(new NoDiscount())),
+                new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+
+        // Event packages with fresh IDs
+        List<Package> generated = ManifestFixtures.uniform(EVENTS, MAX_WEIGHT);
+        events = new Package[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            Package pkg = generated.get(i);
+            events[i] = new Package("EVT" + i, pkg.getWeight(), pkg.getDistance(), pkg.getOfferCode());
+        }
+
+        // Snapshot of the manifest plus a journal tail, left as after a crash
+        recoveryDir = Files.createTempDirectory("plan-recovery");
+        try (PlanStore store = new PlanStore(recoveryDir)) {
+            PlannerSession session = courierService.openSession(packages, MAX_WEIGHT, SPEED, VEHICLES, store);
+            for (int i = 0; i < JOURNAL_EVENTS / 2; i++) {
+                Package pkg = events[i & (EVENTS - 1)];
+                session.add(pkg);
+                session.cancel(pkg.getId());
+            }
+        }
+
+        eventDir = Files.createTempDirectory("plan-events");
+        eventStore = new PlanStore(eventDir);
+        durableSession = courierService.openSession(packages, MAX_WEIGHT, SPEED, VEHICLES, eventStore);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        eventStore.close();
+        deleteRecursively(recoveryDir);
+        deleteRecursively(eventDir);
+    }
+
+    @Benchmark
+    public int recover() throws CourierServiceException, IOException {
+        try (PlanStore store = new PlanStore(recoveryDir)) {
+            return courierService.recoverSession(store).size();
+        }
+    }
+
+    @Benchmark
+    public List<Shipment> fullReplan() throws CourierServiceException {
+        return courierService.processDeliveries(packages, 100, MAX_WEIGHT, SPEED, VEHICLES);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public int durableAddAndCancel() throws CourierServiceException {
+        Package pkg = events[next++ & (EVENTS - 1)];
+        durableSession.add(pkg);
+        durableSession.cancel(pkg.getId());
+        return durableSession.size();
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Per-event latency of incremental re-planning.
+ *
+ * Compares one add + cancel event on an open PlannerSession with re-planning
+ * the whole manifest through CourierService.processDeliveries, at 10k and
+ * 100k packages. Every event package is cancelled again in the same
+ * invocation, so the session stays the same size across iterations.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="PlannerSession"
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.DiscountService;
+import com.everesteng.courier.service.PlannerSession;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import com.everesteng.courier.strategy.NoDiscount;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlannerSessionBenchmark {
+
+    // Fleet used for every run
+    private static final int MAX_WEIGHT = 200;
+    private static final int SPEED = 70;
+    private static final int VEHICLES = 50;
+
+    // Number of distinct event packages cycled through
+    private static final int EVENTS = 1024;
+
+    @Param({"10000", "100000"})
+    int packageCount;
+
+    List<Package> packages;
+    CourierService courierService;
+    PlannerSession session;
+
+    Package[] events;
+    int next;
+
+    @Setup
+    public void setUp() throws CourierServiceException {
+        packages = ManifestFixtures.uniform(packageCount, MAX_WEIGHT);
+        courierService = new CourierService(new DiscountService(List.of(new NoDiscount())),
+                new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+        session = courierService.openSession(packages, MAX_WEIGHT, SPEED, VEHICLES);
+
+        // Event packages with fresh IDs
+        List<Package> generated = ManifestFixtures.uniform(EVENTS, MAX_WEIGHT);
+        events = new Package[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            Package pkg = generated.get(i);
+            events[i] = new Package("EVT" + i, pkg.getWeight(), pkg.getDistance(), pkg.getOfferCode());
+        }
+    }
+
+    @Benchmark
+    public int addAndCancel() throws CourierServiceException {
+        Package pkg = events[next++ & (EVENTS - 1)];
+        session.add(pkg);
+        session.cancel(pkg.getId());
+        return session.size();
+    }
+
+    @Benchmark
+    public List<Shipment> fullReplan() throws CourierServiceException {
+        return courierService.processDeliveries(packages, 100, MAX_WEIGHT, SPEED, VEHICLES);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Cost of a repeated cost quote with and without the QuoteCache.
+ *
+ * Clients quote the same small set of (weight, distance, offer code) tuples
+ * over and over, like a storefront while customers move sliders. Compares
+ * CourierService.calculateFinalCost with the cache disabled (cacheSize 0)
+ * and enabled, for working sets that fit the cache and one that does not,
+ * on one thread and on four threads sharing the cache.
+ *
+ * strategyTokens 0 uses the built-in range offers, which the rule table
+ * evaluates in a few nanoseconds. Any other value registers the same offers
+ * as external strategies that first spend that many Blackhole tokens, a
+ * stand-in for a custom strategy that calls a rules engine or does decimal
+ * pricing. Those are the quotes the cache is for.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="QuoteCache"
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.metrics.CourierMetrics;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.DiscountService;
+import com.everesteng.courier.service.QuoteCache;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import com.everesteng.courier.strategy.NoDiscount;
+import com.everesteng.courier.strategy.OFR001Discount;
+import com.everesteng.courier.strategy.OFR002Discount;
+import com.everesteng.courier.strategy.OFR003Discount;
+import com.everesteng.courier.strategy.DiscountStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuoteCacheBenchmark {
+
+    private static final int BASE_COST = 100;
+    private static final int MAX_WEIGHT = 200;
+
+    @Param({"0", "65536"})
+    int cacheSize;
+
+    @Param({"256", "1000000"})
+    int distinctQuotes;
+
+    @Param({"0", "64"})
+    int strategyTokens;
+
+    CourierService courierService;
+    Package[] quotes;
+
+    @Setup
+    public void setUp() {
+        List<DiscountStrategy> strategies = List.of(
+                new OFR001Discount(), new OFR002Discount(), new OFR003Discount(), new NoDiscount());
+        if (strategyTokens > 0) {
+            strategies = List.of(
+                    new CostlyDiscount("OFR001", new OFR001Discount(), strategyTokens),
+                    new CostlyDiscount("OFR002", new OFR002Discount(), strategyTokens),
+                    new CostlyDiscount("OFR003", new OFR003Discount(), strategyTokens),
+                    new NoDiscount());
+        }
+        DiscountService discountService = new DiscountService(strategies);
+        courierService = new CourierService(discountService, new ShipmentService(),
+                new DeliveryTimeService(), new VehicleService(), CourierMetrics.noop(),
+                new QuoteCache(cacheSize));
+        quotes = ManifestFixtures.uniform(distinctQuotes, MAX_WEIGHT).toArray(new Package[0]);
+    }
+
+    /**
+     * Next quote of one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public int quote(Cursor cursor) {
+        Package pkg = quotes[cursor.next];
+        cursor.next = (cursor.next + 1) % quotes.length;
+        return courierService.calculateFinalCost(pkg, BASE_COST);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int quoteFourThreads(Cursor cursor) {
+        return quote(cursor);
+    }
+
+    // External (non-range) strategy: burns CPU, then applies a built-in offer's rule
+    private static final class CostlyDiscount implements DiscountStrategy {
+        private final String code;
+        private final DiscountStrategy rule;
+        private final int tokens;
+
+        CostlyDiscount(String code, DiscountStrategy rule, int tokens) {
+            this.code = code;
+            this.rule = rule;
+            this.tokens = tokens;
+        }
+
+        @Override
+        public int calculate(int weight, int distance, int totalCost) {
+            Blackhole.consumeCPU(tokens);
+            return rule.calculate(weight, distance, totalCost);
+        }
+
+        @Override
+        public String code() {
+            return code;
+        }
+    }
+}
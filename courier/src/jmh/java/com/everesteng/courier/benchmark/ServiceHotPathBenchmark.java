@@ -0,0 +1,168 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Baseline benchmarks for the per-package service hot paths.
+ *
+ * Covers, for every batch size and weight distribution:
+ *   - CourierService.calculateFinalCost      (one call per package)
+ *   - DiscountService.calculateDiscount      (one call per package, and the array batch API)
+ *   - ShipmentService.createShipments        (greedy packing)
+ *   - DeliveryTimeService.calculatePackageTimes / calculateShipmentTimes
+ *   - VehicleService.assignVehicles          (package times are reset first,
+ *                                             since assignment adds to them)
+ *
+ * Scores are batches per second; the main method also attaches the gc
+ * profiler so allocation rate (gc.alloc.rate.norm = bytes per batch) is
+ * reported next to throughput:
+ *   mvn -Pbenchmark test-compile exec:exec \
+ *       -Dbenchmark.main=com.everesteng.courier.benchmark.ServiceHotPathBenchmark
+ * or through the JMH launcher: -Djmh.args="ServiceHotPath -prof gc"
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.DiscountService;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import com.everesteng.courier.strategy.NoDiscount;
+import com.everesteng.courier.strategy.OFR001Discount;
+import com.everesteng.courier.strategy.OFR002Discount;
+import com.everesteng.courier.strategy.OFR003Discount;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceHotPathBenchmark {
+
+    // Planning constraints used for every run
+    private static final int BASE_COST = 100;
+    private static final int MAX_WEIGHT = 200;
+    private static final int SPEED = 70;
+    private static final int VEHICLES = 5;
+
+    @Param({"100", "10000", "1000000"})
+    int batchSize;
+
+    @Param({"UNIFORM", "LIGHT", "HEAVY", "BIMODAL"})
+    WeightDistribution distribution;
+
+    List<Package> packages;
+    List<Shipment> shipments;
+
+    // Column copies of the packages for the array discount API
+    int[] offerOrdinals;
+    int[] weights;
+    int[] distances;
+    int[] totals;
+    int[] discounts;
+
+    DiscountService discountService;
+    ShipmentService shipmentService;
+    DeliveryTimeService deliveryTimeService;
+    VehicleService vehicleService;
+    CourierService courierService;
+
+    @Setup
+    public void setUp() throws CourierServiceException {
+        packages = ManifestFixtures.generate(batchSize, distribution, MAX_WEIGHT);
+
+        discountService = new DiscountService(List.of(
+                new OFR001Discount(), new OFR002Discount(), new OFR003Discount(), new NoDiscount()));
+        shipmentService = new ShipmentService();
+        deliveryTimeService = new DeliveryTimeService();
+        vehicleService = new VehicleService();
+        courierService = new CourierService(discountService, shipmentService, deliveryTimeService, vehicleService);
+
+        // Shipments for the time and vehicle benchmarks are packed once
+        shipments = shipmentService.createShipments(packages, MAX_WEIGHT);
+        deliveryTimeService.calculateShipmentTimes(shipments, SPEED);
+
+        offerOrdinals = new int[batchSize];
+        weights = new int[batchSize];
+        distances = new int[batchSize];
+        totals = new int[batchSize];
+        discounts = new int[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            Package pkg = packages.get(i);
+            offerOrdinals[i] = discountService.offerOrdinal(pkg.getOfferCode());
+            weights[i] = pkg.getWeight();
+            distances[i] = pkg.getDistance();
+            totals[i] = BASE_COST + pkg.getWeight() * 10 + pkg.getDistance() * 5;
+        }
+    }
+
+    @Benchmark
+    public long calculateFinalCost() {
+        long sum = 0;
+        for (Package pkg : packages) {
+            sum += courierService.calculateFinalCost(pkg, BASE_COST);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long calculateDiscount() {
+        long sum = 0;
+        for (int i = 0; i < batchSize; i++) {
+            sum += discountService.calculateDiscount(packages.get(i), totals[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int[] calculateDiscountArrays() {
+        discountService.calculateDiscount(offerOrdinals, weights, distances, totals, discounts);
+        return discounts;
+    }
+
+    @Benchmark
+    public List<Shipment> createShipments() throws CourierServiceException {
+        return shipmentService.createShipments(packages, MAX_WEIGHT);
+    }
+
+    @Benchmark
+    public List<Shipment> calculatePackageTimes() throws CourierServiceException {
+        deliveryTimeService.calculatePackageTimes(shipments, SPEED);
+        return shipments;
+    }
+
+    @Benchmark
+    public List<Shipment> calculateShipmentTimes() throws CourierServiceException {
+        deliveryTimeService.calculateShipmentTimes(shipments, SPEED);
+        return shipments;
+    }
+
+    @Benchmark
+    public List<Shipment> assignVehicles() throws CourierServiceException {
+        // assignVehicles adds waiting time to package times, so start from fresh times
+        deliveryTimeService.calculatePackageTimes(shipments, SPEED);
+        vehicleService.assignVehicles(shipments, VEHICLES);
+        return shipments;
+    }
+
+    /**
+     * Runs this benchmark with the gc profiler; extra JMH options may be passed as arguments.
+     */
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(ServiceHotPathBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Throughput of sharded planning as shard processes are added.
+ *
+ * Starts the shard processes itself (one JVM per shard, ShardServer on a
+ * loopback port), then plans the same national manifest through a
+ * ShardCoordinator using the first 1, 2, 4, ... shards and reports packages
+ * per second and the speedup over one shard. The fleet size stays the same
+ * for every shard count. Run with
+ *   mvn -Pbenchmark test-compile exec:exec \
+ *       -Dbenchmark.main=com.everesteng.courier.benchmark.ShardScalingBenchmark \
+ *       -Dbenchmark.args="packages=1000000 regions=64 vehicles=512 shards=1,2,4,8"
+ *
+ * Options (key=value): packages, regions, vehicles, shards (comma-separated
+ * counts), warmup and iterations (plans per shard count), heap (-Xmx of each shard).
+ *
+ * Scaling is only near-linear while every shard process has a core of its own.
+ * On fewer cores the shards and the coordinator take turns, so the wall clock
+ * is also reported as CPU time per package:
+ * - coordinator: this JVM (partition, request serialization, response
+ *   decoding and merge, plus its GC and JIT threads)
+ * - shards:      all shard processes together, and the busiest one
+ * - bound:       throughput if the coordinator and every shard had their own
+ *                core, from coordinator + busiest shard CPU time (pessimistic,
+ *                since the coordinator overlaps with the shards)
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.packing.PackingMode;
+import com.everesteng.courier.shard.RegionKey;
+import com.everesteng.courier.shard.ShardCoordinator;
+import com.everesteng.courier.shard.ShardServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+public final class ShardScalingBenchmark {
+
+    private ShardScalingBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int packageCount = Integer.parseInt(options.getOrDefault("packages", "1000000"));
+        int regions = Integer.parseInt(options.getOrDefault("regions", "64"));
+        int vehicles = Integer.parseInt(options.getOrDefault("vehicles", "512"));
+        int[] shardCounts = Arrays.stream(options.getOrDefault("shards", "1,2,4,8").split(","))
+                .mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "3"));
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "5"));
+        String heap = options.getOrDefault("heap", "2g");
+
+        int maxShards = Arrays.stream(shardCounts).max().orElse(1);
+        List<Package> packages = manifest(packageCount, regions);
+        System.out.printf("%d packages in %d regions, %d vehicles, %d cores%n",
+                packageCount, regions, vehicles, Runtime.getRuntime().availableProcessors());
+
+        List<Process> processes = new ArrayList<>();
+        try {
+            List<InetSocketAddress> addresses = new ArrayList<>();
+            for (int s = 0; s < maxShards; s++) {
+                int port = freePort();
+                processes.add(startShard(port, heap));
+                addresses.add(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            }
+
+            double baseline = 0;
+            for (int shards : shardCounts) {
+                try (ShardCoordinator coordinator = new ShardCoordinator(addresses.subList(0, shards),
+                        RegionKey.idPrefix('-'))) {
+                    for (int i = 0; i < warmup; i++) {
+                        coordinator.plan(packages, 200, 70, vehicles, PackingMode.GREEDY);
+                    }
+                    long best = Long.MAX_VALUE;
+                    long total = 0;
+                    long coordinatorCpu = 0;
+                    long[] shardCpu = new long[shards];
+                    for (int i = 0; i < iterations; i++) {
+                        long[] shardsBefore = cpuTimes(processes, shards);
+                        long cpuBefore = coordinatorCpuTime();
+                        long start = System.nanoTime();
+                        coordinator.plan(packages, 200, 70, vehicles, PackingMode.GREEDY);
+                        long elapsed = System.nanoTime() - start;
+                        coordinatorCpu += coordinatorCpuTime() - cpuBefore;
+                        long[] shardsAfter = cpuTimes(processes, shards);
+                        for (int s = 0; s < shards; s++) {
+                            shardCpu[s] += shardsAfter[s] - shardsBefore[s];
+                        }
+                        best = Math.min(best, elapsed);
+                        total += elapsed;
+                    }
+                    double mean = total / (double) iterations;
+                    double throughput = packageCount / (mean / 1e9);
+                    if (baseline == 0) {
+                        baseline = throughput;
+                    }
+                    double planned = (double) packageCount * iterations;
+                    long busiest = Arrays.stream(shardCpu).max().orElse(0);
+                    System.out.printf("shards=%-3d mean=%8.1f ms  best=%8.1f ms  %,12.0f packages/s  speedup=%.2f"
+                                    + "  cpu/package: coordinator=%5.0f ns  shards=%5.0f ns (busiest %5.0f ns)"
+                                    + "  bound=%,12.0f packages/s%n",
+                            shards, mean / 1e6, best / 1e6, throughput, throughput / baseline,
+                            coordinatorCpu / planned, Arrays.stream(shardCpu).sum() / planned, busiest / planned,
+                            planned / ((coordinatorCpu + busiest) / 1e9));
+                }
+            }
+        } finally {
+            for (Process process : processes) {
+                process.destroy();
+            }
+        }
+    }
+
+    // Packages spread evenly over regions "R0".."Rn", same seed every run
+    private static List<Package> manifest(int count, int regions) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Package> packages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            packages.add(new Package("R" + (i % regions) + "-PKG" + i,
+                    1 + random.nextInt(200), 1 + random.nextInt(250), "NA"));
+        }
+        return packages;
+    }
+
+    // CPU time of this JVM, all threads, in nanoseconds
+    private static long coordinatorCpuTime() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+    }
+
+    // CPU time of the first count shard processes, in nanoseconds
+    private static long[] cpuTimes(List<Process> processes, int count) {
+        long[] times = new long[count];
+        for (int s = 0; s < count; s++) {
+            times[s] = processes.get(s).info().totalCpuDuration().map(Duration::toNanos).orElse(0L);
+        }
+        return times;
+    }
+
+    // Starts a shard JVM on the benchmark's class path and waits until it listens
+    private static Process startShard(int port, String heap) throws IOException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-Xmx" + heap,
+                "-cp", System.getProperty("java.class.path"),
+                ShardServer.class.getName(), String.valueOf(port))
+                .redirectErrorStream(true)
+                .start();
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        if (line == null || !line.startsWith("Shard listening")) {
+            process.destroy();
+            throw new IOException("Shard on port " + port + " did not start: " + line);
+        }
+        return process;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Scaling benchmark for shipment packing.
+ *
+ * Compares the indexed packer in ShipmentService with the original
+ * quadratic greedy loop (LegacyShipmentPacking) at growing manifest sizes.
+ *
+ * - The indexed path runs at 1k, 10k, 100k and 1M packages.
+ * - The legacy path stops at 100k; at 1M a single operation takes hours.
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ShipmentPacking"
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.service.ShipmentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ShipmentPackingBenchmark {
+
+    // Max carriable weight used for every run
+    private static final int MAX_WEIGHT = 200;
+
+    @State(Scope.Benchmark)
+    public static class IndexedState {
+        @Param({"1000", "10000", "100000", "1000000"})
+        int packageCount;
+
+        List<Package> packages;
+        ShipmentService shipmentService;
+
+        @Setup
+        public void setUp() {
+            packages = ManifestFixtures.uniform(packageCount, MAX_WEIGHT);
+            shipmentService = new ShipmentService();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LegacyState {
+        @Param({"1000", "10000", "100000"})
+        int packageCount;
+
+        List<Package> packages;
+
+        @Setup
+        public void setUp() {
+            packages = ManifestFixtures.uniform(packageCount, MAX_WEIGHT);
+        }
+    }
+
+    @Benchmark
+    public List<Shipment> indexed(IndexedState state) throws CourierServiceException {
+        return state.shipmentService.createShipments(state.packages, MAX_WEIGHT);
+    }
+
+    @Benchmark
+    public List<Shipment> legacy(LegacyState state) {
+        return LegacyShipmentPacking.createShipments(state.packages, MAX_WEIGHT);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Fixed-point vs. float time arithmetic on the batch path.
+ *
+ * Both variants calculate package times, shipment times and vehicle
+ * assignment for the same pre-packed shipments:
+ *   - fixedPoint    → DeliveryTimeService + VehicleService (int hundredths)
+ *   - floatingPoint → LegacyFloatTimes (the original float formula)
+ *
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.args="TimeArithmetic"
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.BatchShipments;
+import com.everesteng.courier.model.PackageBatch;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimeArithmeticBenchmark {
+
+    // Fleet used for every run
+    private static final int MAX_WEIGHT = 200;
+    private static final int SPEED = 70;
+    private static final int VEHICLES = 50;
+
+    @Param({"100000", "1000000"})
+    int packageCount;
+
+    BatchShipments shipments;
+    DeliveryTimeService deliveryTimeService;
+    VehicleService vehicleService;
+
+    // Outputs of the float variant
+    float[] deliveryTimes;
+    float[] times;
+    int[] vehicles;
+
+    @Setup
+    public void setUp() throws CourierServiceException {
+        PackageBatch batch = PackageBatch.of(ManifestFixtures.uniform(packageCount, MAX_WEIGHT));
+        shipments = new ShipmentService().createShipments(batch, MAX_WEIGHT);
+        deliveryTimeService = new DeliveryTimeService();
+        vehicleService = new VehicleService();
+
+        deliveryTimes = new float[batch.size()];
+        times = new float[shipments.count()];
+        vehicles = new int[shipments.count()];
+    }
+
+    @Benchmark
+    public BatchShipments fixedPoint() throws CourierServiceException {
+        deliveryTimeService.calculatePackageTimes(shipments.getBatch(), SPEED);
+        deliveryTimeService.calculateShipmentTimes(shipments, SPEED);
+        vehicleService.assignVehicles(shipments, VEHICLES);
+        return shipments;
+    }
+
+    @Benchmark
+    public float[] floatingPoint() {
+        LegacyFloatTimes.plan(shipments, SPEED, VEHICLES, deliveryTimes, times, vehicles);
+        return deliveryTimes;
+    }
+}
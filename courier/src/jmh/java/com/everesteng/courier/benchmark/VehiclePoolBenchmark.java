@@ -0,0 +1,149 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Contention of a shared vehicle fleet at 1 to 64 planner threads.
+ *
+ * Every operation is one dispatch: claim the earliest available vehicle and
+ * release it with a trip time added, as VehicleService does per shipment
+ * when planning against a shared fleet. Compared pools:
+ *
+ * - STRIPED:   VehiclePool (per-stripe locks, lock-free head scan)
+ * - SKIP_LIST: ConcurrentSkipListSet of packed entries (lock-free, exact order)
+ * - LOCKED:    one PriorityQueue behind one lock (the per-call queue of
+ *              VehicleService made global)
+ *
+ * The main method runs every pool at 1, 2, 4, 8, 16, 32 and 64 threads:
+ *   mvn -Pbenchmark test-compile exec:exec \
+ *       -Dbenchmark.main=com.everesteng.courier.benchmark.VehiclePoolBenchmark
+ * Extra JMH options can follow in -Dbenchmark.args (e.g. "-p vehicles=64").
+ * Threads beyond the number of cores only measure the time slicing.
+ */
+
+package com.everesteng.courier.benchmark;
+
+import com.everesteng.courier.service.VehiclePool;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VehiclePoolBenchmark {
+
+    // Availabilities wrap here so a long run cannot overflow the packed int
+    private static final int HORIZON = 1 << 30;
+
+    // Thread counts run by main()
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    public enum Pool { STRIPED, SKIP_LIST, LOCKED }
+
+    @Param({"STRIPED", "SKIP_LIST", "LOCKED"})
+    Pool pool;
+
+    @Param({"64", "1024"})
+    int vehicles;
+
+    private Fleet fleet;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        fleet = switch (pool) {
+            case STRIPED -> new StripedFleet(vehicles);
+            case SKIP_LIST -> new SkipListFleet(vehicles);
+            case LOCKED -> new LockedFleet(vehicles);
+        };
+    }
+
+    @Benchmark
+    public long dispatch() {
+        long claim;
+        while ((claim = fleet.claim()) == VehiclePool.NONE) {
+            Thread.onSpinWait();
+        }
+        int trip = 1 + ThreadLocalRandom.current().nextInt(500);
+        int availability = VehiclePool.availability(claim) + trip;
+        fleet.release(VehiclePool.vehicleId(claim), availability < HORIZON ? availability : trip);
+        return claim;
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (int threads : THREADS) {
+            new Runner(new OptionsBuilder()
+                    .parent(new CommandLineOptions(args))
+                    .include(VehiclePoolBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()).run();
+        }
+    }
+
+    // Claim/release of packed (availability << 32 | vehicle ID) entries
+    private interface Fleet {
+        long claim();
+
+        void release(int vehicleId, int availability);
+    }
+
+    private static final class StripedFleet implements Fleet {
+        private final VehiclePool pool;
+
+        StripedFleet(int vehicles) {
+            this.pool = new VehiclePool(vehicles);
+        }
+
+        public long claim() {
+            return pool.claim();
+        }
+
+        public void release(int vehicleId, int availability) {
+            pool.release(vehicleId, availability);
+        }
+    }
+
+    private static final class SkipListFleet implements Fleet {
+        private final ConcurrentSkipListSet<Long> entries = new ConcurrentSkipListSet<>();
+
+        SkipListFleet(int vehicles) {
+            for (int id = 1; id <= vehicles; id++) {
+                entries.add((long) id);
+            }
+        }
+
+        public long claim() {
+            Long entry = entries.pollFirst();
+            return entry != null ? entry : VehiclePool.NONE;
+        }
+
+        public void release(int vehicleId, int availability) {
+            entries.add(((long) availability << 32) | vehicleId);
+        }
+    }
+
+    private static final class LockedFleet implements Fleet {
+        private final PriorityQueue<Long> queue = new PriorityQueue<>();
+
+        LockedFleet(int vehicles) {
+            for (int id = 1; id <= vehicles; id++) {
+                queue.add((long) id);
+            }
+        }
+
+        public synchronized long claim() {
+            Long entry = queue.poll();
+            return entry != null ? entry : VehiclePool.NONE;
+        }
+
+        public synchronized void release(int vehicleId, int availability) {
+            queue.add(((long) availability << 32) | vehicleId);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Package weight distributions used by the benchmark fixtures.
+ *
+ * The shape of the weights decides how packages combine into shipments
+ * (many small packages per trip vs. one heavy package per trip), so the
+ * service benchmarks run against each of them.
+ */
+
+package com.everesteng.courier.benchmark;
+
+import java.util.SplittableRandom;
+
+public enum WeightDistribution {
+
+    // Every weight between 1 and max is equally likely
+    UNIFORM {
+        @Override
+        int next(SplittableRandom random, int maxWeight) {
+            return 1 + random.nextInt(maxWeight);
+        }
+    },
+
+    // Mostly light parcels: weights skewed towards 1 (quadratic)
+    LIGHT {
+        @Override
+        int next(SplittableRandom random, int maxWeight) {
+            double u = random.nextDouble();
+            return 1 + (int) (u * u * (maxWeight - 1));
+        }
+    },
+
+    // Mostly heavy freight: weights skewed towards max
+    HEAVY {
+        @Override
+        int next(SplittableRandom random, int maxWeight) {
+            double u = random.nextDouble();
+            return maxWeight - (int) (u * u * (maxWeight - 1));
+        }
+    },
+
+    // Half small parcels (up to 10% of max), half large items (above 60% of max)
+    BIMODAL {
+        @Override
+        int next(SplittableRandom random, int maxWeight) {
+            int small = Math.max(1, maxWeight / 10);
+            return random.nextBoolean()
+                    ? 1 + random.nextInt(small)
+                    : maxWeight - random.nextInt(Math.max(1, maxWeight * 4 / 10));
+        }
+    };
+
+    /**
+     * Draws one weight between 1 and maxWeight (inclusive).
+     */
+    abstract int next(SplittableRandom random, int maxWeight);
+}
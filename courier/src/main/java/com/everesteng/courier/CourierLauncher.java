@@ -0,0 +1,63 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Lightweight entry point for batch and scripted use, without Spring.
+ *
+ * Runs the same console modes as CourierApplication (see CourierConsole),
+ * but wires CourierService and its collaborators by hand: no component scan,
+ * no auto-configuration and no embedded web server, so a cron job's JVM
+ * spends its time on the input instead of on startup.
+ *
+ * Options:
+ *   --cost-stream[=<file>]         streaming cost mode (as in CourierApplication)
+ *   --courier.offers.file=<file>   offer catalogue file (as the Spring property)
+ *
+ * Start from the extracted jar (so the JVM sees plain class files and can use a
+ * CDS/AOT archive, see scripts/cli-aot.sh):
+ *   java -cp target/extracted/courier-0.0.1-SNAPSHOT.jar com.everesteng.courier.CourierLauncher
+ */
+
+package com.everesteng.courier;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.DiscountService;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import com.everesteng.courier.strategy.NoDiscount;
+import com.everesteng.courier.strategy.OFR001Discount;
+import com.everesteng.courier.strategy.OFR002Discount;
+import com.everesteng.courier.strategy.OFR003Discount;
+
+import java.io.IOException;
+import java.util.List;
+
+public final class CourierLauncher {
+
+    // Same name as the Spring property, so scripts can pass either
+    private static final String OFFERS_FILE_OPTION = "--courier.offers.file=";
+
+    private CourierLauncher() {
+    }
+
+    public static void main(String[] args) {
+        String offersFile = "";
+        for (String arg : args) {
+            if (arg.startsWith(OFFERS_FILE_OPTION)) {
+                offersFile = arg.substring(OFFERS_FILE_OPTION.length());
+            }
+        }
+
+        // The same beans Spring would create, wired by hand
+        try (DiscountService discountService = new DiscountService(List.of(
+                new OFR001Discount(), new OFR002Discount(), new OFR003Discount(), new NoDiscount()),
+                offersFile)) {
+            CourierService courierService = new CourierService(discountService,
+                    new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+            new CourierConsole(courierService).run(args);
+        } catch (IOException | CourierServiceException e) {
+            System.err.println("Error loading offers: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
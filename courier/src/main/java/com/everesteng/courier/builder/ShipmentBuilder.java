@@ -7,6 +7,7 @@
 
 package com.everesteng.courier.builder;
 
+import com.everesteng.courier.model.Hundredths;
 import com.everesteng.courier.model.Package;
 import com.everesteng.courier.model.Shipment;
 
@@ -21,8 +22,8 @@ public class ShipmentBuilder {
     // Stores the total weight of all packages in this shipment
     private int totalWeight = 0;
 
-    // Stores the delivery time required for this shipment
-    private float time = 0;
+    // Stores the delivery time required for this shipment, in hundredths of an hour
+    private int time = 0;
 
     // Stores the vehicle assigned to carry this shipment
     private int vehicle = 0;
@@ -46,6 +47,17 @@ public class ShipmentBuilder {
      * @return this builder instance (for method chaining)
      */
     public ShipmentBuilder setTime(float time) {
+        this.time = Hundredths.fromHours(time);
+        return this;
+    }
+
+    /**
+     * Sets the delivery time for the shipment in hundredths of an hour.
+     *
+     * @param time estimated time for delivery, in hundredths of an hour
+     * @return this builder instance (for method chaining)
+     */
+    public ShipmentBuilder setTimeHundredths(int time) {
         this.time = time;
         return this;
     }
@@ -71,7 +83,7 @@ public class ShipmentBuilder {
         // Copy all added packages into the Shipment
         shipment.setPackages(new ArrayList<>(packages));
         shipment.setTotalWeight(totalWeight);
-        shipment.setTime(time);
+        shipment.setTimeHundredths(time);
         shipment.setVehicle(vehicle);
         return shipment;
     }
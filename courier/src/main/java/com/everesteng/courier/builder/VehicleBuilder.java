@@ -2,7 +2,8 @@
  * Name: Sayantika Kandar
  * Purpose: VehicleBuilder helps in constructing Vehicle objects
  * step by step using the Builder design pattern.
- * It allows setting vehicleId and availability before building the Vehicle.
+ * It allows setting vehicleId and availability before building the Vehicle,
+ * and optionally the class, speed, capacity and shift of a mixed-fleet vehicle.
  */
 
 package com.everesteng.courier.builder;
@@ -17,6 +18,13 @@ public class VehicleBuilder {
     // Availability of the vehicle (e.g., time when the vehicle is free for the next shipment)
     private float availability;
 
+    // Mixed-fleet attributes (unset by default)
+    private String vehicleClass = "";
+    private int speed;
+    private int capacity;
+    private float shiftStart = 0.0f;
+    private float shiftEnd = Float.MAX_VALUE;
+
     /**
      * Sets the ID of the vehicle.
      *
@@ -39,6 +47,52 @@ public class VehicleBuilder {
         return this;
     }
 
+    /**
+     * Sets the vehicle class (e.g. "bike", "van", "truck").
+     *
+     * @param vehicleClass class name
+     * @return this builder instance (to allow method chaining)
+     */
+    public VehicleBuilder setVehicleClass(String vehicleClass) {
+        this.vehicleClass = vehicleClass;
+        return this;
+    }
+
+    /**
+     * Sets the travel speed of the vehicle.
+     *
+     * @param speed speed in km/h
+     * @return this builder instance (to allow method chaining)
+     */
+    public VehicleBuilder setSpeed(int speed) {
+        this.speed = speed;
+        return this;
+    }
+
+    /**
+     * Sets the maximum weight the vehicle can carry per trip.
+     *
+     * @param capacity capacity in kg
+     * @return this builder instance (to allow method chaining)
+     */
+    public VehicleBuilder setCapacity(int capacity) {
+        this.capacity = capacity;
+        return this;
+    }
+
+    /**
+     * Sets the shift window in which the vehicle may depart.
+     *
+     * @param shiftStart earliest departure time in hours
+     * @param shiftEnd   latest departure time in hours
+     * @return this builder instance (to allow method chaining)
+     */
+    public VehicleBuilder setShift(float shiftStart, float shiftEnd) {
+        this.shiftStart = shiftStart;
+        this.shiftEnd = shiftEnd;
+        return this;
+    }
+
     /**
      * Builds the final Vehicle object using the data set in this builder.
      *
@@ -46,7 +100,8 @@ public class VehicleBuilder {
      */
     public Vehicle build() {
         // Create a new Vehicle with the provided values
-        Vehicle vehicle = new Vehicle(vehicleId, availability);
+        Vehicle vehicle = new Vehicle(vehicleId, availability, vehicleClass,
+                speed, capacity, shiftStart, shiftEnd);
 
         // Explicitly set properties (may be redundant if constructor already sets them)
         vehicle.setVehicleId(vehicleId);
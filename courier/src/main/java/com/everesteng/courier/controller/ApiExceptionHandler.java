@@ -0,0 +1,35 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Turns service and validation errors into HTTP error responses.
+ *
+ * - CourierServiceException: invalid planning input (e.g. overweight package).
+ * - IllegalArgumentException: invalid model values (e.g. negative weight).
+ * - RejectedExecutionException: too many planning jobs queued (HTTP 429).
+ */
+
+package com.everesteng.courier.controller;
+
+import com.everesteng.courier.dto.ErrorResponse;
+import com.everesteng.courier.exception.CourierServiceException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.concurrent.RejectedExecutionException;
+
+@RestControllerAdvice  // Applies to all controllers
+public class ApiExceptionHandler {
+
+    @ExceptionHandler({CourierServiceException.class, IllegalArgumentException.class})
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleBadRequest(Exception e) {
+        return new ErrorResponse(e.getMessage());
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ErrorResponse handleOverload(RejectedExecutionException e) {
+        return new ErrorResponse(e.getMessage());
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: REST endpoints for delivery cost and delivery-time estimation.
+ *
+ * - POST /api/estimates/cost      → discount and final cost per package
+ * - POST /api/estimates/delivery  → discount, final cost and delivery time per package
+ * - POST /api/estimates/cost/batch → the cost estimate of a large batch in the binary
+ *                                    columnar format of BatchCostCodec
+ * - Both wrap CourierService, exactly like the CLI modes, and answer in request order.
+ * - Requests run on virtual threads (spring.threads.virtual.enabled), so many
+ *   concurrent clients do not need one platform thread each.
+ */
+
+package com.everesteng.courier.controller;
+
+import com.everesteng.courier.dto.CostEstimateRequest;
+import com.everesteng.courier.dto.DeliveryEstimateRequest;
+import com.everesteng.courier.dto.EstimateResponse;
+import com.everesteng.courier.dto.FleetRequest;
+import com.everesteng.courier.dto.PackageEstimate;
+import com.everesteng.courier.dto.PackageRequest;
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.io.BatchCostCodec;
+import com.everesteng.courier.model.DeliveryPlan;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
+import com.everesteng.courier.packing.PackingMode;
+import com.everesteng.courier.service.CourierService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController  // Handles HTTP requests and writes JSON responses
+@RequestMapping("/api/estimates")
+public class EstimationController {
+
+    // Binary batch format; errors are still answered as JSON by ApiExceptionHandler
+    static final MediaType COST_BATCH = MediaType.parseMediaType(BatchCostCodec.MEDIA_TYPE);
+
+    private final CourierService courierService;
+
+    // Constructor-based dependency injection of CourierService
+    public EstimationController(CourierService courierService) {
+        this.courierService = courierService;
+    }
+
+    /**
+     * Estimates the discount and final cost of every package.
+     *
+     * @param request base cost and packages
+     * @return one estimate per package, in request order
+     * @throws CourierServiceException if the request has no package list
+     */
+    @PostMapping("/cost")
+    public EstimateResponse estimateCost(@RequestBody CostEstimateRequest request)
+            throws CourierServiceException {
+
+        List<Package> packages = toPackages(request.packages());
+
+        List<PackageEstimate> estimates = new ArrayList<>(packages.size());
+        for (Package pkg : packages) {
+            estimates.add(estimate(pkg, request.baseCost(), null));
+        }
+        return new EstimateResponse(estimates);
+    }
+
+    /**
+     * Estimates the discount and final cost of every package of a binary batch.
+     * The request body is decoded in place into a columnar PackageBatch and priced
+     * with the batch API; no Package or JSON objects are created.
+     *
+     * @param body batch cost request (see BatchCostCodec)
+     * @return discounts and final costs, in request order
+     * @throws CourierServiceException if the body is not a valid batch cost request
+     */
+    @PostMapping(value = "/cost/batch", consumes = BatchCostCodec.MEDIA_TYPE)
+    public ResponseEntity<byte[]> estimateCostBatch(@RequestBody byte[] body) throws CourierServiceException {
+        BatchCostCodec.Request request = BatchCostCodec.decodeRequest(ByteBuffer.wrap(body));
+        PackageBatch batch = request.packages();
+
+        int[] discounts = new int[batch.size()];
+        int[] finalCosts = new int[batch.size()];
+        courierService.calculateFinalCosts(batch, request.baseCost(), discounts, finalCosts);
+        return ResponseEntity.ok().contentType(COST_BATCH)
+                .body(BatchCostCodec.encodeResponse(batch.size(), discounts, finalCosts));
+    }
+
+    /**
+     * Plans shipments for the fleet and estimates cost and delivery time of every package.
+     *
+     * @param request base cost, packages, fleet and optional packing mode
+     * @return one estimate per package, in request order
+     * @throws CourierServiceException if the fleet is missing or planning fails
+     */
+    @PostMapping("/delivery")
+    public EstimateResponse estimateDelivery(@RequestBody DeliveryEstimateRequest request)
+            throws CourierServiceException {
+
+        List<Package> packages = toPackages(request.packages());
+        FleetRequest fleet = request.fleet();
+        if (fleet == null) {
+            throw new CourierServiceException("Fleet details are required");
+        }
+
+        // Greedy packing: delivery times come from an immutable plan, by package index
+        PackingMode mode = request.packingMode();
+        if (mode == null || mode == PackingMode.GREEDY) {
+            DeliveryPlan plan = courierService.planDeliveries(packages, request.baseCost(),
+                    fleet.maxCarriableWeight(), fleet.maxSpeed(), fleet.numVehicles());
+            List<PackageEstimate> estimates = new ArrayList<>(packages.size());
+            for (int i = 0; i < plan.size(); i++) {
+                estimates.add(estimate(plan.getPackage(i), request.baseCost(), plan.getDeliveryTime(i)));
+            }
+            return new EstimateResponse(estimates);
+        }
+
+        // Other packing modes fill in the delivery time of every package
+        courierService.processDeliveries(packages, request.baseCost(),
+                fleet.maxCarriableWeight(), fleet.maxSpeed(), fleet.numVehicles(), mode);
+
+        List<PackageEstimate> estimates = new ArrayList<>(packages.size());
+        for (Package pkg : packages) {
+            estimates.add(estimate(pkg, request.baseCost(), pkg.getDeliveryTime()));
+        }
+        return new EstimateResponse(estimates);
+    }
+
+    // Converts the request packages (validated by the Package constructor)
+    static List<Package> toPackages(List<PackageRequest> requests) throws CourierServiceException {
+        if (requests == null) {
+            throw new CourierServiceException("Packages list is required");
+        }
+        List<Package> packages = new ArrayList<>(requests.size());
+        for (PackageRequest request : requests) {
+            if (request == null) {
+                throw new CourierServiceException("Package entries cannot be null");
+            }
+            packages.add(request.toPackage());
+        }
+        return packages;
+    }
+
+    // Discount and final cost of a package, with its delivery time
+    private PackageEstimate estimate(Package pkg, int baseCost, Float deliveryTime) {
+        int finalCost = courierService.calculateFinalCost(pkg, baseCost);
+        int discount = totalCost(pkg, baseCost) - finalCost;
+        return new PackageEstimate(pkg.getId(), discount, finalCost, deliveryTime);
+    }
+
+    // Pre-discount cost, same formula as the CLI output
+    private static int totalCost(Package pkg, int baseCost) {
+        return baseCost + (pkg.getWeight() * 10) + (pkg.getDistance() * 5);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: REST endpoints for bulk asynchronous delivery planning.
+ *
+ * - POST   /api/jobs/delivery    → queues a planning job (202 Accepted, same body as
+ *                                  /api/estimates/delivery), Location points at the events
+ * - GET    /api/jobs/{id}/events → streams the plan as NDJSON, one JobEvent per line,
+ *                                  each shipment as soon as it is assigned
+ * - GET    /api/jobs/{id}        → job status and progress
+ * - DELETE /api/jobs/{id}        → cancels the job
+ *
+ * The event stream is written at the client's pace: if the client reads slowly,
+ * the job's buffer fills up and planning waits (see PlanningJob).
+ */
+
+package com.everesteng.courier.controller;
+
+import com.everesteng.courier.dto.DeliveryEstimateRequest;
+import com.everesteng.courier.dto.FleetRequest;
+import com.everesteng.courier.dto.JobEvent;
+import com.everesteng.courier.dto.JobStatusResponse;
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.job.PlanningJob;
+import com.everesteng.courier.job.PlanningJobService;
+import com.everesteng.courier.model.Package;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RestController  // Handles HTTP requests and writes JSON responses
+@RequestMapping("/api/jobs")
+public class PlanningJobController {
+
+    // Newline-delimited JSON, one event per line
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    // How often an idle stream re-checks whether the job ended without an event
+    private static final long POLL_MILLIS = 500;
+
+    private final PlanningJobService jobService;
+    private final ObjectMapper objectMapper;
+
+    // Constructor-based dependency injection
+    public PlanningJobController(PlanningJobService jobService, ObjectMapper objectMapper) {
+        this.jobService = jobService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Queues a planning job for the packages and fleet.
+     *
+     * @param request base cost, packages, fleet and optional packing mode
+     * @return the job status, with the event stream as Location
+     * @throws CourierServiceException if the packages or fleet are missing
+     */
+    @PostMapping("/delivery")
+    public ResponseEntity<JobStatusResponse> submit(@RequestBody DeliveryEstimateRequest request)
+            throws CourierServiceException {
+
+        List<Package> packages = EstimationController.toPackages(request.packages());
+        FleetRequest fleet = request.fleet();
+        if (fleet == null) {
+            throw new CourierServiceException("Fleet details are required");
+        }
+
+        PlanningJob job = jobService.submit(packages, request.baseCost(), fleet.maxCarriableWeight(),
+                fleet.maxSpeed(), fleet.numVehicles(), request.packingMode());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId() + "/events"))
+                .body(job.toResponse());
+    }
+
+    /**
+     * Returns the status of a job.
+     */
+    @GetMapping("/{id}")
+    public JobStatusResponse status(@PathVariable String id) {
+        return job(id).toResponse();
+    }
+
+    /**
+     * Streams the events of a job as NDJSON until it completes or fails.
+     * A job can be streamed once; the job is forgotten afterwards.
+     */
+    @GetMapping("/{id}/events")
+    public ResponseEntity<StreamingResponseBody> events(@PathVariable String id) {
+        PlanningJob job = job(id);
+        if (!job.claimStream()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Job events are already being streamed");
+        }
+        StreamingResponseBody body = out -> {
+            try {
+                stream(job, out);
+            } finally {
+                jobService.remove(job.getId());
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    /**
+     * Cancels a job.
+     */
+    @DeleteMapping("/{id}")
+    public JobStatusResponse cancel(@PathVariable String id) {
+        PlanningJob job = job(id);
+        job.cancel();
+        return job.toResponse();
+    }
+
+    // Writes events until a final one; flushes whenever the buffer is drained
+    private void stream(PlanningJob job, OutputStream out) throws IOException {
+        try {
+            while (true) {
+                JobEvent event = job.nextEvent(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    if (job.isFinished() && !job.hasBufferedEvents()) {
+                        // The final event did not fit in the buffer
+                        write(out, finalEvent(job));
+                        out.flush();
+                        return;
+                    }
+                    continue;
+                }
+                write(out, event);
+                if (isFinal(event)) {
+                    out.flush();
+                    return;
+                }
+                if (!job.hasBufferedEvents()) {
+                    out.flush();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.cancel();
+        } catch (IOException e) {
+            // Client went away
+            job.cancel();
+            throw e;
+        }
+    }
+
+    private void write(OutputStream out, JobEvent event) throws IOException {
+        if (event != null) {
+            out.write(objectMapper.writeValueAsBytes(event));
+            out.write('\n');
+        }
+    }
+
+    // Final event rebuilt from the job status
+    private static JobEvent finalEvent(PlanningJob job) {
+        if (job.getStatus() == PlanningJob.Status.COMPLETED) {
+            return JobEvent.completed(job.getShipmentsSent());
+        }
+        return JobEvent.failed(job.getError() != null ? job.getError() : "Planning job " + job.getStatus());
+    }
+
+    private static boolean isFinal(JobEvent event) {
+        return JobEvent.COMPLETED.equals(event.type()) || JobEvent.FAILED.equals(event.type());
+    }
+
+    private PlanningJob job(String id) {
+        PlanningJob job = jobService.find(id);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown job " + id);
+        }
+        return job;
+    }
+}
@@ -0,0 +1,15 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Request body for batch delivery cost estimation.
+ */
+
+package com.everesteng.courier.dto;
+
+import java.util.List;
+
+/**
+ * @param baseCost base delivery cost
+ * @param packages packages to price
+ */
+public record CostEstimateRequest(int baseCost, List<PackageRequest> packages) {
+}
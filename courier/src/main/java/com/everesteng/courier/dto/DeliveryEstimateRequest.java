@@ -0,0 +1,20 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Request body for delivery-time estimation.
+ */
+
+package com.everesteng.courier.dto;
+
+import com.everesteng.courier.packing.PackingMode;
+
+import java.util.List;
+
+/**
+ * @param baseCost    base delivery cost
+ * @param packages    packages to deliver
+ * @param fleet       vehicle constraints
+ * @param packingMode how packages are grouped into shipments (optional, GREEDY by default)
+ */
+public record DeliveryEstimateRequest(int baseCost, List<PackageRequest> packages,
+                                      FleetRequest fleet, PackingMode packingMode) {
+}
@@ -0,0 +1,12 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Response body returned when a request cannot be processed.
+ */
+
+package com.everesteng.courier.dto;
+
+/**
+ * @param error description of what was wrong with the request
+ */
+public record ErrorResponse(String error) {
+}
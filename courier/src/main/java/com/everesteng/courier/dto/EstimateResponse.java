@@ -0,0 +1,14 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Response body of the estimation endpoints, in request order.
+ */
+
+package com.everesteng.courier.dto;
+
+import java.util.List;
+
+/**
+ * @param packages one estimate per requested package, in request order
+ */
+public record EstimateResponse(List<PackageEstimate> packages) {
+}
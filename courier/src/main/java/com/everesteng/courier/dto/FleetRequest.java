@@ -0,0 +1,14 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Vehicle constraints in a delivery-time estimation request.
+ */
+
+package com.everesteng.courier.dto;
+
+/**
+ * @param numVehicles        number of available vehicles
+ * @param maxSpeed           speed of every vehicle in km/h
+ * @param maxCarriableWeight maximum weight a vehicle can carry per trip
+ */
+public record FleetRequest(int numVehicles, int maxSpeed, int maxCarriableWeight) {
+}
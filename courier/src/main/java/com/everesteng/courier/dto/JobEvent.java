@@ -0,0 +1,51 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: One line of a planning job's NDJSON event stream.
+ *
+ * Event types, in stream order:
+ *   packed    → packing is done; "shipments" is the number of shipments to expect
+ *   shipment  → one assigned shipment ("index" in dispatch order, "vehicle",
+ *               and cost and delivery time of each package)
+ *   completed → all shipments were sent; last event of a successful job
+ *   failed    → planning failed or was cancelled ("message"); last event
+ */
+
+package com.everesteng.courier.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * @param type      event type (packed, shipment, completed or failed)
+ * @param index     position of the shipment in dispatch order (shipment events)
+ * @param vehicle   vehicle assigned to the shipment (shipment events)
+ * @param packages  estimates of the shipment's packages (shipment events)
+ * @param shipments number of shipments (packed and completed events)
+ * @param message   error message (failed events)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JobEvent(String type, Integer index, Integer vehicle, List<PackageEstimate> packages,
+                       Integer shipments, String message) {
+
+    public static final String PACKED = "packed";
+    public static final String SHIPMENT = "shipment";
+    public static final String COMPLETED = "completed";
+    public static final String FAILED = "failed";
+
+    public static JobEvent packed(int shipments) {
+        return new JobEvent(PACKED, null, null, null, shipments, null);
+    }
+
+    public static JobEvent shipment(int index, int vehicle, List<PackageEstimate> packages) {
+        return new JobEvent(SHIPMENT, index, vehicle, packages, null, null);
+    }
+
+    public static JobEvent completed(int shipments) {
+        return new JobEvent(COMPLETED, null, null, null, shipments, null);
+    }
+
+    public static JobEvent failed(String message) {
+        return new JobEvent(FAILED, null, null, null, null, message);
+    }
+}
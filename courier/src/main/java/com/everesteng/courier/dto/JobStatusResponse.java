@@ -0,0 +1,20 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Status of a planning job, returned when it is submitted, queried or cancelled.
+ */
+
+package com.everesteng.courier.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * @param jobId         job identifier
+ * @param status        QUEUED, RUNNING, COMPLETED, FAILED or CANCELLED
+ * @param shipments     number of shipments once packing is done (null before)
+ * @param shipmentsSent shipments handed to the event stream so far
+ * @param message       error message of a failed job
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JobStatusResponse(String jobId, String status, Integer shipments, int shipmentsSent,
+                                String message) {
+}
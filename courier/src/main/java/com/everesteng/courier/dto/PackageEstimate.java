@@ -0,0 +1,18 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Estimation result for one package.
+ */
+
+package com.everesteng.courier.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * @param id           package identifier
+ * @param discount     discount applied
+ * @param finalCost    cost after discount
+ * @param deliveryTime estimated delivery time in hours (null for cost-only estimates)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PackageEstimate(String id, int discount, int finalCost, Float deliveryTime) {
+}
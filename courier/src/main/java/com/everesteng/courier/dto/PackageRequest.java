@@ -0,0 +1,24 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: One package in an estimation request body.
+ */
+
+package com.everesteng.courier.dto;
+
+import com.everesteng.courier.model.Package;
+
+/**
+ * @param id        unique identifier for the package
+ * @param weight    weight of the package in kg
+ * @param distance  delivery distance in km
+ * @param offerCode offer code (optional)
+ */
+public record PackageRequest(String id, int weight, int distance, String offerCode) {
+
+    /**
+     * Converts this request entry into a Package (validated by its constructor).
+     */
+    public Package toPackage() {
+        return new Package(id, weight, distance, offerCode);
+    }
+}
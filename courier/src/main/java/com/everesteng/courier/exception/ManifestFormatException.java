@@ -0,0 +1,33 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Exception for malformed package input (manifest rows, streamed lines).
+ * Carries the 1-based line and column where parsing failed so the
+ * offending row can be found in large inputs.
+ */
+
+package com.everesteng.courier.exception;
+
+public class ManifestFormatException extends CourierServiceException {
+
+    // 1-based line number of the malformed row
+    private final long line;
+
+    // 1-based column where the problem was detected
+    private final int column;
+
+    /**
+     * Constructor for ManifestFormatException.
+     *
+     * @param message descriptive error message
+     * @param line    1-based line number
+     * @param column  1-based column number
+     */
+    public ManifestFormatException(String message, long line, int column) {
+        super(message + " at line " + line + ", column " + column);
+        this.line = line;
+        this.column = column;
+    }
+
+    public long getLine() { return line; }
+    public int getColumn() { return column; }
+}
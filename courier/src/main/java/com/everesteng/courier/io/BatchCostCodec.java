@@ -0,0 +1,261 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Compact binary format of the batch cost endpoint, with a reference encoder.
+ *
+ * All numbers are big-endian; strings are UTF-8 with an unsigned 16-bit
+ * length prefix. Columns follow each other, so a decoder reads every column
+ * with one tight loop straight from the request buffer.
+ *
+ * Request (media type application/x-courier-cost-batch):
+ *   int magic "CBQ1", int base cost, int package count n,
+ *   u16 offer code count m, then m × (u16 length, bytes)   offer dictionary
+ *   int id block length, then n × (u16 length, bytes)      package IDs
+ *   n × int weight, n × int distance,
+ *   n × u16 offer ordinal (index into the offer dictionary)
+ *
+ * Response:
+ *   int magic "CBS1", int package count n,
+ *   n × int discount, n × int final cost   (request order)
+ */
+
+package com.everesteng.courier.io;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class BatchCostCodec {
+
+    public static final String MEDIA_TYPE = "application/x-courier-cost-batch";
+
+    // "CBQ1" and "CBS1" in ASCII
+    static final int REQUEST_MAGIC = 0x43425131;
+    static final int RESPONSE_MAGIC = 0x43425331;
+
+    // Largest string and dictionary the u16 length fields can describe
+    private static final int MAX_UNSIGNED_SHORT = 0xFFFF;
+
+    // Fixed bytes per package: u16 id length, weight, distance, u16 ordinal
+    private static final int BYTES_PER_PACKAGE = 2 + 4 + 4 + 2;
+
+    private BatchCostCodec() {
+    }
+
+    /**
+     * Decoded batch cost request.
+     *
+     * @param baseCost base delivery cost
+     * @param packages packages in request order
+     */
+    public record Request(int baseCost, PackageBatch packages) {
+    }
+
+    /**
+     * Decoded batch cost response.
+     *
+     * @param discounts  discount of each package, in request order
+     * @param finalCosts final cost of each package, in request order
+     */
+    public record Response(int[] discounts, int[] finalCosts) {
+    }
+
+    // ---------------------- Request ----------------------
+
+    /**
+     * Reference encoder for clients: encodes a batch cost request.
+     *
+     * @param baseCost base delivery cost
+     * @param packages packages to be priced
+     * @return the request body
+     */
+    public static byte[] encodeRequest(int baseCost, List<Package> packages) {
+        // Offer dictionary in first-use order
+        Map<String, Integer> ordinals = new HashMap<>();
+        int[] packageOrdinals = new int[packages.size()];
+        byte[][] ids = new byte[packages.size()][];
+        int idBytes = 0;
+        for (int i = 0; i < packages.size(); i++) {
+            Package pkg = packages.get(i);
+            packageOrdinals[i] = ordinals.computeIfAbsent(pkg.getOfferCode(), code -> ordinals.size());
+            ids[i] = utf8(pkg.getId());
+            idBytes += 2 + ids[i].length;
+        }
+        if (ordinals.size() > MAX_UNSIGNED_SHORT) {
+            throw new IllegalArgumentException("Too many distinct offer codes: " + ordinals.size());
+        }
+        byte[][] codes = new byte[ordinals.size()][];
+        int codeBytes = 0;
+        for (Map.Entry<String, Integer> entry : ordinals.entrySet()) {
+            codes[entry.getValue()] = utf8(entry.getKey());
+            codeBytes += 2 + codes[entry.getValue()].length;
+        }
+
+        int n = packages.size();
+        ByteBuffer out = ByteBuffer.allocate(4 + 4 + 4 + 2 + codeBytes + 4 + idBytes + n * (4 + 4 + 2));
+        out.putInt(REQUEST_MAGIC);
+        out.putInt(baseCost);
+        out.putInt(n);
+        out.putShort((short) codes.length);
+        for (byte[] code : codes) {
+            putString(out, code);
+        }
+        out.putInt(idBytes);
+        for (byte[] id : ids) {
+            putString(out, id);
+        }
+        for (Package pkg : packages) {
+            out.putInt(pkg.getWeight());
+        }
+        for (Package pkg : packages) {
+            out.putInt(pkg.getDistance());
+        }
+        for (int ordinal : packageOrdinals) {
+            out.putShort((short) ordinal);
+        }
+        return out.array();
+    }
+
+    /**
+     * Decodes a batch cost request from the request body.
+     *
+     * @param body request body, positioned at the magic number
+     * @return base cost and packages
+     * @throws CourierServiceException if the body is not a valid request
+     */
+    public static Request decodeRequest(ByteBuffer body) throws CourierServiceException {
+        try {
+            if (body.remaining() < 4 || body.getInt() != REQUEST_MAGIC) {
+                throw new CourierServiceException("Not a batch cost request");
+            }
+            int baseCost = body.getInt();
+            int n = body.getInt();
+            if (n < 0 || (long) n * BYTES_PER_PACKAGE > body.remaining()) {
+                throw new CourierServiceException("Invalid package count " + n);
+            }
+
+            PackageBatch batch = new PackageBatch(n);
+            // Request ordinal → batch ordinal (the batch merges codes that only differ in spaces)
+            int codeCount = Short.toUnsignedInt(body.getShort());
+            int[] ordinalOf = new int[codeCount];
+            for (int i = 0; i < codeCount; i++) {
+                ordinalOf[i] = batch.addOfferCode(getString(body));
+            }
+
+            int idEnd = body.getInt();
+            if (idEnd < 0 || idEnd > body.remaining()) {
+                throw new CourierServiceException("Invalid ID block length " + idEnd);
+            }
+            idEnd += body.position();
+
+            // Columns after the ID block
+            int weights = idEnd;
+            int distances = weights + 4 * n;
+            int codes = distances + 4 * n;
+            if ((long) codes + 2L * n > body.limit()) {
+                throw new CourierServiceException("Batch cost request is truncated");
+            }
+
+            for (int row = 0; row < n; row++) {
+                String id = getString(body);
+                int ordinal = Short.toUnsignedInt(body.getShort(codes + 2 * row));
+                if (ordinal >= codeCount) {
+                    throw new CourierServiceException("Invalid offer ordinal " + ordinal + " of package " + id);
+                }
+                batch.add(id, body.getInt(weights + 4 * row), body.getInt(distances + 4 * row), ordinalOf[ordinal]);
+            }
+            if (body.position() != idEnd) {
+                throw new CourierServiceException("ID block length does not match the package IDs");
+            }
+            body.position(codes + 2 * n);
+            return new Request(baseCost, batch);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new CourierServiceException("Batch cost request is truncated");
+        } catch (IllegalArgumentException e) {
+            throw new CourierServiceException(e.getMessage());
+        }
+    }
+
+    // ---------------------- Response ----------------------
+
+    /**
+     * Encodes the discounts and final costs of the first count packages.
+     *
+     * @param count      number of packages
+     * @param discounts  discount of each package
+     * @param finalCosts final cost of each package
+     * @return the response body
+     */
+    public static byte[] encodeResponse(int count, int[] discounts, int[] finalCosts) {
+        ByteBuffer out = ByteBuffer.allocate(4 + 4 + 8 * count);
+        out.putInt(RESPONSE_MAGIC);
+        out.putInt(count);
+        out.asIntBuffer().put(discounts, 0, count).put(finalCosts, 0, count);
+        return out.array();
+    }
+
+    /**
+     * Reference decoder for clients: decodes a batch cost response.
+     *
+     * @param body response body, positioned at the magic number
+     * @return discounts and final costs in request order
+     * @throws CourierServiceException if the body is not a valid response
+     */
+    public static Response decodeResponse(ByteBuffer body) throws CourierServiceException {
+        try {
+            if (body.getInt() != RESPONSE_MAGIC) {
+                throw new CourierServiceException("Not a batch cost response");
+            }
+            int n = body.getInt();
+            if (n < 0 || 8L * n > body.remaining()) {
+                throw new CourierServiceException("Invalid package count " + n);
+            }
+            int[] discounts = new int[n];
+            int[] finalCosts = new int[n];
+            body.asIntBuffer().get(discounts).get(finalCosts);
+            body.position(body.position() + 8 * n);
+            return new Response(discounts, finalCosts);
+        } catch (BufferUnderflowException e) {
+            throw new CourierServiceException("Batch cost response is truncated");
+        }
+    }
+
+    // ---------------------- Helpers ----------------------
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_UNSIGNED_SHORT) {
+            throw new IllegalArgumentException("String too long for the batch format: " + value.length() + " chars");
+        }
+        return bytes;
+    }
+
+    private static void putString(ByteBuffer out, byte[] bytes) {
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    // Reads a u16-length-prefixed UTF-8 string at the current position
+    private static String getString(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(in.position(), bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        in.position(in.position() + length);
+        return value;
+    }
+}
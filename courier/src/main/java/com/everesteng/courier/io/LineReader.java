@@ -0,0 +1,97 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Reads an InputStream line by line into a reusable byte buffer.
+ *
+ * - No String is created per line; callers read the bytes between
+ *   lineStart() and lineEnd() of buffer().
+ * - Accepts "\n" and "\r\n" line endings; the terminator is not part of the line.
+ * - The buffer only grows if a single line is longer than it.
+ */
+
+package com.everesteng.courier.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+final class LineReader {
+
+    private final InputStream in;
+    private byte[] buffer;
+
+    // Unconsumed bytes are buffer[start .. limit)
+    private int start;
+    private int limit;
+
+    // Position up to which the unconsumed bytes were already searched for '\n'
+    private int scanned;
+
+    private boolean eof;
+
+    // Bounds of the current line within buffer
+    private int lineStart;
+    private int lineEnd;
+
+    LineReader(InputStream in, int bufferSize) {
+        this.in = in;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Advances to the next line.
+     *
+     * @return false once the input is exhausted
+     */
+    boolean nextLine() throws IOException {
+        while (true) {
+            for (int i = scanned; i < limit; i++) {
+                if (buffer[i] == '\n') {
+                    setLine(start, i);
+                    start = i + 1;
+                    scanned = start;
+                    return true;
+                }
+            }
+            scanned = limit;
+
+            if (eof) {
+                if (start < limit) { // last line without terminator
+                    setLine(start, limit);
+                    start = limit;
+                    return true;
+                }
+                return false;
+            }
+            fill();
+        }
+    }
+
+    byte[] buffer() { return buffer; }
+    int lineStart() { return lineStart; }
+    int lineEnd() { return lineEnd; }
+
+    // Records the line bounds, dropping a trailing '\r'
+    private void setLine(int from, int to) {
+        lineStart = from;
+        lineEnd = (to > from && buffer[to - 1] == '\r') ? to - 1 : to;
+    }
+
+    // Moves unconsumed bytes to the front and reads more input
+    private void fill() throws IOException {
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, limit - start);
+            limit -= start;
+            scanned -= start;
+            start = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = in.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            eof = true;
+        } else {
+            limit += read;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Reads package manifest files through memory-mapped I/O.
+ *
+ * Manifest format (same as the CLI input):
+ *   base_delivery_cost no_of_packages
+ *   pkg_id1 pkg_weight1_in_kg distance1_in_km offer_code1
+ *   ...
+ *   [no_of_vehicles max_speed max_carriable_weight]   (optional fleet line)
+ *
+ * - The file is mapped with FileChannel.map in windows (256 MB by default),
+ *   so multi-GB manifests can be read without loading them on the heap.
+ * - Each line is copied into one reusable scratch buffer and parsed from bytes;
+ *   rows are handed out through a reused ManifestRow flyweight, so reading
+ *   creates no objects per row (apart from new, uncached offer codes).
+ * - Malformed rows fail with a ManifestFormatException carrying line and column.
+ */
+
+package com.everesteng.courier.io;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.exception.ManifestFormatException;
+import com.everesteng.courier.model.PackageBatch;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class ManifestReader {
+
+    // Default size of one mapped window of the file
+    private static final long DEFAULT_WINDOW_SIZE = 1L << 28;
+
+    private final Path file;
+    private final long windowSize;
+
+    // Header values, available once read() has returned
+    private int baseCost;
+    private int packageCount;
+
+    // Optional fleet line, available once read() has returned
+    private boolean hasFleet;
+    private int numVehicles;
+    private int maxSpeed;
+    private int maxCarriableWeight;
+
+    /**
+     * @param file manifest file to read
+     */
+    public ManifestReader(Path file) {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param file       manifest file to read
+     * @param windowSize bytes mapped at a time; a single line must fit in one window
+     */
+    ManifestReader(Path file, long windowSize) {
+        if (file == null) {
+            throw new IllegalArgumentException("Manifest file cannot be null");
+        }
+        if (windowSize <= 0 || windowSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window size must be between 1 and " + Integer.MAX_VALUE);
+        }
+        this.file = file;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Reads the whole manifest, calling the handler once per package row.
+     *
+     * @param handler receives each row (the row object is reused)
+     * @throws IOException             if the file cannot be read
+     * @throws CourierServiceException if the manifest is malformed or the handler fails
+     */
+    public void read(ManifestRowHandler handler) throws IOException, CourierServiceException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedLines lines = new MappedLines(channel, windowSize);
+            RowTokenizer tokens = new RowTokenizer();
+            OfferCodeCache offerCodes = new OfferCodeCache();
+            ManifestRow row = new ManifestRow();
+
+            // Header: base cost and number of packages (may be split over lines)
+            int[] header = new int[2];
+            int headerFields = 0;
+            while (headerFields < 2) {
+                if (!lines.next()) {
+                    throw new ManifestFormatException("Missing base cost and package count", lines.number() + 1, 1);
+                }
+                tokens.reset(lines.bytes(), 0, lines.length(), lines.number());
+                while (headerFields < 2 && tokens.next()) {
+                    header[headerFields] = headerFields == 0
+                            ? tokens.parseInt("base cost")
+                            : tokens.parseNonNegativeInt("package count");
+                    headerFields++;
+                }
+            }
+            baseCost = header[0];
+            packageCount = header[1];
+
+            // Package rows
+            for (int i = 0; i < packageCount; i++) {
+                if (!lines.next()) {
+                    throw new ManifestFormatException(
+                            "Expected " + packageCount + " packages but file ended after " + i,
+                            lines.number() + 1, 1);
+                }
+                byte[] line = lines.bytes();
+                tokens.reset(line, 0, lines.length(), lines.number());
+
+                tokens.require("package id");
+                int idStart = tokens.tokenStart();
+                int idLength = tokens.tokenLength();
+
+                tokens.require("weight");
+                int weight = tokens.parseNonNegativeInt("weight");
+
+                tokens.require("distance");
+                int distance = tokens.parseNonNegativeInt("distance");
+
+                tokens.require("offer code");
+                String offerCode = offerCodes.lookup(line, tokens.tokenStart(), tokens.tokenLength());
+
+                row.set(lines.number(), line, idStart, idLength, weight, distance, offerCode);
+                handler.onRow(row);
+            }
+
+            // Optional fleet line: first non-blank line after the rows
+            hasFleet = false;
+            while (lines.next()) {
+                tokens.reset(lines.bytes(), 0, lines.length(), lines.number());
+                if (!tokens.next()) {
+                    continue;
+                }
+                numVehicles = tokens.parseNonNegativeInt("number of vehicles");
+                tokens.require("max speed");
+                maxSpeed = tokens.parseNonNegativeInt("max speed");
+                tokens.require("max carriable weight");
+                maxCarriableWeight = tokens.parseNonNegativeInt("max carriable weight");
+                hasFleet = true;
+                break;
+            }
+        }
+    }
+
+    /**
+     * Reads the whole manifest into a columnar PackageBatch.
+     * Package IDs are materialised as Strings; everything else stays primitive.
+     *
+     * @return batch with one row per package, in file order
+     * @throws IOException             if the file cannot be read
+     * @throws CourierServiceException if the manifest is malformed
+     */
+    public PackageBatch readBatch() throws IOException, CourierServiceException {
+        PackageBatch batch = new PackageBatch();
+        read(row -> batch.add(row.getId(), row.getWeight(), row.getDistance(), row.getOfferCode()));
+        return batch;
+    }
+
+    // ---------------------- Getters ----------------------
+
+    public int getBaseCost() { return baseCost; }
+    public int getPackageCount() { return packageCount; }
+    public boolean hasFleet() { return hasFleet; }
+    public int getNumVehicles() { return numVehicles; }
+    public int getMaxSpeed() { return maxSpeed; }
+    public int getMaxCarriableWeight() { return maxCarriableWeight; }
+
+    /**
+     * Iterates over the lines of a file through a sliding mapped window.
+     * The current line is copied (without its terminator) into a reusable buffer.
+     */
+    private static final class MappedLines {
+        private final FileChannel channel;
+        private final long fileSize;
+        private final long windowSize;
+
+        private MappedByteBuffer window;
+        private long windowStart;
+        private int position;
+
+        private byte[] line = new byte[256];
+        private int length;
+        private long number;
+
+        MappedLines(FileChannel channel, long windowSize) throws IOException {
+            this.channel = channel;
+            this.fileSize = channel.size();
+            this.windowSize = windowSize;
+            map(0);
+        }
+
+        boolean next() throws IOException {
+            while (true) {
+                if (windowStart + position >= fileSize) {
+                    return false;
+                }
+                int limit = window.limit();
+                int end = position;
+                while (end < limit && window.get(end) != '\n') end++;
+
+                // Line continues past this window: slide the window to the line start
+                if (end == limit && windowStart + limit < fileSize) {
+                    if (position == 0) {
+                        throw new IOException("Line " + (number + 1) + " is longer than the mapping window");
+                    }
+                    map(windowStart + position);
+                    continue;
+                }
+
+                int lineEnd = (end > position && window.get(end - 1) == '\r') ? end - 1 : end;
+                length = lineEnd - position;
+                if (length > line.length) {
+                    line = Arrays.copyOf(line, Math.max(length, line.length * 2));
+                }
+                window.get(position, line, 0, length);
+                position = Math.min(end + 1, limit);
+                number++;
+                return true;
+            }
+        }
+
+        byte[] bytes() { return line; }
+        int length() { return length; }
+        long number() { return number; }
+
+        private void map(long start) throws IOException {
+            long size = Math.min(windowSize, fileSize - start);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+            windowStart = start;
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Reusable view of one package row while a manifest is being read.
+ *
+ * ManifestReader fills the same instance for every row (flyweight), so
+ * reading a manifest creates no per-row objects. The values are only valid
+ * during the ManifestRowHandler callback; copy what you need to keep.
+ */
+
+package com.everesteng.courier.io;
+
+import java.nio.charset.StandardCharsets;
+
+public final class ManifestRow {
+
+    // 1-based line number of the row in the manifest file
+    private long lineNumber;
+
+    // Row bytes (shared scratch buffer) and bounds of the package ID in it
+    private byte[] line;
+    private int idStart;
+    private int idLength;
+
+    private int weight;
+    private int distance;
+    private String offerCode;
+
+    ManifestRow() {
+    }
+
+    void set(long lineNumber, byte[] line, int idStart, int idLength,
+             int weight, int distance, String offerCode) {
+        this.lineNumber = lineNumber;
+        this.line = line;
+        this.idStart = idStart;
+        this.idLength = idLength;
+        this.weight = weight;
+        this.distance = distance;
+        this.offerCode = offerCode;
+    }
+
+    // ---------------------- Getters ----------------------
+
+    public long getLineNumber() { return lineNumber; }
+    public int getWeight() { return weight; }
+    public int getDistance() { return distance; }
+
+    /**
+     * Returns the offer code; the same String instance is reused for equal codes.
+     */
+    public String getOfferCode() { return offerCode; }
+
+    /**
+     * Returns the package ID as a new String (allocates).
+     */
+    public String getId() {
+        return new String(line, idStart, idLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the length of the package ID in bytes.
+     */
+    public int getIdLength() {
+        return idLength;
+    }
+
+    /**
+     * Copies the package ID bytes into a caller-owned buffer (no allocation).
+     *
+     * @param target buffer with at least getIdLength() free bytes from offset
+     * @param offset position in target to start writing
+     * @return number of bytes copied
+     */
+    public int copyId(byte[] target, int offset) {
+        System.arraycopy(line, idStart, target, offset, idLength);
+        return idLength;
+    }
+
+    @Override
+    public String toString() {
+        return "ManifestRow{" +
+                "line=" + lineNumber +
+                ", id='" + getId() + '\'' +
+                ", weight=" + weight +
+                ", distance=" + distance +
+                ", offerCode='" + offerCode + '\'' +
+                '}';
+    }
+}
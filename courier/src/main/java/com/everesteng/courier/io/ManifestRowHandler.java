@@ -0,0 +1,20 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Callback receiving each package row while a manifest is read.
+ */
+
+package com.everesteng.courier.io;
+
+import com.everesteng.courier.exception.CourierServiceException;
+
+@FunctionalInterface
+public interface ManifestRowHandler {
+
+    /**
+     * Called once per package row, in file order.
+     *
+     * @param row reused row view, only valid during this call
+     * @throws CourierServiceException to abort reading
+     */
+    void onRow(ManifestRow row) throws CourierServiceException;
+}
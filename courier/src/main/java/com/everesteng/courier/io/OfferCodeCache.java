@@ -0,0 +1,42 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Maps offer-code bytes to String instances while parsing input.
+ *
+ * Inputs only use a handful of distinct offer codes, so a short linear
+ * scan over the codes seen so far avoids creating a String per row.
+ * Only the first MAX_CODES distinct codes are cached; further codes
+ * still work but allocate a String each time.
+ */
+
+package com.everesteng.courier.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+final class OfferCodeCache {
+
+    // Maximum number of distinct offer codes kept in the cache
+    private static final int MAX_CODES = 64;
+
+    private final byte[][] codes = new byte[MAX_CODES][];
+    private final String[] strings = new String[MAX_CODES];
+    private int size;
+
+    /**
+     * Returns the offer code stored in buffer[start .. start + length).
+     */
+    String lookup(byte[] buffer, int start, int length) {
+        for (int i = 0; i < size; i++) {
+            byte[] code = codes[i];
+            if (Arrays.equals(code, 0, code.length, buffer, start, start + length)) {
+                return strings[i];
+            }
+        }
+        String code = new String(buffer, start, length, StandardCharsets.UTF_8);
+        if (size < MAX_CODES) {
+            codes[size] = Arrays.copyOfRange(buffer, start, start + length);
+            strings[size++] = code;
+        }
+        return code;
+    }
+}
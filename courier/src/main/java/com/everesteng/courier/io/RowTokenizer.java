@@ -0,0 +1,126 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Splits one input line held in a byte array into whitespace separated
+ * tokens and parses integers from them, without creating Strings.
+ *
+ * Errors are reported as ManifestFormatException with the 1-based line and
+ * the column of the offending token.
+ */
+
+package com.everesteng.courier.io;
+
+import com.everesteng.courier.exception.ManifestFormatException;
+
+final class RowTokenizer {
+
+    private byte[] buffer;
+    private int lineStart;
+    private int lineEnd;
+    private int position;
+    private long lineNumber;
+
+    // Bounds of the current token within buffer
+    private int tokenStart;
+    private int tokenEnd;
+
+    /**
+     * Points the tokenizer at a new line.
+     */
+    void reset(byte[] buffer, int lineStart, int lineEnd, long lineNumber) {
+        this.buffer = buffer;
+        this.lineStart = lineStart;
+        this.lineEnd = lineEnd;
+        this.position = lineStart;
+        this.lineNumber = lineNumber;
+        this.tokenStart = lineStart;
+        this.tokenEnd = lineStart;
+    }
+
+    /**
+     * Advances to the next token.
+     *
+     * @return false if the line has no more tokens
+     */
+    boolean next() {
+        int i = position;
+        while (i < lineEnd && isWhitespace(buffer[i])) i++;
+        if (i == lineEnd) {
+            tokenStart = tokenEnd = position = lineEnd;
+            return false;
+        }
+        tokenStart = i;
+        while (i < lineEnd && !isWhitespace(buffer[i])) i++;
+        tokenEnd = position = i;
+        return true;
+    }
+
+    /**
+     * Advances to the next token, failing if there is none.
+     *
+     * @param field name of the expected field, used in the error message
+     */
+    void require(String field) throws ManifestFormatException {
+        if (!next()) {
+            throw error("Missing " + field);
+        }
+    }
+
+    /**
+     * Parses the current token as a non-negative int.
+     *
+     * @param field name of the field, used in error messages
+     */
+    int parseNonNegativeInt(String field) throws ManifestFormatException {
+        int i = tokenStart;
+        if (i < tokenEnd && buffer[i] == '+') i++;
+        if (i < tokenEnd && buffer[i] == '-') {
+            throw error(field + " cannot be negative");
+        }
+        if (i == tokenEnd) {
+            throw error("Invalid " + field);
+        }
+        int value = 0;
+        for (; i < tokenEnd; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw error("Invalid " + field);
+            }
+            if (value > (Integer.MAX_VALUE - digit) / 10) {
+                throw error(field + " is out of range");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Parses the current token as a (possibly negative) int.
+     *
+     * @param field name of the field, used in error messages
+     */
+    int parseInt(String field) throws ManifestFormatException {
+        if (tokenStart < tokenEnd && buffer[tokenStart] == '-') {
+            int saved = tokenStart++;
+            try {
+                return -parseNonNegativeInt(field);
+            } finally {
+                tokenStart = saved;
+            }
+        }
+        return parseNonNegativeInt(field);
+    }
+
+    int tokenStart() { return tokenStart; }
+    int tokenLength() { return tokenEnd - tokenStart; }
+
+    /**
+     * Builds an error pointing at the current token (or line end).
+     */
+    ManifestFormatException error(String message) {
+        return new ManifestFormatException(message, lineNumber, tokenStart - lineStart + 1);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Streaming variant of the Delivery Cost Estimation mode.
+ *
+ * Reads the same input as the interactive cost mode:
+ *   base_delivery_cost no_of_packages
+ *   pkg_id1 pkg_weight1_in_kg distance1_in_km offer_code1
+ *   ...
+ * and writes the same result section, but each package line is parsed,
+ * priced and written out immediately instead of being collected first.
+ *
+ * - Memory stays constant for any number of packages (one line buffer,
+ *   one output buffer).
+ * - Lines are parsed straight from bytes; package IDs are copied to the
+ *   output without creating Strings, and offer codes are resolved through
+ *   a small cache of previously seen codes.
+ * - Malformed lines fail with a ManifestFormatException carrying line and column.
+ */
+
+package com.everesteng.courier.io;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.exception.ManifestFormatException;
+import com.everesteng.courier.service.CourierService;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+public class StreamingCostEstimator {
+
+    // Same header the interactive cost mode prints before its results
+    private static final byte[] RESULTS_HEADER =
+            ("=== Delivery Cost Estimation Results ===" + System.lineSeparator())
+                    .getBytes(StandardCharsets.US_ASCII);
+
+    // Line terminator used by printf("%n")
+    private static final byte[] LINE_SEPARATOR =
+            System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+    // Read and write buffer size
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final CourierService courierService;
+
+    /**
+     * @param courierService service used to price each package
+     */
+    public StreamingCostEstimator(CourierService courierService) {
+        this.courierService = courierService;
+    }
+
+    /**
+     * Prices every package line of the input and writes one result line per package.
+     * The output is flushed but not closed.
+     *
+     * @param input  cost-mode input (header line followed by package lines)
+     * @param output destination for the results
+     * @return number of packages written
+     * @throws IOException             if reading or writing fails
+     * @throws CourierServiceException if the input is malformed
+     */
+    public long estimate(InputStream input, OutputStream output)
+            throws IOException, CourierServiceException {
+
+        LineReader reader = new LineReader(input, BUFFER_SIZE);
+        RowTokenizer tokens = new RowTokenizer();
+        OutputStream out = new BufferedOutputStream(output, BUFFER_SIZE);
+        OfferCodeCache offerCodes = new OfferCodeCache();
+        byte[] digits = new byte[11];
+        long lineNumber = 0;
+        long written = 0;
+
+        try {
+            // Header: base cost and number of packages (may be split over lines)
+            int[] header = new int[2];
+            int headerFields = 0;
+            while (headerFields < 2) {
+                if (!reader.nextLine()) {
+                    throw new ManifestFormatException("Missing base cost and package count", lineNumber + 1, 1);
+                }
+                tokens.reset(reader.buffer(), reader.lineStart(), reader.lineEnd(), ++lineNumber);
+                while (headerFields < 2 && tokens.next()) {
+                    header[headerFields] = headerFields == 0
+                            ? tokens.parseInt("base cost")
+                            : tokens.parseNonNegativeInt("package count");
+                    headerFields++;
+                }
+            }
+            int baseCost = header[0];
+            long packageCount = header[1];
+
+            out.write(RESULTS_HEADER);
+
+            while (written < packageCount) {
+                if (!reader.nextLine()) {
+                    throw new ManifestFormatException(
+                            "Expected " + packageCount + " packages but input ended after " + written,
+                            lineNumber + 1, 1);
+                }
+                byte[] line = reader.buffer();
+                tokens.reset(line, reader.lineStart(), reader.lineEnd(), ++lineNumber);
+
+                tokens.require("package id");
+                int idStart = tokens.tokenStart();
+                int idLength = tokens.tokenLength();
+
+                tokens.require("weight");
+                int weight = tokens.parseNonNegativeInt("weight");
+
+                tokens.require("distance");
+                int distance = tokens.parseNonNegativeInt("distance");
+
+                tokens.require("offer code");
+                String offerCode = offerCodes.lookup(line, tokens.tokenStart(), tokens.tokenLength());
+
+                int finalCost = courierService.calculateFinalCost(offerCode, weight, distance, baseCost);
+                int totalCost = baseCost + (weight * 10) + (distance * 5);
+                int discount = totalCost - finalCost;
+
+                // Write: packageId, discount applied, final cost
+                out.write(line, idStart, idLength);
+                out.write(' ');
+                writeInt(out, discount, digits);
+                out.write(' ');
+                writeInt(out, finalCost, digits);
+                out.write(LINE_SEPARATOR);
+                written++;
+            }
+        } finally {
+            out.flush();
+        }
+        return written;
+    }
+
+    // Writes an int in decimal without creating a String
+    private static void writeInt(OutputStream out, int value, byte[] digits) throws IOException {
+        if (value == Integer.MIN_VALUE) {
+            out.write(Integer.toString(value).getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        if (value < 0) {
+            out.write('-');
+            value = -value;
+        }
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        out.write(digits, position, digits.length - position);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: One asynchronous planning run and its bounded event buffer.
+ *
+ * The planning thread publishes JobEvents into a bounded queue; one client
+ * streams them out. When the client reads slower than planning produces,
+ * the queue fills up and publish() blocks, which pauses vehicle assignment
+ * until the client catches up (backpressure). If nobody reads for
+ * consumerTimeout, the job fails instead of holding its thread forever.
+ */
+
+package com.everesteng.courier.job;
+
+import com.everesteng.courier.dto.JobEvent;
+import com.everesteng.courier.dto.JobStatusResponse;
+import com.everesteng.courier.exception.CourierServiceException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class PlanningJob {
+
+    // Error of a cancelled job
+    static final String CANCELLED_MESSAGE = "Planning job was cancelled";
+
+    /**
+     * Lifecycle of a job.
+     */
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED }
+
+    private final String id;
+
+    // Events not yet streamed to the client
+    private final BlockingQueue<JobEvent> events;
+
+    // How long publish() waits for room in the queue
+    private final long consumerTimeoutNanos;
+
+    // Set once a client has started streaming the events
+    private final AtomicBoolean streamClaimed = new AtomicBoolean();
+
+    // Written by the planning thread, read by status requests
+    private volatile Status status = Status.QUEUED;
+    private volatile int shipmentCount = -1;
+    private volatile int shipmentsSent;
+    private volatile String error;
+    private volatile long finishedAt;
+
+    // Planning task, for cancellation
+    private volatile Future<?> task;
+
+    /**
+     * @param id                  job identifier
+     * @param bufferSize          events buffered between planning and the client (>= 1)
+     * @param consumerTimeoutNanos how long planning waits for the client when the buffer is full
+     */
+    PlanningJob(String id, int bufferSize, long consumerTimeoutNanos) {
+        this.id = id;
+        this.events = new ArrayBlockingQueue<>(bufferSize);
+        this.consumerTimeoutNanos = consumerTimeoutNanos;
+    }
+
+    // ---------------------- Planning side ----------------------
+
+    /**
+     * Hands an event to the client, waiting while the buffer is full.
+     *
+     * @throws CourierServiceException if the client does not read in time or the job is cancelled
+     */
+    void publish(JobEvent event) throws CourierServiceException {
+        try {
+            if (!events.offer(event, consumerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new CourierServiceException("No client read the job events for "
+                        + TimeUnit.NANOSECONDS.toSeconds(consumerTimeoutNanos) + " s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CourierServiceException(CANCELLED_MESSAGE);
+        }
+        if (JobEvent.SHIPMENT.equals(event.type())) {
+            shipmentsSent++;
+        }
+    }
+
+    /**
+     * Ends the job. A final event (may be null) is added only if the buffer
+     * has room; otherwise the client learns the outcome from the job status.
+     * Only the first call counts.
+     */
+    synchronized void finish(Status outcome, JobEvent last, String message) {
+        if (isFinished()) {
+            return;
+        }
+        error = message;
+        status = outcome;
+        if (last != null) {
+            events.offer(last);
+        }
+        finishedAt = System.nanoTime();
+    }
+
+    void started(Future<?> planningTask) {
+        this.task = planningTask;
+    }
+
+    /**
+     * Moves a queued job to RUNNING.
+     *
+     * @return false if the job was cancelled before it started
+     */
+    synchronized boolean running() {
+        if (status != Status.QUEUED) {
+            return false;
+        }
+        status = Status.RUNNING;
+        return true;
+    }
+
+    void packed(int shipments) {
+        shipmentCount = shipments;
+    }
+
+    // ---------------------- Client side ----------------------
+
+    /**
+     * Claims the event stream; only one client can stream a job.
+     *
+     * @return true for the first caller
+     */
+    public boolean claimStream() {
+        return streamClaimed.compareAndSet(false, true);
+    }
+
+    /**
+     * Returns the next event, waiting up to the timeout.
+     *
+     * @return the event, or null if none arrived in time
+     */
+    public JobEvent nextEvent(long timeout, TimeUnit unit) throws InterruptedException {
+        return events.poll(timeout, unit);
+    }
+
+    /**
+     * Returns true if more events are buffered right now.
+     */
+    public boolean hasBufferedEvents() {
+        return !events.isEmpty();
+    }
+
+    /**
+     * Cancels the job; a planning thread waiting on the client is interrupted.
+     * A job that has not started yet is finished here, since its planning
+     * task will never run.
+     */
+    public void cancel() {
+        boolean queued;
+        synchronized (this) {
+            queued = status == Status.QUEUED;
+            if (!isFinished()) {
+                status = Status.CANCELLED;
+            }
+        }
+        Future<?> planning = task;
+        if (planning != null) {
+            planning.cancel(true);
+        }
+        if (queued) {
+            finish(Status.CANCELLED, JobEvent.failed(CANCELLED_MESSAGE), CANCELLED_MESSAGE);
+        }
+    }
+
+    // ---------------------- Getters ----------------------
+
+    public String getId() { return id; }
+    public Status getStatus() { return status; }
+    public String getError() { return error; }
+    public int getShipmentsSent() { return shipmentsSent; }
+    public boolean isFinished() { return finishedAt != 0; }
+    long getFinishedAt() { return finishedAt; }
+
+    /**
+     * Returns the job status for the REST API.
+     */
+    public JobStatusResponse toResponse() {
+        int shipments = shipmentCount;
+        return new JobStatusResponse(id, status.name(), shipments >= 0 ? shipments : null,
+                shipmentsSent, error);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Runs bulk delivery planning in the background and streams the
+ * plan to the client shipment by shipment.
+ *
+ * - submit() queues a job and returns at once; the client then reads the
+ *   job's events (see PlanningJob) while planning is still running.
+ * - Shipments are sent as soon as vehicle assignment places them, so the
+ *   client does not wait for the whole plan. Packing itself has to finish
+ *   first, because a shipment is only final once all packages are placed.
+ * - A fixed pool of planning threads and a bounded job queue cap the work
+ *   in flight; when both are full, submit() rejects the job.
+ * - Finished jobs are forgotten once streamed, or after the retention period.
+ */
+
+package com.everesteng.courier.job;
+
+import com.everesteng.courier.dto.JobEvent;
+import com.everesteng.courier.dto.PackageEstimate;
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.packing.PackingMode;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.ShipmentListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service  // Marks this class as a Spring service component
+public class PlanningJobService implements AutoCloseable {
+
+    private final CourierService courierService;
+
+    // Planning threads with a bounded queue of waiting jobs
+    private final ExecutorService executor;
+
+    // Events buffered per job before planning waits for the client
+    private final int bufferSize;
+
+    // How long planning waits for a client that stopped reading
+    private final long consumerTimeoutNanos;
+
+    // How long an unread finished job is kept
+    private final long retentionNanos;
+
+    // Known jobs by id
+    private final Map<String, PlanningJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * @param courierService         plans the deliveries
+     * @param threads                number of planning threads
+     * @param queueCapacity          jobs that may wait for a planning thread
+     * @param bufferSize             events buffered per job
+     * @param consumerTimeoutSeconds how long planning waits for a slow client
+     * @param retentionSeconds       how long unread finished jobs are kept
+     */
+    public PlanningJobService(CourierService courierService,
+                              @Value("${courier.jobs.threads:2}") int threads,
+                              @Value("${courier.jobs.queue-capacity:16}") int queueCapacity,
+                              @Value("${courier.jobs.buffer:256}") int bufferSize,
+                              @Value("${courier.jobs.consumer-timeout-seconds:60}") long consumerTimeoutSeconds,
+                              @Value("${courier.jobs.retention-seconds:600}") long retentionSeconds) {
+        if (threads < 1 || queueCapacity < 1 || bufferSize < 1) {
+            throw new IllegalArgumentException("Job threads, queue capacity and buffer must be positive");
+        }
+        this.courierService = courierService;
+        this.bufferSize = bufferSize;
+        this.consumerTimeoutNanos = TimeUnit.SECONDS.toNanos(consumerTimeoutSeconds);
+        this.retentionNanos = TimeUnit.SECONDS.toNanos(retentionSeconds);
+
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "planning-job-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Queues a planning job.
+     *
+     * @param packages    packages to deliver (validated)
+     * @param baseCost    base delivery cost
+     * @param maxWeight   maximum weight allowed per shipment
+     * @param speed       delivery vehicle speed
+     * @param numVehicles total number of vehicles available
+     * @param mode        packing mode (null for GREEDY)
+     * @return the queued job
+     * @throws RejectedExecutionException if too many jobs are already queued
+     */
+    public PlanningJob submit(List<Package> packages, int baseCost, int maxWeight, int speed,
+                              int numVehicles, PackingMode mode) {
+        purgeExpired();
+
+        PlanningJob job = new PlanningJob(UUID.randomUUID().toString(), bufferSize, consumerTimeoutNanos);
+        jobs.put(job.getId(), job);
+        try {
+            job.started(executor.submit(() -> run(job, packages, baseCost, maxWeight, speed, numVehicles,
+                    mode == null ? PackingMode.GREEDY : mode)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new RejectedExecutionException("Too many planning jobs, try again later", e);
+        }
+        return job;
+    }
+
+    /**
+     * Returns a known job, or null.
+     */
+    public PlanningJob find(String id) {
+        return jobs.get(id);
+    }
+
+    /**
+     * Forgets a job (cancelling it if it is still running).
+     */
+    public void remove(String id) {
+        PlanningJob job = jobs.remove(id);
+        if (job != null) {
+            job.cancel();
+        }
+    }
+
+    /**
+     * Cancels all jobs and stops the planning threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // Plans on a job thread, publishing each shipment as it is assigned
+    private void run(PlanningJob job, List<Package> packages, int baseCost, int maxWeight,
+                     int speed, int numVehicles, PackingMode mode) {
+        if (!job.running()) {
+            job.finish(PlanningJob.Status.CANCELLED, JobEvent.failed(PlanningJob.CANCELLED_MESSAGE),
+                    PlanningJob.CANCELLED_MESSAGE);
+            return;
+        }
+
+        ShipmentListener listener = new ShipmentListener() {
+            @Override
+            public void onPacked(int shipmentCount) throws CourierServiceException {
+                job.packed(shipmentCount);
+                job.publish(JobEvent.packed(shipmentCount));
+            }
+
+            @Override
+            public void onShipment(int index, Shipment shipment) throws CourierServiceException {
+                List<PackageEstimate> estimates = new ArrayList<>(shipment.getPackageCount());
+                for (Package pkg : shipment.getPackages()) {
+                    int finalCost = courierService.calculateFinalCost(pkg, baseCost);
+                    int discount = totalCost(pkg, baseCost) - finalCost;
+                    estimates.add(new PackageEstimate(pkg.getId(), discount, finalCost, pkg.getDeliveryTime()));
+                }
+                job.publish(JobEvent.shipment(index, shipment.getVehicle(), estimates));
+            }
+        };
+
+        try {
+            List<Shipment> shipments = courierService.processDeliveries(packages, baseCost,
+                    maxWeight, speed, numVehicles, mode, listener);
+            job.publish(JobEvent.completed(shipments.size()));
+            job.finish(PlanningJob.Status.COMPLETED, null, null);
+        } catch (CourierServiceException | RuntimeException e) {
+            boolean cancelled = job.getStatus() == PlanningJob.Status.CANCELLED
+                    || Thread.currentThread().isInterrupted();
+            String message = cancelled ? PlanningJob.CANCELLED_MESSAGE : e.getMessage();
+            job.finish(cancelled ? PlanningJob.Status.CANCELLED : PlanningJob.Status.FAILED,
+                    JobEvent.failed(message), message);
+        }
+    }
+
+    // Drops finished jobs nobody streamed within the retention period
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        jobs.values().removeIf(job -> job.isFinished() && now - job.getFinishedAt() > retentionNanos);
+    }
+
+    // Pre-discount cost, same formula as the CLI output
+    private static int totalCost(Package pkg, int baseCost) {
+        return baseCost + (pkg.getWeight() * 10) + (pkg.getDistance() * 5);
+    }
+}
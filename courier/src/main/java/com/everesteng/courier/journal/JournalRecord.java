@@ -0,0 +1,62 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: One entry of the plan journal: a package intake event of a
+ * PlannerSession together with the plan decision it led to.
+ *
+ * - ADD / UPDATE carry the package and the trip it was put on
+ *   (vehicle index and departure), so a replay can check that it makes
+ *   the same decision.
+ * - CANCEL carries the package ID.
+ * - ADVANCE carries the new session clock.
+ *
+ * Times are in hundredths of an hour, like the rest of the plan.
+ */
+
+package com.everesteng.courier.journal;
+
+import com.everesteng.courier.model.Package;
+
+/**
+ * @param sequence  position of the event in the session (1, 2, 3, ...)
+ * @param type      kind of event
+ * @param packageId package ID (ADD, UPDATE, CANCEL)
+ * @param weight    package weight in kg (ADD, UPDATE)
+ * @param distance  delivery distance in km (ADD, UPDATE)
+ * @param offerCode offer code (ADD, UPDATE)
+ * @param time      new session clock (ADVANCE)
+ * @param vehicle   vehicle index of the chosen trip (ADD, UPDATE)
+ * @param departure departure of the chosen trip (ADD, UPDATE)
+ */
+public record JournalRecord(long sequence, Type type, String packageId, int weight, int distance,
+                            String offerCode, int time, int vehicle, int departure) {
+
+    /**
+     * Kinds of journal entries; the ordinal is the type byte on disk.
+     */
+    public enum Type { ADD, UPDATE, CANCEL, ADVANCE }
+
+    public static JournalRecord add(long sequence, Package pkg, int vehicle, int departure) {
+        return new JournalRecord(sequence, Type.ADD, pkg.getId(), pkg.getWeight(), pkg.getDistance(),
+                pkg.getOfferCode(), 0, vehicle, departure);
+    }
+
+    public static JournalRecord update(long sequence, Package pkg, int vehicle, int departure) {
+        return new JournalRecord(sequence, Type.UPDATE, pkg.getId(), pkg.getWeight(), pkg.getDistance(),
+                pkg.getOfferCode(), 0, vehicle, departure);
+    }
+
+    public static JournalRecord cancel(long sequence, String packageId) {
+        return new JournalRecord(sequence, Type.CANCEL, packageId, 0, 0, null, 0, 0, 0);
+    }
+
+    public static JournalRecord advance(long sequence, int time) {
+        return new JournalRecord(sequence, Type.ADVANCE, null, 0, 0, null, time, 0, 0);
+    }
+
+    /**
+     * Rebuilds the package of an ADD or UPDATE entry.
+     */
+    public Package toPackage() {
+        return new Package(packageId, weight, distance, offerCode);
+    }
+}
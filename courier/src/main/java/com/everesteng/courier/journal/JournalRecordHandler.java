@@ -0,0 +1,20 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Callback receiving each journal entry while a plan journal is replayed.
+ */
+
+package com.everesteng.courier.journal;
+
+import com.everesteng.courier.exception.CourierServiceException;
+
+@FunctionalInterface
+public interface JournalRecordHandler {
+
+    /**
+     * Called once per journal entry, in sequence order.
+     *
+     * @param record journal entry
+     * @throws CourierServiceException to abort the replay
+     */
+    void onRecord(JournalRecord record) throws CourierServiceException;
+}
@@ -0,0 +1,248 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Append-only file of JournalRecords with batched fsync.
+ *
+ * Entry layout (big-endian):
+ *   int  length of the body
+ *   body: long sequence, byte type, then per type
+ *         ADD / UPDATE → id, int weight, int distance, offer code, int vehicle, int departure
+ *         CANCEL       → id
+ *         ADVANCE      → int time
+ *         (strings are an unsigned short byte count + UTF-8 bytes)
+ *   int  CRC32 of the body
+ *
+ * - Every entry is written to the file right away, so it survives a crash
+ *   of the process; the file is forced to disk only every syncEvery entries
+ *   (and on sync/close), so a power failure loses at most the last
+ *   syncEvery - 1 entries instead of paying one fsync per entry.
+ * - An entry cut off by a crash, or one with a bad checksum, ends the
+ *   replay; everything before it is kept and the rest is truncated when the
+ *   journal is reopened.
+ */
+
+package com.everesteng.courier.journal;
+
+import com.everesteng.courier.exception.CourierServiceException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+public final class PlanJournal implements Closeable {
+
+    // Longest string (in UTF-8 bytes) an entry can hold
+    static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private static final JournalRecord.Type[] TYPES = JournalRecord.Type.values();
+
+    private final FileChannel channel;
+    private final int syncEvery;
+
+    // Encoding buffer, reused for every entry
+    private ByteBuffer buffer = ByteBuffer.allocate(256);
+    private final CRC32 crc = new CRC32();
+
+    // Entries written since the last force
+    private int unsynced;
+
+    private PlanJournal(FileChannel channel, int syncEvery) {
+        this.channel = channel;
+        this.syncEvery = syncEvery;
+    }
+
+    /**
+     * Opens a journal for appending. The file is cut to validLength first,
+     * dropping a torn tail found by {@link #replay}.
+     *
+     * @param file        journal file (created if missing)
+     * @param validLength bytes of valid entries at the start of the file
+     * @param syncEvery   entries per fsync (>= 1)
+     * @throws IOException if the file cannot be opened
+     */
+    static PlanJournal open(Path file, long validLength, int syncEvery) throws IOException {
+        if (syncEvery <= 0) {
+            throw new IllegalArgumentException("Entries per sync must be positive");
+        }
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() > validLength) {
+                channel.truncate(validLength);
+                channel.force(false);
+            }
+            channel.position(validLength);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new PlanJournal(channel, syncEvery);
+    }
+
+    /**
+     * Reads the journal from the start, passing on entries after a sequence.
+     *
+     * @param file          journal file (a missing file is an empty journal)
+     * @param afterSequence entries up to this sequence are skipped (already in the snapshot)
+     * @param handler       receives the remaining entries in order
+     * @return bytes of valid entries at the start of the file
+     * @throws IOException             if the file cannot be read
+     * @throws CourierServiceException if the handler fails
+     */
+    static long replay(Path file, long afterSequence, JournalRecordHandler handler)
+            throws IOException, CourierServiceException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Journal " + file + " is larger than 2 GB; checkpoint more often");
+            }
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 crc = new CRC32();
+
+            while (in.remaining() >= Integer.BYTES) {
+                int start = in.position();
+                int length = in.getInt();
+                if (length <= 0 || in.remaining() < length + Integer.BYTES) {
+                    return start; // torn tail
+                }
+
+                ByteBuffer body = in.slice(in.position(), length);
+                crc.reset();
+                crc.update(body.duplicate());
+                in.position(in.position() + length);
+                if ((int) crc.getValue() != in.getInt()) {
+                    return start; // corrupt entry
+                }
+
+                JournalRecord record = decode(body);
+                if (record == null) {
+                    return start; // unknown entry type
+                }
+                if (record.sequence() > afterSequence) {
+                    handler.onRecord(record);
+                }
+            }
+            return in.position();
+        }
+    }
+
+    /**
+     * Appends an entry; forces the file to disk every syncEvery entries.
+     *
+     * @param record entry to append
+     * @throws IOException if the entry cannot be written
+     */
+    void append(JournalRecord record) throws IOException {
+        byte[] id = bytes(record.packageId());
+        byte[] offer = bytes(record.offerCode());
+        int length = Long.BYTES + 1 + switch (record.type()) {
+            case ADD, UPDATE -> 2 + id.length + 2 * Integer.BYTES + 2 + offer.length + 2 * Integer.BYTES;
+            case CANCEL -> 2 + id.length;
+            case ADVANCE -> Integer.BYTES;
+        };
+        if (buffer.capacity() < length + 2 * Integer.BYTES) {
+            buffer = ByteBuffer.allocate(length + 2 * Integer.BYTES);
+        }
+
+        buffer.clear();
+        buffer.putInt(length);
+        int bodyStart = buffer.position();
+        buffer.putLong(record.sequence());
+        buffer.put((byte) record.type().ordinal());
+        switch (record.type()) {
+            case ADD, UPDATE -> {
+                putString(buffer, id);
+                buffer.putInt(record.weight());
+                buffer.putInt(record.distance());
+                putString(buffer, offer);
+                buffer.putInt(record.vehicle());
+                buffer.putInt(record.departure());
+            }
+            case CANCEL -> putString(buffer, id);
+            case ADVANCE -> buffer.putInt(record.time());
+        }
+        crc.reset();
+        crc.update(buffer.array(), bodyStart, length);
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (++unsynced >= syncEvery) {
+            sync();
+        }
+    }
+
+    /**
+     * Forces all written entries to disk.
+     */
+    void sync() throws IOException {
+        if (unsynced > 0) {
+            channel.force(false);
+            unsynced = 0;
+        }
+    }
+
+    /**
+     * Drops all entries (they are covered by a newer snapshot).
+     */
+    void truncate() throws IOException {
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(false);
+        unsynced = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    // Decodes an entry body; null for an unknown type
+    private static JournalRecord decode(ByteBuffer body) {
+        long sequence = body.getLong();
+        int type = body.get();
+        if (type < 0 || type >= TYPES.length) {
+            return null;
+        }
+        return switch (TYPES[type]) {
+            case ADD, UPDATE -> new JournalRecord(sequence, TYPES[type], getString(body), body.getInt(),
+                    body.getInt(), getString(body), 0, body.getInt(), body.getInt());
+            case CANCEL -> JournalRecord.cancel(sequence, getString(body));
+            case ADVANCE -> JournalRecord.advance(sequence, body.getInt());
+        };
+    }
+
+    private static byte[] bytes(String value) throws IOException {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IOException("String of " + bytes.length + " bytes is too long for the journal");
+        }
+        return bytes;
+    }
+
+    private static void putString(ByteBuffer out, byte[] bytes) {
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Compact binary snapshots of a PlanState, written and read
+ * through memory-mapped files.
+ *
+ * Layout (big-endian):
+ *   int magic "CPLN", int version
+ *   long sequence, int maxWeight, int speed, int numVehicles, int now
+ *   int offer code count, offer codes      (each code is stored once)
+ *   int trip count, per trip:
+ *       int vehicle, int departure, int time, byte departed, int package count,
+ *       per package: id, int weight, int distance, int offer ordinal, int delivery time
+ *   int spare order count, int[] spare order
+ *   int CRC32 of everything above
+ * Strings are an unsigned short byte count + UTF-8 bytes.
+ *
+ * - The exact size is computed first, then the file is mapped once and
+ *   filled in place; a million packages take a few tens of MB.
+ * - A snapshot is written to a temporary file, forced to disk and then
+ *   atomically renamed over the previous one, so a crash never leaves a
+ *   half-written snapshot behind.
+ */
+
+package com.everesteng.courier.journal;
+
+import com.everesteng.courier.model.Package;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+final class PlanSnapshot {
+
+    private static final int MAGIC = 0x43504C4E; // "CPLN"
+    private static final int VERSION = 1;
+
+    private PlanSnapshot() {
+    }
+
+    /**
+     * Writes a snapshot, replacing the file atomically.
+     *
+     * @param file  snapshot file
+     * @param state plan state to write
+     * @throws IOException if the snapshot cannot be written
+     */
+    static void write(Path file, PlanState state) throws IOException {
+        // Pass 1: encode strings and compute the exact size
+        Map<String, Integer> offerOrdinals = new HashMap<>();
+        List<byte[]> offers = new ArrayList<>();
+        List<byte[]> ids = new ArrayList<>();
+        long size = Long.BYTES + 8 * Integer.BYTES; // header up to the trip count
+        for (PlanState.TripState trip : state.trips()) {
+            size += 3 * Integer.BYTES + 1 + Integer.BYTES;
+            for (Package pkg : trip.packages()) {
+                byte[] id = bytes(pkg.getId());
+                ids.add(id);
+                size += 2 + id.length + 4 * Integer.BYTES;
+                offerOrdinals.computeIfAbsent(pkg.getOfferCode(), code -> {
+                    offers.add(code.getBytes(StandardCharsets.UTF_8));
+                    return offers.size() - 1;
+                });
+            }
+        }
+        for (byte[] offer : offers) {
+            if (offer.length > PlanJournal.MAX_STRING_BYTES) {
+                throw new IOException("Offer code of " + offer.length + " bytes is too long for a snapshot");
+            }
+            size += 2 + offer.length;
+        }
+        size += Integer.BYTES + (long) state.spareOrder().length * Integer.BYTES + Integer.BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Plan snapshot would be larger than 2 GB");
+        }
+
+        // Pass 2: fill the mapped temporary file
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+            out.putLong(state.sequence());
+            out.putInt(state.maxWeight());
+            out.putInt(state.speed());
+            out.putInt(state.numVehicles());
+            out.putInt(state.now());
+
+            out.putInt(offers.size());
+            for (byte[] offer : offers) {
+                putString(out, offer);
+            }
+
+            int nextId = 0;
+            out.putInt(state.trips().size());
+            for (PlanState.TripState trip : state.trips()) {
+                out.putInt(trip.vehicle());
+                out.putInt(trip.departure());
+                out.putInt(trip.time());
+                out.put((byte) (trip.departed() ? 1 : 0));
+                out.putInt(trip.packages().size());
+                for (Package pkg : trip.packages()) {
+                    putString(out, ids.get(nextId++));
+                    out.putInt(pkg.getWeight());
+                    out.putInt(pkg.getDistance());
+                    out.putInt(offerOrdinals.get(pkg.getOfferCode()));
+                    out.putInt(pkg.getDeliveryTimeHundredths());
+                }
+            }
+
+            out.putInt(state.spareOrder().length);
+            for (int index : state.spareOrder()) {
+                out.putInt(index);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(out.slice(0, out.position()));
+            out.putInt((int) crc.getValue());
+            out.force();
+        }
+
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param file snapshot file
+     * @return the plan state
+     * @throws IOException if the file cannot be read or is not a valid snapshot
+     */
+    static PlanState read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 3 * Integer.BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid plan snapshot " + file);
+            }
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            CRC32 crc = new CRC32();
+            crc.update(in.slice(0, (int) size - Integer.BYTES));
+            if (in.getInt(0) != MAGIC || (int) crc.getValue() != in.getInt((int) size - Integer.BYTES)) {
+                throw new IOException("Corrupt plan snapshot " + file);
+            }
+            in.position(Integer.BYTES);
+            if (in.getInt() != VERSION) {
+                throw new IOException("Unsupported plan snapshot version in " + file);
+            }
+
+            long sequence = in.getLong();
+            int maxWeight = in.getInt();
+            int speed = in.getInt();
+            int numVehicles = in.getInt();
+            int now = in.getInt();
+
+            String[] offers = new String[in.getInt()];
+            for (int i = 0; i < offers.length; i++) {
+                offers[i] = getString(in);
+            }
+
+            int tripCount = in.getInt();
+            List<PlanState.TripState> trips = new ArrayList<>(tripCount);
+            for (int t = 0; t < tripCount; t++) {
+                int vehicle = in.getInt();
+                int departure = in.getInt();
+                int time = in.getInt();
+                boolean departed = in.get() != 0;
+                int packageCount = in.getInt();
+                List<Package> packages = new ArrayList<>(packageCount);
+                for (int p = 0; p < packageCount; p++) {
+                    Package pkg = new Package(getString(in), in.getInt(), in.getInt(), offers[in.getInt()]);
+                    pkg.setDeliveryTimeHundredths(in.getInt());
+                    packages.add(pkg);
+                }
+                trips.add(new PlanState.TripState(vehicle, departure, time, departed, packages));
+            }
+
+            int[] spareOrder = new int[in.getInt()];
+            for (int i = 0; i < spareOrder.length; i++) {
+                spareOrder[i] = in.getInt();
+            }
+            return new PlanState(sequence, maxWeight, speed, numVehicles, now, trips, spareOrder);
+        }
+    }
+
+    private static byte[] bytes(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > PlanJournal.MAX_STRING_BYTES) {
+            throw new IOException("Package ID of " + bytes.length + " bytes is too long for a snapshot");
+        }
+        return bytes;
+    }
+
+    private static void putString(MappedByteBuffer out, byte[] bytes) {
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(MappedByteBuffer in) {
+        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Makes the rename durable; not every platform can open a directory, which is then skipped
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directory sync unsupported here (e.g. Windows); the rename itself is still atomic
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Complete state of a PlannerSession, as written to a plan snapshot.
+ *
+ * Vehicle availability and the first pending trip of each vehicle follow
+ * from the trips, so only the trips themselves are stored. The order of
+ * the spare-capacity index is kept explicitly: best fit picks the first
+ * trip of a bucket, so a restored session must see the same order to make
+ * the same decisions as the original.
+ */
+
+package com.everesteng.courier.journal;
+
+import com.everesteng.courier.model.Package;
+
+import java.util.List;
+
+/**
+ * @param sequence    sequence of the last journal entry included in this state
+ * @param maxWeight   maximum weight allowed per shipment
+ * @param speed       delivery vehicle speed
+ * @param numVehicles total number of vehicles
+ * @param now         session clock in hundredths of an hour
+ * @param trips       all trips, grouped by vehicle and in departure order per vehicle
+ * @param spareOrder  indexes into trips of the pending trips, in spare-capacity index order
+ */
+public record PlanState(long sequence, int maxWeight, int speed, int numVehicles, int now,
+                        List<TripState> trips, int[] spareOrder) {
+
+    /**
+     * One planned trip. Packages carry their delivery times.
+     *
+     * @param vehicle   vehicle index (0-based)
+     * @param departure departure in hundredths of an hour
+     * @param time      round trip in hundredths of an hour
+     * @param departed  true once the session clock has passed the departure
+     * @param packages  packages on the trip
+     */
+    public record TripState(int vehicle, int departure, int time, boolean departed, List<Package> packages) {
+    }
+}
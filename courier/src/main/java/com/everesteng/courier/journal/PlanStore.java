@@ -0,0 +1,188 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Durable storage of one PlannerSession: a plan snapshot plus an
+ * append-only journal of the events since that snapshot.
+ *
+ * Directory layout:
+ *   plan.snapshot → latest PlanState (memory-mapped binary, see PlanSnapshot)
+ *   plan.journal  → events after the snapshot (see PlanJournal)
+ *
+ * - Every session event is appended to the journal; the journal is forced
+ *   to disk every syncEvery events.
+ * - Every snapshotEvery events the session writes a new snapshot; once it
+ *   is on disk the journal is emptied, so restart reads one snapshot and a
+ *   short journal instead of re-planning the day.
+ * - A crash between the snapshot rename and the journal truncation is
+ *   harmless: replay skips entries the snapshot already contains.
+ *
+ * One store belongs to one session at a time and is not thread-safe.
+ */
+
+package com.everesteng.courier.journal;
+
+import com.everesteng.courier.exception.CourierServiceException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class PlanStore implements Closeable {
+
+    // Defaults: fsync every 256 events, snapshot every 100k events
+    public static final int DEFAULT_SYNC_EVERY = 256;
+    public static final int DEFAULT_SNAPSHOT_EVERY = 100_000;
+
+    static final String SNAPSHOT_FILE = "plan.snapshot";
+    static final String JOURNAL_FILE = "plan.journal";
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final int syncEvery;
+    private final int snapshotEvery;
+
+    // Open journal, once the store has been started or recovered
+    private PlanJournal journal;
+
+    // Events appended since the last snapshot
+    private int sinceSnapshot;
+
+    /**
+     * @param directory directory holding the snapshot and journal (created if missing)
+     */
+    public PlanStore(Path directory) {
+        this(directory, DEFAULT_SYNC_EVERY, DEFAULT_SNAPSHOT_EVERY);
+    }
+
+    /**
+     * @param directory     directory holding the snapshot and journal (created if missing)
+     * @param syncEvery     events per journal fsync (>= 1)
+     * @param snapshotEvery events between automatic snapshots (>= 1)
+     */
+    public PlanStore(Path directory, int syncEvery, int snapshotEvery) {
+        if (directory == null) {
+            throw new IllegalArgumentException("Plan store directory cannot be null");
+        }
+        if (syncEvery <= 0 || snapshotEvery <= 0) {
+            throw new IllegalArgumentException("Sync and snapshot intervals must be positive");
+        }
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        this.journalFile = directory.resolve(JOURNAL_FILE);
+        this.syncEvery = syncEvery;
+        this.snapshotEvery = snapshotEvery;
+    }
+
+    /**
+     * Returns true if the directory holds a snapshot to recover from.
+     */
+    public boolean hasSnapshot() {
+        return Files.exists(snapshotFile);
+    }
+
+    /**
+     * Starts a new plan: writes its initial snapshot and an empty journal,
+     * replacing whatever the directory held before.
+     *
+     * @param initial state of the new plan
+     * @throws IOException if the files cannot be written
+     */
+    public void start(PlanState initial) throws IOException {
+        ensureClosed();
+        Files.createDirectories(snapshotFile.toAbsolutePath().getParent());
+        PlanSnapshot.write(snapshotFile, initial);
+        journal = PlanJournal.open(journalFile, 0, syncEvery);
+        journal.truncate();
+        sinceSnapshot = 0;
+    }
+
+    /**
+     * Reads the latest snapshot.
+     *
+     * @return the snapshot state
+     * @throws IOException if there is no valid snapshot
+     */
+    public PlanState readSnapshot() throws IOException {
+        return PlanSnapshot.read(snapshotFile);
+    }
+
+    /**
+     * Replays the journal entries after the snapshot, then opens the journal
+     * for appending behind the last valid entry.
+     *
+     * @param afterSequence sequence of the snapshot
+     * @param handler       applies each entry
+     * @throws IOException             if the journal cannot be read or opened
+     * @throws CourierServiceException if the handler fails
+     */
+    public void replay(long afterSequence, JournalRecordHandler handler)
+            throws IOException, CourierServiceException {
+        ensureClosed();
+        int[] replayed = new int[1];
+        long validLength = PlanJournal.replay(journalFile, afterSequence, record -> {
+            handler.onRecord(record);
+            replayed[0]++;
+        });
+        journal = PlanJournal.open(journalFile, validLength, syncEvery);
+        sinceSnapshot = replayed[0];
+    }
+
+    /**
+     * Appends an event to the journal.
+     *
+     * @param record event and its plan decision
+     * @throws IOException if the entry cannot be written
+     */
+    public void append(JournalRecord record) throws IOException {
+        if (journal == null) {
+            throw new IllegalStateException("Plan store has not been started");
+        }
+        journal.append(record);
+        sinceSnapshot++;
+    }
+
+    /**
+     * Returns true once snapshotEvery events have been appended since the last snapshot.
+     */
+    public boolean isSnapshotDue() {
+        return sinceSnapshot >= snapshotEvery;
+    }
+
+    /**
+     * Writes a new snapshot and empties the journal.
+     *
+     * @param state current plan state (including every appended event)
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void checkpoint(PlanState state) throws IOException {
+        if (journal == null) {
+            throw new IllegalStateException("Plan store has not been started");
+        }
+        journal.sync();
+        PlanSnapshot.write(snapshotFile, state);
+        journal.truncate();
+        sinceSnapshot = 0;
+    }
+
+    /**
+     * Forces all appended events to disk.
+     */
+    public void sync() throws IOException {
+        if (journal != null) {
+            journal.sync();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private void ensureClosed() {
+        if (journal != null) {
+            throw new IllegalStateException("Plan store is already in use");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Registers the courier JFR events only when Flight Recorder is in use.
+ *
+ * The events are @Registered(false): registering an event class starts up
+ * the JFR metadata, which costs about 200 ms even with no recording running
+ * and dominated the start-up of the command-line launcher. register() adds
+ * them as soon as the recorder is initialized, either because the JVM was
+ * started with -XX:StartFlightRecording or when the first recording is
+ * created later (jcmd JFR.start, JMC or the jdk.jfr API).
+ */
+
+package com.everesteng.courier.metrics;
+
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class CourierEvents {
+
+    // All courier event types
+    static final List<Class<? extends Event>> EVENT_TYPES = List.of(
+            PlanningRunEvent.class,
+            ShipmentPackingEvent.class,
+            VehicleAssignmentEvent.class,
+            DiscountEvaluationEvent.class);
+
+    private static final AtomicBoolean LISTENING = new AtomicBoolean();
+
+    private CourierEvents() {
+    }
+
+    /**
+     * Registers the courier events when Flight Recorder is initialized.
+     * Calls after the first are no-ops.
+     */
+    public static void register() {
+        if (!LISTENING.compareAndSet(false, true)) {
+            return;
+        }
+        // Invoked right away if the recorder is already initialized
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recorderInitialized(FlightRecorder recorder) {
+                EVENT_TYPES.forEach(FlightRecorder::register);
+            }
+        });
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Micrometer meters for the courier workflow.
+ *
+ * Recorded by CourierService:
+ *   - courier.stage.duration{stage}     timer per stage of processDeliveries
+ *                                       and calculateFinalCost
+ *   - courier.shipment.packages         packages per shipment
+ *   - courier.run.shipments             shipments per planning run
+ *   - courier.vehicle.utilisation       load of each trip / max carriable weight
+ *   - courier.discount.evaluations{offer} and courier.discount.applied{offer}
+ *                                       → hit rate per offer code
+ *   - courier.quote.cache{result}       quote cache lookups (hit or miss)
+ *   - courier.quote.cache.evictions     current quotes evicted to make room
+ *
+ * All meters except the offer counters are registered once up front, so the
+ * hot path only does a nanoTime pair and an array lookup. Offer codes come
+ * from user input, so at most MAX_OFFER_TAGS distinct codes get their own
+ * tag; the rest are counted under "other".
+ *
+ * A single cost quote is only a few integer operations, so it is kept cheap:
+ * - Its timer samples one quote in COST_SAMPLE_RATE (batches are always
+ *   timed) and publishes no percentile histogram.
+ * - Offer counters are cached by offer ordinal in an array, so a known code
+ *   is not looked up by name on every quote.
+ *
+ * With Spring the meters go to the application's registry (Prometheus at
+ * /actuator/prometheus). Without it, noop() gives meters that record nothing.
+ */
+
+package com.everesteng.courier.metrics;
+
+import com.everesteng.courier.model.BatchShipments;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.offer.OfferRuleTable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@Component  // Marks this class as a Spring-managed component
+public class CourierMetrics {
+
+    // Distinct offer codes that get their own tag
+    static final int MAX_OFFER_TAGS = 32;
+
+    // Tag for offer codes beyond MAX_OFFER_TAGS
+    static final String OTHER_OFFER = "other";
+
+    // One single cost quote in this many is timed
+    static final int COST_SAMPLE_RATE = 64;
+
+    // Offer ordinals whose counters are cached by ordinal (higher ones use the map)
+    static final int MAX_CACHED_ORDINALS = 256;
+
+    // Returned by startSampled() for a call that is not timed
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    /**
+     * Measured stages, with their "stage" tag value.
+     */
+    public enum Stage {
+        CREATE_SHIPMENTS("createShipments"),
+        CALCULATE_PACKAGE_TIMES("calculatePackageTimes"),
+        CALCULATE_SHIPMENT_TIMES("calculateShipmentTimes"),
+        ASSIGN_VEHICLES("assignVehicles"),
+        CALCULATE_FINAL_COST("calculateFinalCost");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() { return tag; }
+    }
+
+    private final MeterRegistry registry;
+
+    // Stage timers, indexed by Stage ordinal
+    private final Timer[] stageTimers;
+
+    private final DistributionSummary packagesPerShipment;
+    private final DistributionSummary shipmentsPerRun;
+    private final DistributionSummary vehicleUtilisation;
+
+    // Quote cache lookups and evictions
+    private final Counter quoteHits;
+    private final Counter quoteMisses;
+    private final Counter quoteEvictions;
+
+    // Offer code → [evaluations, applied] counters
+    private final Map<String, Counter[]> offerCounters = new ConcurrentHashMap<>();
+
+    // The same counters by offer ordinal (ordinals never change their code)
+    private final AtomicReferenceArray<Counter[]> countersByOrdinal =
+            new AtomicReferenceArray<>(MAX_CACHED_ORDINALS);
+
+    // Mask picking the sampled single cost quotes (sample rate - 1)
+    private final int costSampleMask;
+
+    /**
+     * @param registry registry the meters are registered in
+     */
+    public CourierMetrics(MeterRegistry registry) {
+        this(registry, COST_SAMPLE_RATE);
+    }
+
+    /**
+     * @param registry       registry the meters are registered in
+     * @param costSampleRate one single cost quote in this many is timed (a power of two)
+     */
+    CourierMetrics(MeterRegistry registry, int costSampleRate) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Meter registry cannot be null");
+        }
+        if (costSampleRate <= 0 || Integer.bitCount(costSampleRate) != 1) {
+            throw new IllegalArgumentException("Cost sample rate must be a power of two");
+        }
+        this.registry = registry;
+        this.costSampleMask = costSampleRate - 1;
+
+        Stage[] stages = Stage.values();
+        this.stageTimers = new Timer[stages.length];
+        for (Stage stage : stages) {
+            // No histogram for the (sampled) cost quotes: they are too short to need one
+            stageTimers[stage.ordinal()] = Timer.builder("courier.stage.duration")
+                    .description("Time spent in one stage of the courier workflow")
+                    .tag("stage", stage.getTag())
+                    .publishPercentileHistogram(stage != Stage.CALCULATE_FINAL_COST)
+                    .register(registry);
+        }
+
+        this.packagesPerShipment = DistributionSummary.builder("courier.shipment.packages")
+                .description("Packages per shipment")
+                .baseUnit("packages")
+                .register(registry);
+        this.shipmentsPerRun = DistributionSummary.builder("courier.run.shipments")
+                .description("Shipments per planning run")
+                .baseUnit("shipments")
+                .register(registry);
+        this.vehicleUtilisation = DistributionSummary.builder("courier.vehicle.utilisation")
+                .description("Load of each trip as a fraction of the max carriable weight")
+                .register(registry);
+
+        this.quoteHits = Counter.builder("courier.quote.cache")
+                .description("Cost quotes looked up in the quote cache")
+                .tag("result", "hit")
+                .register(registry);
+        this.quoteMisses = Counter.builder("courier.quote.cache")
+                .description("Cost quotes looked up in the quote cache")
+                .tag("result", "miss")
+                .register(registry);
+        this.quoteEvictions = Counter.builder("courier.quote.cache.evictions")
+                .description("Cached quotes evicted to make room for new ones")
+                .register(registry);
+    }
+
+    /**
+     * Returns metrics that record nothing (for use outside Spring).
+     */
+    public static CourierMetrics noop() {
+        // A composite registry without child registries hands out no-op meters
+        return new CourierMetrics(new CompositeMeterRegistry());
+    }
+
+    /**
+     * Returns a start timestamp for {@link #stop(Stage, long)}.
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Like {@link #start()}, but only for one call in the cost sample rate;
+     * {@link #stop(Stage, long)} records nothing for the others.
+     */
+    public long startSampled() {
+        return (ThreadLocalRandom.current().nextInt() & costSampleMask) == 0 ? System.nanoTime() : NOT_SAMPLED;
+    }
+
+    /**
+     * Records the time since start for a stage.
+     *
+     * @param stage stage that has finished
+     * @param start value returned by {@link #start()} or {@link #startSampled()}
+     */
+    public void stop(Stage stage, long start) {
+        if (start != NOT_SAMPLED) {
+            stageTimers[stage.ordinal()].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Records the shape of one planning run.
+     *
+     * @param shipments packed shipments
+     * @param maxWeight maximum weight allowed per shipment
+     */
+    public void recordShipments(List<Shipment> shipments, int maxWeight) {
+        shipmentsPerRun.record(shipments.size());
+        for (Shipment shipment : shipments) {
+            packagesPerShipment.record(shipment.getPackageCount());
+            vehicleUtilisation.record((double) shipment.getTotalWeight() / maxWeight);
+        }
+    }
+
+    /**
+     * Records the shape of one planning run over a batch.
+     *
+     * @param shipments packed batch shipments
+     * @param maxWeight maximum weight allowed per shipment
+     */
+    public void recordShipments(BatchShipments shipments, int maxWeight) {
+        shipmentsPerRun.record(shipments.count());
+        for (int s = 0; s < shipments.count(); s++) {
+            packagesPerShipment.record(shipments.end(s) - shipments.start(s));
+            vehicleUtilisation.record((double) shipments.getTotalWeight(s) / maxWeight);
+        }
+    }
+
+    /**
+     * Records one discount evaluation.
+     *
+     * @param offerCode offer code of the package
+     * @param applied   true if a discount was given
+     */
+    public void recordDiscount(String offerCode, boolean applied) {
+        recordDiscounts(offerCode, 1, applied ? 1 : 0);
+    }
+
+    /**
+     * Records one discount evaluation of an interned offer code.
+     * Counters of known codes are found by ordinal; unknown codes
+     * (OfferRuleTable.NO_OFFER) are still counted by name.
+     *
+     * @param offer     offer ordinal of the code
+     * @param offerCode offer code of the package
+     * @param applied   true if a discount was given
+     */
+    public void recordDiscount(int offer, String offerCode, boolean applied) {
+        Counter[] counters;
+        if (offer > OfferRuleTable.NO_OFFER && offer < MAX_CACHED_ORDINALS) {
+            counters = countersByOrdinal.get(offer);
+            if (counters == null) {
+                counters = offerCounters(offerCode);
+                countersByOrdinal.set(offer, counters);
+            }
+        } else {
+            counters = offerCounters(offerCode);
+        }
+        counters[0].increment();
+        if (applied) {
+            counters[1].increment();
+        }
+    }
+
+    /**
+     * Records several discount evaluations of the same offer code.
+     *
+     * @param offerCode   offer code of the packages
+     * @param evaluations number of packages evaluated
+     * @param applied     number of packages that got a discount
+     */
+    public void recordDiscounts(String offerCode, long evaluations, long applied) {
+        Counter[] counters = offerCounters(offerCode);
+        counters[0].increment(evaluations);
+        if (applied > 0) {
+            counters[1].increment(applied);
+        }
+    }
+
+    /**
+     * Records one quote cache lookup.
+     *
+     * @param hit true if the quote was cached
+     */
+    public void recordQuote(boolean hit) {
+        (hit ? quoteHits : quoteMisses).increment();
+    }
+
+    /**
+     * Records that a cached quote was evicted.
+     */
+    public void recordQuoteEviction() {
+        quoteEvictions.increment();
+    }
+
+    // Counters of an offer code, registered on first use (bounded tag count)
+    private Counter[] offerCounters(String offerCode) {
+        String code = (offerCode == null || offerCode.isBlank()) ? "none" : offerCode;
+        Counter[] counters = offerCounters.get(code);
+        if (counters != null) {
+            return counters;
+        }
+        if (offerCounters.size() >= MAX_OFFER_TAGS) {
+            code = OTHER_OFFER;
+        }
+        return offerCounters.computeIfAbsent(code, tag -> new Counter[] {
+                Counter.builder("courier.discount.evaluations")
+                        .description("Packages evaluated for an offer code")
+                        .tag("offer", tag)
+                        .register(registry),
+                Counter.builder("courier.discount.applied")
+                        .description("Packages that got a discount for an offer code")
+                        .tag("offer", tag)
+                        .register(registry)
+        });
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: JFR event for one discount evaluation of DiscountService.
+ *
+ * Disabled by default (see PlanningRunEvent). Batch evaluations emit one
+ * event per row, so enable it only for short recordings.
+ */
+
+package com.everesteng.courier.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.everesteng.courier.DiscountEvaluation")
+@Label("Discount Evaluation")
+@Category({"Courier", "Pricing"})
+@Description("One package evaluated against its offer code")
+@Enabled(false)
+@Registered(false)
+@StackTrace(false)
+public class DiscountEvaluationEvent extends Event {
+
+    @Label("Offer Code")
+    public String offerCode;
+
+    @Label("Weight")
+    @Description("Package weight in kg")
+    public int weight;
+
+    @Label("Distance")
+    @Description("Delivery distance in km")
+    public int distance;
+
+    @Label("Total Cost")
+    @Description("Cost before discount")
+    public int totalCost;
+
+    @Label("Discount")
+    public int discount;
+}
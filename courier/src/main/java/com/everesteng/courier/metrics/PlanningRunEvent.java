@@ -0,0 +1,52 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: JFR event for one processDeliveries run (packing, delivery
+ * times and vehicle assignment).
+ *
+ * Like all courier events it is disabled by default and only registered
+ * once Flight Recorder is in use (see CourierEvents); enable it in a
+ * recording with the courier.jfc settings file (see README).
+ */
+
+package com.everesteng.courier.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.everesteng.courier.PlanningRun")
+@Label("Planning Run")
+@Category({"Courier", "Planning"})
+@Description("One processDeliveries run")
+@Enabled(false)
+@Registered(false)
+@StackTrace(false)
+public class PlanningRunEvent extends Event {
+
+    @Label("Packing Mode")
+    public String packingMode;
+
+    @Label("Packages")
+    public int packageCount;
+
+    @Label("Total Weight")
+    @Description("Sum of package weights in kg")
+    public long totalWeight;
+
+    @Label("Shipments")
+    public int shipmentCount;
+
+    @Label("Vehicles")
+    public int vehicleCount;
+
+    @Label("Max Carriable Weight")
+    public int maxWeight;
+
+    @Label("Speed")
+    public int speed;
+}
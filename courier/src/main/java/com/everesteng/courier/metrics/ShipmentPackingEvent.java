@@ -0,0 +1,43 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: JFR event for one createShipments pass of ShipmentService.
+ *
+ * Disabled by default (see PlanningRunEvent).
+ */
+
+package com.everesteng.courier.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.everesteng.courier.ShipmentPacking")
+@Label("Shipment Packing")
+@Category({"Courier", "Planning"})
+@Description("One createShipments pass")
+@Enabled(false)
+@Registered(false)
+@StackTrace(false)
+public class ShipmentPackingEvent extends Event {
+
+    @Label("Packing Mode")
+    public String packingMode;
+
+    @Label("Packages")
+    public int packageCount;
+
+    @Label("Total Weight")
+    @Description("Sum of package weights in kg")
+    public long totalWeight;
+
+    @Label("Shipments")
+    public int shipmentCount;
+
+    @Label("Max Carriable Weight")
+    public int maxWeight;
+}
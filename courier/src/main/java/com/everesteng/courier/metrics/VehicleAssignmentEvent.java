@@ -0,0 +1,51 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: JFR event for one shipment assigned to a vehicle by VehicleService.
+ *
+ * Wait and trip times are in plan hours (not wall-clock time), so a
+ * recording shows which shipments queue longest for a vehicle.
+ * Disabled by default (see PlanningRunEvent).
+ */
+
+package com.everesteng.courier.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.everesteng.courier.VehicleAssignment")
+@Label("Vehicle Assignment")
+@Category({"Courier", "Planning"})
+@Description("One shipment assigned to the vehicle available first")
+@Enabled(false)
+@Registered(false)
+@StackTrace(false)
+public class VehicleAssignmentEvent extends Event {
+
+    @Label("Shipment")
+    @Description("Index of the shipment in dispatch order")
+    public int shipmentIndex;
+
+    @Label("Vehicle")
+    public int vehicleId;
+
+    @Label("Packages")
+    public int packageCount;
+
+    @Label("Shipment Weight")
+    @Description("Total weight of the shipment in kg")
+    public int shipmentWeight;
+
+    @Label("Wait Time")
+    @Description("Plan hours the shipment waits for the vehicle (its departure time)")
+    public float waitTime;
+
+    @Label("Trip Time")
+    @Description("Plan hours of the round trip")
+    public float tripTime;
+}
@@ -0,0 +1,132 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Shipments over a PackageBatch, stored as primitive arrays.
+ *
+ * Shipment s contains the batch rows rows[offsets[s]] .. rows[offsets[s + 1] - 1]
+ * (compressed sparse row layout), so grouping millions of packages needs no
+ * Shipment or Package objects. Delivery time and vehicle are kept per shipment.
+ */
+
+package com.everesteng.courier.model;
+
+public class BatchShipments {
+
+    // Batch whose rows are grouped into shipments
+    private final PackageBatch batch;
+
+    // Start offset of each shipment in rows; offsets[count] == rows.length
+    private final int[] offsets;
+
+    // Batch row indexes, grouped by shipment
+    private final int[] rows;
+
+    // Combined weight of each shipment
+    private final int[] totalWeights;
+
+    // Delivery (round-trip) time of each shipment, in hundredths of an hour
+    private final int[] times;
+
+    // Vehicle ID assigned to each shipment
+    private final int[] vehicles;
+
+    /**
+     * Creates shipments from a row grouping.
+     *
+     * @param batch   the package batch the rows refer to (cannot be null)
+     * @param offsets start offsets, one per shipment plus a final end offset
+     * @param rows    batch rows grouped by shipment
+     */
+    public BatchShipments(PackageBatch batch, int[] offsets, int[] rows) {
+        if (batch == null) {
+            throw new IllegalArgumentException("Package batch cannot be null");
+        }
+        if (offsets == null || offsets.length == 0 || rows == null
+                || offsets[0] != 0 || offsets[offsets.length - 1] != rows.length) {
+            throw new IllegalArgumentException("Shipment offsets do not match rows");
+        }
+
+        this.batch = batch;
+        this.offsets = offsets;
+        this.rows = rows;
+        int count = offsets.length - 1;
+        this.totalWeights = new int[count];
+        this.times = new int[count];
+        this.vehicles = new int[count];
+
+        for (int s = 0; s < count; s++) {
+            int weight = 0;
+            for (int k = offsets[s]; k < offsets[s + 1]; k++) {
+                weight += batch.getWeight(rows[k]);
+            }
+            totalWeights[s] = weight;
+        }
+    }
+
+    // ---------------------- Getters ----------------------
+
+    public PackageBatch getBatch() { return batch; }
+    public int count() { return offsets.length - 1; }
+
+    /** First position (inclusive) of shipment s, for use with {@link #getRow(int)}. */
+    public int start(int shipment) { return offsets[shipment]; }
+
+    /** Last position (exclusive) of shipment s, for use with {@link #getRow(int)}. */
+    public int end(int shipment) { return offsets[shipment + 1]; }
+
+    /** Batch row stored at a position between start(s) and end(s). */
+    public int getRow(int position) { return rows[position]; }
+
+    public int getTotalWeight(int shipment) { return totalWeights[shipment]; }
+    public float getTime(int shipment) { return Hundredths.toHours(times[shipment]); }
+    public int getTimeHundredths(int shipment) { return times[shipment]; }
+    public int getVehicle(int shipment) { return vehicles[shipment]; }
+
+    // ---------------------- Setters ----------------------
+
+    /**
+     * Sets delivery time for a shipment.
+     *
+     * @param shipment shipment index
+     * @param time     delivery time (must be >= 0)
+     */
+    public void setTime(int shipment, float time) {
+        if (time < 0) {
+            throw new IllegalArgumentException("Time cannot be negative");
+        }
+        times[shipment] = Hundredths.fromHours(time);
+    }
+
+    /**
+     * Sets delivery time for a shipment in hundredths of an hour.
+     *
+     * @param shipment shipment index
+     * @param time     delivery time in hundredths of an hour (must be >= 0)
+     */
+    public void setTimeHundredths(int shipment, int time) {
+        if (time < 0) {
+            throw new IllegalArgumentException("Time cannot be negative");
+        }
+        times[shipment] = time;
+    }
+
+    /**
+     * Sets the vehicle ID for a shipment.
+     *
+     * @param shipment shipment index
+     * @param vehicle  vehicle identifier (must be >= 0)
+     */
+    public void setVehicle(int shipment, int vehicle) {
+        if (vehicle < 0) {
+            throw new IllegalArgumentException("Vehicle ID cannot be negative");
+        }
+        vehicles[shipment] = vehicle;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchShipments{" +
+                "shipments=" + count() +
+                ", packages=" + rows.length +
+                '}';
+    }
+}
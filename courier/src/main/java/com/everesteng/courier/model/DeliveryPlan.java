@@ -0,0 +1,130 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Immutable result of planning a list of packages.
+ *
+ * processDeliveries writes delivery times into the Package objects and the
+ * vehicle into each Shipment. A DeliveryPlan keeps them apart from the
+ * packages instead:
+ *
+ * - It is built from the batch pipeline (PackageBatch / BatchShipments),
+ *   whose rows are the package indexes, so the plan is read off the
+ *   pipeline's own columns: no second planning run, no identity lookups.
+ * - Delivery times and trips are keyed by the package's index in the
+ *   planned list; the caller's packages are never modified, and the same
+ *   package may appear more than once.
+ * - Trips are records whose package lists are immutable and hold the
+ *   caller's own Package objects.
+ * - All lists handed out are read-only; nothing is copied per call.
+ */
+
+package com.everesteng.courier.model;
+
+import java.util.List;
+
+public final class DeliveryPlan {
+
+    /**
+     * One trip of a vehicle.
+     *
+     * @param vehicle        vehicle ID
+     * @param timeHundredths round-trip time in hundredths of an hour
+     * @param totalWeight    combined weight of the packages
+     * @param packages       packages carried (immutable)
+     */
+    public record Trip(int vehicle, int timeHundredths, int totalWeight, List<Package> packages) {
+
+        public Trip {
+            if (vehicle < 0 || timeHundredths < 0 || totalWeight < 0) {
+                throw new IllegalArgumentException("Vehicle, time and weight cannot be negative");
+            }
+            if (packages == null) {
+                throw new IllegalArgumentException("Packages list cannot be null");
+            }
+            packages = List.copyOf(packages);
+        }
+
+        /**
+         * Returns the round-trip time in hours.
+         */
+        public float time() {
+            return Hundredths.toHours(timeHundredths);
+        }
+    }
+
+    // Planned packages, in the caller's order
+    private final List<Package> packages;
+
+    // Trips in dispatch order
+    private final List<Trip> trips;
+
+    // Delivery time in hundredths of an hour and trip index, by package index
+    private final int[] deliveryTimes;
+    private final int[] tripOf;
+
+    private DeliveryPlan(List<Package> packages, List<Trip> trips, int[] deliveryTimes, int[] tripOf) {
+        this.packages = packages;
+        this.trips = trips;
+        this.deliveryTimes = deliveryTimes;
+        this.tripOf = tripOf;
+    }
+
+    /**
+     * Builds a plan from planned batch shipments. Row i of the batch must be
+     * packages.get(i), as produced by {@link PackageBatch#of(List)}.
+     *
+     * @param packages  planned packages (cannot be null)
+     * @param shipments shipments with vehicles and delivery times assigned (cannot be null)
+     * @return immutable delivery plan
+     */
+    public static DeliveryPlan of(List<Package> packages, BatchShipments shipments) {
+        if (packages == null || shipments == null) {
+            throw new IllegalArgumentException("Packages and shipments cannot be null");
+        }
+        PackageBatch batch = shipments.getBatch();
+        if (batch.size() != packages.size()) {
+            throw new IllegalArgumentException("There must be one batch row per package");
+        }
+
+        int[] deliveryTimes = new int[batch.size()];
+        int[] tripOf = new int[batch.size()];
+        Trip[] trips = new Trip[shipments.count()];
+        for (int s = 0; s < trips.length; s++) {
+            Package[] carried = new Package[shipments.end(s) - shipments.start(s)];
+            for (int k = shipments.start(s); k < shipments.end(s); k++) {
+                int row = shipments.getRow(k);
+                carried[k - shipments.start(s)] = packages.get(row);
+                deliveryTimes[row] = batch.getDeliveryTimeHundredths(row);
+                tripOf[row] = s;
+            }
+            trips[s] = new Trip(shipments.getVehicle(s), shipments.getTimeHundredths(s),
+                    shipments.getTotalWeight(s), List.of(carried));
+        }
+        return new DeliveryPlan(List.copyOf(packages), List.of(trips), deliveryTimes, tripOf);
+    }
+
+    // ---------------------- Getters ----------------------
+
+    public int size() { return packages.size(); }
+    public List<Package> getPackages() { return packages; }
+    public Package getPackage(int index) { return packages.get(index); }
+    public List<Trip> getTrips() { return trips; }
+    public float getDeliveryTime(int index) { return Hundredths.toHours(deliveryTimes[index]); }
+    public int getDeliveryTimeHundredths(int index) { return deliveryTimes[index]; }
+
+    /**
+     * Returns the trip that carries a package.
+     *
+     * @param index package index in the planned list
+     */
+    public Trip getTripOf(int index) {
+        return trips.get(tripOf[index]);
+    }
+
+    @Override
+    public String toString() {
+        return "DeliveryPlan{" +
+                "packages=" + packages.size() +
+                ", trips=" + trips.size() +
+                '}';
+    }
+}
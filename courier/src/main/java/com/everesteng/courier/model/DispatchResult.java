@@ -0,0 +1,84 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Outcome of a dispatch simulation over a mixed fleet.
+ *
+ * Holds the trips in the order they departed (each as a Shipment with its
+ * round-trip time and vehicle ID), the departure time of each trip, and the
+ * packages no vehicle could take (too heavy for every vehicle, or left over
+ * when all shifts had ended).
+ */
+
+package com.everesteng.courier.model;
+
+import java.util.Collections;
+import java.util.List;
+
+public class DispatchResult {
+
+    // Trips in departure order (read-only view)
+    private final List<Shipment> shipments;
+
+    // Departure time of each trip in hundredths of an hour, indexed like shipments
+    private final int[] departures;
+
+    // Packages that were not delivered (read-only view)
+    private final List<Package> unassigned;
+
+    /**
+     * @param shipments  trips in departure order (cannot be null)
+     * @param departures departure time of each trip in hundredths of an hour (same length as shipments)
+     * @param unassigned packages that were not delivered (cannot be null)
+     */
+    public DispatchResult(List<Shipment> shipments, int[] departures, List<Package> unassigned) {
+        if (shipments == null || unassigned == null) {
+            throw new IllegalArgumentException("Shipments and unassigned packages cannot be null");
+        }
+        if (departures == null || departures.length != shipments.size()) {
+            throw new IllegalArgumentException("There must be one departure time per shipment");
+        }
+        this.shipments = Collections.unmodifiableList(shipments);
+        this.departures = departures;
+        this.unassigned = Collections.unmodifiableList(unassigned);
+    }
+
+    // ---------------------- Getters ----------------------
+
+    /**
+     * Returns a read-only view of the trips, in departure order.
+     */
+    public List<Shipment> getShipments() {
+        return shipments;
+    }
+
+    public int getShipmentCount() { return shipments.size(); }
+    public Shipment getShipment(int trip) { return shipments.get(trip); }
+    public float getDeparture(int trip) { return Hundredths.toHours(departures[trip]); }
+    public int getDepartureHundredths(int trip) { return departures[trip]; }
+
+    /**
+     * Returns a read-only view of the packages that were not delivered.
+     */
+    public List<Package> getUnassigned() {
+        return unassigned;
+    }
+
+    /**
+     * Returns the time the last vehicle is back at the source (0 if there were no trips).
+     */
+    public float getCompletionTime() {
+        int completion = 0;
+        for (int trip = 0; trip < departures.length; trip++) {
+            completion = Math.max(completion, departures[trip] + shipments.get(trip).getTimeHundredths());
+        }
+        return Hundredths.toHours(completion);
+    }
+
+    @Override
+    public String toString() {
+        return "DispatchResult{" +
+                "trips=" + shipments.size() +
+                ", unassigned=" + unassigned.size() +
+                ", completionTime=" + getCompletionTime() +
+                '}';
+    }
+}
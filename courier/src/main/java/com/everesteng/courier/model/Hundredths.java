@@ -0,0 +1,46 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Fixed-point time used by the models and services.
+ *
+ * Delivery times, trip times and vehicle availability are stored as whole
+ * hundredths of an hour (int). The delivery formula truncates to 2 decimal
+ * places anyway, so every planned time is exact in this unit: sums never
+ * drift, and results are identical on every JVM and machine.
+ *
+ * Float hours are only used at the edges (getters/setters, output).
+ */
+
+package com.everesteng.courier.model;
+
+public final class Hundredths {
+
+    // Hundredths in one hour
+    public static final int PER_HOUR = 100;
+
+    // Open-ended time, e.g. a shift without an end
+    public static final int MAX = Integer.MAX_VALUE;
+
+    private Hundredths() {
+    }
+
+    /**
+     * Converts hundredths of an hour to hours (MAX → Float.MAX_VALUE).
+     */
+    public static float toHours(int hundredths) {
+        return hundredths == MAX ? Float.MAX_VALUE : (float) hundredths / PER_HOUR;
+    }
+
+    /**
+     * Converts hours to the nearest hundredth of an hour.
+     * Values at or beyond the int range saturate to MAX.
+     *
+     * @param hours time in hours (must not be NaN)
+     */
+    public static int fromHours(float hours) {
+        if (Float.isNaN(hours)) {
+            throw new IllegalArgumentException("Time cannot be NaN");
+        }
+        long hundredths = Math.round((double) hours * PER_HOUR);
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(MAX, hundredths));
+    }
+}
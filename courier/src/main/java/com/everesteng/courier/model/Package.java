@@ -22,8 +22,8 @@ public class Package {
     // Promotional offer code (if any), can be empty but not null
     private String offerCode;
 
-    // Delivery time (calculated later, initialized to 0 by default)
-    private float deliveryTime;
+    // Delivery time in hundredths of an hour (calculated later, initialized to 0 by default)
+    private int deliveryTime;
 
     /**
      * Constructor to create a new Package instance.
@@ -51,7 +51,7 @@ public class Package {
         this.weight = weight;
         this.distance = distance;
         this.offerCode = (offerCode != null) ? offerCode.trim() : ""; // handle null offerCode
-        this.deliveryTime = 0.0f; // default delivery time
+        this.deliveryTime = 0; // default delivery time
     }
 
     // ---------------------- Getters ----------------------
@@ -60,7 +60,8 @@ public class Package {
     public int getWeight() { return weight; }
     public int getDistance() { return distance; }
     public String getOfferCode() { return offerCode; }
-    public float getDeliveryTime() { return deliveryTime; }
+    public float getDeliveryTime() { return Hundredths.toHours(deliveryTime); }
+    public int getDeliveryTimeHundredths() { return deliveryTime; }
 
     // ---------------------- Setters ----------------------
 
@@ -70,6 +71,18 @@ public class Package {
      * @param deliveryTime delivery time in hours (must be >= 0)
      */
     public void setDeliveryTime(float deliveryTime) {
+        if (deliveryTime < 0) {
+            throw new IllegalArgumentException("Delivery time cannot be negative");
+        }
+        this.deliveryTime = Hundredths.fromHours(deliveryTime);
+    }
+
+    /**
+     * Sets the delivery time in hundredths of an hour.
+     *
+     * @param deliveryTime delivery time in hundredths of an hour (must be >= 0)
+     */
+    public void setDeliveryTimeHundredths(int deliveryTime) {
         if (deliveryTime < 0) {
             throw new IllegalArgumentException("Delivery time cannot be negative");
         }
@@ -88,7 +101,7 @@ public class Package {
                 ", weight=" + weight +
                 ", distance=" + distance +
                 ", offerCode='" + offerCode + '\'' +
-                ", deliveryTime=" + deliveryTime +
+                ", deliveryTime=" + getDeliveryTime() +
                 '}';
     }
 
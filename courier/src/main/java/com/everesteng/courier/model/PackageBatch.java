@@ -0,0 +1,265 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Columnar (struct-of-arrays) representation of many packages.
+ *
+ * Instead of one Package object per row, a batch keeps ids, weights, distances,
+ * offer codes and delivery times in parallel primitive arrays. Offer codes are
+ * interned once per batch into small ordinals, so rows only store an int.
+ *
+ * - Rows are addressed by index (0 .. size-1) in insertion order.
+ * - Validation mirrors the Package constructor and setters.
+ * - Arrays grow geometrically while rows are being added.
+ */
+
+package com.everesteng.courier.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PackageBatch {
+
+    // Initial row capacity when none is given
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Column data, one entry per row
+    private String[] ids;
+    private int[] weights;
+    private int[] distances;
+    private int[] offerOrdinals;
+    private int[] deliveryTimes;      // hundredths of an hour
+
+    // Number of rows currently in the batch
+    private int size;
+
+    // Distinct offer codes of this batch; a row's ordinal indexes this list
+    private final List<String> offerCodes = new ArrayList<>();
+    private final Map<String, Integer> offerOrdinalByCode = new HashMap<>();
+
+    /**
+     * Creates an empty batch with a default capacity.
+     */
+    public PackageBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty batch sized for the expected number of rows.
+     *
+     * @param capacity expected number of rows (must be >= 0)
+     */
+    public PackageBatch(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.ids = new String[capacity];
+        this.weights = new int[capacity];
+        this.distances = new int[capacity];
+        this.offerOrdinals = new int[capacity];
+        this.deliveryTimes = new int[capacity];
+    }
+
+    /**
+     * Builds a batch holding the same data as the given packages, in list order.
+     *
+     * @param packages packages to copy (cannot be null)
+     * @return a new batch with one row per package
+     */
+    public static PackageBatch of(List<Package> packages) {
+        if (packages == null) {
+            throw new IllegalArgumentException("Packages list cannot be null");
+        }
+        PackageBatch batch = new PackageBatch(packages.size());
+        for (Package pkg : packages) {
+            int row = batch.add(pkg.getId(), pkg.getWeight(), pkg.getDistance(), pkg.getOfferCode());
+            batch.deliveryTimes[row] = pkg.getDeliveryTimeHundredths();
+        }
+        return batch;
+    }
+
+    /**
+     * Appends a package row.
+     *
+     * @param id        unique identifier for the package (cannot be null or empty)
+     * @param weight    weight of the package (must be >= 0)
+     * @param distance  delivery distance for the package (must be >= 0)
+     * @param offerCode discount/promo code (nullable, defaults to empty string if null)
+     * @return index of the new row
+     */
+    public int add(String id, int weight, int distance, String offerCode) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new IllegalArgumentException("Package ID cannot be null or empty");
+        }
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight cannot be negative");
+        }
+        if (distance < 0) {
+            throw new IllegalArgumentException("Distance cannot be negative");
+        }
+        return append(id, weight, distance, internOfferCode(offerCode != null ? offerCode.trim() : ""));
+    }
+
+    /**
+     * Appends a package row whose offer code was registered with {@link #addOfferCode(String)}.
+     * Decoders of columnar input use this to skip the per-row code lookup.
+     *
+     * @param id           unique identifier for the package (cannot be null or empty)
+     * @param weight       weight of the package (must be >= 0)
+     * @param distance     delivery distance for the package (must be >= 0)
+     * @param offerOrdinal ordinal of a registered offer code
+     * @return index of the new row
+     */
+    public int add(String id, int weight, int distance, int offerOrdinal) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new IllegalArgumentException("Package ID cannot be null or empty");
+        }
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight cannot be negative");
+        }
+        if (distance < 0) {
+            throw new IllegalArgumentException("Distance cannot be negative");
+        }
+        if (offerOrdinal < 0 || offerOrdinal >= offerCodes.size()) {
+            throw new IllegalArgumentException("Unknown offer ordinal " + offerOrdinal);
+        }
+        return append(id, weight, distance, offerOrdinal);
+    }
+
+    /**
+     * Registers an offer code with this batch.
+     *
+     * @param offerCode discount/promo code (nullable, defaults to empty string if null)
+     * @return ordinal of the code (the existing one if it was registered before)
+     */
+    public int addOfferCode(String offerCode) {
+        return internOfferCode(offerCode != null ? offerCode.trim() : "");
+    }
+
+    // ---------------------- Getters ----------------------
+
+    public int size() { return size; }
+    public String getId(int row) { return ids[checkRow(row)]; }
+    public int getWeight(int row) { return weights[checkRow(row)]; }
+    public int getDistance(int row) { return distances[checkRow(row)]; }
+    public int getOfferOrdinal(int row) { return offerOrdinals[checkRow(row)]; }
+    public String getOfferCode(int row) { return offerCodes.get(offerOrdinals[checkRow(row)]); }
+    public float getDeliveryTime(int row) { return Hundredths.toHours(deliveryTimes[checkRow(row)]); }
+    public int getDeliveryTimeHundredths(int row) { return deliveryTimes[checkRow(row)]; }
+
+    // ---------------------- Columns (for batch kernels, shared, never modified) ----------------------
+    // The backing arrays themselves: only the first size() entries are rows,
+    // and they stay valid until the next add() grows the batch.
+
+    public int[] weightColumn() { return weights; }
+    public int[] distanceColumn() { return distances; }
+    public int[] offerOrdinalColumn() { return offerOrdinals; }
+
+    /**
+     * Returns the number of distinct offer codes in this batch.
+     */
+    public int offerCodeCount() {
+        return offerCodes.size();
+    }
+
+    /**
+     * Returns the offer code for an ordinal.
+     *
+     * @param ordinal value returned by {@link #getOfferOrdinal(int)}
+     */
+    public String offerCodeAt(int ordinal) {
+        return offerCodes.get(ordinal);
+    }
+
+    // ---------------------- Setters ----------------------
+
+    /**
+     * Sets the delivery time for a row.
+     *
+     * @param row          row index
+     * @param deliveryTime delivery time in hours (must be >= 0)
+     */
+    public void setDeliveryTime(int row, float deliveryTime) {
+        if (deliveryTime < 0) {
+            throw new IllegalArgumentException("Delivery time cannot be negative");
+        }
+        deliveryTimes[checkRow(row)] = Hundredths.fromHours(deliveryTime);
+    }
+
+    /**
+     * Sets the delivery time for a row in hundredths of an hour.
+     *
+     * @param row          row index
+     * @param deliveryTime delivery time in hundredths of an hour (must be >= 0)
+     */
+    public void setDeliveryTimeHundredths(int row, int deliveryTime) {
+        if (deliveryTime < 0) {
+            throw new IllegalArgumentException("Delivery time cannot be negative");
+        }
+        deliveryTimes[checkRow(row)] = deliveryTime;
+    }
+
+    // ---------------------- Utility Methods ----------------------
+
+    /**
+     * Creates a Package object for one row (for output or interop only).
+     */
+    public Package toPackage(int row) {
+        Package pkg = new Package(getId(row), getWeight(row), getDistance(row), getOfferCode(row));
+        pkg.setDeliveryTimeHundredths(getDeliveryTimeHundredths(row));
+        return pkg;
+    }
+
+    @Override
+    public String toString() {
+        return "PackageBatch{" +
+                "size=" + size +
+                ", offerCodes=" + offerCodes +
+                '}';
+    }
+
+    // Stores a validated row
+    private int append(String id, int weight, int distance, int offerOrdinal) {
+        if (size == ids.length) {
+            grow();
+        }
+
+        int row = size++;
+        ids[row] = id.trim();
+        weights[row] = weight;
+        distances[row] = distance;
+        offerOrdinals[row] = offerOrdinal;
+        deliveryTimes[row] = 0;
+        return row;
+    }
+
+    // Returns the ordinal for an offer code, registering it on first use
+    private int internOfferCode(String offerCode) {
+        Integer ordinal = offerOrdinalByCode.get(offerCode);
+        if (ordinal == null) {
+            ordinal = offerCodes.size();
+            offerCodes.add(offerCode);
+            offerOrdinalByCode.put(offerCode, ordinal);
+        }
+        return ordinal;
+    }
+
+    // Doubles the capacity of every column
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+        distances = Arrays.copyOf(distances, capacity);
+        offerOrdinals = Arrays.copyOf(offerOrdinals, capacity);
+        deliveryTimes = Arrays.copyOf(deliveryTimes, capacity);
+    }
+
+    // Rejects indexes outside 0 .. size-1 (arrays may be larger than size)
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for batch of size " + size);
+        }
+        return row;
+    }
+}
@@ -4,11 +4,15 @@
  * A shipment groups multiple packages, tracks their total weight,
  * delivery time, and the assigned vehicle. Validation is applied
  * to maintain data integrity.
+ *
+ * getPackages() returns a read-only view of the shipment's own list (no copy
+ * per call); packages are only added through addPackages / setPackages.
  */
 
 package com.everesteng.courier.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class Shipment {
@@ -16,11 +20,14 @@ public class Shipment {
     // List of packages included in this shipment
     private List<Package> packages;
 
+    // Read-only view of packages, handed out by getPackages()
+    private List<Package> packagesView;
+
     // Combined weight of all packages in the shipment
     private int totalWeight;
 
-    // Delivery time required for this shipment
-    private float time;
+    // Delivery (round-trip) time required for this shipment, in hundredths of an hour
+    private int time;
 
     // Vehicle ID assigned to deliver this shipment
     private int vehicle;
@@ -31,8 +38,9 @@ public class Shipment {
      */
     public Shipment() {
         this.packages = new ArrayList<>();
+        this.packagesView = Collections.unmodifiableList(packages);
         this.totalWeight = 0;
-        this.time = 0.0f;
+        this.time = 0;
         this.vehicle = 0;
     }
 
@@ -57,28 +65,36 @@ public class Shipment {
 
         // Defensive copy of package list to prevent external modifications
         this.packages = new ArrayList<>(packages);
+        this.packagesView = Collections.unmodifiableList(this.packages);
         this.totalWeight = totalWeight;
-        this.time = time;
+        this.time = Hundredths.fromHours(time);
         this.vehicle = vehicle;
     }
 
     // ---------------------- Getters ----------------------
 
     /**
-     * Returns a copy of the packages list to preserve encapsulation.
+     * Returns a read-only view of the packages list (it reflects later
+     * additions; modifying it throws UnsupportedOperationException).
      */
     public List<Package> getPackages() {
-        return new ArrayList<>(packages);
+        return packagesView;
     }
 
+    public int getPackageCount() { return packages.size(); }
     public int getTotalWeight() { return totalWeight; }
-    public float getTime() { return time; }
+    public float getTime() { return Hundredths.toHours(time); }
+    public int getTimeHundredths() { return time; }
     public int getVehicle() { return vehicle; }
 
     // ---------------------- Setters ----------------------
 
     public void setPackages(List<Package> packages) {
+        if (packages == null) {
+            throw new IllegalArgumentException("Packages list cannot be null");
+        }
         this.packages = packages;
+        this.packagesView = Collections.unmodifiableList(packages);
     }
 
     public void setTotalWeight(int totalWeight) {
@@ -91,6 +107,18 @@ public class Shipment {
      * @param time delivery time (must be >= 0)
      */
     public void setTime(float time) {
+        if (time < 0) {
+            throw new IllegalArgumentException("Time cannot be negative");
+        }
+        this.time = Hundredths.fromHours(time);
+    }
+
+    /**
+     * Sets delivery time for the shipment in hundredths of an hour.
+     *
+     * @param time delivery time in hundredths of an hour (must be >= 0)
+     */
+    public void setTimeHundredths(int time) {
         if (time < 0) {
             throw new IllegalArgumentException("Time cannot be negative");
         }
@@ -135,7 +163,7 @@ public class Shipment {
         return "Shipment{" +
                 "packages=" + packages.size() +   // print number of packages instead of full list
                 ", totalWeight=" + totalWeight +
-                ", time=" + time +
+                ", time=" + getTime() +
                 ", vehicle=" + vehicle +
                 '}';
     }
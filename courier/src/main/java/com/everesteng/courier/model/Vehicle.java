@@ -3,6 +3,10 @@
  * Purpose: Represents a delivery vehicle in the courier service system.
  * Each vehicle has a unique ID and an availability time (i.e., when it
  * becomes free for the next delivery). Validation ensures values remain valid.
+ *
+ * For mixed fleets a vehicle can also carry its own class (e.g. "bike"),
+ * speed, capacity and shift window, used by DispatchService. Vehicles
+ * created with only an ID and availability leave these unset (0 / whole day).
  */
 
 package com.everesteng.courier.model;
@@ -12,8 +16,23 @@ public class Vehicle {
     // Unique identifier for the vehicle (e.g., vehicle number or ID)
     private int vehicleId;
 
-    // Availability time of the vehicle (e.g., when it is next available for delivery)
-    private float availability;
+    // Availability time of the vehicle in hundredths of an hour
+    // (e.g., when it is next available for delivery)
+    private int availability;
+
+    // Vehicle class, e.g. "bike", "van" or "truck" (empty if not set)
+    private final String vehicleClass;
+
+    // Travel speed in km/h (0 if not set)
+    private final int speed;
+
+    // Maximum carriable weight per trip in kg (0 if not set)
+    private final int capacity;
+
+    // Shift window in hundredths of an hour: trips may depart from shiftStart
+    // until shiftEnd (Hundredths.MAX = no end)
+    private final int shiftStart;
+    private final int shiftEnd;
 
     /**
      * Constructor to initialize a Vehicle with ID and availability.
@@ -22,21 +41,59 @@ public class Vehicle {
      * @param availability time when vehicle becomes available (must be >= 0)
      */
     public Vehicle(int vehicleId, float availability) {
+        this(vehicleId, availability, "", 0, 0, 0.0f, Float.MAX_VALUE);
+    }
+
+    /**
+     * Constructor for a vehicle of a mixed fleet.
+     *
+     * @param vehicleId    unique identifier of the vehicle (must be >= 0)
+     * @param availability time when vehicle becomes available (must be >= 0)
+     * @param vehicleClass vehicle class name (nullable, defaults to empty string)
+     * @param speed        travel speed in km/h (must be >= 0)
+     * @param capacity     maximum carriable weight per trip (must be >= 0)
+     * @param shiftStart   earliest departure time in hours (must be >= 0)
+     * @param shiftEnd     latest departure time in hours (must be >= shiftStart)
+     */
+    public Vehicle(int vehicleId, float availability, String vehicleClass,
+                   int speed, int capacity, float shiftStart, float shiftEnd) {
         if (vehicleId < 0) {
             throw new IllegalArgumentException("Vehicle ID cannot be negative");
         }
         if (availability < 0) {
             throw new IllegalArgumentException("Availability time cannot be negative");
         }
+        if (speed < 0) {
+            throw new IllegalArgumentException("Speed cannot be negative");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        if (shiftStart < 0 || shiftEnd < shiftStart) {
+            throw new IllegalArgumentException("Shift must start at >= 0 and end after it starts");
+        }
 
         this.vehicleId = vehicleId;
-        this.availability = availability;
+        this.availability = Hundredths.fromHours(availability);
+        this.vehicleClass = (vehicleClass != null) ? vehicleClass.trim() : "";
+        this.speed = speed;
+        this.capacity = capacity;
+        this.shiftStart = Hundredths.fromHours(shiftStart);
+        this.shiftEnd = Hundredths.fromHours(shiftEnd);
     }
 
     // ---------------------- Getters ----------------------
 
     public int getVehicleId() { return vehicleId; }
-    public float getAvailability() { return availability; }
+    public float getAvailability() { return Hundredths.toHours(availability); }
+    public int getAvailabilityHundredths() { return availability; }
+    public String getVehicleClass() { return vehicleClass; }
+    public int getSpeed() { return speed; }
+    public int getCapacity() { return capacity; }
+    public float getShiftStart() { return Hundredths.toHours(shiftStart); }
+    public float getShiftEnd() { return Hundredths.toHours(shiftEnd); }
+    public int getShiftStartHundredths() { return shiftStart; }
+    public int getShiftEndHundredths() { return shiftEnd; }
 
     // ---------------------- Setters ----------------------
 
@@ -58,6 +115,18 @@ public class Vehicle {
      * @param availability new availability time (must be >= 0)
      */
     public void setAvailability(float availability) {
+        if (availability < 0) {
+            throw new IllegalArgumentException("Availability time cannot be negative");
+        }
+        this.availability = Hundredths.fromHours(availability);
+    }
+
+    /**
+     * Updates the availability of the vehicle in hundredths of an hour.
+     *
+     * @param availability new availability time in hundredths of an hour (must be >= 0)
+     */
+    public void setAvailabilityHundredths(int availability) {
         if (availability < 0) {
             throw new IllegalArgumentException("Availability time cannot be negative");
         }
@@ -73,7 +142,10 @@ public class Vehicle {
     public String toString() {
         return "Vehicle{" +
                 "vehicleId=" + vehicleId +
-                ", availability=" + availability +
+                ", availability=" + getAvailability() +
+                (vehicleClass.isEmpty() ? "" : ", vehicleClass='" + vehicleClass + '\'') +
+                (speed == 0 ? "" : ", speed=" + speed) +
+                (capacity == 0 ? "" : ", capacity=" + capacity) +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Batch kernel for pre-discount totals and range-offer discounts.
+ *
+ * Works on whole int columns (weights, distances, offer ordinals) instead of
+ * one Package at a time:
+ *   - totals:    baseCost + weight * 10 + distance * 5
+ *   - discounts: eligibility of each row against its rule in an OfferRuleTable,
+ *                then round(total * rate) like Math.round, or 0 if not eligible
+ *
+ * Two implementations give identical results:
+ *   - VectorCostKernel → jdk.incubator.vector (SIMD), used when the JVM was
+ *                        started with --add-modules jdk.incubator.vector
+ *   - ScalarCostKernel → plain loops, used otherwise
+ */
+
+package com.everesteng.courier.offer;
+
+public interface CostKernel {
+
+    /**
+     * Returns the kernel used by OfferRuleTable and the batch cost paths:
+     * the vector kernel if the incubator module is available, otherwise the scalar one.
+     * Start with -Dcourier.vector.enabled=false to force the scalar kernel.
+     */
+    static CostKernel preferred() {
+        return CostKernels.PREFERRED;
+    }
+
+    /**
+     * Returns the name of the kernel ("vector" or "scalar").
+     */
+    String name();
+
+    /**
+     * Calculates the pre-discount total of the first length rows.
+     *
+     * @param baseCost  base delivery cost
+     * @param weights   package weights in kg
+     * @param distances delivery distances in km
+     * @param out       output: total cost of each row
+     * @param length    number of rows
+     */
+    void totals(int baseCost, int[] weights, int[] distances, int[] out, int length);
+
+    /**
+     * Calculates the range-offer discount of the first length rows.
+     * External and unknown ordinals get 0 (see OfferRuleTable).
+     * out may be the ordinals array itself: each row is read before it is written.
+     *
+     * @param table     compiled offer rules
+     * @param ordinals  offer ordinal of each row in the table
+     * @param weights   package weights in kg
+     * @param distances delivery distances in km
+     * @param totals    pre-discount cost of each row
+     * @param out       output: discount of each row
+     * @param length    number of rows
+     */
+    void discounts(OfferRuleTable table, int[] ordinals, int[] weights, int[] distances,
+                   int[] totals, int[] out, int length);
+}
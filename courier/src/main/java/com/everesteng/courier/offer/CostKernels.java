@@ -0,0 +1,46 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Picks the CostKernel implementation once per JVM.
+ *
+ * The vector kernel is loaded reflectively, so this class (and everything
+ * calling CostKernel.preferred()) still links when jdk.incubator.vector is
+ * not in the boot layer.
+ */
+
+package com.everesteng.courier.offer;
+
+final class CostKernels {
+
+    // Incubator module of the Vector API
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    static final CostKernel PREFERRED = select();
+
+    private CostKernels() {
+    }
+
+    private static CostKernel select() {
+        if (!Boolean.parseBoolean(System.getProperty("courier.vector.enabled", "true"))
+                || ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return new ScalarCostKernel();
+        }
+        try {
+            return (CostKernel) Class.forName(CostKernels.class.getPackageName() + ".VectorCostKernel")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarCostKernel();
+        }
+    }
+
+    // Rejects input arrays shorter than the requested number of rows
+    static void checkLength(int length, int[]... arrays) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length cannot be negative");
+        }
+        for (int[] array : arrays) {
+            if (array.length < length) {
+                throw new IllegalArgumentException("Input arrays are shorter than the output array");
+            }
+        }
+    }
+}
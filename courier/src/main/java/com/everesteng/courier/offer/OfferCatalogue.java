@@ -0,0 +1,249 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Holds the current set of offers, loaded from an external file.
+ *
+ * Offer file format (one offer per line, '#' starts a comment):
+ *   code min_distance max_distance min_weight max_weight percent [valid_from [valid_until]]
+ * e.g.
+ *   OFR004  0 500  0  50 15  2026-01-01 2026-03-31
+ * Ranges are inclusive, dates are ISO days (inclusive) and "-" leaves an end open.
+ *
+ * - Base rules come from the compiled strategy beans. A code defined in the file
+ *   is governed by the file only (even outside its validity window); all other
+ *   codes fall back to the base rules.
+ * - The current OfferSnapshot sits in an AtomicReference. Readers just load it,
+ *   writers build a complete new snapshot and swap it in (copy-on-write), so
+ *   cost calculations never lock or see a partial catalogue.
+ * - Readers never look at the clock. Each snapshot knows the instant its day
+ *   ends; OfferFileWatcher sleeps until then and calls rollOver(), which
+ *   compiles the validity windows for the new day. A catalogue without a file
+ *   has no windows and keeps its first snapshot.
+ * - Offer ordinals are assigned once per code and never reused, so an ordinal
+ *   obtained from one snapshot means the same code in every later snapshot.
+ */
+
+package com.everesteng.courier.offer;
+
+import com.everesteng.courier.exception.CourierServiceException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class OfferCatalogue {
+
+    // Marks an open end of a validity window in the offer file
+    private static final String OPEN_DATE = "-";
+
+    private final List<OfferRule> baseRules;
+    private final Set<String> baseExternalCodes;
+    private final Path file;
+    private final Clock clock;
+
+    // Every code ever seen, in ordinal order (only grows; guarded by this)
+    private final List<String> codes = new ArrayList<>();
+
+    private final AtomicReference<OfferSnapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * Creates a catalogue with only the base rules (no offer file).
+     *
+     * @param baseRules         rules of the compiled range strategies
+     * @param baseExternalCodes codes of compiled strategies that are not range rules
+     */
+    public OfferCatalogue(List<OfferRule> baseRules, Collection<String> baseExternalCodes) {
+        this.baseRules = List.copyOf(baseRules);
+        this.baseExternalCodes = Set.copyOf(baseExternalCodes);
+        this.file = null;
+        this.clock = Clock.systemDefaultZone();
+        publish(List.of(), LocalDate.now(clock));
+    }
+
+    /**
+     * Creates a catalogue backed by an offer file and loads it.
+     *
+     * @param baseRules         rules of the compiled range strategies
+     * @param baseExternalCodes codes of compiled strategies that are not range rules
+     * @param file              offer file
+     * @param clock             clock deciding which offers are currently valid
+     * @throws IOException             if the file cannot be read
+     * @throws CourierServiceException if the file is malformed
+     */
+    public OfferCatalogue(List<OfferRule> baseRules, Collection<String> baseExternalCodes,
+                          Path file, Clock clock) throws IOException, CourierServiceException {
+        if (file == null || clock == null) {
+            throw new IllegalArgumentException("Offer file and clock cannot be null");
+        }
+        this.baseRules = List.copyOf(baseRules);
+        this.baseExternalCodes = Set.copyOf(baseExternalCodes);
+        this.file = file;
+        this.clock = clock;
+        publish(parse(file), LocalDate.now(clock));
+    }
+
+    /**
+     * Returns the current snapshot (a single volatile read).
+     */
+    public OfferSnapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * Rebuilds the snapshot for the new day if the current one has expired.
+     *
+     * @return the current snapshot
+     */
+    public synchronized OfferSnapshot rollOver() {
+        OfferSnapshot current = snapshot.get();
+        if (clock.millis() < current.getExpiresAtMillis()) {
+            return current;
+        }
+        return publish(current.getFileRules(), LocalDate.now(clock));
+    }
+
+    /**
+     * Returns the milliseconds until the current snapshot expires (0 if it already has).
+     */
+    public long millisUntilRollover() {
+        return Math.max(0, snapshot.get().getExpiresAtMillis() - clock.millis());
+    }
+
+    /**
+     * Re-reads the offer file and swaps in a new snapshot.
+     * If the file is invalid, the current snapshot stays in place.
+     *
+     * @return the new snapshot
+     * @throws IOException             if the file cannot be read
+     * @throws CourierServiceException if the file is malformed
+     */
+    public OfferSnapshot reload() throws IOException, CourierServiceException {
+        if (file == null) {
+            throw new IllegalStateException("Offer catalogue has no file to reload");
+        }
+        // Parse outside the lock; only the swap is serialised
+        List<OfferRule> fileRules = parse(file);
+        return publish(fileRules, LocalDate.now(clock));
+    }
+
+    /**
+     * Returns the offer file, or null if the catalogue only has base rules.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Parses an offer file.
+     *
+     * @param file offer file
+     * @return one rule per offer line, in file order
+     * @throws IOException             if the file cannot be read
+     * @throws CourierServiceException if a line is malformed or a code is repeated
+     */
+    public static List<OfferRule> parse(Path file) throws IOException, CourierServiceException {
+        List<OfferRule> rules = new ArrayList<>();
+        Set<String> seen = new LinkedHashSet<>();
+        int lineNumber = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                int comment = line.indexOf('#');
+                String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                if (content.isEmpty()) {
+                    continue;
+                }
+
+                String[] fields = content.split("\\s+");
+                if (fields.length < 6 || fields.length > 8) {
+                    throw new CourierServiceException(error(file, lineNumber,
+                            "expected 6 to 8 fields but found " + fields.length));
+                }
+                try {
+                    OfferRule rule = new OfferRule(
+                            fields[0],
+                            Integer.parseInt(fields[1]),
+                            Integer.parseInt(fields[2]),
+                            Integer.parseInt(fields[3]),
+                            Integer.parseInt(fields[4]),
+                            Double.parseDouble(fields[5]),
+                            fields.length > 6 ? parseDate(fields[6]) : null,
+                            fields.length > 7 ? parseDate(fields[7]) : null);
+                    if (!seen.add(rule.getCode())) {
+                        throw new CourierServiceException(error(file, lineNumber,
+                                "duplicate offer code " + rule.getCode()));
+                    }
+                    rules.add(rule);
+                } catch (NumberFormatException | DateTimeParseException e) {
+                    throw new CourierServiceException(error(file, lineNumber, "invalid value (" + e.getMessage() + ")"));
+                } catch (IllegalArgumentException e) {
+                    throw new CourierServiceException(error(file, lineNumber, e.getMessage()));
+                }
+            }
+        }
+        return rules;
+    }
+
+    // Compiles base and file rules for a day and makes the result current
+    private synchronized OfferSnapshot publish(List<OfferRule> fileRules, LocalDate date) {
+        Map<String, OfferRule> active = new HashMap<>();
+        for (OfferRule rule : baseRules) {
+            active.put(rule.getCode(), rule);
+        }
+        Set<String> external = new LinkedHashSet<>(baseExternalCodes);
+
+        // File codes replace base codes; expired or future offers match nothing
+        for (OfferRule rule : fileRules) {
+            active.remove(rule.getCode());
+            external.remove(rule.getCode());
+        }
+        for (OfferRule rule : fileRules) {
+            if (rule.isActiveOn(date)) {
+                active.put(rule.getCode(), rule);
+            }
+        }
+
+        intern(baseRules.stream().map(OfferRule::getCode).toList());
+        intern(baseExternalCodes);
+        intern(fileRules.stream().map(OfferRule::getCode).toList());
+
+        OfferSnapshot previous = snapshot.get();
+        long version = previous != null ? previous.getVersion() + 1 : 1;
+        long expiresAt = date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        OfferSnapshot next = new OfferSnapshot(version, date, expiresAt, fileRules,
+                OfferRuleTable.compile(List.copyOf(codes), active, external));
+        snapshot.set(next);
+        return next;
+    }
+
+    // Appends codes that have no ordinal yet
+    private void intern(Collection<String> newCodes) {
+        for (String code : newCodes) {
+            if (!codes.contains(code)) {
+                codes.add(code);
+            }
+        }
+    }
+
+    private static LocalDate parseDate(String field) {
+        return field.equals(OPEN_DATE) ? null : LocalDate.parse(field);
+    }
+
+    private static String error(Path file, int line, String message) {
+        return "Offer file " + file + " line " + line + ": " + message;
+    }
+}
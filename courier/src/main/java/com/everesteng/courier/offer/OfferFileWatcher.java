@@ -0,0 +1,124 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Reloads the offer catalogue when its file changes.
+ *
+ * - Uses java.nio WatchService on the directory holding the offer file
+ *   (files themselves cannot be watched), filtering events by file name.
+ * - Runs on one daemon thread. After an event it waits for the file to stay
+ *   quiet for a short moment before reloading, so a burst of writes leads to
+ *   one reload. Replacing the file via an atomic move is the safest way to
+ *   publish a new version.
+ * - A file that fails to load is reported on stderr and the previous
+ *   snapshot stays active. Reloads are reported on stderr too, so they never
+ *   mix with results written to stdout.
+ * - Between events the thread waits no longer than until the current snapshot
+ *   expires, then rolls the catalogue over to the new day.
+ */
+
+package com.everesteng.courier.offer;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+public class OfferFileWatcher implements AutoCloseable {
+
+    // How long the file must stay unchanged before it is reloaded
+    private static final long QUIET_PERIOD_MILLIS = 100;
+
+    // Longest wait between rollover checks (the clock may be adjusted meanwhile)
+    private static final long MAX_WAIT_MILLIS = 1_000;
+
+    private final OfferCatalogue catalogue;
+    private final Path fileName;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private OfferFileWatcher(OfferCatalogue catalogue) throws IOException {
+        Path file = catalogue.getFile();
+        if (file == null) {
+            throw new IllegalArgumentException("Offer catalogue has no file to watch");
+        }
+        Path absolute = file.toAbsolutePath();
+        this.catalogue = catalogue;
+        this.fileName = absolute.getFileName();
+        this.watchService = absolute.getFileSystem().newWatchService();
+        absolute.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::watch, "offer-file-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the catalogue's file.
+     *
+     * @param catalogue catalogue to reload (must have a file)
+     * @return the running watcher; close it to stop watching
+     * @throws IOException if the directory cannot be watched
+     */
+    public static OfferFileWatcher start(OfferCatalogue catalogue) throws IOException {
+        OfferFileWatcher watcher = new OfferFileWatcher(catalogue);
+        watcher.thread.start();
+        return watcher;
+    }
+
+    /**
+     * Stops watching. The current snapshot stays in place.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+
+    // Watch loop: wait for a change to the file or the end of the day
+    private void watch() {
+        try {
+            while (true) {
+                long wait = Math.min(catalogue.millisUntilRollover(), MAX_WAIT_MILLIS);
+                WatchKey event = wait > 0 ? watchService.poll(wait, TimeUnit.MILLISECONDS) : null;
+                if (event == null) {
+                    catalogue.rollOver();
+                    continue;
+                }
+                if (!drain(event)) {
+                    continue;
+                }
+                // Collect further events until the file has been quiet for a moment
+                WatchKey key;
+                while ((key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    drain(key);
+                }
+                reload();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Watcher closed
+        }
+    }
+
+    // Consumes a key's events; returns true if any concerns the offer file
+    private boolean drain(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            relevant |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || fileName.equals(event.context());
+        }
+        key.reset();
+        return relevant;
+    }
+
+    private void reload() {
+        try {
+            OfferSnapshot snapshot = catalogue.reload();
+            System.err.println("Reloaded offers from " + catalogue.getFile() + " (" + snapshot + ")");
+        } catch (Exception e) {
+            System.err.println("Keeping previous offers, reload failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Immutable description of one offer code's eligibility rule.
+ *
+ * A package is eligible when its distance and weight both fall inside the
+ * inclusive ranges; eligible packages get percent% of the total cost off,
+ * rounded to the nearest integer.
+ *
+ * A rule may also have a validity window (inclusive dates, either end open);
+ * outside the window the offer does not apply at all.
+ */
+
+package com.everesteng.courier.offer;
+
+import java.time.LocalDate;
+
+public final class OfferRule {
+
+    private final String code;
+    private final int minDistance;
+    private final int maxDistance;
+    private final int minWeight;
+    private final int maxWeight;
+    private final double percent;
+
+    // Validity window; null means open-ended
+    private final LocalDate validFrom;
+    private final LocalDate validUntil;
+
+    /**
+     * Creates a rule that is always valid.
+     *
+     * @param code        offer code (cannot be null or empty)
+     * @param minDistance minimum distance in km (inclusive)
+     * @param maxDistance maximum distance in km (inclusive)
+     * @param minWeight   minimum weight in kg (inclusive)
+     * @param maxWeight   maximum weight in kg (inclusive)
+     * @param percent     discount percentage (0 to 100)
+     */
+    public OfferRule(String code, int minDistance, int maxDistance,
+                     int minWeight, int maxWeight, double percent) {
+        this(code, minDistance, maxDistance, minWeight, maxWeight, percent, null, null);
+    }
+
+    /**
+     * @param code        offer code (cannot be null or empty)
+     * @param minDistance minimum distance in km (inclusive)
+     * @param maxDistance maximum distance in km (inclusive)
+     * @param minWeight   minimum weight in kg (inclusive)
+     * @param maxWeight   maximum weight in kg (inclusive)
+     * @param percent     discount percentage (0 to 100)
+     * @param validFrom   first day the offer applies (null = no start)
+     * @param validUntil  last day the offer applies (null = no end)
+     */
+    public OfferRule(String code, int minDistance, int maxDistance,
+                     int minWeight, int maxWeight, double percent,
+                     LocalDate validFrom, LocalDate validUntil) {
+        if (code == null || code.trim().isEmpty()) {
+            throw new IllegalArgumentException("Offer code cannot be null or empty");
+        }
+        if (minDistance > maxDistance || minWeight > maxWeight) {
+            throw new IllegalArgumentException("Offer " + code + " has an empty distance or weight range");
+        }
+        if (!(percent >= 0 && percent <= 100)) {
+            throw new IllegalArgumentException("Offer " + code + " percent must be between 0 and 100");
+        }
+        if (validFrom != null && validUntil != null && validUntil.isBefore(validFrom)) {
+            throw new IllegalArgumentException("Offer " + code + " ends before it starts");
+        }
+        this.code = code.trim();
+        this.minDistance = minDistance;
+        this.maxDistance = maxDistance;
+        this.minWeight = minWeight;
+        this.maxWeight = maxWeight;
+        this.percent = percent;
+        this.validFrom = validFrom;
+        this.validUntil = validUntil;
+    }
+
+    // ---------------------- Getters ----------------------
+
+    public String getCode() { return code; }
+    public int getMinDistance() { return minDistance; }
+    public int getMaxDistance() { return maxDistance; }
+    public int getMinWeight() { return minWeight; }
+    public int getMaxWeight() { return maxWeight; }
+    public double getPercent() { return percent; }
+    public LocalDate getValidFrom() { return validFrom; }
+    public LocalDate getValidUntil() { return validUntil; }
+
+    /**
+     * Returns true if the offer applies on the given day.
+     */
+    public boolean isActiveOn(LocalDate date) {
+        return (validFrom == null || !date.isBefore(validFrom))
+                && (validUntil == null || !date.isAfter(validUntil));
+    }
+
+    /**
+     * Returns the discount for a package under this rule.
+     *
+     * @param weight    package weight in kg
+     * @param distance  delivery distance in km
+     * @param totalCost the original total delivery cost before discount
+     * @return discount amount (0 if not eligible)
+     */
+    public int calculate(int weight, int distance, int totalCost) {
+        if (distance >= minDistance && distance <= maxDistance &&
+                weight >= minWeight && weight <= maxWeight) {
+            return (int) Math.round(totalCost * (percent / 100));
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "OfferRule{" +
+                "code='" + code + '\'' +
+                ", distance=" + minDistance + ".." + maxDistance +
+                ", weight=" + minWeight + ".." + maxWeight +
+                ", percent=" + percent +
+                ", valid=" + (validFrom != null ? validFrom : "-") + ".." + (validUntil != null ? validUntil : "-") +
+                '}';
+    }
+}
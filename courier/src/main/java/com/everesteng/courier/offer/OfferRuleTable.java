@@ -0,0 +1,208 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Offer rules compiled into flat primitive arrays.
+ *
+ * Every known offer code is interned to a small int ordinal. The eligibility
+ * ranges and rates of all rules are stored column-wise, indexed by ordinal, so
+ * a whole batch can be evaluated by one branch-light loop without map lookups
+ * or virtual calls.
+ *
+ * - Ordinal 0 (NO_OFFER) is used for unknown codes and never matches.
+ * - "External" codes get an ordinal but no rule; the table reports 0 for them
+ *   and the caller evaluates them some other way (see isExternal).
+ * - Codes without a rule or external entry (e.g. expired offers) keep their
+ *   ordinal but never match, so ordinals can stay stable across rebuilds.
+ * - Instances are immutable and safe to share between threads.
+ */
+
+package com.everesteng.courier.offer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class OfferRuleTable {
+
+    // Ordinal for codes without a rule
+    public static final int NO_OFFER = 0;
+
+    // Code of each ordinal; codes[NO_OFFER] is the empty string
+    private final String[] codes;
+    private final Map<String, Integer> ordinals;
+
+    // Rule columns, indexed by ordinal
+    private final int[] minDistance;
+    private final int[] maxDistance;
+    private final int[] minWeight;
+    private final int[] maxWeight;
+    private final double[] rate;
+    private final boolean[] external;
+    private final boolean hasExternalCodes;
+
+    private OfferRuleTable(int size, boolean hasExternalCodes) {
+        this.codes = new String[size];
+        this.ordinals = new HashMap<>();
+        this.minDistance = new int[size];
+        this.maxDistance = new int[size];
+        this.minWeight = new int[size];
+        this.maxWeight = new int[size];
+        this.rate = new double[size];
+        this.external = new boolean[size];
+        this.hasExternalCodes = hasExternalCodes;
+    }
+
+    /**
+     * Compiles rules into a table.
+     *
+     * @param rules         range rules, one per offer code
+     * @param externalCodes codes that need an ordinal but are evaluated outside the table
+     * @return the compiled table
+     */
+    public static OfferRuleTable compile(List<OfferRule> rules, Collection<String> externalCodes) {
+        Map<String, OfferRule> ruleByCode = new LinkedHashMap<>();
+        for (OfferRule rule : rules) {
+            ruleByCode.putIfAbsent(rule.getCode(), rule);
+        }
+        List<String> codes = new ArrayList<>(ruleByCode.keySet());
+        for (String code : externalCodes) {
+            if (!ruleByCode.containsKey(code) && !codes.contains(code)) {
+                codes.add(code);
+            }
+        }
+        return compile(codes, ruleByCode, externalCodes);
+    }
+
+    /**
+     * Compiles rules into a table with a fixed ordinal assignment:
+     * codes.get(i) gets ordinal i + 1. Codes with neither a rule nor an
+     * external entry get an ordinal that never matches.
+     *
+     * @param codes         offer codes in ordinal order (no duplicates)
+     * @param rules         range rule of each code that has one
+     * @param externalCodes codes evaluated outside the table (ignored if the code has a rule)
+     * @return the compiled table
+     */
+    public static OfferRuleTable compile(List<String> codes, Map<String, OfferRule> rules,
+                                         Collection<String> externalCodes) {
+        boolean anyExternal = false;
+        for (String code : codes) {
+            anyExternal |= !rules.containsKey(code) && externalCodes.contains(code);
+        }
+
+        OfferRuleTable table = new OfferRuleTable(1 + codes.size(), anyExternal);
+        table.codes[NO_OFFER] = "";
+        table.disable(NO_OFFER);
+
+        for (int i = 0; i < codes.size(); i++) {
+            int ordinal = i + 1;
+            String code = codes.get(i);
+            OfferRule rule = rules.get(code);
+            table.register(code, ordinal);
+            if (rule != null) {
+                table.minDistance[ordinal] = rule.getMinDistance();
+                table.maxDistance[ordinal] = rule.getMaxDistance();
+                table.minWeight[ordinal] = rule.getMinWeight();
+                table.maxWeight[ordinal] = rule.getMaxWeight();
+                table.rate[ordinal] = rule.getPercent() / 100;
+            } else {
+                table.disable(ordinal);
+                table.external[ordinal] = externalCodes.contains(code);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Returns the ordinal of an offer code, or NO_OFFER if it is unknown.
+     */
+    public int ordinalOf(String code) {
+        Integer ordinal = code != null ? ordinals.get(code) : null;
+        return ordinal != null ? ordinal : NO_OFFER;
+    }
+
+    /**
+     * Returns the offer code of an ordinal.
+     */
+    public String codeOf(int ordinal) {
+        return codes[ordinal];
+    }
+
+    /**
+     * Returns the number of ordinals, including NO_OFFER.
+     */
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * Returns true if the ordinal belongs to a code evaluated outside the table.
+     */
+    public boolean isExternal(int ordinal) {
+        return external[ordinal];
+    }
+
+    /**
+     * Returns true if any code is evaluated outside the table.
+     */
+    public boolean hasExternalCodes() {
+        return hasExternalCodes;
+    }
+
+    /**
+     * Calculates the discount for one package.
+     *
+     * @param ordinal   offer ordinal from {@link #ordinalOf(String)}
+     * @param weight    package weight in kg
+     * @param distance  delivery distance in km
+     * @param totalCost the original total delivery cost before discount
+     * @return discount amount (0 if not eligible)
+     */
+    public int discount(int ordinal, int weight, int distance, int totalCost) {
+        boolean eligible = (distance >= minDistance[ordinal]) & (distance <= maxDistance[ordinal])
+                & (weight >= minWeight[ordinal]) & (weight <= maxWeight[ordinal]);
+        return eligible ? (int) Math.round(totalCost * rate[ordinal]) : 0;
+    }
+
+    /**
+     * Calculates discounts for a batch of packages in one pass.
+     * All arrays are read from index 0 up to out.length.
+     * The loop runs on {@link CostKernel#preferred()} (SIMD when available).
+     *
+     * @param ordinals  offer ordinal of each package
+     * @param weights   package weights in kg
+     * @param distances delivery distances in km
+     * @param totals    pre-discount cost of each package
+     * @param out       output: discount of each package
+     */
+    public void discounts(int[] ordinals, int[] weights, int[] distances, int[] totals, int[] out) {
+        CostKernel.preferred().discounts(this, ordinals, weights, distances, totals, out, out.length);
+    }
+
+    // ---------------------- Columns (for CostKernel, shared, never modified) ----------------------
+
+    int[] minDistanceColumn() { return minDistance; }
+    int[] maxDistanceColumn() { return maxDistance; }
+    int[] minWeightColumn() { return minWeight; }
+    int[] maxWeightColumn() { return maxWeight; }
+    double[] rateColumn() { return rate; }
+
+    // Assigns an ordinal to a code
+    private void register(String code, int ordinal) {
+        codes[ordinal] = code;
+        if (ordinals.putIfAbsent(code, ordinal) != null) {
+            throw new IllegalArgumentException("Duplicate offer code " + code);
+        }
+    }
+
+    // Makes an ordinal never eligible (empty ranges, zero rate)
+    private void disable(int ordinal) {
+        minDistance[ordinal] = Integer.MAX_VALUE;
+        maxDistance[ordinal] = Integer.MIN_VALUE;
+        minWeight[ordinal] = Integer.MAX_VALUE;
+        maxWeight[ordinal] = Integer.MIN_VALUE;
+        rate[ordinal] = 0;
+    }
+}
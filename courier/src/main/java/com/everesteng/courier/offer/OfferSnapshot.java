@@ -0,0 +1,60 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Immutable view of the offer catalogue at one point in time.
+ *
+ * A snapshot pairs the rules loaded from the offer file with the compiled
+ * OfferRuleTable for one calendar day. It is never modified after creation;
+ * OfferCatalogue replaces the whole snapshot when the file changes or the
+ * day rolls over, so readers never see a half-loaded catalogue.
+ */
+
+package com.everesteng.courier.offer;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public final class OfferSnapshot {
+
+    // Increases by one with every published snapshot
+    private final long version;
+
+    // Day the table was compiled for (validity windows are evaluated for this day)
+    private final LocalDate date;
+
+    // Clock time (epoch millis) from which this snapshot is out of date
+    private final long expiresAtMillis;
+
+    // Rules loaded from the offer file, including ones not active today
+    private final List<OfferRule> fileRules;
+
+    // Compiled base and file rules active on date
+    private final OfferRuleTable table;
+
+    OfferSnapshot(long version, LocalDate date, long expiresAtMillis,
+                  List<OfferRule> fileRules, OfferRuleTable table) {
+        this.version = version;
+        this.date = date;
+        this.expiresAtMillis = expiresAtMillis;
+        this.fileRules = List.copyOf(fileRules);
+        this.table = table;
+    }
+
+    // ---------------------- Getters ----------------------
+
+    public long getVersion() { return version; }
+    public LocalDate getDate() { return date; }
+    public List<OfferRule> getFileRules() { return fileRules; }
+    public OfferRuleTable getTable() { return table; }
+
+    long getExpiresAtMillis() { return expiresAtMillis; }
+
+    @Override
+    public String toString() {
+        return "OfferSnapshot{" +
+                "version=" + version +
+                ", date=" + date +
+                ", fileRules=" + fileRules.size() +
+                ", codes=" + (table.size() - 1) +
+                '}';
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: CostKernel with plain loops, one row at a time.
+ *
+ * Used when the Vector API module is not available, for the tail rows of the
+ * vector kernel, and as the reference the vector kernel is tested against.
+ */
+
+package com.everesteng.courier.offer;
+
+public final class ScalarCostKernel implements CostKernel {
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public void totals(int baseCost, int[] weights, int[] distances, int[] out, int length) {
+        CostKernels.checkLength(length, weights, distances, out);
+        totals(baseCost, weights, distances, out, 0, length);
+    }
+
+    @Override
+    public void discounts(OfferRuleTable table, int[] ordinals, int[] weights, int[] distances,
+                          int[] totals, int[] out, int length) {
+        CostKernels.checkLength(length, ordinals, weights, distances, totals, out);
+        discounts(table, ordinals, weights, distances, totals, out, 0, length);
+    }
+
+    // Rows from .. to-1, shared with the vector kernel's tail
+    static void totals(int baseCost, int[] weights, int[] distances, int[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = baseCost + (weights[i] * 10) + (distances[i] * 5);
+        }
+    }
+
+    static void discounts(OfferRuleTable table, int[] ordinals, int[] weights, int[] distances,
+                          int[] totals, int[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = table.discount(ordinals[i], weights[i], distances[i], totals[i]);
+        }
+    }
+}
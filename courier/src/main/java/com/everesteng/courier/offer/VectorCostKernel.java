@@ -0,0 +1,91 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: CostKernel on the Vector API (jdk.incubator.vector).
+ *
+ * - Totals are plain int lanes: baseCost + w * 10 + d * 5.
+ * - Discounts gather each row's rule (ranges and rate) by ordinal, compare in
+ *   int lanes, multiply in double lanes and round exactly like Math.round.
+ *   The int species is half the width of the preferred double species, so
+ *   both shapes have the same number of lanes and masks line up.
+ * - Rows past the last full vector go through ScalarCostKernel.
+ *
+ * Only loaded through CostKernels, when the incubator module is present.
+ */
+
+package com.everesteng.courier.offer;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorCostKernel implements CostKernel {
+
+    private static final VectorSpecies<Integer> TOTALS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2));
+
+    @Override
+    public String name() {
+        return "vector";
+    }
+
+    @Override
+    public void totals(int baseCost, int[] weights, int[] distances, int[] out, int length) {
+        CostKernels.checkLength(length, weights, distances, out);
+
+        IntVector base = IntVector.broadcast(TOTALS, baseCost);
+        int bound = TOTALS.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += TOTALS.length()) {
+            IntVector w = IntVector.fromArray(TOTALS, weights, i);
+            IntVector d = IntVector.fromArray(TOTALS, distances, i);
+            base.add(w.mul(10)).add(d.mul(5)).intoArray(out, i);
+        }
+        ScalarCostKernel.totals(baseCost, weights, distances, out, i, length);
+    }
+
+    @Override
+    public void discounts(OfferRuleTable table, int[] ordinals, int[] weights, int[] distances,
+                          int[] totals, int[] out, int length) {
+        CostKernels.checkLength(length, ordinals, weights, distances, totals, out);
+
+        int[] minDistance = table.minDistanceColumn();
+        int[] maxDistance = table.maxDistanceColumn();
+        int[] minWeight = table.minWeightColumn();
+        int[] maxWeight = table.maxWeightColumn();
+        double[] rate = table.rateColumn();
+
+        IntVector zero = IntVector.zero(INTS);
+        int bound = INTS.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += INTS.length()) {
+            IntVector w = IntVector.fromArray(INTS, weights, i);
+            IntVector d = IntVector.fromArray(INTS, distances, i);
+
+            VectorMask<Integer> eligible =
+                    d.compare(VectorOperators.GE, IntVector.fromArray(INTS, minDistance, 0, ordinals, i))
+                    .and(d.compare(VectorOperators.LE, IntVector.fromArray(INTS, maxDistance, 0, ordinals, i)))
+                    .and(w.compare(VectorOperators.GE, IntVector.fromArray(INTS, minWeight, 0, ordinals, i)))
+                    .and(w.compare(VectorOperators.LE, IntVector.fromArray(INTS, maxWeight, 0, ordinals, i)));
+
+            DoubleVector product = ((DoubleVector) IntVector.fromArray(INTS, totals, i)
+                    .convertShape(VectorOperators.I2D, DOUBLES, 0))
+                    .mul(DoubleVector.fromArray(DOUBLES, rate, 0, ordinals, i));
+
+            // Math.round: truncate, then step up at fraction >= 0.5 and down below -0.5
+            IntVector truncated = (IntVector) product.convertShape(VectorOperators.D2I, INTS, 0);
+            DoubleVector fraction = product.sub((DoubleVector) truncated
+                    .convertShape(VectorOperators.I2D, DOUBLES, 0));
+            VectorMask<Integer> up = fraction.compare(VectorOperators.GE, 0.5).cast(INTS);
+            VectorMask<Integer> down = fraction.compare(VectorOperators.LT, -0.5).cast(INTS);
+            IntVector rounded = truncated.add(1, up).sub(1, down);
+
+            zero.blend(rounded, eligible).intoArray(out, i);
+        }
+        ScalarCostKernel.discounts(table, ordinals, weights, distances, totals, out, i, length);
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Packing strategy that searches the best subset of packages for every
+ * trip with branch and bound, within a wall-clock and node budget.
+ *
+ * Each trip follows the same rules as OptimalPacking (most packages, then
+ * heaviest, then smallest maximum distance), but the cost does not grow with
+ * maxCarriableWeight, so it also suits truck capacities of tens of thousands of kg.
+ *
+ * - The most packages a trip can carry is exact: the k lightest packages that fit.
+ *   The search then looks for the heaviest set of exactly k packages.
+ * - Packages are ordered heaviest first (shorter distance first on equal weight);
+ *   the first dive of the search is a greedy fill, so a plan exists at once.
+ * - A node is pruned with the capacity relaxation: the weight carried so far plus
+ *   min(remaining capacity, the heaviest packages that could still be added).
+ * - Of several packages with the same weight only the nearest ones are taken
+ *   (any other choice is no better), which removes symmetric branches.
+ * - When the budget is used up, the current and all later trips keep the best
+ *   subset found so far; the PackingResult reports how far from optimal they are.
+ *
+ * The budget covers the whole call. The search is iterative (explicit stack),
+ * so deep trips cannot overflow the thread stack.
+ */
+
+package com.everesteng.courier.packing;
+
+import com.everesteng.courier.builder.ShipmentBuilder;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class BranchAndBoundPacking implements PackingStrategy {
+
+    // Default budget of one packing call
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(1);
+    public static final long DEFAULT_NODE_BUDGET = 10_000_000L;
+
+    // Nodes between two clock reads (power of two)
+    private static final int CLOCK_INTERVAL = 1024;
+
+    private final Duration timeBudget;
+    private final long nodeBudget;
+
+    /**
+     * Creates the strategy with the default budget (1 s, 10 million nodes).
+     */
+    public BranchAndBoundPacking() {
+        this(DEFAULT_TIME_BUDGET, DEFAULT_NODE_BUDGET);
+    }
+
+    /**
+     * @param timeBudget wall-clock budget of one packing call
+     * @param nodeBudget search nodes allowed in one packing call
+     */
+    public BranchAndBoundPacking(Duration timeBudget, long nodeBudget) {
+        validateBudget(timeBudget, nodeBudget);
+        this.timeBudget = timeBudget;
+        this.nodeBudget = nodeBudget;
+    }
+
+    @Override
+    public PackingMode mode() {
+        return PackingMode.BRANCH_AND_BOUND;
+    }
+
+    /**
+     * Packs packages trip by trip within the configured budget.
+     *
+     * @param packages           validated list of packages to be shipped
+     * @param maxCarriableWeight maximum weight capacity of a single shipment
+     * @return shipments in trip order (best trip first)
+     */
+    @Override
+    public List<Shipment> pack(List<Package> packages, int maxCarriableWeight) {
+        return search(packages, maxCarriableWeight, timeBudget, nodeBudget).shipments();
+    }
+
+    /**
+     * Packs packages trip by trip within the configured budget.
+     *
+     * @param packages           validated list of packages to be shipped
+     * @param maxCarriableWeight maximum weight capacity of a single shipment
+     * @return shipments with the optimality gap of the plan
+     */
+    public PackingResult search(List<Package> packages, int maxCarriableWeight) {
+        return search(packages, maxCarriableWeight, timeBudget, nodeBudget);
+    }
+
+    /**
+     * Packs packages trip by trip within the given budget.
+     *
+     * @param packages           validated list of packages to be shipped
+     * @param maxCarriableWeight maximum weight capacity of a single shipment
+     * @param timeBudget         wall-clock budget of this call
+     * @param nodeBudget         search nodes allowed in this call
+     * @return shipments with the optimality gap of the plan
+     */
+    public PackingResult search(List<Package> packages, int maxCarriableWeight,
+                                Duration timeBudget, long nodeBudget) {
+        validateBudget(timeBudget, nodeBudget);
+        return new Search(packages, maxCarriableWeight, timeBudget, nodeBudget).run();
+    }
+
+    // Budgets must be positive
+    private static void validateBudget(Duration timeBudget, long nodeBudget) {
+        if (timeBudget == null || timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("Time budget must be positive");
+        }
+        if (nodeBudget <= 0) {
+            throw new IllegalArgumentException("Node budget must be positive");
+        }
+    }
+
+    // State of one packing call; all buffers are reused for every trip
+    private static final class Search {
+
+        private final int capacity;
+        private final long nodeBudget;
+        private final long deadline;
+
+        // Packages heaviest first, then nearest first
+        private final List<Package> sorted;
+
+        // Positions (into sorted) of the packages not shipped yet, in sorted order
+        private final int[] alive;
+        private int remaining;
+
+        // Weight and distance per remaining position, and prefix sums of the weights
+        private final int[] weights;
+        private final int[] distances;
+        private final long[] prefix;
+        // First later position with a different weight
+        private final int[] nextWeight;
+
+        // Explicit DFS stack, one entry per package taken
+        private final int[] next;
+        private final int[] chosen;
+        private final long[] used;
+        private final int[] maxDistance;
+
+        // Best subset of the current trip
+        private final int[] best;
+        private long bestWeight;
+        private int bestDistance;
+
+        private final boolean[] taken;
+
+        private long nodes;
+        private boolean exhausted;
+
+        Search(List<Package> packages, int capacity, Duration timeBudget, long nodeBudget) {
+            this.capacity = capacity;
+            this.nodeBudget = nodeBudget;
+            long start = System.nanoTime();
+            long budgetNanos = timeBudget.compareTo(Duration.ofDays(365)) > 0
+                    ? Long.MAX_VALUE / 2 : timeBudget.toNanos();
+            this.deadline = start + budgetNanos;
+
+            int n = packages.size();
+            sorted = packages.stream()
+                    .sorted(Comparator.comparingInt(Package::getWeight).reversed()
+                            .thenComparingInt(Package::getDistance))
+                    .toList();
+            alive = new int[n];
+            for (int i = 0; i < n; i++) {
+                alive[i] = i;
+            }
+            remaining = n;
+
+            weights = new int[n];
+            distances = new int[n];
+            prefix = new long[n + 1];
+            nextWeight = new int[n];
+            next = new int[n + 1];
+            chosen = new int[n + 1];
+            used = new long[n + 1];
+            maxDistance = new int[n + 1];
+            best = new int[n];
+            taken = new boolean[n];
+        }
+
+        PackingResult run() {
+            List<Shipment> shipments = new ArrayList<>();
+            int unprovenTrips = 0;
+            double gap = 0.0;
+
+            while (remaining > 0) {
+                prepareTrip();
+                int count = mostPackages();
+                // Capacity relaxation at the root: the count heaviest packages
+                long rootBound = Math.min(capacity, prefix[count]);
+
+                if (!searchTrip(count)) {
+                    unprovenTrips++;
+                    if (rootBound > 0) {
+                        gap = Math.max(gap, (double) (rootBound - bestWeight) / rootBound);
+                    }
+                }
+                shipments.add(takeBest(count));
+            }
+            return new PackingResult(shipments, nodes, unprovenTrips, gap);
+        }
+
+        // Loads the remaining packages into the flat arrays
+        private void prepareTrip() {
+            for (int i = 0; i < remaining; i++) {
+                Package pkg = sorted.get(alive[i]);
+                weights[i] = pkg.getWeight();
+                distances[i] = pkg.getDistance();
+                prefix[i + 1] = prefix[i] + weights[i];
+            }
+            for (int i = remaining - 1; i >= 0; i--) {
+                nextWeight[i] = (i + 1 < remaining && weights[i + 1] == weights[i]) ? nextWeight[i + 1] : i + 1;
+            }
+        }
+
+        // Most packages one trip can carry: the lightest ones (at the end of the order)
+        private int mostPackages() {
+            int count = 0;
+            while (count < remaining && prefix[remaining] - prefix[remaining - count - 1] <= capacity) {
+                count++;
+            }
+            return count;
+        }
+
+        // Sum of the lightest k remaining packages
+        private long lightest(int k) {
+            return prefix[remaining] - prefix[remaining - k];
+        }
+
+        /**
+         * Searches the heaviest (then nearest) set of exactly count packages.
+         * Returns false if the budget ran out before the search space was exhausted.
+         */
+        private boolean searchTrip(int count) {
+            bestWeight = -1;
+            bestDistance = Integer.MAX_VALUE;
+
+            int level = 0;
+            next[0] = 0;
+            used[0] = 0;
+            maxDistance[0] = 0;
+
+            while (level >= 0) {
+                if (level == count) {
+                    // Leaf: a full trip
+                    if (used[level] > bestWeight
+                            || (used[level] == bestWeight && maxDistance[level] < bestDistance)) {
+                        System.arraycopy(chosen, 0, best, 0, count);
+                        bestWeight = used[level];
+                        bestDistance = maxDistance[level];
+                    }
+                    level = backtrack(level);
+                    continue;
+                }
+
+                nodes++;
+                if (bestWeight >= 0 && outOfBudget()) {
+                    return false;
+                }
+
+                int j = next[level];
+                int slots = count - level;
+                long room = capacity - used[level];
+
+                // Not enough packages left, or the bound cannot beat the best trip
+                if (j > remaining - slots) {
+                    level = backtrack(level);
+                    continue;
+                }
+                long bound = used[level] + Math.min(room, prefix[j + slots] - prefix[j]);
+                if (bound < bestWeight || (bound == bestWeight && maxDistance[level] >= bestDistance)) {
+                    level = backtrack(level);
+                    continue;
+                }
+
+                // Take j if the lightest packages still fill the other slots
+                if (weights[j] + lightest(slots - 1) <= room) {
+                    chosen[level] = j;
+                    used[level + 1] = used[level] + weights[j];
+                    maxDistance[level + 1] = Math.max(maxDistance[level], distances[j]);
+                    next[level + 1] = j + 1;
+                    level++;
+                } else {
+                    // Packages of the same weight do not fit either
+                    next[level] = nextWeight[j];
+                }
+            }
+            return true;
+        }
+
+        // Leaves the subtree of the package taken at level - 1 and skips its weight there
+        private int backtrack(int level) {
+            level--;
+            if (level >= 0) {
+                next[level] = nextWeight[chosen[level]];
+            }
+            return level;
+        }
+
+        // True once the node or time budget is used up (for this and all later trips)
+        private boolean outOfBudget() {
+            if (!exhausted && (nodes >= nodeBudget
+                    || ((nodes & (CLOCK_INTERVAL - 1)) == 0 && System.nanoTime() - deadline >= 0))) {
+                exhausted = true;
+            }
+            return exhausted;
+        }
+
+        // Builds the shipment of the best subset (heaviest package first) and drops its packages
+        private Shipment takeBest(int count) {
+            ShipmentBuilder builder = new ShipmentBuilder();
+            for (int i = 0; i < count; i++) {
+                builder.addPackage(sorted.get(alive[best[i]]));
+                taken[best[i]] = true;
+            }
+
+            int kept = 0;
+            for (int i = 0; i < remaining; i++) {
+                if (taken[i]) {
+                    taken[i] = false;
+                } else {
+                    alive[kept++] = alive[i];
+                }
+            }
+            remaining = kept;
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Weight-indexed lookup used by the greedy packing engine.
+ *
+ * Packages are kept in descending weight order. For a given remaining
+ * capacity the index returns the first unassigned package that still fits,
+ * which is exactly the package the original "scan the whole list" greedy loop
+ * would have picked.
+ *
+ * - Because weights are sorted descending, all packages that fit into a
+ *   capacity form a suffix of the array (found with a binary search).
+ * - Assigned positions are skipped with a "next free slot" union-find
+ *   (path halving), so each lookup costs O(log n) amortized.
+ * - Only primitive arrays are used; no objects are allocated per lookup.
+ */
+
+package com.everesteng.courier.packing;
+
+public final class FirstFitIndex {
+
+    // Package weights, sorted in descending order
+    private final int[] weights;
+
+    // next[i] points at the first position >= i that may still be unassigned;
+    // next[n] is a sentinel meaning "nothing left"
+    private final int[] next;
+
+    // Number of positions not yet taken
+    private int remaining;
+
+    /**
+     * Creates an index over the given weights.
+     *
+     * @param sortedWeights package weights in descending order (not copied)
+     */
+    public FirstFitIndex(int[] sortedWeights) {
+        this.weights = sortedWeights;
+        this.next = new int[sortedWeights.length + 1];
+        for (int i = 0; i < next.length; i++) {
+            next[i] = i;
+        }
+        this.remaining = sortedWeights.length;
+    }
+
+    /**
+     * Takes the heaviest unassigned package whose weight is <= capacity.
+     * Ties between equal weights are resolved in array order.
+     *
+     * @param capacity remaining capacity of the shipment being filled
+     * @return position of the taken package, or -1 if nothing fits
+     */
+    public int take(int capacity) {
+        int position = find(firstAtMost(capacity));
+        if (position == weights.length) {
+            return -1;
+        }
+        next[position] = position + 1; // mark as assigned
+        remaining--;
+        return position;
+    }
+
+    /**
+     * Returns the number of packages that have not been taken yet.
+     */
+    public int remaining() {
+        return remaining;
+    }
+
+    // Binary search for the first position whose weight is <= capacity
+    private int firstAtMost(int capacity) {
+        int lo = 0;
+        int hi = weights.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (weights[mid] <= capacity) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    // Follows "next free" links from position i, halving paths on the way
+    private int find(int i) {
+        while (next[i] != i) {
+            next[i] = next[next[i]];
+            i = next[i];
+        }
+        return i;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Default packing strategy using a greedy heaviest-first approach.
+ *
+ * - Sorts packages by descending weight.
+ * - Each shipment repeatedly takes the heaviest remaining package that still
+ *   fits, looked up through a FirstFitIndex in O(log n).
+ * - Shipments are returned sorted by total weight (heaviest first).
+ *
+ * Runs in O(n log n) but does not guarantee the maximum number of packages per trip.
+ */
+
+package com.everesteng.courier.packing;
+
+import com.everesteng.courier.builder.ShipmentBuilder;
+import com.everesteng.courier.model.BatchShipments;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
+import com.everesteng.courier.model.Shipment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+public class GreedyPacking implements PackingStrategy {
+
+    @Override
+    public PackingMode mode() {
+        return PackingMode.GREEDY;
+    }
+
+    /**
+     * Packs packages greedily, heaviest first.
+     *
+     * @param packages           validated list of packages to be shipped
+     * @param maxCarriableWeight maximum weight capacity of a single shipment
+     * @return a list of shipments sorted by total weight in descending order
+     */
+    @Override
+    public List<Shipment> pack(List<Package> packages, int maxCarriableWeight) {
+        // Sort packages in descending order by weight (heaviest first)
+        List<Package> sortedPackages = packages.stream()
+                .sorted(Comparator.comparingInt(Package::getWeight).reversed())
+                .toList();
+
+        // Index the sorted weights so each shipment can pick the next fitting
+        // package in O(log n) instead of re-scanning the whole list
+        int[] weights = new int[sortedPackages.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = sortedPackages.get(i).getWeight();
+        }
+        FirstFitIndex index = new FirstFitIndex(weights);
+
+        List<Shipment> shipments = new ArrayList<>();   // Final list of shipments
+
+        // Continue until all packages are assigned to a shipment
+        while (index.remaining() > 0) {
+            ShipmentBuilder builder = new ShipmentBuilder(); // Helps construct shipments
+            int capacity = maxCarriableWeight;
+
+            // Keep taking the heaviest remaining package that still fits
+            int position;
+            while ((position = index.take(capacity)) >= 0) {
+                Package pkg = sortedPackages.get(position);
+                builder.addPackage(pkg);
+                capacity -= pkg.getWeight();
+            }
+
+            // Finalize the shipment and add it to the list
+            shipments.add(builder.build());
+        }
+
+        // Sort shipments by total weight in descending order (heaviest first)
+        shipments.sort(Comparator.comparingInt(Shipment::getTotalWeight).reversed());
+        return shipments;
+    }
+
+    /**
+     * Packs the rows of a PackageBatch greedily, heaviest first, without
+     * creating Package or Shipment objects. Produces the same grouping and
+     * order as {@link #pack(List, int)} for the same packages.
+     *
+     * @param batch              validated batch of packages to be shipped
+     * @param maxCarriableWeight maximum weight capacity of a single shipment
+     * @return shipments sorted by total weight in descending order
+     */
+    public BatchShipments pack(PackageBatch batch, int maxCarriableWeight) {
+        int n = batch.size();
+
+        // Sort rows by descending weight, ties in row order: the key packs the
+        // inverted weight into the high 32 bits and the row into the low bits
+        long[] keys = new long[n];
+        for (int row = 0; row < n; row++) {
+            keys[row] = ((long) (Integer.MAX_VALUE - batch.getWeight(row)) << 32) | row;
+        }
+        Arrays.sort(keys);
+
+        int[] sortedRows = new int[n];
+        int[] weights = new int[n];
+        for (int i = 0; i < n; i++) {
+            sortedRows[i] = (int) keys[i];
+            weights[i] = batch.getWeight(sortedRows[i]);
+        }
+        FirstFitIndex index = new FirstFitIndex(weights);
+
+        // Fill shipments one after another, recording rows in packing order
+        int[] packedRows = new int[n];
+        int[] packedOffsets = new int[n + 1];
+        int[] shipmentWeights = new int[n];
+        int shipmentCount = 0;
+        int packed = 0;
+        while (index.remaining() > 0) {
+            int capacity = maxCarriableWeight;
+            int position;
+            while ((position = index.take(capacity)) >= 0) {
+                packedRows[packed++] = sortedRows[position];
+                capacity -= weights[position];
+            }
+            shipmentWeights[shipmentCount] = maxCarriableWeight - capacity;
+            packedOffsets[++shipmentCount] = packed;
+        }
+
+        // Order shipments by total weight, heaviest first (stable, like List.sort)
+        long[] order = new long[shipmentCount];
+        for (int s = 0; s < shipmentCount; s++) {
+            order[s] = ((long) (Integer.MAX_VALUE - shipmentWeights[s]) << 32) | s;
+        }
+        Arrays.sort(order);
+
+        int[] offsets = new int[shipmentCount + 1];
+        int[] rows = new int[n];
+        int written = 0;
+        for (int i = 0; i < shipmentCount; i++) {
+            int s = (int) order[i];
+            for (int k = packedOffsets[s]; k < packedOffsets[s + 1]; k++) {
+                rows[written++] = packedRows[k];
+            }
+            offsets[i + 1] = written;
+        }
+        return new BatchShipments(batch, offsets, rows);
+    }
+}
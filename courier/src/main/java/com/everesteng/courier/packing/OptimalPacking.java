@@ -0,0 +1,148 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Packing strategy that picks the optimal subset of packages for every trip.
+ *
+ * Each trip follows the delivery rules from the problem statement:
+ *   1. carry as many packages as possible,
+ *   2. if tied, prefer the heavier shipment,
+ *   3. if still tied, prefer the shipment that can be delivered first
+ *      (smallest maximum distance).
+ *
+ * The subset is found with a 0/1 knapsack DP over capacity 0..maxCarriableWeight:
+ *   - (count, weight) pairs are compared lexicographically in two int arrays.
+ *   - Items are processed in ascending distance order, so the first prefix that
+ *     reaches the overall optimum gives the smallest possible max distance.
+ *   - Take/skip decisions are stored in a bit matrix for reconstruction.
+ *
+ * All scratch buffers are allocated once per call and reused for every trip;
+ * nothing is allocated per DP cell. Cost is O(trips × n × maxCarriableWeight),
+ * so this mode suits small and medium capacities; BranchAndBoundPacking finds
+ * the same trips without depending on the capacity.
+ */
+
+package com.everesteng.courier.packing;
+
+import com.everesteng.courier.builder.ShipmentBuilder;
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+public class OptimalPacking implements PackingStrategy {
+
+    // Upper bound on the take/skip bit matrix (packages × capacity), 256 MB of bits
+    private static final long MAX_DECISION_BITS = 1L << 31;
+
+    @Override
+    public PackingMode mode() {
+        return PackingMode.OPTIMAL;
+    }
+
+    /**
+     * Packs packages trip by trip, each trip taking the optimal remaining subset.
+     *
+     * @param packages           validated list of packages to be shipped
+     * @param maxCarriableWeight maximum weight capacity of a single shipment
+     * @return shipments in trip order (best trip first)
+     * @throws CourierServiceException if the DP tables would be too large
+     */
+    @Override
+    public List<Shipment> pack(List<Package> packages, int maxCarriableWeight)
+            throws CourierServiceException {
+
+        int n = packages.size();
+        int width = maxCarriableWeight + 1;
+        if ((long) n * width > MAX_DECISION_BITS) {
+            throw new CourierServiceException(
+                    "Too many packages for optimal packing with max carriable weight " + maxCarriableWeight);
+        }
+
+        // Remaining packages in ascending distance order (stable for equal distances)
+        List<Package> byDistance = packages.stream()
+                .sorted(Comparator.comparingInt(Package::getDistance))
+                .toList();
+        int[] alive = new int[n];
+        for (int i = 0; i < n; i++) {
+            alive[i] = i;
+        }
+        int remaining = n;
+
+        // Scratch buffers reused for every trip
+        int[] bestCount = new int[width];
+        int[] bestWeight = new int[width];
+        int[] prefixCount = new int[n];
+        int[] prefixWeight = new int[n];
+        long[] decisions = new long[(int) (((long) n * width + 63) >>> 6)];
+        boolean[] taken = new boolean[n];
+
+        List<Shipment> shipments = new ArrayList<>();
+
+        while (remaining > 0) {
+            Arrays.fill(bestCount, 0);
+            Arrays.fill(bestWeight, 0);
+            Arrays.fill(decisions, 0, (int) (((long) remaining * width + 63) >>> 6), 0L);
+
+            // DP over the remaining packages; bestCount/bestWeight[c] hold the
+            // best (count, weight) using capacity <= c
+            for (int i = 0; i < remaining; i++) {
+                int w = byDistance.get(alive[i]).getWeight();
+                long row = (long) i * width;
+                for (int c = maxCarriableWeight; c >= w; c--) {
+                    int count = bestCount[c - w] + 1;
+                    int weight = bestWeight[c - w] + w;
+                    if (count > bestCount[c] || (count == bestCount[c] && weight > bestWeight[c])) {
+                        bestCount[c] = count;
+                        bestWeight[c] = weight;
+                        long bit = row + c;
+                        decisions[(int) (bit >>> 6)] |= 1L << bit;
+                    }
+                }
+                prefixCount[i] = bestCount[maxCarriableWeight];
+                prefixWeight[i] = bestWeight[maxCarriableWeight];
+            }
+
+            // The shortest prefix reaching the optimum minimises the max distance
+            int last = 0;
+            while (prefixCount[last] != bestCount[maxCarriableWeight]
+                    || prefixWeight[last] != bestWeight[maxCarriableWeight]) {
+                last++;
+            }
+
+            // Walk the decisions back from (last, maxCarriableWeight)
+            int capacity = maxCarriableWeight;
+            for (int i = last; i >= 0; i--) {
+                long bit = (long) i * width + capacity;
+                if ((decisions[(int) (bit >>> 6)] & (1L << bit)) != 0) {
+                    taken[i] = true;
+                    capacity -= byDistance.get(alive[i]).getWeight();
+                }
+            }
+
+            // Build the shipment (heaviest package first) and drop the taken packages
+            List<Package> trip = new ArrayList<>();
+            int kept = 0;
+            for (int i = 0; i < remaining; i++) {
+                if (taken[i]) {
+                    trip.add(byDistance.get(alive[i]));
+                    taken[i] = false;
+                } else {
+                    alive[kept++] = alive[i];
+                }
+            }
+            remaining = kept;
+
+            trip.sort(Comparator.comparingInt(Package::getWeight).reversed());
+            ShipmentBuilder builder = new ShipmentBuilder();
+            for (Package pkg : trip) {
+                builder.addPackage(pkg);
+            }
+            shipments.add(builder.build());
+        }
+
+        return shipments;
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Selects how packages are grouped into shipments.
+ *
+ * - GREEDY  → fast heaviest-first first-fit packing (default).
+ * - OPTIMAL → each trip carries the best possible subset of the remaining
+ *             packages: most packages, then heaviest, then shortest delivery.
+ * - PARALLEL → packages are split into distance (or weight) bands that are
+ *             packed greedily in parallel, then merged heaviest first.
+ * - BRANCH_AND_BOUND → same trips as OPTIMAL, found by a budgeted search that
+ *             does not depend on the capacity (large vehicles).
+ */
+
+package com.everesteng.courier.packing;
+
+public enum PackingMode {
+    GREEDY,
+    OPTIMAL,
+    PARALLEL,
+    BRANCH_AND_BOUND
+}
@@ -0,0 +1,31 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Shipments of a budgeted packing search with its optimality gap.
+ *
+ * Each trip maximises the packages carried, then the weight (see
+ * BranchAndBoundPacking). The package count of a trip is always optimal,
+ * so the gap is measured on the weight: how much heavier the trip could
+ * have been at most, relative to that bound.
+ */
+
+package com.everesteng.courier.packing;
+
+import com.everesteng.courier.model.Shipment;
+
+import java.util.List;
+
+/**
+ * @param shipments     shipments in trip order (best trip first)
+ * @param nodes         search nodes explored over all trips
+ * @param unprovenTrips trips whose search was cut short by the budget
+ * @param gap           largest relative weight gap of a trip, 0.0 when all trips are proven optimal
+ */
+public record PackingResult(List<Shipment> shipments, long nodes, int unprovenTrips, double gap) {
+
+    /**
+     * Returns true if every trip is proven optimal.
+     */
+    public boolean isOptimal() {
+        return unprovenTrips == 0;
+    }
+}
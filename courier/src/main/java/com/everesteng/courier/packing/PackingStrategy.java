@@ -0,0 +1,35 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Defines the Strategy interface for grouping packages into shipments.
+ *
+ * - This follows the Strategy Design Pattern (like DiscountStrategy).
+ * - Implementations receive an already validated package list: it is not empty
+ *   and no package is heavier than the max carriable weight.
+ * - ShipmentService picks the implementation based on the requested PackingMode.
+ */
+
+package com.everesteng.courier.packing;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+
+import java.util.List;
+
+public interface PackingStrategy {
+
+    /**
+     * Returns the packing mode this strategy implements.
+     */
+    PackingMode mode();
+
+    /**
+     * Groups all packages into shipments.
+     *
+     * @param packages           validated list of packages to be shipped
+     * @param maxCarriableWeight maximum weight capacity of a single shipment
+     * @return shipments in the order they should be dispatched
+     * @throws CourierServiceException if the packages cannot be packed
+     */
+    List<Shipment> pack(List<Package> packages, int maxCarriableWeight) throws CourierServiceException;
+}
@@ -0,0 +1,167 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Packing strategy that packs partitions of a large manifest in parallel.
+ *
+ * - Packages are sorted by the partition key (distance or weight) and cut into
+ *   bands of equal size; each band is packed with GreedyPacking in a ForkJoinPool.
+ * - The per-band shipment lists are merged into one list, heaviest first.
+ * - Shipments never mix packages of different bands, so trips can carry fewer
+ *   packages than in GREEDY mode; bands are kept large to limit this.
+ *
+ * Deterministic mode (default) gives the same shipments in the same order on
+ * every run and on every machine: the number of bands depends only on the
+ * number of packages, and equal-weight shipments are ordered by band.
+ * Otherwise there is one band per pool thread and bands are merged in the
+ * order they finish, so tie order (and thus vehicle choice) can vary.
+ */
+
+package com.everesteng.courier.packing;
+
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelPacking implements PackingStrategy {
+
+    // Band count used in deterministic mode (independent of the machine)
+    static final int DETERMINISTIC_BANDS = 64;
+
+    // Smallest band worth its own task; smaller manifests use fewer bands
+    static final int MIN_BAND_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+    private final PartitionKey partitionKey;
+    private final boolean deterministic;
+    private final GreedyPacking greedyPacking = new GreedyPacking();
+
+    /**
+     * Creates a deterministic strategy that splits by distance band and runs
+     * in the common ForkJoinPool.
+     */
+    public ParallelPacking() {
+        this(ForkJoinPool.commonPool(), PartitionKey.DISTANCE_BAND, true);
+    }
+
+    /**
+     * @param pool          pool running the band tasks
+     * @param partitionKey  attribute the bands are cut by
+     * @param deterministic true for reproducible results independent of scheduling
+     */
+    public ParallelPacking(ForkJoinPool pool, PartitionKey partitionKey, boolean deterministic) {
+        if (pool == null || partitionKey == null) {
+            throw new IllegalArgumentException("Pool and partition key cannot be null");
+        }
+        this.pool = pool;
+        this.partitionKey = partitionKey;
+        this.deterministic = deterministic;
+    }
+
+    @Override
+    public PackingMode mode() {
+        return PackingMode.PARALLEL;
+    }
+
+    /**
+     * Packs the packages band by band in parallel.
+     *
+     * @param packages           validated list of packages to be shipped
+     * @param maxCarriableWeight maximum weight capacity of a single shipment
+     * @return a list of shipments sorted by total weight in descending order
+     */
+    @Override
+    public List<Shipment> pack(List<Package> packages, int maxCarriableWeight) {
+        int n = packages.size();
+        int bands = bandCount(n);
+        if (bands == 1) {
+            return greedyPacking.pack(packages, maxCarriableWeight);
+        }
+
+        // Order packages by key, ties in list order: key in the high bits, index in the low bits
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            Package pkg = packages.get(i);
+            int key = partitionKey == PartitionKey.WEIGHT_BAND ? pkg.getWeight() : pkg.getDistance();
+            keys[i] = ((long) key << 32) | i;
+        }
+        Arrays.parallelSort(keys);
+
+        // Band b holds sorted positions [b * n / bands, (b + 1) * n / bands)
+        List<List<Shipment>> byBand = new ArrayList<>(bands);
+        for (int b = 0; b < bands; b++) {
+            byBand.add(null);
+        }
+        Queue<List<Shipment>> byCompletion = new ConcurrentLinkedQueue<>();
+        pool.invoke(new PackBands(packages, keys, bands, 0, bands, maxCarriableWeight, byBand, byCompletion));
+
+        // Merge: concatenate, then stable sort heaviest first
+        List<Shipment> shipments = new ArrayList<>();
+        for (List<Shipment> band : deterministic ? byBand : byCompletion) {
+            shipments.addAll(band);
+        }
+        shipments.sort(Comparator.comparingInt(Shipment::getTotalWeight).reversed());
+        return shipments;
+    }
+
+    // Number of bands for n packages
+    int bandCount(int n) {
+        int target = deterministic ? DETERMINISTIC_BANDS : pool.getParallelism();
+        return Math.max(1, Math.min(target, n / MIN_BAND_SIZE));
+    }
+
+    /**
+     * Packs the bands [from, to), splitting the range until one band is left.
+     */
+    private final class PackBands extends RecursiveAction {
+        private final List<Package> packages;
+        private final long[] keys;
+        private final int bands;
+        private final int from;
+        private final int to;
+        private final int maxCarriableWeight;
+        private final List<List<Shipment>> byBand;
+        private final Queue<List<Shipment>> byCompletion;
+
+        PackBands(List<Package> packages, long[] keys, int bands, int from, int to, int maxCarriableWeight,
+                  List<List<Shipment>> byBand, Queue<List<Shipment>> byCompletion) {
+            this.packages = packages;
+            this.keys = keys;
+            this.bands = bands;
+            this.from = from;
+            this.to = to;
+            this.maxCarriableWeight = maxCarriableWeight;
+            this.byBand = byBand;
+            this.byCompletion = byCompletion;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                        new PackBands(packages, keys, bands, from, mid, maxCarriableWeight, byBand, byCompletion),
+                        new PackBands(packages, keys, bands, mid, to, maxCarriableWeight, byBand, byCompletion));
+                return;
+            }
+
+            int n = keys.length;
+            int start = (int) ((long) from * n / bands);
+            int end = (int) ((long) (from + 1) * n / bands);
+            List<Package> band = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                band.add(packages.get((int) keys[i]));
+            }
+
+            List<Shipment> shipments = greedyPacking.pack(band, maxCarriableWeight);
+            byBand.set(from, shipments); // each task writes its own slot
+            byCompletion.add(shipments);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Selects how ParallelPacking splits packages into partitions.
+ *
+ * - DISTANCE_BAND → packages with similar delivery distance are packed together.
+ *                   Every band still has light and heavy packages to combine,
+ *                   and trips cover similar distances (default).
+ * - WEIGHT_BAND   → packages with similar weight are packed together.
+ */
+
+package com.everesteng.courier.packing;
+
+public enum PartitionKey {
+    DISTANCE_BAND,
+    WEIGHT_BAND
+}
@@ -0,0 +1,104 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Primitive min-heap of vehicles ordered by availability time.
+ *
+ * Used by the batch path of VehicleService instead of a PriorityQueue<Vehicle>,
+ * and as the stripes of VehiclePool.
+ * Each entry packs a vehicle ID and its availability into a single long, so
+ * polling and re-offering a vehicle allocates nothing.
+ *
+ * The sift-up / sift-down steps follow java.util.PriorityQueue exactly, so
+ * vehicles with equal availability come out in the same order as in the
+ * object-based assignment.
+ */
+
+package com.everesteng.courier.service;
+
+final class AvailabilityHeap {
+
+    // Heap entries: availability (hundredths of an hour) in the high 32 bits, vehicle ID in the low 32 bits
+    private final long[] entries;
+
+    // Number of entries currently in the heap
+    private int size;
+
+    AvailabilityHeap(int capacity) {
+        this.entries = new long[capacity];
+    }
+
+    /**
+     * Adds a vehicle with the given availability.
+     *
+     * @param vehicleId    vehicle identifier (>= 0)
+     * @param availability time when the vehicle becomes free, in hundredths of an hour (>= 0)
+     */
+    void offer(int vehicleId, int availability) {
+        long entry = ((long) availability << 32) | (vehicleId & 0xFFFFFFFFL);
+        int k = size++;
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            long e = entries[parent];
+            if (compare(entry, e) >= 0) break;
+            entries[k] = e;
+            k = parent;
+        }
+        entries[k] = entry;
+    }
+
+    /**
+     * Removes the vehicle with the earliest availability.
+     *
+     * @return packed entry; decode with {@link #vehicleId(long)} and {@link #availability(long)}
+     */
+    long poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        long result = entries[0];
+        int n = --size;
+        if (n > 0) {
+            long x = entries[n];
+            int k = 0;
+            int half = n >>> 1;
+            while (k < half) {
+                int child = (k << 1) + 1;
+                long c = entries[child];
+                int right = child + 1;
+                if (right < n && compare(c, entries[right]) > 0) {
+                    c = entries[child = right];
+                }
+                if (compare(x, c) <= 0) break;
+                entries[k] = c;
+                k = child;
+            }
+            entries[k] = x;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the vehicle with the earliest availability without removing it.
+     *
+     * @return packed entry, or -1 if the heap is empty
+     */
+    long peek() {
+        return size > 0 ? entries[0] : -1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    static int vehicleId(long entry) {
+        return (int) entry;
+    }
+
+    static int availability(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    // Orders by availability only, like Comparator.comparingInt(Vehicle::getAvailabilityHundredths)
+    private static int compare(long a, long b) {
+        return Integer.compare(availability(a), availability(b));
+    }
+}
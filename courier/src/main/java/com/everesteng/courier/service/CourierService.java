@@ -3,20 +3,52 @@
  * Purpose: Main service class orchestrating the courier system workflow.
  * It coordinates shipment creation, delivery time calculation,
  * vehicle assignment, and cost calculation by using other services.
+ *
+ * In PARALLEL packing mode the delivery times are also calculated in parallel
+ * (they are independent per shipment); vehicle assignment stays sequential
+ * because every shipment depends on the vehicles used before it.
+ *
+ * Every stage and every batch of final costs is timed through CourierMetrics;
+ * single cost quotes are sampled and counted per offer.
+ *
+ * Discounts of repeated cost quotes are kept in a QuoteCache (if enabled).
+ * Each processDeliveries run is also a JFR PlanningRunEvent (disabled by default,
+ * registered through CourierEvents once Flight Recorder is in use).
  */
 
 package com.everesteng.courier.service;
 
 import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.journal.PlanState;
+import com.everesteng.courier.journal.PlanStore;
+import com.everesteng.courier.metrics.CourierEvents;
+import com.everesteng.courier.metrics.CourierMetrics;
+import com.everesteng.courier.metrics.CourierMetrics.Stage;
+import com.everesteng.courier.metrics.PlanningRunEvent;
+import com.everesteng.courier.model.BatchShipments;
+import com.everesteng.courier.model.DeliveryPlan;
 import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
 import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.offer.CostKernel;
+import com.everesteng.courier.packing.PackingMode;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 @Service  // Marks this class as a Spring-managed service component
 public class CourierService {
 
+    // Shipments per parallel delivery-time task
+    private static final int TIME_CHUNK_SIZE = 4096;
+
     // Service to calculate applicable discounts on package costs
     private final DiscountService discountService;
 
@@ -29,8 +61,15 @@ public class CourierService {
     // Service to assign vehicles to shipments for delivery
     private final VehicleService vehicleService;
 
+    // Stage timers and planning/discount statistics
+    private final CourierMetrics metrics;
+
+    // Discounts of recent cost quotes
+    private final QuoteCache quoteCache;
+
     /**
-     * Constructor-based dependency injection of required services.
+     * Constructor-based dependency injection of required services,
+     * without metrics.
      *
      * @param discountService      handles discount calculation
      * @param shipmentService      creates shipments from packages
@@ -41,10 +80,50 @@ public class CourierService {
                           ShipmentService shipmentService,
                           DeliveryTimeService deliveryTimeService,
                           VehicleService vehicleService) {
+        this(discountService, shipmentService, deliveryTimeService, vehicleService, CourierMetrics.noop());
+    }
+
+    /**
+     * Like the 4-argument constructor, plus metrics (no quote cache).
+     *
+     * @param discountService      handles discount calculation
+     * @param shipmentService      creates shipments from packages
+     * @param deliveryTimeService  calculates package and shipment delivery times
+     * @param vehicleService       assigns vehicles to shipments
+     * @param metrics              records stage timings and statistics (null → no metrics)
+     */
+    public CourierService(DiscountService discountService,
+                          ShipmentService shipmentService,
+                          DeliveryTimeService deliveryTimeService,
+                          VehicleService vehicleService,
+                          CourierMetrics metrics) {
+        this(discountService, shipmentService, deliveryTimeService, vehicleService, metrics, null);
+    }
+
+    /**
+     * Constructor used by Spring: like the 5-argument constructor, plus a quote cache.
+     *
+     * @param discountService      handles discount calculation
+     * @param shipmentService      creates shipments from packages
+     * @param deliveryTimeService  calculates package and shipment delivery times
+     * @param vehicleService       assigns vehicles to shipments
+     * @param metrics              records stage timings and statistics (null → no metrics)
+     * @param quoteCache           caches discounts of repeated quotes (null → no cache)
+     */
+    @Autowired
+    public CourierService(DiscountService discountService,
+                          ShipmentService shipmentService,
+                          DeliveryTimeService deliveryTimeService,
+                          VehicleService vehicleService,
+                          CourierMetrics metrics,
+                          QuoteCache quoteCache) {
         this.discountService = discountService;
         this.shipmentService = shipmentService;
         this.deliveryTimeService = deliveryTimeService;
         this.vehicleService = vehicleService;
+        this.metrics = (metrics != null) ? metrics : CourierMetrics.noop();
+        this.quoteCache = (quoteCache != null) ? quoteCache : QuoteCache.disabled();
+        CourierEvents.register();
     }
 
     /**
@@ -65,19 +144,229 @@ public class CourierService {
                                             int speed,
                                             int numVehicles) throws CourierServiceException {
 
+        PlanningRunEvent event = new PlanningRunEvent();
+        event.begin();
+
         // Step 1: Create shipments from packages based on weight constraints
+        long start = metrics.start();
         List<Shipment> shipments = shipmentService.createShipments(packages, maxWeight);
+        metrics.stop(Stage.CREATE_SHIPMENTS, start);
+        metrics.recordShipments(shipments, maxWeight);
+
+        // Steps 2 and 3: delivery times and vehicle assignment
+        planShipments(shipments, speed, numVehicles, null);
+
+        if (event.shouldCommit()) {
+            commit(event, PackingMode.GREEDY, packages, shipments.size(), numVehicles, maxWeight, speed);
+        }
+        return shipments;
+    }
+
+    /**
+     * Processes deliveries like {@link #processDeliveries(List, int, int, int, int)},
+     * but lets the caller choose how packages are grouped into shipments.
+     *
+     * @param packages    list of packages to be delivered
+     * @param baseCost    base delivery cost
+     * @param maxWeight   maximum weight allowed per shipment
+     * @param speed       delivery vehicle speed
+     * @param numVehicles total number of vehicles available
+     * @param mode        packing mode (GREEDY, OPTIMAL or PARALLEL)
+     * @return list of shipments ready for delivery
+     * @throws CourierServiceException if shipment creation or assignment fails
+     */
+    public List<Shipment> processDeliveries(List<Package> packages,
+                                            int baseCost,
+                                            int maxWeight,
+                                            int speed,
+                                            int numVehicles,
+                                            PackingMode mode) throws CourierServiceException {
+        return processDeliveries(packages, baseCost, maxWeight, speed, numVehicles, mode, null);
+    }
+
+    /**
+     * Processes deliveries like {@link #processDeliveries(List, int, int, int, int, PackingMode)},
+     * handing each shipment to a listener as soon as it is packed and assigned,
+     * so callers can start using the plan before it is complete.
+     *
+     * @param packages    list of packages to be delivered
+     * @param baseCost    base delivery cost
+     * @param maxWeight   maximum weight allowed per shipment
+     * @param speed       delivery vehicle speed
+     * @param numVehicles total number of vehicles available
+     * @param mode        packing mode (GREEDY, OPTIMAL or PARALLEL)
+     * @param listener    receives each assigned shipment in dispatch order (may be null)
+     * @return list of shipments ready for delivery
+     * @throws CourierServiceException if shipment creation or assignment fails, or the listener aborts
+     */
+    public List<Shipment> processDeliveries(List<Package> packages,
+                                            int baseCost,
+                                            int maxWeight,
+                                            int speed,
+                                            int numVehicles,
+                                            PackingMode mode,
+                                            ShipmentListener listener) throws CourierServiceException {
+
+        PlanningRunEvent event = new PlanningRunEvent();
+        event.begin();
+
+        // Step 1: Create shipments using the requested packing mode
+        long start = metrics.start();
+        List<Shipment> shipments = shipmentService.createShipments(packages, maxWeight, mode);
+        metrics.stop(Stage.CREATE_SHIPMENTS, start);
+        metrics.recordShipments(shipments, maxWeight);
+        if (listener != null) {
+            listener.onPacked(shipments.size());
+        }
+
+        // Steps 2 and 3: delivery times and vehicle assignment
+        if (mode == PackingMode.PARALLEL) {
+            planShipmentsInParallel(shipments, speed, numVehicles, listener);
+        } else {
+            planShipments(shipments, speed, numVehicles, listener);
+        }
+
+        if (event.shouldCommit()) {
+            commit(event, mode, packages, shipments.size(), numVehicles, maxWeight, speed);
+        }
+        return shipments;
+    }
+
+    /**
+     * Plans deliveries like {@link #processDeliveries(List, int, int, int, int)}
+     * and keeps the plan in a session, so packages added, cancelled or changed
+     * later in the day only re-plan the trips they affect.
+     *
+     * @param packages    packages known at the start of the day (may be empty)
+     * @param maxWeight   maximum weight allowed per shipment
+     * @param speed       delivery vehicle speed
+     * @param numVehicles total number of vehicles available
+     * @return a new planner session
+     * @throws CourierServiceException if the fleet is invalid or the packages cannot be packed
+     */
+    public PlannerSession openSession(List<Package> packages,
+                                      int maxWeight,
+                                      int speed,
+                                      int numVehicles) throws CourierServiceException {
+        return new PlannerSession(shipmentService, packages, maxWeight, speed, numVehicles);
+    }
+
+    /**
+     * Opens a planner session like {@link #openSession(List, int, int, int)} and
+     * makes it durable: the initial plan is written as a snapshot to the store,
+     * and every later event is journaled, so the session survives a restart
+     * (see {@link #recoverSession(PlanStore)}).
+     *
+     * @param packages    packages known at the start of the day (may be empty)
+     * @param maxWeight   maximum weight allowed per shipment
+     * @param speed       delivery vehicle speed
+     * @param numVehicles total number of vehicles available
+     * @param store       store for the session's snapshot and journal
+     * @return a new durable planner session
+     * @throws CourierServiceException if the plan cannot be made or the store cannot be written
+     */
+    public PlannerSession openSession(List<Package> packages,
+                                      int maxWeight,
+                                      int speed,
+                                      int numVehicles,
+                                      PlanStore store) throws CourierServiceException {
+        PlannerSession session = openSession(packages, maxWeight, speed, numVehicles);
+        session.attach(store, false);
+        return session;
+    }
+
+    /**
+     * Restores a durable planner session after a restart: loads the latest
+     * snapshot and replays the journaled events after it, without re-planning.
+     *
+     * @param store store the session was opened with
+     * @return the restored session, journaling to the same store
+     * @throws CourierServiceException if the store holds no valid plan or the replay fails
+     */
+    public PlannerSession recoverSession(PlanStore store) throws CourierServiceException {
+        try {
+            PlanState snapshot = store.readSnapshot();
+            PlannerSession session = new PlannerSession(snapshot);
+            store.replay(snapshot.sequence(), session::replay);
+            session.attach(store, true);
+            return session;
+        } catch (IOException e) {
+            throw new CourierServiceException("Plan could not be recovered: " + e.getMessage());
+        }
+    }
+
+    // Calculates delivery times and assigns vehicles for already packed shipments
+    private List<Shipment> planShipments(List<Shipment> shipments, int speed, int numVehicles,
+                                         ShipmentListener listener) throws CourierServiceException {
 
         // Step 2: Calculate delivery time for each package and shipment
+        long start = metrics.start();
         deliveryTimeService.calculatePackageTimes(shipments, speed);
+        metrics.stop(Stage.CALCULATE_PACKAGE_TIMES, start);
+
+        start = metrics.start();
         deliveryTimeService.calculateShipmentTimes(shipments, speed);
+        metrics.stop(Stage.CALCULATE_SHIPMENT_TIMES, start);
 
         // Step 3: Assign vehicles to shipments
-        vehicleService.assignVehicles(shipments, numVehicles);
+        start = metrics.start();
+        assignVehicles(shipments, numVehicles, listener);
+        metrics.stop(Stage.ASSIGN_VEHICLES, start);
 
         return shipments;
     }
 
+    // Like planShipments, but delivery times are calculated in chunks on the common pool
+    private List<Shipment> planShipmentsInParallel(List<Shipment> shipments, int speed, int numVehicles,
+                                                   ShipmentListener listener) throws CourierServiceException {
+
+        // Step 2: Calculate delivery times, one task per chunk of shipments
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int from = 0; from < shipments.size(); from += TIME_CHUNK_SIZE) {
+            List<Shipment> chunk = shipments.subList(from, Math.min(from + TIME_CHUNK_SIZE, shipments.size()));
+            tasks.add(() -> {
+                long start = metrics.start();
+                deliveryTimeService.calculatePackageTimes(chunk, speed);
+                metrics.stop(Stage.CALCULATE_PACKAGE_TIMES, start);
+
+                start = metrics.start();
+                deliveryTimeService.calculateShipmentTimes(chunk, speed);
+                metrics.stop(Stage.CALCULATE_SHIPMENT_TIMES, start);
+                return null;
+            });
+        }
+        for (Future<Void> result : ForkJoinPool.commonPool().invokeAll(tasks)) {
+            try {
+                result.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CourierServiceException cause) {
+                    throw cause;
+                }
+                throw new CourierServiceException("Delivery time calculation failed: " + e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CourierServiceException("Delivery time calculation was interrupted");
+            }
+        }
+
+        // Step 3: Assign vehicles to shipments (in dispatch order)
+        long start = metrics.start();
+        assignVehicles(shipments, numVehicles, listener);
+        metrics.stop(Stage.ASSIGN_VEHICLES, start);
+
+        return shipments;
+    }
+
+    // Assigns vehicles, streaming shipments to the listener if there is one
+    private void assignVehicles(List<Shipment> shipments, int numVehicles, ShipmentListener listener)
+            throws CourierServiceException {
+        if (listener == null) {
+            vehicleService.assignVehicles(shipments, numVehicles);
+        } else {
+            vehicleService.assignVehicles(shipments, numVehicles, listener);
+        }
+    }
+
     /**
      * Calculates the final delivery cost of a package after applying discounts.
      *
@@ -86,12 +375,211 @@ public class CourierService {
      * @return final cost after discount
      */
     public int calculateFinalCost(Package pkg, int baseCost) {
+        long start = metrics.startSampled();
+
         // Base cost + (weight * 10) + (distance * 5)
-        int totalCost = baseCost + (pkg.getWeight() * 10) + (pkg.getDistance() * 5);
+        int totalCost = totalCost(baseCost, pkg.getWeight(), pkg.getDistance());
 
-        // Apply discount via DiscountService
-        int discount = discountService.calculateDiscount(pkg, totalCost);
+        // Apply discount via DiscountService (or a cached quote); the ordinal also finds the offer counters
+        int offer = discountService.offerOrdinal(pkg.getOfferCode());
+        int discount = quoteCache.isEnabled()
+                ? cachedDiscount(offer, pkg.getWeight(), pkg.getDistance(), baseCost, totalCost)
+                : discountService.calculateDiscount(offer, pkg, totalCost);
 
+        metrics.stop(Stage.CALCULATE_FINAL_COST, start);
+        metrics.recordDiscount(offer, pkg.getOfferCode(), discount > 0);
         return totalCost - discount;
     }
+
+    /**
+     * Calculates the final delivery cost from raw package attributes,
+     * for callers that parse input without creating a Package.
+     *
+     * @param offerCode offer code of the package
+     * @param weight    package weight in kg
+     * @param distance  delivery distance in km
+     * @param baseCost  base delivery cost (fixed charge)
+     * @return final cost after discount
+     */
+    public int calculateFinalCost(String offerCode, int weight, int distance, int baseCost) {
+        long start = metrics.startSampled();
+        int totalCost = totalCost(baseCost, weight, distance);
+        int offer = discountService.offerOrdinal(offerCode);
+        int discount = quoteCache.isEnabled()
+                ? cachedDiscount(offer, weight, distance, baseCost, totalCost)
+                : discountService.calculateDiscount(offer, weight, distance, totalCost);
+        metrics.stop(Stage.CALCULATE_FINAL_COST, start);
+        metrics.recordDiscount(offer, offerCode, discount > 0);
+        return totalCost - discount;
+    }
+
+    // Discount of a quote from the cache; evaluated and cached on a miss
+    private int cachedDiscount(int offer, int weight, int distance, int baseCost, int totalCost) {
+        long generation = discountService.getCatalogue().current().getVersion();
+        int discount = quoteCache.get(baseCost, weight, distance, offer, generation);
+        if (discount != QuoteCache.MISS) {
+            metrics.recordQuote(true);
+            return discount;
+        }
+        metrics.recordQuote(false);
+
+        // May use newer offers than this generation; such an entry is simply never hit
+        discount = discountService.calculateDiscount(offer, weight, distance, totalCost);
+        if (quoteCache.put(baseCost, weight, distance, offer, generation, discount)) {
+            metrics.recordQuoteEviction();
+        }
+        return discount;
+    }
+
+    /**
+     * Calculates discounts and final costs for every row of a batch,
+     * without creating a Package per row.
+     *
+     * @param batch      batch of packages
+     * @param baseCost   base delivery cost (fixed charge)
+     * @param discounts  output: discount of each row (at least batch.size() entries)
+     * @param finalCosts output: final cost of each row (at least batch.size() entries)
+     */
+    public void calculateFinalCosts(PackageBatch batch, int baseCost, int[] discounts, int[] finalCosts) {
+        if (discounts.length < batch.size() || finalCosts.length < batch.size()) {
+            throw new IllegalArgumentException("Output arrays are smaller than the batch");
+        }
+
+        long start = metrics.start();
+
+        // Pre-discount totals are staged in finalCosts
+        CostKernel.preferred().totals(baseCost, batch.weightColumn(), batch.distanceColumn(), finalCosts, batch.size());
+
+        discountService.calculateDiscounts(batch, finalCosts, discounts);
+
+        // Discount statistics are counted per offer ordinal, then recorded once per code
+        long[] evaluations = new long[batch.offerCodeCount()];
+        long[] applied = new long[batch.offerCodeCount()];
+        for (int row = 0; row < batch.size(); row++) {
+            finalCosts[row] -= discounts[row];
+            int ordinal = batch.getOfferOrdinal(row);
+            evaluations[ordinal]++;
+            if (discounts[row] > 0) {
+                applied[ordinal]++;
+            }
+        }
+
+        metrics.stop(Stage.CALCULATE_FINAL_COST, start);
+        for (int ordinal = 0; ordinal < evaluations.length; ordinal++) {
+            if (evaluations[ordinal] > 0) {
+                metrics.recordDiscounts(batch.offerCodeAt(ordinal), evaluations[ordinal], applied[ordinal]);
+            }
+        }
+    }
+
+    /**
+     * Processes deliveries for a columnar batch: greedy shipments, delivery
+     * times and vehicle assignment, all on primitive arrays. Delivery times
+     * are written back into the batch.
+     *
+     * @param batch       batch of packages to be delivered
+     * @param baseCost    base delivery cost
+     * @param maxWeight   maximum weight allowed per shipment
+     * @param speed       delivery vehicle speed
+     * @param numVehicles total number of vehicles available
+     * @return batch shipments ready for delivery
+     * @throws CourierServiceException if shipment creation or assignment fails
+     */
+    public BatchShipments processDeliveries(PackageBatch batch,
+                                            int baseCost,
+                                            int maxWeight,
+                                            int speed,
+                                            int numVehicles) throws CourierServiceException {
+
+        PlanningRunEvent event = new PlanningRunEvent();
+        event.begin();
+
+        long start = metrics.start();
+        BatchShipments shipments = shipmentService.createShipments(batch, maxWeight);
+        metrics.stop(Stage.CREATE_SHIPMENTS, start);
+        metrics.recordShipments(shipments, maxWeight);
+
+        start = metrics.start();
+        deliveryTimeService.calculatePackageTimes(batch, speed);
+        metrics.stop(Stage.CALCULATE_PACKAGE_TIMES, start);
+
+        start = metrics.start();
+        deliveryTimeService.calculateShipmentTimes(shipments, speed);
+        metrics.stop(Stage.CALCULATE_SHIPMENT_TIMES, start);
+
+        start = metrics.start();
+        vehicleService.assignVehicles(shipments, numVehicles);
+        metrics.stop(Stage.ASSIGN_VEHICLES, start);
+
+        if (event.shouldCommit()) {
+            long totalWeight = 0;
+            for (int row = 0; row < batch.size(); row++) {
+                totalWeight += batch.getWeight(row);
+            }
+            commit(event, PackingMode.GREEDY, batch.size(), totalWeight,
+                    shipments.count(), numVehicles, maxWeight, speed);
+        }
+        return shipments;
+    }
+
+    /**
+     * Plans deliveries like {@link #processDeliveries(List, int, int, int, int)}
+     * without modifying the packages. The packages are copied into a
+     * PackageBatch and planned once on the batch pipeline; the result holds
+     * the trips and the delivery time of each package by its index in the list.
+     *
+     * @param packages    list of packages to be delivered
+     * @param baseCost    base delivery cost
+     * @param maxWeight   maximum weight allowed per shipment
+     * @param speed       delivery vehicle speed
+     * @param numVehicles total number of vehicles available
+     * @return immutable delivery plan
+     * @throws CourierServiceException if a package is missing, or shipment creation or assignment fails
+     */
+    public DeliveryPlan planDeliveries(List<Package> packages,
+                                       int baseCost,
+                                       int maxWeight,
+                                       int speed,
+                                       int numVehicles) throws CourierServiceException {
+        if (packages == null) {
+            throw new CourierServiceException("Packages list cannot be null or empty");
+        }
+        for (Package pkg : packages) {
+            if (pkg == null) {
+                throw new CourierServiceException("Package cannot be null");
+            }
+        }
+
+        PackageBatch batch = PackageBatch.of(packages);
+        BatchShipments shipments = processDeliveries(batch, baseCost, maxWeight, speed, numVehicles);
+        return DeliveryPlan.of(packages, shipments);
+    }
+
+    // Fills and commits a JFR planning run event for a list of packages
+    private static void commit(PlanningRunEvent event, PackingMode mode, List<Package> packages,
+                               int shipmentCount, int numVehicles, int maxWeight, int speed) {
+        long totalWeight = 0;
+        for (Package pkg : packages) {
+            totalWeight += pkg.getWeight();
+        }
+        commit(event, mode, packages.size(), totalWeight, shipmentCount, numVehicles, maxWeight, speed);
+    }
+
+    // Fills and commits a JFR planning run event
+    private static void commit(PlanningRunEvent event, PackingMode mode, int packageCount, long totalWeight,
+                               int shipmentCount, int numVehicles, int maxWeight, int speed) {
+        event.packingMode = mode.name();
+        event.packageCount = packageCount;
+        event.totalWeight = totalWeight;
+        event.shipmentCount = shipmentCount;
+        event.vehicleCount = numVehicles;
+        event.maxWeight = maxWeight;
+        event.speed = speed;
+        event.commit();
+    }
+
+    // Base cost + (weight * 10) + (distance * 5)
+    private static int totalCost(int baseCost, int weight, int distance) {
+        return baseCost + (weight * 10) + (distance * 5);
+    }
 }
\ No newline at end of file
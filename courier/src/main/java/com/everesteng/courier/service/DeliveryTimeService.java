@@ -3,12 +3,19 @@
  * Purpose: Service class to calculate delivery times for shipments and packages.
  * It ensures that delivery times are computed based on vehicle speed
  * and distances, with basic validation and rounding applied.
+ *
+ * Times are calculated in whole hundredths of an hour (see Hundredths):
+ * distance * 100 / speed with integer division is exactly the old
+ * "truncate to 2 decimal places", without float rounding errors.
  */
 
 package com.everesteng.courier.service;
 
 import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.BatchShipments;
+import com.everesteng.courier.model.Hundredths;
 import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
 import com.everesteng.courier.model.Shipment;
 import org.springframework.stereotype.Service;
 
@@ -23,12 +30,12 @@ public class DeliveryTimeService {
      * in that shipment (since all packages in the same shipment are delivered together).
      *
      * Formula:
-     *   time = (maxDistance / speed), rounded to 2 decimal places
+     *   time = (maxDistance / speed), truncated to 2 decimal places
      *   time *= 2  (round trip: going + returning)
      *
      * @param shipments list of shipments to process
      * @param speed     speed of delivery vehicles (must be > 0)
-     * @throws CourierServiceException if speed is invalid
+     * @throws CourierServiceException if speed is invalid or a time is out of range
      */
     public void calculateShipmentTimes(List<Shipment> shipments, int speed)
             throws CourierServiceException {
@@ -41,17 +48,8 @@ public class DeliveryTimeService {
                     .max()
                     .orElse(0);
 
-            // Calculate time = distance / speed
-            float time = ((float) maxDistance / speed);
-
-            // Round to 2 decimal places
-            time = (int) (time * 100) / 100f;
-
-            // Multiply by 2 for round-trip (to deliver and return)
-            time *= 2;
-
-            // Set shipment time
-            s.setTime(time);
+            // One-way time, doubled for round-trip (to deliver and return)
+            s.setTimeHundredths(roundTripTime(maxDistance, speed));
         }
     }
 
@@ -60,11 +58,11 @@ public class DeliveryTimeService {
      * Each package delivery time depends only on its own distance.
      *
      * Formula:
-     *   time = (distance / speed), rounded to 2 decimal places
+     *   time = (distance / speed), truncated to 2 decimal places
      *
      * @param shipments list of shipments containing packages
      * @param speed     speed of delivery vehicles (must be > 0)
-     * @throws CourierServiceException if speed is invalid
+     * @throws CourierServiceException if speed is invalid or a time is out of range
      */
     public void calculatePackageTimes(List<Shipment> shipments, int speed)
             throws CourierServiceException {
@@ -72,15 +70,80 @@ public class DeliveryTimeService {
 
         for (Shipment s : shipments) {
             for (Package pkg : s.getPackages()) {
-                // Calculate time = distance / speed
-                float time = ((float) pkg.getDistance() / speed);
+                // Set delivery time for the package
+                pkg.setDeliveryTimeHundredths(oneWayTime(pkg.getDistance(), speed));
+            }
+        }
+    }
 
-                // Round to 2 decimal places
-                time = (int) (time * 100) / 100f;
+    /**
+     * Calculates the round-trip delivery time for each shipment of a batch.
+     * Same formula as {@link #calculateShipmentTimes(List, int)}.
+     *
+     * @param shipments batch shipments to process
+     * @param speed     speed of delivery vehicles (must be > 0)
+     * @throws CourierServiceException if speed is invalid or a time is out of range
+     */
+    public void calculateShipmentTimes(BatchShipments shipments, int speed)
+            throws CourierServiceException {
+        if (speed <= 0) throw new CourierServiceException("Speed must be positive");
 
-                // Set delivery time for the package
-                pkg.setDeliveryTime(time);
+        PackageBatch batch = shipments.getBatch();
+        for (int s = 0; s < shipments.count(); s++) {
+            // Find the maximum distance among all rows in the shipment
+            int maxDistance = 0;
+            for (int k = shipments.start(s); k < shipments.end(s); k++) {
+                maxDistance = Math.max(maxDistance, batch.getDistance(shipments.getRow(k)));
             }
+
+            shipments.setTimeHundredths(s, roundTripTime(maxDistance, speed));
+        }
+    }
+
+    /**
+     * Calculates the one-way delivery time for every row of a batch.
+     * Same formula as {@link #calculatePackageTimes(List, int)}.
+     *
+     * @param batch batch of packages
+     * @param speed speed of delivery vehicles (must be > 0)
+     * @throws CourierServiceException if speed is invalid or a time is out of range
+     */
+    public void calculatePackageTimes(PackageBatch batch, int speed)
+            throws CourierServiceException {
+        if (speed <= 0) throw new CourierServiceException("Speed must be positive");
+
+        for (int row = 0; row < batch.size(); row++) {
+            batch.setDeliveryTimeHundredths(row, oneWayTime(batch.getDistance(row), speed));
+        }
+    }
+
+    // time = distance / speed in hundredths of an hour, truncated
+    static int oneWayTime(int distance, int speed) throws CourierServiceException {
+        return exactTime((long) distance * Hundredths.PER_HOUR / speed, distance, speed);
+    }
+
+    // One-way time doubled (to deliver and return)
+    static int roundTripTime(int distance, int speed) throws CourierServiceException {
+        return exactTime(2 * ((long) distance * Hundredths.PER_HOUR / speed), distance, speed);
+    }
+
+    // Time after a departure (both in hundredths of an hour), rejected if it does not fit in an int
+    static int addTime(int departure, int time) throws CourierServiceException {
+        try {
+            return Math.addExact(departure, time);
+        } catch (ArithmeticException e) {
+            throw new CourierServiceException(
+                    "Delivery time " + time + " after departure " + departure + " is out of range (hundredths of an hour)");
+        }
+    }
+
+    // Time in hundredths of an hour, rejected if it does not fit in an int
+    private static int exactTime(long time, int distance, int speed) throws CourierServiceException {
+        try {
+            return Math.toIntExact(time);
+        } catch (ArithmeticException e) {
+            throw new CourierServiceException(
+                    "Delivery time for distance " + distance + " at speed " + speed + " is out of range");
         }
     }
-}
\ No newline at end of file
+}
@@ -4,40 +4,97 @@
  * Implements the Strategy Design Pattern by delegating discount calculation
  * to specific discount strategies (e.g., percentage-based, weight-based).
  * If no valid offer code is found, a default NoDiscount strategy is used.
+ *
+ * Range-based strategies are compiled into an OfferRuleTable, so batch
+ * callers can evaluate offer ordinals against flat arrays instead of looking
+ * up a strategy per package.
+ *
+ * Offers can also be defined in an external file (property courier.offers.file).
+ * The file is loaded into an OfferCatalogue, watched for changes and swapped in
+ * atomically; codes not defined in the file fall back to the strategy beans.
  */
 
 package com.everesteng.courier.service;
 
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.metrics.DiscountEvaluationEvent;
 import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
+import com.everesteng.courier.offer.CostKernel;
+import com.everesteng.courier.offer.OfferCatalogue;
+import com.everesteng.courier.offer.OfferFileWatcher;
+import com.everesteng.courier.offer.OfferRule;
+import com.everesteng.courier.offer.OfferRuleTable;
 import com.everesteng.courier.strategy.DiscountStrategy;
 import com.everesteng.courier.strategy.NoDiscount;
+import com.everesteng.courier.strategy.RangeDiscount;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service  // Marks this as a Spring-managed service
-public class DiscountService {
+public class DiscountService implements AutoCloseable {
 
     // Holds all discount strategies, mapped by their offer code
     private final Map<String, DiscountStrategy> strategies;
 
+    // Shared fallback for unknown offer codes (stateless, so one instance is enough)
+    private static final DiscountStrategy NO_DISCOUNT = new NoDiscount();
+
+    // Current offers: compiled strategy beans plus the optional offer file
+    private final OfferCatalogue catalogue;
+
+    // Reloads the catalogue when the offer file changes (null without a file)
+    private final OfferFileWatcher watcher;
+
+    // Strategy of each external (non-range) ordinal, null for the others
+    private final DiscountStrategy[] externalByOrdinal;
+
     /**
-     * Constructor that initializes discount strategies.
+     * Constructor that initializes discount strategies (no offer file).
      *
      * Converts the list of available DiscountStrategy implementations into a map
-     * where the key is derived from the class name (e.g., "OFR001" from "OFR001Discount").
+     * keyed by each strategy's offer code (e.g., "OFR001" for OFR001Discount).
      *
      * @param strategyList list of discount strategy implementations
      */
     public DiscountService(List<DiscountStrategy> strategyList) {
-        this.strategies = strategyList.stream()
-                // Key = class name without "Discount", Value = strategy instance
-                .collect(Collectors.toMap(
-                        s -> s.getClass().getSimpleName().replace("Discount", ""),
-                        s -> s
-                ));
+        this.strategies = byCode(strategyList);
+        this.catalogue = new OfferCatalogue(rulesOf(strategies), externalCodesOf(strategies));
+        this.watcher = null;
+        this.externalByOrdinal = externalStrategies();
+    }
+
+    /**
+     * Constructor used by Spring: strategy beans plus an optional offer file.
+     *
+     * @param strategyList list of discount strategy implementations
+     * @param offersFile   path of the offer file; empty to use the strategies only
+     * @throws IOException             if the offer file cannot be read or watched
+     * @throws CourierServiceException if the offer file is malformed
+     */
+    @Autowired
+    public DiscountService(List<DiscountStrategy> strategyList,
+                           @Value("${courier.offers.file:}") String offersFile)
+            throws IOException, CourierServiceException {
+        this.strategies = byCode(strategyList);
+        if (offersFile == null || offersFile.isBlank()) {
+            this.catalogue = new OfferCatalogue(rulesOf(strategies), externalCodesOf(strategies));
+            this.watcher = null;
+        } else {
+            this.catalogue = new OfferCatalogue(rulesOf(strategies), externalCodesOf(strategies),
+                    Path.of(offersFile.trim()), Clock.systemDefaultZone());
+            this.watcher = OfferFileWatcher.start(catalogue);
+        }
+        this.externalByOrdinal = externalStrategies();
     }
 
     /**
@@ -51,8 +108,254 @@ public class DiscountService {
      * @return discount amount to be subtracted from total cost
      */
     public int calculateDiscount(Package pkg, int totalCost) {
-        return strategies
-                .getOrDefault(pkg.getOfferCode(), new NoDiscount())
-                .calculate(pkg, totalCost);
+        DiscountEvaluationEvent event = new DiscountEvaluationEvent();
+        event.begin();
+
+        OfferRuleTable table = catalogue.current().getTable();
+        int ordinal = table.ordinalOf(pkg.getOfferCode());
+        int discount = table.isExternal(ordinal)
+                ? strategyOf(ordinal).calculate(pkg, totalCost)
+                : table.discount(ordinal, pkg.getWeight(), pkg.getDistance(), totalCost);
+
+        commit(event, pkg.getOfferCode(), pkg.getWeight(), pkg.getDistance(), totalCost, discount);
+        return discount;
+    }
+
+    /**
+     * Calculates the discount from an offer code and raw package attributes,
+     * for callers that do not hold a Package object.
+     *
+     * @param offerCode offer code of the package
+     * @param weight    package weight in kg
+     * @param distance  delivery distance in km
+     * @param totalCost the pre-discount cost of the package
+     * @return discount amount to be subtracted from total cost
+     */
+    public int calculateDiscount(String offerCode, int weight, int distance, int totalCost) {
+        DiscountEvaluationEvent event = new DiscountEvaluationEvent();
+        event.begin();
+
+        OfferRuleTable table = catalogue.current().getTable();
+        int ordinal = table.ordinalOf(offerCode);
+        int discount = table.isExternal(ordinal)
+                ? strategyOf(ordinal).calculate(weight, distance, totalCost)
+                : table.discount(ordinal, weight, distance, totalCost);
+
+        commit(event, offerCode, weight, distance, totalCost, discount);
+        return discount;
+    }
+
+    /**
+     * Calculates the discount for a package whose offer code is already
+     * interned with {@link #offerOrdinal(String)}, so a caller that also
+     * needs the ordinal (e.g. for metrics) looks the code up only once.
+     *
+     * @param offer     offer ordinal of the package's code
+     * @param pkg       the package
+     * @param totalCost the pre-discount cost of the package
+     * @return discount amount to be subtracted from total cost
+     */
+    public int calculateDiscount(int offer, Package pkg, int totalCost) {
+        DiscountEvaluationEvent event = new DiscountEvaluationEvent();
+        event.begin();
+
+        OfferRuleTable table = catalogue.current().getTable();
+        int discount = table.isExternal(offer)
+                ? strategyOf(offer).calculate(pkg, totalCost)
+                : table.discount(offer, pkg.getWeight(), pkg.getDistance(), totalCost);
+
+        commit(event, pkg.getOfferCode(), pkg.getWeight(), pkg.getDistance(), totalCost, discount);
+        return discount;
+    }
+
+    /**
+     * Calculates the discount from an interned offer code and raw package attributes.
+     *
+     * @param offer     offer ordinal (see {@link #offerOrdinal(String)})
+     * @param weight    package weight in kg
+     * @param distance  delivery distance in km
+     * @param totalCost the pre-discount cost of the package
+     * @return discount amount to be subtracted from total cost
+     */
+    public int calculateDiscount(int offer, int weight, int distance, int totalCost) {
+        DiscountEvaluationEvent event = new DiscountEvaluationEvent();
+        event.begin();
+
+        OfferRuleTable table = catalogue.current().getTable();
+        int discount = table.isExternal(offer)
+                ? strategyOf(offer).calculate(weight, distance, totalCost)
+                : table.discount(offer, weight, distance, totalCost);
+
+        commit(event, table.codeOf(offer), weight, distance, totalCost, discount);
+        return discount;
+    }
+
+    /**
+     * Interns an offer code to the ordinal used by the batch API.
+     * Unknown codes map to OfferRuleTable.NO_OFFER (no discount).
+     *
+     * @param offerCode offer code of a package
+     * @return offer ordinal
+     */
+    public int offerOrdinal(String offerCode) {
+        return catalogue.current().getTable().ordinalOf(offerCode);
+    }
+
+    /**
+     * Calculates discounts for a batch of packages given as parallel arrays.
+     *
+     * Offer codes must already be interned with {@link #offerOrdinal(String)};
+     * rows are then evaluated against the current rule table in one loop.
+     * Ordinals stay valid across offer reloads.
+     *
+     * @param codes     offer ordinal of each package
+     * @param weights   package weights in kg
+     * @param distances delivery distances in km
+     * @param totals    pre-discount cost of each package
+     * @param out       output: discount of each package (its length is the batch size)
+     */
+    public void calculateDiscount(int[] codes, int[] weights, int[] distances, int[] totals, int[] out) {
+        // One snapshot for the whole batch, even if the offers are reloaded meanwhile
+        OfferRuleTable table = catalogue.current().getTable();
+        table.discounts(codes, weights, distances, totals, out);
+
+        // Strategies that are not simple ranges are evaluated row by row
+        if (table.hasExternalCodes()) {
+            for (int i = 0; i < out.length; i++) {
+                if (table.isExternal(codes[i])) {
+                    out[i] = strategyOf(codes[i]).calculate(weights[i], distances[i], totals[i]);
+                }
+            }
+        }
+
+        // One JFR event per row, only while a recording has the event enabled
+        if (new DiscountEvaluationEvent().isEnabled()) {
+            for (int i = 0; i < out.length; i++) {
+                commit(new DiscountEvaluationEvent(), table.codeOf(codes[i]),
+                        weights[i], distances[i], totals[i], out[i]);
+            }
+        }
+    }
+
+    /**
+     * Calculates discounts for every row of a batch.
+     *
+     * Each distinct offer code of the batch is interned once. The rule-table
+     * ordinal of each row is staged in discounts, which the kernel then
+     * overwrites in place, so no batch-sized array is allocated.
+     *
+     * @param batch      batch of packages
+     * @param totalCosts pre-discount cost of each row (at least batch.size() entries)
+     * @param discounts  output: discount amount of each row (at least batch.size() entries)
+     */
+    public void calculateDiscounts(PackageBatch batch, int[] totalCosts, int[] discounts) {
+        int size = batch.size();
+        int[] weights = batch.weightColumn();
+        int[] distances = batch.distanceColumn();
+        int[] batchOrdinals = batch.offerOrdinalColumn();
+
+        // Translate the batch's own ordinals to rule-table ordinals once
+        OfferRuleTable table = catalogue.current().getTable();
+        int[] tableOrdinal = new int[batch.offerCodeCount()];
+        for (int ordinal = 0; ordinal < tableOrdinal.length; ordinal++) {
+            tableOrdinal[ordinal] = table.ordinalOf(batch.offerCodeAt(ordinal));
+        }
+
+        for (int row = 0; row < size; row++) {
+            discounts[row] = tableOrdinal[batchOrdinals[row]];
+        }
+        CostKernel.preferred().discounts(table, discounts, weights, distances, totalCosts, discounts, size);
+
+        // Strategies that are not simple ranges are evaluated row by row
+        if (table.hasExternalCodes()) {
+            for (int row = 0; row < size; row++) {
+                int code = tableOrdinal[batchOrdinals[row]];
+                if (table.isExternal(code)) {
+                    discounts[row] = strategyOf(code).calculate(weights[row], distances[row], totalCosts[row]);
+                }
+            }
+        }
+
+        // One JFR event per row, only while a recording has the event enabled
+        if (new DiscountEvaluationEvent().isEnabled()) {
+            for (int row = 0; row < size; row++) {
+                commit(new DiscountEvaluationEvent(), table.codeOf(tableOrdinal[batchOrdinals[row]]),
+                        weights[row], distances[row], totalCosts[row], discounts[row]);
+            }
+        }
+    }
+
+    /**
+     * Returns the offer catalogue (current offers and their source file).
+     */
+    public OfferCatalogue getCatalogue() {
+        return catalogue;
+    }
+
+    /**
+     * Stops watching the offer file, if any.
+     */
+    @Override
+    public void close() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    // Fills and commits a discount evaluation event if it is enabled (no cost otherwise)
+    private static void commit(DiscountEvaluationEvent event, String offerCode,
+                               int weight, int distance, int totalCost, int discount) {
+        if (event.shouldCommit()) {
+            event.offerCode = offerCode;
+            event.weight = weight;
+            event.distance = distance;
+            event.totalCost = totalCost;
+            event.discount = discount;
+            event.commit();
+        }
+    }
+
+    // Maps strategies by their offer code
+    private static Map<String, DiscountStrategy> byCode(List<DiscountStrategy> strategyList) {
+        return strategyList.stream()
+                .collect(Collectors.toMap(DiscountStrategy::code, s -> s));
+    }
+
+    // Rules of the range strategies
+    private static List<OfferRule> rulesOf(Map<String, DiscountStrategy> strategies) {
+        List<OfferRule> rules = new ArrayList<>();
+        strategies.forEach((code, strategy) -> {
+            if (strategy instanceof RangeDiscount range) {
+                rules.add(range.toRule(code));
+            }
+        });
+        return rules;
+    }
+
+    // Codes of strategies that cannot be compiled into rules
+    private static List<String> externalCodesOf(Map<String, DiscountStrategy> strategies) {
+        List<String> codes = new ArrayList<>();
+        strategies.forEach((code, strategy) -> {
+            if (!(strategy instanceof RangeDiscount) && !(strategy instanceof NoDiscount)) {
+                codes.add(code);
+            }
+        });
+        return codes;
+    }
+
+    // Indexes external strategies by ordinal (their ordinals never change)
+    private DiscountStrategy[] externalStrategies() {
+        OfferRuleTable table = catalogue.current().getTable();
+        DiscountStrategy[] byOrdinal = new DiscountStrategy[table.size()];
+        for (int ordinal = 0; ordinal < table.size(); ordinal++) {
+            byOrdinal[ordinal] = strategies.get(table.codeOf(ordinal));
+        }
+        return byOrdinal;
+    }
+
+    // Strategy for an external ordinal
+    private DiscountStrategy strategyOf(int ordinal) {
+        return ordinal < externalByOrdinal.length && externalByOrdinal[ordinal] != null
+                ? externalByOrdinal[ordinal] : NO_DISCOUNT;
     }
-}
\ No newline at end of file
+}
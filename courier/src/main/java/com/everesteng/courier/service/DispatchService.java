@@ -0,0 +1,151 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Discrete-event dispatch simulator for mixed fleets.
+ *
+ * Unlike the classic planner (one speed and one capacity for the whole fleet,
+ * packing first, then assigning vehicles), each vehicle here has its own
+ * speed, capacity and shift window, and trips are packed at the moment a
+ * vehicle becomes free:
+ *   - All vehicles sit in one indexed event heap keyed by the time they are
+ *     next free (ties → lower fleet position first).
+ *   - The earliest vehicle loads the heaviest remaining packages that fit its
+ *     own capacity (shared FirstFitIndex over all packages) and departs.
+ *   - Its availability is moved forward by the round trip, in place, and its
+ *     heap entry is re-keyed; no vehicle or event objects are created per trip.
+ *   - A vehicle retires when its shift has ended or nothing left fits it.
+ *
+ * Times use the same truncated formula as DeliveryTimeService, in exact
+ * hundredths of an hour.
+ */
+
+package com.everesteng.courier.service;
+
+import com.everesteng.courier.builder.ShipmentBuilder;
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.DispatchResult;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.model.Vehicle;
+import com.everesteng.courier.packing.FirstFitIndex;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+@Service  // Marks this as a Spring-managed service class
+public class DispatchService {
+
+    /**
+     * Simulates the dispatch of packages over a mixed fleet.
+     *
+     * - A vehicle departs at max(availability, shiftStart) and then every time
+     *   it returns, as long as the departure is within its shift
+     *   (a trip that departs before shiftEnd may return after it).
+     * - Each package's delivery time is set to departure + distance / speed.
+     * - Each vehicle's availability is updated in place to its final return time.
+     *
+     * @param packages packages to deliver
+     * @param fleet    vehicles with speed, capacity and shift set
+     * @return trips in departure order and the packages that could not be delivered
+     * @throws CourierServiceException if the input is empty, a vehicle has no speed or capacity, or a trip time is out of range
+     */
+    public DispatchResult dispatch(List<Package> packages, List<Vehicle> fleet)
+            throws CourierServiceException {
+
+        // Validate inputs
+        if (packages == null || packages.isEmpty()) {
+            throw new CourierServiceException("Packages list cannot be null or empty");
+        }
+        if (fleet == null || fleet.isEmpty()) {
+            throw new CourierServiceException("Fleet cannot be null or empty");
+        }
+        for (Vehicle vehicle : fleet) {
+            if (vehicle.getSpeed() <= 0) {
+                throw new CourierServiceException("Speed must be positive for vehicle " + vehicle.getVehicleId());
+            }
+            if (vehicle.getCapacity() <= 0) {
+                throw new CourierServiceException("Capacity must be positive for vehicle " + vehicle.getVehicleId());
+            }
+        }
+
+        // Heaviest first, indexed so any capacity finds its first fit in O(log n)
+        List<Package> sortedPackages = packages.stream()
+                .sorted(Comparator.comparingInt(Package::getWeight).reversed())
+                .toList();
+        int[] weights = new int[sortedPackages.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = sortedPackages.get(i).getWeight();
+        }
+        FirstFitIndex index = new FirstFitIndex(weights);
+        boolean[] taken = new boolean[weights.length];
+
+        // One event per vehicle: the time it can next depart
+        VehicleEventHeap events = new VehicleEventHeap(fleet.size());
+        for (int v = 0; v < fleet.size(); v++) {
+            Vehicle vehicle = fleet.get(v);
+            int departure = Math.max(vehicle.getAvailabilityHundredths(), vehicle.getShiftStartHundredths());
+            if (departure <= vehicle.getShiftEndHundredths()) {
+                events.add(v, departure);
+            }
+        }
+
+        List<Shipment> shipments = new ArrayList<>();
+        int[] departures = new int[16];
+
+        while (index.remaining() > 0 && !events.isEmpty()) {
+            int v = events.peek();
+            int departure = events.time(v);
+            Vehicle vehicle = fleet.get(v);
+
+            // Shift over → vehicle retires
+            if (departure > vehicle.getShiftEndHundredths()) {
+                events.poll();
+                continue;
+            }
+
+            // Load the heaviest remaining packages that fit this vehicle
+            ShipmentBuilder builder = new ShipmentBuilder();
+            int capacity = vehicle.getCapacity();
+            int maxDistance = -1;
+            int position;
+            while ((position = index.take(capacity)) >= 0) {
+                Package pkg = sortedPackages.get(position);
+                taken[position] = true;
+                builder.addPackage(pkg);
+                capacity -= pkg.getWeight();
+                maxDistance = Math.max(maxDistance, pkg.getDistance());
+                pkg.setDeliveryTimeHundredths(DeliveryTimeService.addTime(departure,
+                        DeliveryTimeService.oneWayTime(pkg.getDistance(), vehicle.getSpeed())));
+            }
+
+            // Nothing left fits this vehicle → it retires
+            if (maxDistance < 0) {
+                events.poll();
+                continue;
+            }
+
+            // Round trip, then the vehicle is free again at the source
+            int tripTime = DeliveryTimeService.roundTripTime(maxDistance, vehicle.getSpeed());
+            shipments.add(builder.setTimeHundredths(tripTime).setVehicle(vehicle.getVehicleId()).build());
+            if (shipments.size() > departures.length) {
+                departures = Arrays.copyOf(departures, departures.length * 2);
+            }
+            departures[shipments.size() - 1] = departure;
+
+            vehicle.setAvailabilityHundredths(DeliveryTimeService.addTime(departure, tripTime));
+            events.update(v, vehicle.getAvailabilityHundredths());
+        }
+
+        // Whatever is left could not be delivered
+        List<Package> unassigned = new ArrayList<>(index.remaining());
+        for (int i = 0; i < taken.length && unassigned.size() < index.remaining(); i++) {
+            if (!taken[i]) {
+                unassigned.add(sortedPackages.get(i));
+            }
+        }
+
+        return new DispatchResult(shipments, Arrays.copyOf(departures, shipments.size()), unassigned);
+    }
+}
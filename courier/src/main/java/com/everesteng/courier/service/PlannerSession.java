@@ -0,0 +1,610 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Stateful delivery plan that is updated incrementally during the day.
+ *
+ * processDeliveries plans a whole manifest from scratch. A PlannerSession
+ * starts from the same plan (greedy packing, earliest-free vehicle first) and
+ * then keeps it: the trips of every vehicle, a heap of vehicle availability,
+ * an index from package ID to trip and an index of pending trips by spare
+ * capacity. Events only touch the trips they affect:
+ *   - add    → the package joins the pending trip with the least spare
+ *              capacity that still fits it (best fit), or starts a new trip
+ *              on the vehicle that is free first.
+ *   - cancel → the package leaves its trip; an empty trip is dropped.
+ *   - update → cancel + add of the new version of the package.
+ * When a trip's longest distance changes, only that trip and the later trips
+ * of the same vehicle are re-timed (stopping as soon as a departure no longer
+ * moves). Other vehicles keep their assignments, so the plan can drift from
+ * what a full re-plan would produce; open a new session to rebalance.
+ *
+ * The session has a clock (advanceTo): trips that have departed are frozen
+ * and their packages can no longer be changed.
+ *
+ * A session can be made durable with a PlanStore: every event is journaled
+ * together with the trip it was put on, and the whole plan is snapshotted
+ * periodically. A recovered session replays the journal through the same
+ * event handling and checks that it reaches the same decisions.
+ *
+ * A session is not thread-safe; callers must serialize events.
+ */
+
+package com.everesteng.courier.service;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.journal.JournalRecord;
+import com.everesteng.courier.journal.PlanState;
+import com.everesteng.courier.journal.PlanStore;
+import com.everesteng.courier.model.Hundredths;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.model.Vehicle;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+public final class PlannerSession {
+
+    // Fleet-wide limits of the plan
+    private final int maxWeight;
+    private final int speed;
+
+    // Vehicles, updated in place: availability = return time of the last planned trip
+    private final Vehicle[] vehicles;
+
+    // Planned trips of each vehicle, in departure order
+    private final List<List<Trip>> schedules;
+
+    // Position of the first trip of each vehicle that has not departed yet
+    private final int[] firstPending;
+
+    // Vehicles keyed by availability (earliest free first)
+    private final VehicleEventHeap availability;
+
+    // Package ID → trip carrying it
+    private final Map<String, Trip> tripOfPackage = new HashMap<>();
+
+    // Pending trips grouped by spare capacity, for best-fit lookups
+    private final TreeMap<Integer, LinkedHashSet<Trip>> pendingBySpare = new TreeMap<>();
+
+    // Session clock in hundredths of an hour
+    private int now;
+
+    // Sequence of the last event (journal position)
+    private long sequence;
+
+    // Trips as shipments, built on demand and dropped whenever a trip changes
+    private List<Shipment> shipments;
+
+    // Durable storage of the session, or null if it lives only in memory
+    private PlanStore store;
+
+    /**
+     * Creates a session with the initial plan of a manifest.
+     *
+     * @param shipmentService packs the initial manifest
+     * @param packages        packages known at the start (may be empty)
+     * @param maxWeight       maximum weight allowed per shipment
+     * @param speed           delivery vehicle speed
+     * @param numVehicles     total number of vehicles available
+     * @throws CourierServiceException if the fleet is invalid or the manifest cannot be packed
+     */
+    PlannerSession(ShipmentService shipmentService, List<Package> packages,
+                   int maxWeight, int speed, int numVehicles) throws CourierServiceException {
+        this(maxWeight, speed, numVehicles);
+
+        // Initial plan: same packing and dispatch order as processDeliveries
+        if (packages != null && !packages.isEmpty()) {
+            Set<String> ids = new HashSet<>();
+            for (Package pkg : packages) {
+                if (!ids.add(pkg.getId())) {
+                    throw new CourierServiceException("Duplicate package ID " + pkg.getId());
+                }
+            }
+            for (Shipment shipment : shipmentService.createShipments(packages, maxWeight)) {
+                Trip trip = newTrip();
+                for (Package pkg : shipment.getPackages()) {
+                    trip.add(pkg);
+                    tripOfPackage.put(pkg.getId(), trip);
+                }
+                retime(trip.vehicle, schedules.get(trip.vehicle).size() - 1);
+                indexSpare(trip);
+            }
+        }
+    }
+
+    /**
+     * Restores a session from a plan snapshot (no re-planning).
+     *
+     * @param state snapshot state
+     * @throws CourierServiceException if the state is inconsistent
+     */
+    PlannerSession(PlanState state) throws CourierServiceException {
+        this(state.maxWeight(), state.speed(), state.numVehicles());
+        this.now = state.now();
+        this.sequence = state.sequence();
+
+        List<Trip> trips = new ArrayList<>(state.trips().size());
+        for (PlanState.TripState saved : state.trips()) {
+            if (saved.vehicle() < 0 || saved.vehicle() >= vehicles.length) {
+                throw new CourierServiceException("Invalid vehicle " + saved.vehicle() + " in plan snapshot");
+            }
+            Trip trip = new Trip(saved.vehicle());
+            for (Package pkg : saved.packages()) {
+                trip.add(pkg);
+                tripOfPackage.put(pkg.getId(), trip);
+            }
+            trip.departure = saved.departure();
+            trip.time = saved.time();
+            trip.departed = saved.departed();
+            schedules.get(trip.vehicle).add(trip);
+            if (trip.departed) {
+                firstPending[trip.vehicle]++;
+            }
+            trips.add(trip);
+        }
+
+        for (int v = 0; v < vehicles.length; v++) {
+            List<Trip> schedule = schedules.get(v);
+            int free = schedule.isEmpty() ? 0 : schedule.get(schedule.size() - 1).returnTime();
+            vehicles[v].setAvailabilityHundredths(free);
+            availability.update(v, free);
+        }
+
+        // Same spare index order as the saved session, so best fit picks the same trips
+        for (int index : state.spareOrder()) {
+            if (index < 0 || index >= trips.size()) {
+                throw new CourierServiceException("Invalid trip " + index + " in plan snapshot");
+            }
+            indexSpare(trips.get(index));
+        }
+    }
+
+    // Empty plan for a validated fleet
+    private PlannerSession(int maxWeight, int speed, int numVehicles) throws CourierServiceException {
+        if (maxWeight <= 0) {
+            throw new CourierServiceException("Max carriable weight must be positive");
+        }
+        if (speed <= 0) {
+            throw new CourierServiceException("Speed must be positive");
+        }
+        if (numVehicles <= 0) {
+            throw new CourierServiceException("Number of vehicles must be positive");
+        }
+
+        this.maxWeight = maxWeight;
+        this.speed = speed;
+        this.vehicles = new Vehicle[numVehicles];
+        this.schedules = new ArrayList<>(numVehicles);
+        this.firstPending = new int[numVehicles];
+        this.availability = new VehicleEventHeap(numVehicles);
+        for (int v = 0; v < numVehicles; v++) {
+            vehicles[v] = new Vehicle(v + 1, 0);
+            schedules.add(new ArrayList<>());
+            availability.add(v, 0);
+        }
+    }
+
+    /**
+     * Adds a new package to the plan.
+     *
+     * @param pkg package to add (its ID must not be planned yet)
+     * @throws CourierServiceException if the package is invalid, too heavy or already planned
+     */
+    public void add(Package pkg) throws CourierServiceException {
+        Trip trip = addPackage(pkg);
+        journal(JournalRecord.add(sequence + 1, pkg, trip.vehicle, trip.departure));
+    }
+
+    /**
+     * Removes a package from the plan.
+     *
+     * @param packageId ID of the package to cancel
+     * @throws CourierServiceException if the package is unknown or has already departed
+     */
+    public void cancel(String packageId) throws CourierServiceException {
+        remove(pendingTripOf(packageId), packageId);
+        journal(JournalRecord.cancel(sequence + 1, packageId));
+    }
+
+    /**
+     * Replaces a planned package with a new version (e.g. changed weight or distance).
+     *
+     * @param pkg new version of the package, with the same ID
+     * @throws CourierServiceException if the package is unknown, has departed or is now too heavy
+     */
+    public void update(Package pkg) throws CourierServiceException {
+        Trip trip = updatePackage(pkg);
+        journal(JournalRecord.update(sequence + 1, pkg, trip.vehicle, trip.departure));
+    }
+
+    /**
+     * Moves the session clock forward. Trips departing at or before the new
+     * time are frozen, and new trips cannot depart earlier than it.
+     *
+     * @param time new clock time in hours
+     * @throws CourierServiceException if the time is before the current clock
+     */
+    public void advanceTo(float time) throws CourierServiceException {
+        int clock = Hundredths.fromHours(time);
+        advanceClock(clock);
+        journal(JournalRecord.advance(sequence + 1, clock));
+    }
+
+    /**
+     * Writes a snapshot of the whole plan now and empties the journal.
+     * Snapshots are also written automatically every snapshotEvery events (see PlanStore).
+     *
+     * @throws CourierServiceException if the session has no plan store or the snapshot cannot be written
+     */
+    public void checkpoint() throws CourierServiceException {
+        if (store == null) {
+            throw new CourierServiceException("Session has no plan store");
+        }
+        try {
+            store.checkpoint(toState());
+        } catch (IOException e) {
+            throw new CourierServiceException("Plan snapshot failed: " + e.getMessage());
+        }
+    }
+
+    // ---------------------- Getters ----------------------
+
+    public float getNow() { return Hundredths.toHours(now); }
+    public int size() { return tripOfPackage.size(); }
+
+    /**
+     * Returns a read-only snapshot of all trips, ordered by departure time (then vehicle).
+     * The same list is returned until the plan changes, so repeated calls copy nothing;
+     * its shipments must not be modified.
+     */
+    public List<Shipment> getShipments() {
+        if (shipments != null) {
+            return shipments;
+        }
+        List<Trip> trips = new ArrayList<>();
+        for (List<Trip> schedule : schedules) {
+            trips.addAll(schedule);
+        }
+        trips.sort(Comparator.comparingInt((Trip trip) -> trip.departure)
+                .thenComparingInt(trip -> trip.vehicle));
+
+        List<Shipment> snapshot = new ArrayList<>(trips.size());
+        for (Trip trip : trips) {
+            snapshot.add(trip.toShipment(vehicles[trip.vehicle].getVehicleId()));
+        }
+        shipments = Collections.unmodifiableList(snapshot);
+        return shipments;
+    }
+
+    /**
+     * Returns a snapshot of the trip carrying a package, or null if it is not planned.
+     */
+    public Shipment getShipmentOf(String packageId) {
+        Trip trip = tripOfPackage.get(packageId);
+        return trip != null ? trip.toShipment(vehicles[trip.vehicle].getVehicleId()) : null;
+    }
+
+    /**
+     * Returns the departure time of the trip carrying a package.
+     *
+     * @throws CourierServiceException if the package is not planned
+     */
+    public float getDeparture(String packageId) throws CourierServiceException {
+        Trip trip = tripOfPackage.get(packageId);
+        if (trip == null) {
+            throw new CourierServiceException("Unknown package " + packageId);
+        }
+        return Hundredths.toHours(trip.departure);
+    }
+
+    // ---------------------- Durability ----------------------
+
+    /**
+     * Makes the session durable: writes its current plan as the store's
+     * initial snapshot (or, after a recovery, continues the store's journal).
+     *
+     * @param planStore store for this session
+     * @param recovered true if the session was just restored from this store
+     * @throws CourierServiceException if the store cannot be written
+     */
+    void attach(PlanStore planStore, boolean recovered) throws CourierServiceException {
+        if (!recovered) {
+            try {
+                planStore.start(toState());
+            } catch (IOException e) {
+                throw new CourierServiceException("Plan store could not be started: " + e.getMessage());
+            }
+        }
+        this.store = planStore;
+    }
+
+    /**
+     * Applies a journal entry during recovery and checks that it leads to the
+     * same trip as when it was recorded.
+     *
+     * @param record journal entry following the current sequence
+     * @throws CourierServiceException if the entry does not apply or the plan diverges
+     */
+    void replay(JournalRecord record) throws CourierServiceException {
+        if (record.sequence() != sequence + 1) {
+            throw new CourierServiceException("Plan journal entry " + record.sequence()
+                    + " does not follow " + sequence);
+        }
+        Trip trip = switch (record.type()) {
+            case ADD -> addPackage(record.toPackage());
+            case UPDATE -> updatePackage(record.toPackage());
+            case CANCEL -> {
+                remove(pendingTripOf(record.packageId()), record.packageId());
+                yield null;
+            }
+            case ADVANCE -> {
+                advanceClock(record.time());
+                yield null;
+            }
+        };
+        if (trip != null && (trip.vehicle != record.vehicle() || trip.departure != record.departure())) {
+            throw new CourierServiceException("Plan journal replay diverged at entry " + record.sequence());
+        }
+        sequence = record.sequence();
+    }
+
+    /**
+     * Returns the state of the plan for a snapshot. Packages are shared
+     * with the session, so the state must be written before the next event.
+     */
+    PlanState toState() {
+        List<PlanState.TripState> trips = new ArrayList<>();
+        Map<Trip, Integer> indexOf = new IdentityHashMap<>();
+        for (List<Trip> schedule : schedules) {
+            for (Trip trip : schedule) {
+                indexOf.put(trip, trips.size());
+                trips.add(new PlanState.TripState(trip.vehicle, trip.departure, trip.time,
+                        trip.departed, trip.packages));
+            }
+        }
+
+        int[] spareOrder = new int[indexOf.size()];
+        int count = 0;
+        for (LinkedHashSet<Trip> bucket : pendingBySpare.values()) {
+            for (Trip trip : bucket) {
+                spareOrder[count++] = indexOf.get(trip);
+            }
+        }
+        return new PlanState(sequence, maxWeight, speed, vehicles.length, now,
+                trips, Arrays.copyOf(spareOrder, count));
+    }
+
+    // Records an applied event; writes a snapshot when one is due
+    private void journal(JournalRecord record) throws CourierServiceException {
+        sequence = record.sequence();
+        if (store == null) {
+            return;
+        }
+        try {
+            store.append(record);
+            if (store.isSnapshotDue()) {
+                store.checkpoint(toState());
+            }
+        } catch (IOException e) {
+            // The event is applied in memory but may be lost on restart
+            throw new CourierServiceException("Plan journal write failed: " + e.getMessage());
+        }
+    }
+
+    // ---------------------- Event handling ----------------------
+
+    private Trip addPackage(Package pkg) throws CourierServiceException {
+        validate(pkg);
+        if (tripOfPackage.containsKey(pkg.getId())) {
+            throw new CourierServiceException("Package " + pkg.getId() + " is already planned");
+        }
+        return insert(pkg);
+    }
+
+    private Trip updatePackage(Package pkg) throws CourierServiceException {
+        validate(pkg);
+        remove(pendingTripOf(pkg.getId()), pkg.getId());
+        return insert(pkg);
+    }
+
+    private void advanceClock(int clock) throws CourierServiceException {
+        if (clock < now) {
+            throw new CourierServiceException("Session clock cannot move backwards");
+        }
+        now = clock;
+        for (int v = 0; v < vehicles.length; v++) {
+            List<Trip> schedule = schedules.get(v);
+            while (firstPending[v] < schedule.size() && schedule.get(firstPending[v]).departure <= now) {
+                Trip trip = schedule.get(firstPending[v]++);
+                unindexSpare(trip);
+                trip.departed = true;
+            }
+        }
+    }
+
+    // Package must exist, fit into a vehicle and have a trip time in range
+    private void validate(Package pkg) throws CourierServiceException {
+        if (pkg == null || pkg.getId() == null) {
+            throw new CourierServiceException("Package and package ID cannot be null");
+        }
+        if (pkg.getWeight() > maxWeight) {
+            throw new CourierServiceException(
+                    "Some packages cannot be assigned due to exceeding weight limit"
+            );
+        }
+        // Checked before the plan changes, so retiming cannot fail halfway
+        DeliveryTimeService.roundTripTime(pkg.getDistance(), speed);
+    }
+
+    // Trip of a package that may still be changed
+    private Trip pendingTripOf(String packageId) throws CourierServiceException {
+        Trip trip = tripOfPackage.get(packageId);
+        if (trip == null) {
+            throw new CourierServiceException("Unknown package " + packageId);
+        }
+        if (trip.departed) {
+            throw new CourierServiceException("Package " + packageId + " has already been dispatched");
+        }
+        return trip;
+    }
+
+    // Puts a package into the best-fitting pending trip, or a new one
+    private Trip insert(Package pkg) throws CourierServiceException {
+        shipments = null;
+        Trip trip = bestFit(pkg.getWeight());
+        if (trip == null) {
+            trip = newTrip();
+        } else {
+            unindexSpare(trip);
+        }
+
+        int oldDistance = trip.maxDistance;
+        trip.add(pkg);
+        tripOfPackage.put(pkg.getId(), trip);
+        indexSpare(trip);
+
+        if (trip.packages.size() == 1 || trip.maxDistance != oldDistance) {
+            retime(trip.vehicle, schedules.get(trip.vehicle).indexOf(trip));
+        } else {
+            pkg.setDeliveryTimeHundredths(DeliveryTimeService.addTime(trip.departure,
+                    DeliveryTimeService.oneWayTime(pkg.getDistance(), speed)));
+        }
+        return trip;
+    }
+
+    // Takes a package out of its (pending) trip
+    private void remove(Trip trip, String packageId) throws CourierServiceException {
+        shipments = null;
+        unindexSpare(trip);
+        int oldDistance = trip.maxDistance;
+        trip.remove(packageId);
+        tripOfPackage.remove(packageId);
+
+        List<Trip> schedule = schedules.get(trip.vehicle);
+        int position = schedule.indexOf(trip);
+        if (trip.packages.isEmpty()) {
+            schedule.remove(position);
+            retime(trip.vehicle, position);
+        } else {
+            indexSpare(trip);
+            if (trip.maxDistance != oldDistance) {
+                retime(trip.vehicle, position);
+            }
+        }
+    }
+
+    // Pending trip with the least spare capacity that still fits the weight
+    private Trip bestFit(int weight) {
+        Map.Entry<Integer, LinkedHashSet<Trip>> entry = pendingBySpare.ceilingEntry(weight);
+        return entry != null ? entry.getValue().iterator().next() : null;
+    }
+
+    // Appends an empty trip to the vehicle that is free first
+    private Trip newTrip() {
+        int v = availability.peek();
+        Trip trip = new Trip(v);
+        trip.departure = Math.max(availability.time(v), now);
+        schedules.get(v).add(trip);
+        return trip;
+    }
+
+    /**
+     * Recalculates trip and package times of a vehicle from a schedule position
+     * onwards, then its availability. Stops early once a later trip's departure
+     * does not move.
+     */
+    private void retime(int v, int from) throws CourierServiceException {
+        List<Trip> schedule = schedules.get(v);
+        int ready = from > 0 ? schedule.get(from - 1).returnTime() : 0;
+
+        for (int k = from; k < schedule.size(); k++) {
+            Trip trip = schedule.get(k);
+            int departure = Math.max(ready, now);
+            if (k > from && departure == trip.departure) {
+                break; // the rest of the schedule is unchanged
+            }
+            trip.departure = departure;
+            trip.time = DeliveryTimeService.roundTripTime(trip.maxDistance, speed);
+            for (Package pkg : trip.packages) {
+                pkg.setDeliveryTimeHundredths(DeliveryTimeService.addTime(departure,
+                        DeliveryTimeService.oneWayTime(pkg.getDistance(), speed)));
+            }
+            ready = trip.returnTime();
+        }
+
+        int free = schedule.isEmpty() ? 0 : schedule.get(schedule.size() - 1).returnTime();
+        vehicles[v].setAvailabilityHundredths(free);
+        availability.update(v, free);
+    }
+
+    private void indexSpare(Trip trip) {
+        pendingBySpare.computeIfAbsent(maxWeight - trip.totalWeight, spare -> new LinkedHashSet<>()).add(trip);
+    }
+
+    private void unindexSpare(Trip trip) {
+        int spare = maxWeight - trip.totalWeight;
+        LinkedHashSet<Trip> trips = pendingBySpare.get(spare);
+        if (trips != null && trips.remove(trip) && trips.isEmpty()) {
+            pendingBySpare.remove(spare);
+        }
+    }
+
+    /**
+     * One planned trip of a vehicle. Packages are held in a plain list so
+     * re-timing does not copy them.
+     */
+    private static final class Trip {
+        private final int vehicle;
+        private final List<Package> packages = new ArrayList<>();
+        private int totalWeight;
+        private int maxDistance;
+        private int departure;   // hundredths of an hour
+        private int time;        // round trip, hundredths of an hour
+        private boolean departed;
+
+        Trip(int vehicle) {
+            this.vehicle = vehicle;
+        }
+
+        void add(Package pkg) {
+            packages.add(pkg);
+            totalWeight += pkg.getWeight();
+            maxDistance = Math.max(maxDistance, pkg.getDistance());
+        }
+
+        void remove(String packageId) {
+            totalWeight = 0;
+            maxDistance = 0;
+            for (int i = packages.size() - 1; i >= 0; i--) {
+                if (packages.get(i).getId().equals(packageId)) {
+                    packages.remove(i);
+                }
+            }
+            for (Package pkg : packages) {
+                totalWeight += pkg.getWeight();
+                maxDistance = Math.max(maxDistance, pkg.getDistance());
+            }
+        }
+
+        int returnTime() throws CourierServiceException {
+            return DeliveryTimeService.addTime(departure, time);
+        }
+
+        Shipment toShipment(int vehicleId) {
+            Shipment shipment = new Shipment(packages, totalWeight, 0, vehicleId);
+            shipment.setTimeHundredths(time);
+            return shipment;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Bounded cache of discounts for repeated cost quotes.
+ *
+ * Storefront clients ask for the same (baseCost, weight, distance, offer code)
+ * quotes over and over. CourierService keeps their discounts here so a
+ * repeated quote skips the offer evaluation.
+ *
+ * - Keys are packed into two longs: (baseCost, weight) and (distance, offer
+ *   ordinal). Offer codes are interned to their catalogue ordinal first, so
+ *   no String is built or hashed per lookup beyond the code itself.
+ * - The cache is split into stripes, each behind its own StampedLock, so
+ *   concurrent quotes rarely wait for each other. Lookups are optimistic
+ *   reads (no lock write unless a store raced with them); stores take the
+ *   stripe's write lock. Inside a stripe every key maps to a set of WAYS
+ *   slots; when a set is full its least recently used entry is evicted, so
+ *   the cache never grows past its capacity. Recency is updated without the
+ *   lock (and only when it changes), so eviction order is approximate under
+ *   contention.
+ * - A slot's key, generation and discount sit next to each other in one
+ *   long array, so a lookup touches the two cache lines of its set only.
+ * - Every entry carries the generation (offer snapshot version) it was
+ *   computed with. An entry from an older generation is a miss, so reloading
+ *   the offers or rolling over to a new day invalidates the whole cache at
+ *   once without clearing it. Older entries are the first to be replaced; a
+ *   store from an older generation than a set already holds is dropped, so a
+ *   slow writer can never overwrite newer quotes.
+ * - Quotes are keyed by (baseCost, weight, distance, offer) only, so offers
+ *   whose discount depends on anything else must not be cached.
+ */
+
+package com.everesteng.courier.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.StampedLock;
+
+@Component  // Marks this class as a Spring-managed component
+public final class QuoteCache {
+
+    // Returned by get() when the quote is not cached
+    public static final int MISS = Integer.MIN_VALUE;
+
+    // Slots per set (set-associative eviction)
+    static final int WAYS = 4;
+
+    // Number of independently locked stripes
+    static final int STRIPES = 16;
+
+    // Generation of an empty slot (catalogue versions start at 1)
+    private static final long EMPTY = -1;
+
+    // Longs per slot and their meaning
+    private static final int SLOT = 4;
+    private static final int KEY_HIGH = 0;
+    private static final int KEY_LOW = 1;
+    private static final int GENERATION = 2;
+    private static final int DISCOUNT = 3;
+
+    private final Stripe[] stripes;
+
+    // Sets per stripe - 1 (sets per stripe is a power of two)
+    private final int setMask;
+
+    private final int capacity;
+
+    /**
+     * @param capacity maximum number of cached quotes (0 disables the cache);
+     *                 rounded up to STRIPES * WAYS times a power of two
+     */
+    public QuoteCache(@Value("${courier.quotes.cache-size:0}") int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Quote cache size cannot be negative");
+        }
+        if (capacity == 0) {
+            this.stripes = null;
+            this.setMask = 0;
+            this.capacity = 0;
+            return;
+        }
+        int sets = 1;
+        while ((long) sets * STRIPES * WAYS < capacity) {
+            sets <<= 1;
+        }
+        this.setMask = sets - 1;
+        this.capacity = sets * STRIPES * WAYS;
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(sets * WAYS);
+        }
+    }
+
+    /**
+     * Returns a cache that stores nothing.
+     */
+    public static QuoteCache disabled() {
+        return new QuoteCache(0);
+    }
+
+    public boolean isEnabled() {
+        return stripes != null;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Looks up the discount of a quote.
+     *
+     * @param baseCost   base delivery cost
+     * @param weight     package weight in kg
+     * @param distance   delivery distance in km
+     * @param offer      offer ordinal of the package's code
+     * @param generation offer catalogue version the discount must come from
+     * @return the cached discount, or MISS
+     */
+    public int get(int baseCost, int weight, int distance, int offer, long generation) {
+        long high = pack(baseCost, weight);
+        long low = pack(distance, offer);
+        long hash = mix(high, low);
+        Stripe stripe = stripes[(int) hash & (STRIPES - 1)];
+        int base = ((int) (hash >>> 32) & setMask) * WAYS;
+
+        StampedLock lock = stripe.lock;
+        long stamp = lock.tryOptimisticRead();
+        int found = find(stripe.slots, base, high, low, generation);
+        int discount = found >= 0 ? (int) stripe.slots[found * SLOT + DISCOUNT] : MISS;
+        if (!lock.validate(stamp)) {
+            // A store ran meanwhile; read again under the lock
+            stamp = lock.readLock();
+            try {
+                found = find(stripe.slots, base, high, low, generation);
+                discount = found >= 0 ? (int) stripe.slots[found * SLOT + DISCOUNT] : MISS;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (found >= 0 && stripe.used[found] != stripe.clock) {
+            stripe.used[found] = stripe.clock;  // racy on purpose: recency only guides eviction
+        }
+        return discount;
+    }
+
+    /**
+     * Stores the discount of a quote.
+     *
+     * @return true if a current entry had to be evicted to make room
+     *         (false if the store was dropped because the set holds newer quotes)
+     */
+    public boolean put(int baseCost, int weight, int distance, int offer, long generation, int discount) {
+        long high = pack(baseCost, weight);
+        long low = pack(distance, offer);
+        long hash = mix(high, low);
+        Stripe stripe = stripes[(int) hash & (STRIPES - 1)];
+        int base = ((int) (hash >>> 32) & setMask) * WAYS;
+
+        long stamp = stripe.lock.writeLock();
+        try {
+            long[] slots = stripe.slots;
+
+            // The quote is outdated if the set already holds a newer generation
+            for (int slot = base; slot < base + WAYS; slot++) {
+                if (slots[slot * SLOT + GENERATION] > generation) {
+                    return false;
+                }
+            }
+
+            // Same key, an empty or older slot, else the least recently used one
+            int victim = base;
+            boolean evicted = true;
+            for (int slot = base; slot < base + WAYS; slot++) {
+                int at = slot * SLOT;
+                if ((slots[at + KEY_HIGH] == high && slots[at + KEY_LOW] == low)
+                        || slots[at + GENERATION] < generation) {
+                    victim = slot;
+                    evicted = false;
+                    break;
+                }
+                if (stripe.used[slot] < stripe.used[victim]) {
+                    victim = slot;
+                }
+            }
+            int at = victim * SLOT;
+            slots[at + KEY_HIGH] = high;
+            slots[at + KEY_LOW] = low;
+            slots[at + GENERATION] = generation;
+            slots[at + DISCOUNT] = discount;
+            stripe.used[victim] = ++stripe.clock;
+            return evicted;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    // Slot holding the key for the generation, or -1
+    private static int find(long[] slots, int base, long high, long low, long generation) {
+        for (int slot = base; slot < base + WAYS; slot++) {
+            int at = slot * SLOT;
+            if (slots[at + KEY_HIGH] == high && slots[at + KEY_LOW] == low
+                    && slots[at + GENERATION] == generation) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private static long pack(int high, int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    // 64-bit finaliser (MurmurHash3 fmix64) over both key halves
+    private static long mix(long high, long low) {
+        long h = (high ^ low * 0x9E3779B97F4A7C15L) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 29);
+    }
+
+    // One locked segment of the cache: SLOT longs per slot, plus recency
+    private static final class Stripe {
+        final StampedLock lock = new StampedLock();
+        final long[] slots;
+        final long[] used;
+        long clock;
+
+        Stripe(int slotCount) {
+            slots = new long[slotCount * SLOT];
+            used = new long[slotCount];
+            for (int slot = 0; slot < slotCount; slot++) {
+                slots[slot * SLOT + GENERATION] = EMPTY;
+            }
+        }
+    }
+}
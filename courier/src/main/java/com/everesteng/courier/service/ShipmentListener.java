@@ -0,0 +1,34 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Callback receiving each shipment as soon as it has a vehicle,
+ * while a plan is still being assigned.
+ */
+
+package com.everesteng.courier.service;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Shipment;
+
+@FunctionalInterface
+public interface ShipmentListener {
+
+    /**
+     * Called once packing is done, before the first shipment is assigned.
+     *
+     * @param shipmentCount number of shipments that will follow
+     * @throws CourierServiceException to abort planning
+     */
+    default void onPacked(int shipmentCount) throws CourierServiceException {
+    }
+
+    /**
+     * Called once per shipment, in dispatch order, after its vehicle and the
+     * final delivery times of its packages are set. Assignment waits for the
+     * call to return, so a slow listener slows the plan down (backpressure).
+     *
+     * @param index    position of the shipment in dispatch order
+     * @param shipment the assigned shipment
+     * @throws CourierServiceException to abort planning
+     */
+    void onShipment(int index, Shipment shipment) throws CourierServiceException;
+}
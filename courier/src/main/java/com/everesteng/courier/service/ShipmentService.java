@@ -3,31 +3,95 @@
  * Purpose: Service class responsible for creating shipments by grouping packages
  * based on the maximum carriable weight of a vehicle.
  *
- * This class applies a greedy approach:
- *   - Sorts packages by descending weight
- *   - Iteratively assigns them into shipments using ShipmentBuilder
- *   - Ensures no package exceeds the max carriable weight
- *   - Distributes all packages across shipments
+ * Implements the Strategy Design Pattern for packing:
+ *   - GREEDY (default) → heaviest-first first-fit packing in O(n log n)
+ *   - OPTIMAL          → each trip carries the best possible subset
+ *                        (most packages, then heaviest, then shortest delivery)
+ *   - PARALLEL         → greedy packing of distance/weight bands in a ForkJoinPool
+ *   - BRANCH_AND_BOUND → the OPTIMAL trips within a time/node budget, for large
+ *                        capacities; the budgeted call also reports the optimality gap
+ *
+ * This class validates the input once and delegates the grouping itself
+ * to the PackingStrategy selected by the caller.
  */
 
 package com.everesteng.courier.service;
 
-import com.everesteng.courier.builder.ShipmentBuilder;
 import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.metrics.ShipmentPackingEvent;
+import com.everesteng.courier.model.BatchShipments;
 import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
 import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.packing.BranchAndBoundPacking;
+import com.everesteng.courier.packing.GreedyPacking;
+import com.everesteng.courier.packing.OptimalPacking;
+import com.everesteng.courier.packing.PackingMode;
+import com.everesteng.courier.packing.PackingResult;
+import com.everesteng.courier.packing.PackingStrategy;
+import com.everesteng.courier.packing.ParallelPacking;
+import com.everesteng.courier.packing.PartitionKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 @Service  // Marks this class as a Spring-managed service
 public class ShipmentService {
 
+    // Default greedy strategy, also used for columnar batches
+    private final GreedyPacking greedyPacking = new GreedyPacking();
+
+    // Budgeted branch-and-bound search, also used for per-call budgets
+    private final BranchAndBoundPacking branchAndBoundPacking;
+
+    // Holds all packing strategies, mapped by their packing mode
+    private final Map<PackingMode, PackingStrategy> strategies = new EnumMap<>(PackingMode.class);
+
+    /**
+     * Registers the available packing strategies, with deterministic
+     * distance-band parallel packing and the default search budget.
+     */
+    public ShipmentService() {
+        this(new ParallelPacking(), new BranchAndBoundPacking());
+    }
+
     /**
-     * Creates shipments from a given list of packages based on the max carriable weight.
+     * Constructor used by Spring: configures the parallel and branch-and-bound packing modes.
+     *
+     * @param partitionKey  attribute parallel packing splits packages by
+     * @param deterministic true for reproducible parallel results
+     * @param timeBudgetMs  wall-clock budget of one branch-and-bound packing call
+     * @param nodeBudget    search nodes allowed in one branch-and-bound packing call
+     */
+    @Autowired
+    public ShipmentService(@Value("${courier.planning.parallel.partition:DISTANCE_BAND}") PartitionKey partitionKey,
+                           @Value("${courier.planning.parallel.deterministic:true}") boolean deterministic,
+                           @Value("${courier.planning.branch-and-bound.time-budget-ms:1000}") long timeBudgetMs,
+                           @Value("${courier.planning.branch-and-bound.node-budget:10000000}") long nodeBudget) {
+        this(new ParallelPacking(ForkJoinPool.commonPool(), partitionKey, deterministic),
+                new BranchAndBoundPacking(Duration.ofMillis(timeBudgetMs), nodeBudget));
+    }
+
+    // Registers greedy, optimal and the given parallel and branch-and-bound strategies
+    private ShipmentService(ParallelPacking parallelPacking, BranchAndBoundPacking branchAndBoundPacking) {
+        this.branchAndBoundPacking = branchAndBoundPacking;
+        for (PackingStrategy strategy : List.of(greedyPacking, new OptimalPacking(),
+                parallelPacking, branchAndBoundPacking)) {
+            strategies.put(strategy.mode(), strategy);
+        }
+    }
+
+    /**
+     * Creates shipments from a given list of packages based on the max carriable weight,
+     * using the default greedy packing.
      *
      * - Packages are sorted by descending weight for efficient packing.
      * - Uses a greedy algorithm: tries to fill a shipment until weight limit is reached.
+     *   Each shipment takes the heaviest remaining package that still fits.
      * - If a package exceeds the max carriable weight, an exception is thrown.
      * - All packages are guaranteed to be included in one of the shipments.
      *
@@ -38,56 +102,148 @@ public class ShipmentService {
      */
     public List<Shipment> createShipments(List<Package> packages, int maxCarriableWeight)
             throws CourierServiceException {
+        return createShipments(packages, maxCarriableWeight, PackingMode.GREEDY);
+    }
+
+    /**
+     * Creates shipments from a given list of packages using the requested packing mode.
+     *
+     * @param packages            list of packages to be shipped
+     * @param maxCarriableWeight  maximum weight capacity of a single shipment
+     * @param mode                packing mode (GREEDY, OPTIMAL or PARALLEL)
+     * @return shipments in the order they should be dispatched
+     * @throws CourierServiceException if input validation fails or a package exceeds max weight
+     */
+    public List<Shipment> createShipments(List<Package> packages, int maxCarriableWeight, PackingMode mode)
+            throws CourierServiceException {
+
+        validate(packages, maxCarriableWeight);
+        if (mode == null) {
+            throw new CourierServiceException("Packing mode cannot be null");
+        }
+
+        ShipmentPackingEvent event = new ShipmentPackingEvent();
+        event.begin();
+
+        List<Shipment> shipments = strategies.get(mode).pack(packages, maxCarriableWeight);
+
+        if (event.shouldCommit()) {
+            long totalWeight = 0;
+            for (Package pkg : packages) {
+                totalWeight += pkg.getWeight();
+            }
+            commit(event, mode, packages.size(), totalWeight, shipments.size(), maxCarriableWeight);
+        }
+        return shipments;
+    }
+
+    /**
+     * Creates shipments with the branch-and-bound search within the given budget.
+     * When the budget runs out, the best plan found so far is returned and the
+     * result reports how far from optimal it may be.
+     *
+     * @param packages            list of packages to be shipped
+     * @param maxCarriableWeight  maximum weight capacity of a single shipment
+     * @param timeBudget          wall-clock budget of the search
+     * @param nodeBudget          search nodes allowed
+     * @return shipments in trip order with the optimality gap of the plan
+     * @throws CourierServiceException if input validation fails or the budget is not positive
+     */
+    public PackingResult createShipments(List<Package> packages, int maxCarriableWeight,
+                                         Duration timeBudget, long nodeBudget)
+            throws CourierServiceException {
+
+        validate(packages, maxCarriableWeight);
+        if (timeBudget == null || timeBudget.isNegative() || timeBudget.isZero() || nodeBudget <= 0) {
+            throw new CourierServiceException("Search budget must be positive");
+        }
+
+        ShipmentPackingEvent event = new ShipmentPackingEvent();
+        event.begin();
+
+        PackingResult result = branchAndBoundPacking.search(packages, maxCarriableWeight, timeBudget, nodeBudget);
+
+        if (event.shouldCommit()) {
+            long totalWeight = 0;
+            for (Package pkg : packages) {
+                totalWeight += pkg.getWeight();
+            }
+            commit(event, PackingMode.BRANCH_AND_BOUND, packages.size(), totalWeight,
+                    result.shipments().size(), maxCarriableWeight);
+        }
+        return result;
+    }
+
+    /**
+     * Creates shipments for a columnar PackageBatch using greedy packing.
+     * The grouping and order match {@link #createShipments(List, int)}
+     * for the same packages, but no Package or Shipment objects are created.
+     *
+     * @param batch               batch of packages to be shipped
+     * @param maxCarriableWeight  maximum weight capacity of a single shipment
+     * @return shipments sorted by total weight in descending order
+     * @throws CourierServiceException if input validation fails or a package exceeds max weight
+     */
+    public BatchShipments createShipments(PackageBatch batch, int maxCarriableWeight)
+            throws CourierServiceException {
 
         // Validate inputs
-        if (packages == null || packages.isEmpty()) {
+        if (batch == null || batch.size() == 0) {
             throw new CourierServiceException("Packages list cannot be null or empty");
         }
         if (maxCarriableWeight <= 0) {
             throw new CourierServiceException("Max carriable weight must be positive");
         }
+        for (int row = 0; row < batch.size(); row++) {
+            if (batch.getWeight(row) > maxCarriableWeight) {
+                throw new CourierServiceException(
+                        "Some packages cannot be assigned due to exceeding weight limit"
+                );
+            }
+        }
+
+        ShipmentPackingEvent event = new ShipmentPackingEvent();
+        event.begin();
 
-        // Sort packages in descending order by weight (heaviest first)
-        List<Package> sortedPackages = packages.stream()
-                .sorted(Comparator.comparingInt(Package::getWeight).reversed())
-                .toList();
-
-        List<Shipment> shipments = new ArrayList<>();   // Final list of shipments
-        Set<Package> added = new HashSet<>();           // Tracks already assigned packages
-
-        // Continue until all packages are assigned to a shipment
-        while (added.size() < sortedPackages.size()) {
-            ShipmentBuilder builder = new ShipmentBuilder(); // Helps construct shipments
-            int currentWeight = 0;
-
-            // Try to fit remaining packages into the current shipment
-            for (Package pkg : sortedPackages) {
-                if (added.contains(pkg)) continue;  // Skip if already assigned
-
-                // Package exceeds weight capacity of vehicle → invalid case
-                if (pkg.getWeight() > maxCarriableWeight) {
-                    throw new CourierServiceException(
-                            "Some packages cannot be assigned due to exceeding weight limit"
-                    );
-                }
-
-                // Add package to shipment if it fits within weight limit
-                if (pkg.getWeight() + currentWeight <= maxCarriableWeight) {
-                    builder.addPackage(pkg);
-                    currentWeight += pkg.getWeight();
-                    added.add(pkg);
-                }
+        BatchShipments shipments = greedyPacking.pack(batch, maxCarriableWeight);
+
+        if (event.shouldCommit()) {
+            long totalWeight = 0;
+            for (int row = 0; row < batch.size(); row++) {
+                totalWeight += batch.getWeight(row);
             }
+            commit(event, PackingMode.GREEDY, batch.size(), totalWeight, shipments.count(), maxCarriableWeight);
+        }
+        return shipments;
+    }
 
-            // Finalize the shipment and add it to the list
-            Shipment shipment = builder.build();
-            if (!shipment.getPackages().isEmpty()) {
-                shipments.add(shipment);
+    // Validates the packages against the max carriable weight
+    private static void validate(List<Package> packages, int maxCarriableWeight) throws CourierServiceException {
+        if (packages == null || packages.isEmpty()) {
+            throw new CourierServiceException("Packages list cannot be null or empty");
+        }
+        if (maxCarriableWeight <= 0) {
+            throw new CourierServiceException("Max carriable weight must be positive");
+        }
+
+        // Package exceeds weight capacity of vehicle → invalid case
+        for (Package pkg : packages) {
+            if (pkg.getWeight() > maxCarriableWeight) {
+                throw new CourierServiceException(
+                        "Some packages cannot be assigned due to exceeding weight limit"
+                );
             }
         }
+    }
 
-        // Sort shipments by total weight in descending order (heaviest first)
-        shipments.sort(Comparator.comparingInt(Shipment::getTotalWeight).reversed());
-        return shipments;
+    // Fills and commits a JFR packing event
+    private static void commit(ShipmentPackingEvent event, PackingMode mode, int packageCount,
+                               long totalWeight, int shipmentCount, int maxCarriableWeight) {
+        event.packingMode = mode.name();
+        event.packageCount = packageCount;
+        event.totalWeight = totalWeight;
+        event.shipmentCount = shipmentCount;
+        event.maxWeight = maxCarriableWeight;
+        event.commit();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,147 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Indexed min-heap of vehicle events over primitive timestamps
+ * (hundredths of an hour).
+ *
+ * Used by DispatchService and PlannerSession. Each vehicle (by its index in the fleet) has at most
+ * one pending event: the time it is next free to depart. The heap stores only
+ * vehicle indexes; timestamps live in an int array and every vehicle knows its
+ * heap position, so an event can be moved to a later time in place
+ * (one sift-down) instead of being polled and re-inserted.
+ *
+ * Ties are broken by vehicle index, so dispatch order is deterministic.
+ */
+
+package com.everesteng.courier.service;
+
+import java.util.Arrays;
+
+final class VehicleEventHeap {
+
+    // Event time of each vehicle
+    private final int[] times;
+
+    // Heap of vehicle indexes, ordered by (time, index)
+    private final int[] heap;
+
+    // Heap position of each vehicle, -1 if it has no pending event
+    private final int[] positions;
+
+    // Number of pending events
+    private int size;
+
+    VehicleEventHeap(int vehicles) {
+        this.times = new int[vehicles];
+        this.heap = new int[vehicles];
+        this.positions = new int[vehicles];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Schedules an event for a vehicle that has none pending.
+     */
+    void add(int vehicle, int time) {
+        if (positions[vehicle] >= 0) {
+            throw new IllegalStateException("Vehicle " + vehicle + " already has a pending event");
+        }
+        times[vehicle] = time;
+        int k = size++;
+        heap[k] = vehicle;
+        positions[vehicle] = k;
+        siftUp(k);
+    }
+
+    /**
+     * Moves the pending event of a vehicle to a new time.
+     */
+    void update(int vehicle, int time) {
+        int k = positions[vehicle];
+        if (k < 0) {
+            throw new IllegalStateException("Vehicle " + vehicle + " has no pending event");
+        }
+        int old = times[vehicle];
+        times[vehicle] = time;
+        if (time < old) {
+            siftUp(k);
+        } else {
+            siftDown(k);
+        }
+    }
+
+    /**
+     * Returns the vehicle with the earliest event (without removing it).
+     */
+    int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the vehicle with the earliest event.
+     */
+    int poll() {
+        int vehicle = peek();
+        positions[vehicle] = -1;
+        int last = heap[--size];
+        if (size > 0) {
+            heap[0] = last;
+            positions[last] = 0;
+            siftDown(0);
+        }
+        return vehicle;
+    }
+
+    int time(int vehicle) {
+        return times[vehicle];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void siftUp(int k) {
+        int vehicle = heap[k];
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            int p = heap[parent];
+            if (!before(vehicle, p)) break;
+            heap[k] = p;
+            positions[p] = k;
+            k = parent;
+        }
+        heap[k] = vehicle;
+        positions[vehicle] = k;
+    }
+
+    private void siftDown(int k) {
+        int vehicle = heap[k];
+        int half = size >>> 1;
+        while (k < half) {
+            int child = (k << 1) + 1;
+            int c = heap[child];
+            int right = child + 1;
+            if (right < size && before(heap[right], c)) {
+                c = heap[child = right];
+            }
+            if (!before(c, vehicle)) break;
+            heap[k] = c;
+            positions[c] = k;
+            k = child;
+        }
+        heap[k] = vehicle;
+        positions[vehicle] = k;
+    }
+
+    // True if vehicle a's event comes strictly before vehicle b's
+    private boolean before(int a, int b) {
+        int ta = times[a];
+        int tb = times[b];
+        return ta < tb || (ta == tb && a < b);
+    }
+}
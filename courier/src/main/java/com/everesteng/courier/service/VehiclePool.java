@@ -0,0 +1,264 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Long-lived fleet shared by concurrent planning requests.
+ *
+ * A planner claims the vehicle that becomes available first, plans one trip
+ * with it and releases it with its new availability time. VehicleService
+ * keeps a private PriorityQueue per call instead; this pool lets many
+ * threads draw from the same fleet without one global lock:
+ *
+ * - Vehicles are split over stripes, each an AvailabilityHeap behind its own
+ *   lock. Vehicle i always returns to stripe (i - 1) % stripes.
+ * - The earliest entry of every stripe is published in a padded atomic
+ *   array after each change. claim() scans these heads without locking,
+ *   locks only the stripe with the earliest head, and moves on to the next
+ *   best stripe if that lock is busy.
+ * - Without contention a claim returns exactly the earliest vehicle (ties
+ *   go to the lower vehicle ID across stripes). Under contention it may
+ *   return one that is marginally later, like any relaxed concurrent
+ *   priority queue; a vehicle is never handed out twice.
+ * - Claims are tracked per vehicle, so releasing a vehicle that is not
+ *   claimed fails instead of duplicating it.
+ * - awaitClaim() spins briefly when every vehicle is claimed, then sleeps on
+ *   a condition that release() signals only while someone is waiting.
+ *
+ * Entries are packed like AvailabilityHeap: availability (hundredths of an
+ * hour) in the high 32 bits, vehicle ID in the low 32 bits.
+ */
+
+package com.everesteng.courier.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public final class VehiclePool {
+
+    // Returned by claim() when every vehicle is currently claimed
+    public static final long NONE = -1;
+
+    // Upper bound on the default stripe count
+    static final int MAX_STRIPES = 64;
+
+    // Failed claims awaitClaim() spins through before it blocks
+    static final int SPIN_LIMIT = 64;
+
+    // Head of a stripe without vehicles (sorts after every real entry)
+    private static final long EMPTY = Long.MAX_VALUE;
+
+    // Longs between two published heads, so each head sits on its own cache line
+    private static final int PAD = 16;
+
+    private final Stripe[] stripes;
+    private final AtomicLongArray heads;
+
+    // 1 while a vehicle is claimed, indexed by vehicle ID
+    private final AtomicIntegerArray claimed;
+
+    private final int vehicleCount;
+
+    // Threads blocked in awaitClaim(), woken by release()
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition released = waitLock.newCondition();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    /**
+     * Creates a pool of vehicles 1..numVehicles, all available at time 0,
+     * with a stripe count based on the number of processors.
+     *
+     * @param numVehicles number of vehicles in the fleet (must be > 0)
+     */
+    public VehiclePool(int numVehicles) {
+        this(numVehicles, Math.min(MAX_STRIPES, 2 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Creates a pool of vehicles 1..numVehicles, all available at time 0.
+     *
+     * @param numVehicles number of vehicles in the fleet (must be > 0)
+     * @param stripeCount number of independently locked stripes (must be > 0;
+     *                    capped at the number of vehicles)
+     */
+    public VehiclePool(int numVehicles, int stripeCount) {
+        if (numVehicles <= 0) {
+            throw new IllegalArgumentException("Number of vehicles must be positive");
+        }
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        int count = Math.min(stripeCount, numVehicles);
+        this.vehicleCount = numVehicles;
+        this.stripes = new Stripe[count];
+        this.heads = new AtomicLongArray(count * PAD);
+        this.claimed = new AtomicIntegerArray(numVehicles + 1);
+
+        for (int s = 0; s < count; s++) {
+            // Vehicles s+1, s+1+count, ... live in stripe s
+            stripes[s] = new Stripe((numVehicles - s + count - 1) / count);
+        }
+        for (int id = 1; id <= numVehicles; id++) {
+            stripes[stripeOf(id)].heap.offer(id, 0);
+        }
+        for (int s = 0; s < count; s++) {
+            publish(s);
+        }
+    }
+
+    // ---------------------- Getters ----------------------
+
+    public int getVehicleCount() { return vehicleCount; }
+    public int getStripeCount() { return stripes.length; }
+
+    /**
+     * Claims the vehicle that becomes available first.
+     * The caller owns it until it calls {@link #release(int, int)}.
+     *
+     * @return packed entry (decode with {@link #vehicleId(long)} and
+     *         {@link #availability(long)}), or NONE if every vehicle is claimed
+     */
+    public long claim() {
+        int attempts = 0;
+        while (true) {
+            // Lock-free scan of the published heads
+            int best = -1;
+            long bestHead = EMPTY;
+            for (int s = 0; s < stripes.length; s++) {
+                long head = heads.get(s * PAD);
+                if (head < bestHead) {
+                    bestHead = head;
+                    best = s;
+                }
+            }
+            if (best < 0) {
+                return NONE;
+            }
+
+            // Busy stripe: rescan (another stripe may now be best); block after a round of failures
+            ReentrantLock lock = stripes[best].lock;
+            if (attempts++ < stripes.length) {
+                if (!lock.tryLock()) {
+                    continue;
+                }
+            } else {
+                lock.lock();
+            }
+            try {
+                AvailabilityHeap heap = stripes[best].heap;
+                if (heap.size() == 0) {
+                    continue;   // emptied since the scan
+                }
+                long entry = heap.poll();
+                publish(best);
+                claimed.set(vehicleId(entry), 1);
+                return entry;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Claims the vehicle that becomes available first, waiting while every
+     * vehicle is claimed. Spins for a few attempts (other planners usually
+     * hold a vehicle for one trip only), then blocks until a release.
+     *
+     * @return packed entry, as returned by {@link #claim()} (never NONE)
+     * @throws InterruptedException if the thread is interrupted while blocked
+     */
+    public long awaitClaim() throws InterruptedException {
+        for (int spins = 0; spins < SPIN_LIMIT; spins++) {
+            long claim = claim();
+            if (claim != NONE) {
+                return claim;
+            }
+            Thread.onSpinWait();
+        }
+
+        waitLock.lockInterruptibly();
+        try {
+            // Registered before the re-check, so a release after it sees the waiter and signals
+            waiters.incrementAndGet();
+            try {
+                long claim;
+                while ((claim = claim()) == NONE) {
+                    released.await();
+                }
+                return claim;
+            } finally {
+                waiters.decrementAndGet();
+            }
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Returns a claimed vehicle to the pool.
+     *
+     * @param vehicleId    vehicle returned by {@link #claim()}
+     * @param availability time when the vehicle is free again, in hundredths of an hour (>= 0)
+     * @throws IllegalArgumentException if the vehicle or the availability is invalid
+     * @throws IllegalStateException    if the vehicle is not claimed
+     */
+    public void release(int vehicleId, int availability) {
+        if (vehicleId < 1 || vehicleId > vehicleCount) {
+            throw new IllegalArgumentException("Unknown vehicle " + vehicleId);
+        }
+        if (availability < 0) {
+            throw new IllegalArgumentException("Availability time cannot be negative");
+        }
+        if (!claimed.compareAndSet(vehicleId, 1, 0)) {
+            throw new IllegalStateException("Vehicle " + vehicleId + " is not claimed");
+        }
+
+        int s = stripeOf(vehicleId);
+        Stripe stripe = stripes[s];
+        stripe.lock.lock();
+        try {
+            stripe.heap.offer(vehicleId, availability);
+            publish(s);
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        // Published before the waiter check, so a waiter either sees the vehicle or gets the signal
+        if (waiters.get() > 0) {
+            waitLock.lock();
+            try {
+                released.signal();
+            } finally {
+                waitLock.unlock();
+            }
+        }
+    }
+
+    public static int vehicleId(long entry) {
+        return AvailabilityHeap.vehicleId(entry);
+    }
+
+    public static int availability(long entry) {
+        return AvailabilityHeap.availability(entry);
+    }
+
+    private int stripeOf(int vehicleId) {
+        return (vehicleId - 1) % stripes.length;
+    }
+
+    // Publishes the earliest entry of a stripe; called with the stripe's lock held
+    private void publish(int s) {
+        long head = stripes[s].heap.peek();
+        heads.set(s * PAD, head < 0 ? EMPTY : head);
+    }
+
+    // One lock and heap per stripe
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final AvailabilityHeap heap;
+
+        Stripe(int capacity) {
+            this.heap = new AvailabilityHeap(capacity);
+        }
+    }
+}
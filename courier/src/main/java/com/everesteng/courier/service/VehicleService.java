@@ -14,7 +14,11 @@ package com.everesteng.courier.service;
 
 import com.everesteng.courier.builder.VehicleBuilder;
 import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.metrics.VehicleAssignmentEvent;
+import com.everesteng.courier.model.BatchShipments;
+import com.everesteng.courier.model.Hundredths;
 import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
 import com.everesteng.courier.model.Shipment;
 import com.everesteng.courier.model.Vehicle;
 import org.springframework.stereotype.Service;
@@ -40,6 +44,20 @@ public class VehicleService {
      */
     public void assignVehicles(List<Shipment> shipments, int numVehicles)
             throws CourierServiceException {
+        assignVehicles(shipments, numVehicles, null);
+    }
+
+    /**
+     * Assigns vehicles like {@link #assignVehicles(List, int)} and hands every
+     * shipment to a listener as soon as it is assigned.
+     *
+     * @param shipments   list of shipments to assign
+     * @param numVehicles number of available vehicles
+     * @param listener    receives each assigned shipment in order (may be null)
+     * @throws CourierServiceException if no vehicles exist, invalid input is provided or the listener fails
+     */
+    public void assignVehicles(List<Shipment> shipments, int numVehicles, ShipmentListener listener)
+            throws CourierServiceException {
 
         // Validate number of vehicles
         if (numVehicles <= 0) {
@@ -48,7 +66,7 @@ public class VehicleService {
 
         // Priority queue (min-heap) ensures vehicles with earliest availability are chosen first
         PriorityQueue<Vehicle> queue =
-                new PriorityQueue<>(Comparator.comparingDouble(Vehicle::getAvailability));
+                new PriorityQueue<>(Comparator.comparingInt(Vehicle::getAvailabilityHundredths));
 
         // 🚗 Initialize all vehicles with availability = 0 using the Builder pattern
         for (int i = 1; i <= numVehicles; i++) {
@@ -60,27 +78,167 @@ public class VehicleService {
         }
 
         // 🚚 Assign vehicles to shipments in order
+        int index = 0;
         for (Shipment shipment : shipments) {
+            VehicleAssignmentEvent event = new VehicleAssignmentEvent();
+            event.begin();
+
             Vehicle v = queue.poll(); // Fetch vehicle with earliest availability
             if (v == null) throw new CourierServiceException("No vehicles available");
 
             // Assign this vehicle to the shipment
             shipment.setVehicle(v.getVehicleId());
 
+            // Vehicle availability after completing the shipment
+            // (availability = old availability + shipment time, in exact hundredths);
+            // checked first: no package arrives later than the vehicle returns
+            int departure = v.getAvailabilityHundredths();
+            int returnTime = DeliveryTimeService.addTime(departure, shipment.getTimeHundredths());
+
             // Adjust package delivery times based on vehicle's availability delay
             for (Package pkg : shipment.getPackages()) {
-                pkg.setDeliveryTime(pkg.getDeliveryTime() + v.getAvailability());
+                pkg.setDeliveryTimeHundredths(DeliveryTimeService.addTime(departure, pkg.getDeliveryTimeHundredths()));
             }
-
-            // Update vehicle availability after completing the shipment
-            // (availability = old availability + shipment time)
-            v = new VehicleBuilder()
-                    .setVehicleId(v.getVehicleId())
-                    .setAvailability(v.getAvailability() + shipment.getTime())
-                    .build();
+            v.setAvailabilityHundredths(returnTime);
 
             // Push the updated vehicle back into the priority queue
             queue.offer(v);
+
+            if (event.shouldCommit()) {
+                commit(event, index, v.getVehicleId(), shipment.getPackageCount(),
+                        shipment.getTotalWeight(), departure, shipment.getTimeHundredths());
+            }
+            if (listener != null) {
+                listener.onShipment(index, shipment);
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Assigns vehicles from a fleet shared with other planning requests.
+     *
+     * Same policy as {@link #assignVehicles(List, int)}, but each shipment
+     * claims the earliest available vehicle of the pool and releases it with
+     * its new availability straight away, so concurrent calls interleave
+     * their trips on the same vehicles. If every vehicle is claimed at that
+     * moment (other planners hold them only for one trip), the call waits in
+     * {@link VehiclePool#awaitClaim()} until one is released.
+     *
+     * @param shipments list of shipments to assign
+     * @param pool      shared fleet
+     * @param listener  receives each assigned shipment in order (may be null)
+     * @throws CourierServiceException if the pool is missing, the listener fails
+     *                                 or the thread is interrupted while waiting
+     */
+    public void assignVehicles(List<Shipment> shipments, VehiclePool pool, ShipmentListener listener)
+            throws CourierServiceException {
+
+        if (pool == null) {
+            throw new CourierServiceException("Vehicle pool cannot be null");
         }
+
+        int index = 0;
+        for (Shipment shipment : shipments) {
+            VehicleAssignmentEvent event = new VehicleAssignmentEvent();
+            event.begin();
+
+            long claim;
+            try {
+                claim = pool.awaitClaim();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CourierServiceException("Vehicle assignment was interrupted");
+            }
+            int vehicleId = VehiclePool.vehicleId(claim);
+            int departure = VehiclePool.availability(claim);
+
+            // The vehicle goes back at its old availability if anything below fails
+            int availability = departure;
+            try {
+                int returnTime = DeliveryTimeService.addTime(departure, shipment.getTimeHundredths());
+                shipment.setVehicle(vehicleId);
+                for (Package pkg : shipment.getPackages()) {
+                    pkg.setDeliveryTimeHundredths(DeliveryTimeService.addTime(departure, pkg.getDeliveryTimeHundredths()));
+                }
+                availability = returnTime;
+            } finally {
+                pool.release(vehicleId, availability);
+            }
+
+            if (event.shouldCommit()) {
+                commit(event, index, vehicleId, shipment.getPackageCount(),
+                        shipment.getTotalWeight(), departure, shipment.getTimeHundredths());
+            }
+            if (listener != null) {
+                listener.onShipment(index, shipment);
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Assigns vehicles to the shipments of a batch.
+     * Same policy as {@link #assignVehicles(List, int)}, but vehicles live in a
+     * primitive heap and package delivery times are updated in the batch columns.
+     *
+     * @param shipments   batch shipments to assign
+     * @param numVehicles number of available vehicles
+     * @throws CourierServiceException if no vehicles exist or invalid input is provided
+     */
+    public void assignVehicles(BatchShipments shipments, int numVehicles)
+            throws CourierServiceException {
+
+        // Validate number of vehicles
+        if (numVehicles <= 0) {
+            throw new CourierServiceException("Number of vehicles must be positive");
+        }
+
+        // Initialize all vehicles with availability = 0
+        AvailabilityHeap heap = new AvailabilityHeap(numVehicles);
+        for (int i = 1; i <= numVehicles; i++) {
+            heap.offer(i, 0);
+        }
+
+        PackageBatch batch = shipments.getBatch();
+        for (int s = 0; s < shipments.count(); s++) {
+            VehicleAssignmentEvent event = new VehicleAssignmentEvent();
+            event.begin();
+
+            long vehicle = heap.poll(); // Fetch vehicle with earliest availability
+            int vehicleId = AvailabilityHeap.vehicleId(vehicle);
+            int availability = AvailabilityHeap.availability(vehicle);
+
+            // Vehicle is free again once this shipment's round trip completes
+            int returnTime = DeliveryTimeService.addTime(availability, shipments.getTimeHundredths(s));
+
+            shipments.setVehicle(s, vehicleId);
+
+            // Adjust package delivery times based on vehicle's availability delay
+            for (int k = shipments.start(s); k < shipments.end(s); k++) {
+                int row = shipments.getRow(k);
+                batch.setDeliveryTimeHundredths(row,
+                        DeliveryTimeService.addTime(availability, batch.getDeliveryTimeHundredths(row)));
+            }
+
+            heap.offer(vehicleId, returnTime);
+
+            if (event.shouldCommit()) {
+                commit(event, s, vehicleId, shipments.end(s) - shipments.start(s),
+                        shipments.getTotalWeight(s), availability, shipments.getTimeHundredths(s));
+            }
+        }
+    }
+
+    // Fills and commits a JFR assignment event (times in hundredths of an hour)
+    private static void commit(VehicleAssignmentEvent event, int shipmentIndex, int vehicleId,
+                               int packageCount, int shipmentWeight, int departure, int tripTime) {
+        event.shipmentIndex = shipmentIndex;
+        event.vehicleId = vehicleId;
+        event.packageCount = packageCount;
+        event.shipmentWeight = shipmentWeight;
+        event.waitTime = Hundredths.toHours(departure);
+        event.tripTime = Hundredths.toHours(tripTime);
+        event.commit();
     }
-}
\ No newline at end of file
+}
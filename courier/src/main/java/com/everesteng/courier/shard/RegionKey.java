@@ -0,0 +1,36 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Selects the region a package belongs to for sharded planning.
+ *
+ * All packages of one region are planned by the same shard, so trips never
+ * mix regions. Regions are spread over the shards by ShardCoordinator.
+ */
+
+package com.everesteng.courier.shard;
+
+import com.everesteng.courier.model.Package;
+
+@FunctionalInterface
+public interface RegionKey {
+
+    /**
+     * Returns the region of a package (never null).
+     */
+    String regionOf(Package pkg);
+
+    /**
+     * Uses the part of the package ID before the first separator as region,
+     * e.g. "NORTH" for "NORTH-PKG1". IDs without the separator share the
+     * region "".
+     *
+     * @param separator character ending the region prefix
+     * @return the region key
+     */
+    static RegionKey idPrefix(char separator) {
+        return pkg -> {
+            String id = pkg.getId();
+            int end = id.indexOf(separator);
+            return end < 0 ? "" : id.substring(0, end);
+        };
+    }
+}
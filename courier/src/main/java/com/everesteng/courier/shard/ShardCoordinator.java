@@ -0,0 +1,285 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Plans a manifest across several ShardServers and merges the results.
+ *
+ * - Packages are grouped by region (RegionKey). Whole regions are dealt to the
+ *   shards, largest first, each to the shard with the fewest packages so far.
+ * - The fleet is split between the shards in proportion to the weight they
+ *   carry (at least one vehicle each); vehicle IDs stay unique across shards.
+ * - All shards plan at the same time; the coordinator only splits the manifest,
+ *   sends it and reads the shipments back.
+ * - The merged plan lists the shipments shard by shard, each shard's in its
+ *   own dispatch order, and the coordinator's packages get their delivery times.
+ *
+ * Trips never mix regions, so a sharded plan can use a few more trips than
+ * planning the whole manifest at once.
+ */
+
+package com.everesteng.courier.shard;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.packing.PackingMode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ShardCoordinator implements Closeable {
+
+    // How long to wait for a shard to accept a connection
+    private static final int CONNECT_TIMEOUT_MILLIS = 5_000;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final RegionKey regionKey;
+    private final List<ShardConnection> shards;
+
+    // One thread per shard, so all shards are sent their work at once
+    private final ExecutorService executor;
+
+    /**
+     * @param shardAddresses addresses of the running shards (at least one)
+     * @param regionKey      region of each package
+     */
+    public ShardCoordinator(List<InetSocketAddress> shardAddresses, RegionKey regionKey) {
+        if (shardAddresses == null || shardAddresses.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        if (regionKey == null) {
+            throw new IllegalArgumentException("Region key cannot be null");
+        }
+        this.regionKey = regionKey;
+        this.shards = new ArrayList<>(shardAddresses.size());
+        for (InetSocketAddress address : shardAddresses) {
+            shards.add(new ShardConnection(address));
+        }
+        this.executor = Executors.newFixedThreadPool(shards.size(), task -> {
+            Thread thread = new Thread(task, "shard-coordinator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Plans deliveries like CourierService.processDeliveries, spread over the shards.
+     *
+     * @param packages    packages to deliver; their delivery times are filled in
+     * @param maxWeight   maximum weight allowed per shipment
+     * @param speed       delivery vehicle speed
+     * @param numVehicles size of the whole fleet
+     * @param mode        packing mode used by every shard
+     * @return the shipments of all shards
+     * @throws CourierServiceException if a shard rejects its packages or cannot be reached
+     */
+    public List<Shipment> plan(List<Package> packages, int maxWeight, int speed, int numVehicles,
+                               PackingMode mode) throws CourierServiceException {
+        if (packages == null) {
+            throw new CourierServiceException("Packages list cannot be null");
+        }
+        if (numVehicles <= 0) {
+            throw new CourierServiceException("Number of vehicles must be positive");
+        }
+        if (packages.isEmpty()) {
+            return new ArrayList<>();
+        }
+        PackingMode packingMode = mode == null ? PackingMode.GREEDY : mode;
+
+        // A shard needs at least one vehicle, so use at most numVehicles shards
+        List<List<Package>> parts = partition(packages, regionKey, Math.min(shards.size(), numVehicles));
+        int[] fleet = splitFleet(parts, numVehicles);
+
+        List<Callable<List<Shipment>>> tasks = new ArrayList<>(parts.size());
+        int vehicleOffset = 0;
+        for (int s = 0; s < parts.size(); s++) {
+            ShardConnection shard = shards.get(s);
+            List<Package> part = parts.get(s);
+            int vehicles = fleet[s];
+            int offset = vehicleOffset;
+            tasks.add(() -> shard.plan(part, maxWeight, speed, vehicles, offset, packingMode));
+            vehicleOffset += vehicles;
+        }
+
+        // Wait for every shard, then merge in shard order
+        List<Shipment> shipments = new ArrayList<>();
+        try {
+            for (Future<List<Shipment>> result : executor.invokeAll(tasks)) {
+                shipments.addAll(result.get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CourierServiceException cause) {
+                throw cause;
+            }
+            throw new CourierServiceException("Sharded planning failed: " + e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CourierServiceException("Sharded planning was interrupted");
+        }
+        return shipments;
+    }
+
+    /**
+     * Closes the shard connections (the shards keep running).
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        for (ShardConnection shard : shards) {
+            shard.disconnect();
+        }
+    }
+
+    /**
+     * Deals whole regions to at most {@code count} parts, largest region first,
+     * each to the part with the fewest packages (lowest index on ties).
+     * Empty parts are dropped.
+     */
+    static List<List<Package>> partition(List<Package> packages, RegionKey regionKey, int count) {
+        Map<String, List<Package>> regions = new LinkedHashMap<>();
+        for (Package pkg : packages) {
+            regions.computeIfAbsent(regionKey.regionOf(pkg), r -> new ArrayList<>()).add(pkg);
+        }
+
+        List<Map.Entry<String, List<Package>>> ordered = new ArrayList<>(regions.entrySet());
+        ordered.sort(Comparator.comparingInt((Map.Entry<String, List<Package>> e) -> -e.getValue().size())
+                .thenComparing(Map.Entry::getKey));
+
+        List<List<Package>> parts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            parts.add(new ArrayList<>());
+        }
+        for (Map.Entry<String, List<Package>> region : ordered) {
+            List<Package> smallest = parts.get(0);
+            for (List<Package> part : parts) {
+                if (part.size() < smallest.size()) {
+                    smallest = part;
+                }
+            }
+            smallest.addAll(region.getValue());
+        }
+        parts.removeIf(List::isEmpty);
+        return parts;
+    }
+
+    /**
+     * Splits the fleet in proportion to the weight of each part, with at least
+     * one vehicle per part; leftover vehicles go to the largest remainders.
+     */
+    static int[] splitFleet(List<List<Package>> parts, int numVehicles) {
+        int count = parts.size();
+        long[] weights = new long[count];
+        long totalWeight = 0;
+        for (int s = 0; s < count; s++) {
+            for (Package pkg : parts.get(s)) {
+                weights[s] += pkg.getWeight();
+            }
+            totalWeight += weights[s];
+        }
+        if (totalWeight == 0) {
+            // Only weightless packages: split by package count instead
+            for (int s = 0; s < count; s++) {
+                weights[s] = parts.get(s).size();
+                totalWeight += weights[s];
+            }
+        }
+
+        int[] fleet = new int[count];
+        long[] remainders = new long[count];
+        int spare = numVehicles - count;
+        int given = 0;
+        for (int s = 0; s < count; s++) {
+            long share = spare * weights[s];
+            fleet[s] = 1 + (int) (share / totalWeight);
+            remainders[s] = share % totalWeight;
+            given += fleet[s] - 1;
+        }
+        for (; given < spare; given++) {
+            int best = 0;
+            for (int s = 1; s < count; s++) {
+                if (remainders[s] > remainders[best]) {
+                    best = s;
+                }
+            }
+            fleet[best]++;
+            remainders[best] = -1;
+        }
+        return fleet;
+    }
+
+    // Persistent connection to one shard; reconnects after a failure
+    private static final class ShardConnection {
+
+        private final InetSocketAddress address;
+        private Socket socket;
+        private DataInputStream in;
+        private DataOutputStream out;
+
+        ShardConnection(InetSocketAddress address) {
+            this.address = address;
+        }
+
+        synchronized List<Shipment> plan(List<Package> packages, int maxWeight, int speed, int numVehicles,
+                                         int vehicleOffset, PackingMode mode) throws CourierServiceException {
+            String[] error = new String[1];
+            List<Shipment> shipments;
+            try {
+                connect();
+                ShardProtocol.writeRequest(out, maxWeight, speed, numVehicles, mode, packages);
+                shipments = ShardProtocol.readShipments(in, packages, vehicleOffset, error);
+            } catch (IOException e) {
+                disconnect();
+                throw new CourierServiceException("Shard " + address + " failed: " + e.getMessage());
+            }
+            if (shipments == null) {
+                // The shard may have dropped the connection after an error
+                disconnect();
+                throw new CourierServiceException("Shard " + address + ": " + error[0]);
+            }
+            return shipments;
+        }
+
+        private void connect() throws IOException {
+            if (socket != null) {
+                return;
+            }
+            Socket s = new Socket();
+            try {
+                s.connect(address, CONNECT_TIMEOUT_MILLIS);
+                s.setTcpNoDelay(true);
+                in = new DataInputStream(new BufferedInputStream(s.getInputStream(), BUFFER_SIZE));
+                out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream(), BUFFER_SIZE));
+            } catch (IOException e) {
+                s.close();
+                throw e;
+            }
+            socket = s;
+        }
+
+        synchronized void disconnect() {
+            if (socket != null) {
+                try {
+                    socket.close();
+                } catch (IOException ignored) {
+                    // Nothing left to release
+                }
+                socket = null;
+            }
+        }
+    }
+}
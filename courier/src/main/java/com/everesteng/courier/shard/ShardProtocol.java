@@ -0,0 +1,153 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Binary messages exchanged between ShardCoordinator and ShardServer.
+ *
+ * Request (coordinator → shard):
+ *   int magic, int maxWeight, int speed, int numVehicles, UTF packing mode,
+ *   int package count, then per package: UTF id, int weight, int distance, UTF offer code
+ *
+ * Response (shard → coordinator):
+ *   byte OK, int shipment count, then per shipment (in dispatch order):
+ *     int vehicle (1-based within the shard), int time (hundredths of an hour),
+ *     int package count, then per package: int request index, int delivery time
+ *   or byte ERROR, UTF message
+ *
+ * One connection carries any number of request/response pairs.
+ */
+
+package com.everesteng.courier.shard;
+
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.packing.PackingMode;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class ShardProtocol {
+
+    // "CSHD" in ASCII; guards against talking to something that is not a shard
+    static final int MAGIC = 0x43534844;
+
+    static final byte OK = 0;
+    static final byte ERROR = 1;
+
+    private ShardProtocol() {
+    }
+
+    /**
+     * Planning request as read by the shard.
+     */
+    record Request(int maxWeight, int speed, int numVehicles, PackingMode mode, List<Package> packages) {
+    }
+
+    static void writeRequest(DataOutputStream out, int maxWeight, int speed, int numVehicles,
+                             PackingMode mode, List<Package> packages) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(maxWeight);
+        out.writeInt(speed);
+        out.writeInt(numVehicles);
+        out.writeUTF(mode.name());
+        out.writeInt(packages.size());
+        for (Package pkg : packages) {
+            out.writeUTF(pkg.getId());
+            out.writeInt(pkg.getWeight());
+            out.writeInt(pkg.getDistance());
+            out.writeUTF(pkg.getOfferCode());
+        }
+        out.flush();
+    }
+
+    static Request readRequest(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a shard planning request");
+        }
+        int maxWeight = in.readInt();
+        int speed = in.readInt();
+        int numVehicles = in.readInt();
+        PackingMode mode = PackingMode.valueOf(in.readUTF());
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid package count " + count);
+        }
+        List<Package> packages = new ArrayList<>(Math.min(count, 1 << 16));
+        for (int i = 0; i < count; i++) {
+            packages.add(new Package(in.readUTF(), in.readInt(), in.readInt(), in.readUTF()));
+        }
+        return new Request(maxWeight, speed, numVehicles, mode, packages);
+    }
+
+    /**
+     * Writes the planned shipments, referring to packages by their request index.
+     */
+    static void writeShipments(DataOutputStream out, List<Package> packages, List<Shipment> shipments)
+            throws IOException {
+        Map<Package, Integer> indexes = new IdentityHashMap<>(packages.size() * 2);
+        for (int i = 0; i < packages.size(); i++) {
+            indexes.put(packages.get(i), i);
+        }
+
+        out.writeByte(OK);
+        out.writeInt(shipments.size());
+        for (Shipment shipment : shipments) {
+            out.writeInt(shipment.getVehicle());
+            out.writeInt(shipment.getTimeHundredths());
+            List<Package> contents = shipment.getPackages();
+            out.writeInt(contents.size());
+            for (Package pkg : contents) {
+                out.writeInt(indexes.get(pkg));
+                out.writeInt(pkg.getDeliveryTimeHundredths());
+            }
+        }
+        out.flush();
+    }
+
+    static void writeError(DataOutputStream out, String message) throws IOException {
+        out.writeByte(ERROR);
+        out.writeUTF(message == null ? "Shard planning failed" : message);
+        out.flush();
+    }
+
+    /**
+     * Reads a response into shipments over the coordinator's own packages,
+     * setting their delivery times and renumbering vehicles from vehicleOffset + 1.
+     *
+     * @return the shipments, or null if the shard reported an error (message in error[0])
+     */
+    static List<Shipment> readShipments(DataInputStream in, List<Package> packages, int vehicleOffset,
+                                        String[] error) throws IOException {
+        byte status = in.readByte();
+        if (status == ERROR) {
+            error[0] = in.readUTF();
+            return null;
+        }
+        if (status != OK) {
+            throw new IOException("Invalid shard response status " + status);
+        }
+
+        int count = in.readInt();
+        List<Shipment> shipments = new ArrayList<>(count);
+        for (int s = 0; s < count; s++) {
+            int vehicle = in.readInt();
+            int time = in.readInt();
+            int size = in.readInt();
+            List<Package> contents = new ArrayList<>(size);
+            int totalWeight = 0;
+            for (int p = 0; p < size; p++) {
+                Package pkg = packages.get(in.readInt());
+                pkg.setDeliveryTimeHundredths(in.readInt());
+                contents.add(pkg);
+                totalWeight += pkg.getWeight();
+            }
+            Shipment shipment = new Shipment(contents, totalWeight, 0, vehicleOffset + vehicle);
+            shipment.setTimeHundredths(time);
+            shipments.add(shipment);
+        }
+        return shipments;
+    }
+}
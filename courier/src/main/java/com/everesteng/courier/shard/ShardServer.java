@@ -0,0 +1,189 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: One planning shard, serving ShardCoordinator over a TCP socket.
+ *
+ * - Runs the normal pipeline (CourierService: ShipmentService, DeliveryTimeService,
+ *   VehicleService) on the packages and vehicles the coordinator sends it.
+ * - Each connection is served by its own thread and may carry many requests.
+ * - Invalid input (e.g. an overweight package) is answered with an error
+ *   message instead of closing the connection.
+ *
+ * Start one process per shard, e.g. on one box:
+ *   java -cp courier.jar ... com.everesteng.courier.shard.ShardServer 7101
+ */
+
+package com.everesteng.courier.shard;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.DiscountService;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import com.everesteng.courier.strategy.NoDiscount;
+import com.everesteng.courier.strategy.OFR001Discount;
+import com.everesteng.courier.strategy.OFR002Discount;
+import com.everesteng.courier.strategy.OFR003Discount;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class ShardServer implements Closeable {
+
+    // Socket buffer size; requests and responses are streamed through it
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final CourierService courierService;
+    private final ServerSocket serverSocket;
+    private final Thread acceptor;
+
+    // Open client connections, closed with the server
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
+
+    private ShardServer(CourierService courierService, ServerSocket serverSocket) {
+        this.courierService = courierService;
+        this.serverSocket = serverSocket;
+        this.acceptor = new Thread(this::acceptLoop, "shard-acceptor-" + serverSocket.getLocalPort());
+        this.acceptor.setDaemon(true);
+    }
+
+    /**
+     * Starts a shard on a loopback port.
+     *
+     * @param courierService planner used for every request
+     * @param port           port to listen on (0 for any free port)
+     * @return the running shard
+     * @throws IOException if the port cannot be bound
+     */
+    public static ShardServer start(CourierService courierService, int port) throws IOException {
+        return start(courierService, new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    /**
+     * Starts a shard on the given address.
+     *
+     * @param courierService planner used for every request
+     * @param address        address to listen on
+     * @return the running shard
+     * @throws IOException if the address cannot be bound
+     */
+    public static ShardServer start(CourierService courierService, InetSocketAddress address) throws IOException {
+        ServerSocket serverSocket = new ServerSocket();
+        serverSocket.bind(address);
+        ShardServer server = new ShardServer(courierService, serverSocket);
+        server.acceptor.start();
+        return server;
+    }
+
+    /**
+     * Runs a shard process until it is killed.
+     *
+     * @param args the port to listen on, optionally followed by the host to bind (default loopback)
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: ShardServer <port> [host]");
+            System.exit(2);
+        }
+        CourierService courierService = new CourierService(
+                new DiscountService(List.of(new OFR001Discount(), new OFR002Discount(),
+                        new OFR003Discount(), new NoDiscount())),
+                new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+        int port = Integer.parseInt(args[0]);
+        ShardServer server = args.length == 2
+                ? start(courierService, new InetSocketAddress(args[1], port))
+                : start(courierService, port);
+        System.out.println("Shard listening on " + server.getAddress());
+        server.acceptor.join();
+    }
+
+    /**
+     * Returns the address coordinators connect to.
+     */
+    public InetSocketAddress getAddress() {
+        return new InetSocketAddress(serverSocket.getInetAddress(), serverSocket.getLocalPort());
+    }
+
+    /**
+     * Stops accepting requests and closes all connections.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        for (Socket socket : connections) {
+            socket.close();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+                Thread worker = new Thread(() -> serve(socket), "shard-connection-" + socket.getPort());
+                worker.setDaemon(true);
+                worker.start();
+            } catch (IOException e) {
+                if (!closed) {
+                    System.err.println("Shard accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    // Answers requests on one connection until the coordinator disconnects
+    private void serve(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE))) {
+            while (true) {
+                ShardProtocol.Request request;
+                try {
+                    request = ShardProtocol.readRequest(in);
+                } catch (EOFException e) {
+                    return;  // coordinator closed the connection
+                } catch (IllegalArgumentException e) {
+                    // Invalid package values; the rest of the request cannot be trusted
+                    ShardProtocol.writeError(out, e.getMessage());
+                    return;
+                }
+
+                List<Shipment> shipments;
+                try {
+                    shipments = courierService.processDeliveries(request.packages(), 0,
+                            request.maxWeight(), request.speed(), request.numVehicles(), request.mode());
+                } catch (CourierServiceException | IllegalArgumentException e) {
+                    ShardProtocol.writeError(out, e.getMessage());
+                    continue;
+                }
+                ShardProtocol.writeShipments(out, request.packages(), shipments);
+            }
+        } catch (SocketException e) {
+            // Connection reset or server closed
+        } catch (IOException e) {
+            if (!closed) {
+                System.err.println("Shard connection failed: " + e.getMessage());
+            }
+        } finally {
+            connections.remove(socket);
+        }
+    }
+}
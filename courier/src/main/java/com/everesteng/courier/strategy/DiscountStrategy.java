@@ -23,5 +23,28 @@ public interface DiscountStrategy {
      * @param totalCost  the original total delivery cost before discount
      * @return the discount amount (not the final price)
      */
-    int calculate(Package pkg, int totalCost);
-}
\ No newline at end of file
+    default int calculate(Package pkg, int totalCost) {
+        return calculate(pkg.getWeight(), pkg.getDistance(), totalCost);
+    }
+
+    /**
+     * Calculates the discount from raw package attributes.
+     * Used by batch paths that do not create a Package per row.
+     *
+     * @param weight     package weight in kg
+     * @param distance   delivery distance in km
+     * @param totalCost  the original total delivery cost before discount
+     * @return the discount amount (not the final price)
+     */
+    int calculate(int weight, int distance, int totalCost);
+
+    /**
+     * Offer code this strategy is registered under.
+     * Defaults to the class name without "Discount" (e.g., "OFR001" for OFR001Discount).
+     *
+     * @return the offer code
+     */
+    default String code() {
+        return getClass().getSimpleName().replace("Discount", "");
+    }
+}
@@ -11,7 +11,6 @@
 
 package com.everesteng.courier.strategy;
 
-import com.everesteng.courier.model.Package;
 import org.springframework.stereotype.Component;
 
 @Component  // Registers this strategy as a Spring-managed bean
@@ -20,12 +19,13 @@ public class NoDiscount implements DiscountStrategy {
     /**
      * Always returns zero discount regardless of the package details.
      *
-     * @param pkg        the package (not used here since no discount applies)
+     * @param weight     package weight (not used here since no discount applies)
+     * @param distance   delivery distance (not used here since no discount applies)
      * @param totalCost  the original delivery cost
      * @return always 0, since no discount is given
      */
     @Override
-    public int calculate(Package pkg, int totalCost) {
+    public int calculate(int weight, int distance, int totalCost) {
         return 0; // No discount applied
     }
 }
\ No newline at end of file
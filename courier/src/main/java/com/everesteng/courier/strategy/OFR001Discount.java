@@ -11,14 +11,13 @@
 
 package com.everesteng.courier.strategy;
 
-import com.everesteng.courier.model.Package;
 import org.springframework.stereotype.Component;
 
 @Component("OFR001")  // Registers this strategy in Spring with the name "OFR001"
-public class OFR001Discount implements DiscountStrategy {
+public class OFR001Discount extends RangeDiscount {
 
     /**
-     * Calculates discount for packages eligible under "OFR001".
+     * Eligibility rule for "OFR001" (evaluated by RangeDiscount).
      *
      * Conditions:
      *   - Distance must be less than 200 km
@@ -26,17 +25,8 @@ public class OFR001Discount implements DiscountStrategy {
      *
      * If both conditions are satisfied → 10% discount on totalCost.
      * Otherwise → no discount.
-     *
-     * @param pkg        the package to check eligibility
-     * @param totalCost  the original delivery cost before discount
-     * @return discount amount (10% of cost if eligible, otherwise 0)
      */
-    @Override
-    public int calculate(Package pkg, int totalCost) {
-        // Check eligibility criteria for OFR001
-        if (pkg.getDistance() < 200 && pkg.getWeight() >= 70 && pkg.getWeight() <= 200) {
-            return (int) Math.round(totalCost * 0.10); // 10% discount
-        }
-        return 0; // Not eligible → no discount
+    public OFR001Discount() {
+        super(0, 199, 70, 200, 10);
     }
 }
\ No newline at end of file
@@ -11,14 +11,13 @@
 
 package com.everesteng.courier.strategy;
 
-import com.everesteng.courier.model.Package;
 import org.springframework.stereotype.Component;
 
 @Component("OFR002")  // Registers this strategy in Spring with the name "OFR002"
-public class OFR002Discount implements DiscountStrategy {
+public class OFR002Discount extends RangeDiscount {
 
     /**
-     * Calculates discount for packages eligible under "OFR002".
+     * Eligibility rule for "OFR002" (evaluated by RangeDiscount).
      *
      * Conditions:
      *   - Distance must be between 50 km and 150 km (inclusive)
@@ -26,18 +25,8 @@ public class OFR002Discount implements DiscountStrategy {
      *
      * If both conditions are satisfied → 7% discount on totalCost.
      * Otherwise → no discount.
-     *
-     * @param pkg        the package to check eligibility
-     * @param totalCost  the original delivery cost before discount
-     * @return discount amount (7% of cost if eligible, otherwise 0)
      */
-    @Override
-    public int calculate(Package pkg, int totalCost) {
-        // Check eligibility criteria for OFR002
-        if (pkg.getDistance() >= 50 && pkg.getDistance() <= 150 &&
-                pkg.getWeight() >= 100 && pkg.getWeight() <= 250) {
-            return (int) Math.round(totalCost * 0.07); // 7% discount
-        }
-        return 0; // Not eligible → no discount
+    public OFR002Discount() {
+        super(50, 150, 100, 250, 7);
     }
 }
\ No newline at end of file
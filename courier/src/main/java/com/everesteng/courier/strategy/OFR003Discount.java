@@ -11,14 +11,13 @@
 
 package com.everesteng.courier.strategy;
 
-import com.everesteng.courier.model.Package;
 import org.springframework.stereotype.Component;
 
 @Component("OFR003")  // Registers this strategy in Spring with the name "OFR003"
-public class OFR003Discount implements DiscountStrategy {
+public class OFR003Discount extends RangeDiscount {
 
     /**
-     * Calculates discount for packages eligible under "OFR003".
+     * Eligibility rule for "OFR003" (evaluated by RangeDiscount).
      *
      * Conditions:
      *   - Distance must be between 50 km and 250 km (inclusive)
@@ -26,18 +25,8 @@ public class OFR003Discount implements DiscountStrategy {
      *
      * If both conditions are satisfied → 5% discount on totalCost.
      * Otherwise → no discount.
-     *
-     * @param pkg        the package to check eligibility
-     * @param totalCost  the original delivery cost before discount
-     * @return discount amount (5% of cost if eligible, otherwise 0)
      */
-    @Override
-    public int calculate(Package pkg, int totalCost) {
-        // Check eligibility criteria for OFR003
-        if (pkg.getDistance() >= 50 && pkg.getDistance() <= 250 &&
-                pkg.getWeight() >= 10 && pkg.getWeight() <= 150) {
-            return (int) Math.round(totalCost * 0.05); // 5% discount
-        }
-        return 0; // Not eligible → no discount
+    public OFR003Discount() {
+        super(50, 250, 10, 150, 5);
     }
 }
\ No newline at end of file
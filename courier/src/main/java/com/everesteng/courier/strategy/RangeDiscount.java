@@ -0,0 +1,66 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Base class for discount strategies defined by simple ranges.
+ *
+ * - A package is eligible when its distance and weight both fall inside
+ *   inclusive ranges; eligible packages get a fixed percentage off.
+ * - Because the rule is pure data, DiscountService can compile it into an
+ *   OfferRuleTable and evaluate whole batches without calling the strategy.
+ */
+
+package com.everesteng.courier.strategy;
+
+import com.everesteng.courier.offer.OfferRule;
+
+public abstract class RangeDiscount implements DiscountStrategy {
+
+    private final int minDistance;
+    private final int maxDistance;
+    private final int minWeight;
+    private final int maxWeight;
+    private final double rate;
+    private final double percent;
+
+    /**
+     * @param minDistance minimum distance in km (inclusive)
+     * @param maxDistance maximum distance in km (inclusive)
+     * @param minWeight   minimum weight in kg (inclusive)
+     * @param maxWeight   maximum weight in kg (inclusive)
+     * @param percent     discount percentage (0 to 100)
+     */
+    protected RangeDiscount(int minDistance, int maxDistance, int minWeight, int maxWeight, double percent) {
+        this.minDistance = minDistance;
+        this.maxDistance = maxDistance;
+        this.minWeight = minWeight;
+        this.maxWeight = maxWeight;
+        this.percent = percent;
+        this.rate = percent / 100;
+    }
+
+    /**
+     * Applies the percentage when distance and weight are inside the ranges.
+     *
+     * @param weight     package weight in kg
+     * @param distance   delivery distance in km
+     * @param totalCost  the original delivery cost before discount
+     * @return discount amount (percentage of cost if eligible, otherwise 0)
+     */
+    @Override
+    public int calculate(int weight, int distance, int totalCost) {
+        if (distance >= minDistance && distance <= maxDistance &&
+                weight >= minWeight && weight <= maxWeight) {
+            return (int) Math.round(totalCost * rate);
+        }
+        return 0; // Not eligible → no discount
+    }
+
+    /**
+     * Describes this strategy as a rule for the given offer code.
+     *
+     * @param code offer code the strategy is registered under
+     * @return equivalent OfferRule
+     */
+    public OfferRule toRule(String code) {
+        return new OfferRule(code, minDistance, maxDistance, minWeight, maxWeight, percent);
+    }
+}
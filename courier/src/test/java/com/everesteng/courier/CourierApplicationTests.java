@@ -3,7 +3,7 @@ package com.everesteng.courier;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "courier.cli.enabled=false")
 class CourierApplicationTests {
 
 	@Test
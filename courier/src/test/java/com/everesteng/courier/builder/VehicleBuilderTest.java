@@ -66,4 +66,29 @@ class VehicleBuilderTest {
         assertEquals(2, vehicle.getVehicleId());        // Vehicle ID set via chaining
         assertEquals(10.0, vehicle.getAvailability());  // Availability set via chaining
     }
-}
\ No newline at end of file
+
+    /**
+     * Test building a mixed-fleet vehicle with class, speed, capacity and shift.
+     */
+    @Test
+    void testBuildMixedFleetVehicle() {
+        Vehicle vehicle = new VehicleBuilder()
+                .setVehicleId(3)
+                .setVehicleClass("truck")
+                .setSpeed(55)
+                .setCapacity(600)
+                .setShift(6.0F, 18.0F)
+                .build();
+
+        // Assertions
+        assertEquals("truck", vehicle.getVehicleClass());
+        assertEquals(55, vehicle.getSpeed());
+        assertEquals(600, vehicle.getCapacity());
+        assertEquals(6.0, vehicle.getShiftStart());
+        assertEquals(18.0, vehicle.getShiftEnd());
+
+        // A shift that ends before it starts is rejected
+        assertThrows(IllegalArgumentException.class,
+                () -> new VehicleBuilder().setShift(5.0F, 1.0F).build());
+    }
+}
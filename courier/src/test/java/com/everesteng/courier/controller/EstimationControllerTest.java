@@ -0,0 +1,166 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Tests for the REST estimation endpoints.
+ *
+ * - Runs the controller through MockMvc with the real services, so responses
+ *   can be compared with the CLI sample outputs.
+ * - Verifies that invalid requests are answered with HTTP 400.
+ * - Prices the binary batch format like the JSON cost endpoint.
+ */
+
+package com.everesteng.courier.controller;
+
+import com.everesteng.courier.io.BatchCostCodec;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.service.*;
+import com.everesteng.courier.strategy.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EstimationControllerTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        DiscountService discountService = new DiscountService(List.of(
+                new OFR001Discount(), new OFR002Discount(), new OFR003Discount(), new NoDiscount()));
+        CourierService courierService = new CourierService(discountService,
+                new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new EstimationController(courierService))
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    /**
+     * ✅ Test: Cost estimation for the sample input.
+     * Expected: PKG1 0 175, PKG2 0 275, PKG3 35 665 (no delivery time).
+     */
+    @Test
+    void testCostEstimate() throws Exception {
+        mockMvc.perform(post("/api/estimates/cost")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"baseCost": 100, "packages": [
+                                  {"id": "PKG1", "weight": 5,  "distance": 5,   "offerCode": "OFR001"},
+                                  {"id": "PKG2", "weight": 15, "distance": 5,   "offerCode": "OFR002"},
+                                  {"id": "PKG3", "weight": 10, "distance": 100, "offerCode": "OFR003"}]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.packages[0].id").value("PKG1"))
+                .andExpect(jsonPath("$.packages[0].finalCost").value(175))
+                .andExpect(jsonPath("$.packages[1].finalCost").value(275))
+                .andExpect(jsonPath("$.packages[2].discount").value(35))
+                .andExpect(jsonPath("$.packages[2].finalCost").value(665))
+                .andExpect(jsonPath("$.packages[0].deliveryTime").doesNotExist());
+    }
+
+    /**
+     * ✅ Test: Binary batch cost estimation for the sample input.
+     * Expected: The same discounts and final costs as the JSON endpoint.
+     */
+    @Test
+    void testCostBatchEstimate() throws Exception {
+        byte[] request = BatchCostCodec.encodeRequest(100, List.of(
+                new Package("PKG1", 5, 5, "OFR001"),
+                new Package("PKG2", 15, 5, "OFR002"),
+                new Package("PKG3", 10, 100, "OFR003")));
+
+        byte[] body = mockMvc.perform(post("/api/estimates/cost/batch")
+                        .contentType(BatchCostCodec.MEDIA_TYPE)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BatchCostCodec.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        BatchCostCodec.Response response = BatchCostCodec.decodeResponse(ByteBuffer.wrap(body));
+        assertArrayEquals(new int[]{0, 0, 35}, response.discounts());
+        assertArrayEquals(new int[]{175, 275, 665}, response.finalCosts());
+    }
+
+    /**
+     * ❌ Test: A body that is not a batch cost request is rejected with HTTP 400.
+     */
+    @Test
+    void testInvalidCostBatch() throws Exception {
+        mockMvc.perform(post("/api/estimates/cost/batch")
+                        .contentType(BatchCostCodec.MEDIA_TYPE)
+                        .content(new byte[]{1, 2, 3}))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Not a batch cost request"));
+    }
+
+    /**
+     * ✅ Test: Delivery-time estimation for the sample input.
+     * Expected: Same costs and delivery times as the CLI sample output.
+     */
+    @Test
+    void testDeliveryEstimate() throws Exception {
+        mockMvc.perform(post("/api/estimates/delivery")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"baseCost": 100, "packages": [
+                                  {"id": "PKG1", "weight": 50,  "distance": 30,  "offerCode": "OFR001"},
+                                  {"id": "PKG2", "weight": 75,  "distance": 125, "offerCode": "OFFR0008"},
+                                  {"id": "PKG3", "weight": 175, "distance": 100, "offerCode": "OFFR003"},
+                                  {"id": "PKG4", "weight": 110, "distance": 60,  "offerCode": "OFR002"},
+                                  {"id": "PKG5", "weight": 155, "distance": 95,  "offerCode": "NA"}],
+                                 "fleet": {"numVehicles": 2, "maxSpeed": 70, "maxCarriableWeight": 200}}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.packages[0].finalCost").value(750))
+                .andExpect(jsonPath("$.packages[0].deliveryTime").value(3.98))
+                .andExpect(jsonPath("$.packages[3].discount").value(105))
+                .andExpect(jsonPath("$.packages[3].deliveryTime").value(0.85))
+                .andExpect(jsonPath("$.packages[4].deliveryTime").value(4.19));
+    }
+
+    /**
+     * ❌ Test: Missing fleet and overweight packages are rejected with HTTP 400.
+     */
+    @Test
+    void testInvalidDeliveryRequest() throws Exception {
+        mockMvc.perform(post("/api/estimates/delivery")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"baseCost": 100, "packages": [{"id": "PKG1", "weight": 50, "distance": 30}]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Fleet details are required"));
+
+        mockMvc.perform(post("/api/estimates/delivery")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"baseCost": 100, "packages": [{"id": "PKG1", "weight": 500, "distance": 30}],
+                                 "fleet": {"numVehicles": 1, "maxSpeed": 70, "maxCarriableWeight": 200}}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * ❌ Test: Invalid package values are rejected with HTTP 400.
+     */
+    @Test
+    void testInvalidPackage() throws Exception {
+        mockMvc.perform(post("/api/estimates/cost")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"baseCost": 100, "packages": [{"id": "PKG1", "weight": -5, "distance": 5}]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Weight cannot be negative"));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Tests for the REST planning job endpoints.
+ *
+ * - Runs the controller through MockMvc with the real services.
+ * - A submitted job streams its plan as NDJSON, one event per line.
+ * - Unknown jobs are answered with HTTP 404, invalid requests with HTTP 400.
+ */
+
+package com.everesteng.courier.controller;
+
+import com.everesteng.courier.job.PlanningJobService;
+import com.everesteng.courier.service.*;
+import com.everesteng.courier.strategy.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class PlanningJobControllerTest {
+
+    private static final String SAMPLE = """
+            {"baseCost": 100, "packages": [
+              {"id": "PKG1", "weight": 50,  "distance": 30,  "offerCode": "OFR001"},
+              {"id": "PKG2", "weight": 75,  "distance": 125, "offerCode": "OFFR0008"},
+              {"id": "PKG3", "weight": 175, "distance": 100, "offerCode": "OFFR003"},
+              {"id": "PKG4", "weight": 110, "distance": 60,  "offerCode": "OFR002"},
+              {"id": "PKG5", "weight": 155, "distance": 95,  "offerCode": "NA"}],
+             "fleet": {"numVehicles": 2, "maxSpeed": 70, "maxCarriableWeight": 200}}
+            """;
+
+    private PlanningJobService jobService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        DiscountService discountService = new DiscountService(List.of(
+                new OFR001Discount(), new OFR002Discount(), new OFR003Discount(), new NoDiscount()));
+        CourierService courierService = new CourierService(discountService,
+                new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+        jobService = new PlanningJobService(courierService, 1, 4, 16, 5, 60);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new PlanningJobController(jobService, new ObjectMapper()))
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.close();
+    }
+
+    /**
+     * ✅ Test: A submitted job streams packed, four shipments and completed.
+     */
+    @Test
+    void testSubmitAndStream() throws Exception {
+        MvcResult submitted = mockMvc.perform(post("/api/jobs/delivery")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(SAMPLE))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.jobId").exists())
+                .andReturn();
+
+        String location = submitted.getResponse().getHeader("Location");
+        MvcResult streaming = mockMvc.perform(get(location))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(streaming))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.strip().split("\n");
+        assertEquals(6, lines.length);
+        assertTrue(lines[0].contains("\"type\":\"packed\""));
+        assertTrue(lines[1].contains("\"type\":\"shipment\""));
+        assertTrue(lines[1].contains("\"index\":0"));
+        assertTrue(lines[5].contains("\"type\":\"completed\""));
+        assertTrue(body.contains("\"id\":\"PKG4\",\"discount\":105,\"finalCost\":1395"));
+    }
+
+    /**
+     * ❌ Test: Unknown jobs are answered with HTTP 404.
+     */
+    @Test
+    void testUnknownJob() throws Exception {
+        mockMvc.perform(get("/api/jobs/missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * ❌ Test: A job without fleet details is rejected with HTTP 400.
+     */
+    @Test
+    void testMissingFleet() throws Exception {
+        mockMvc.perform(post("/api/jobs/delivery")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"baseCost": 100, "packages": [
+                                  {"id": "PKG1", "weight": 5, "distance": 5, "offerCode": "OFR001"}]}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for BatchCostCodec.
+ *
+ * - Round-trips requests and responses through the reference encoder/decoder.
+ * - Checks that the binary batch prices every package like the single-package API.
+ * - Ensures truncated or inconsistent bodies are rejected.
+ */
+
+package com.everesteng.courier.io;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.DiscountService;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import com.everesteng.courier.strategy.NoDiscount;
+import com.everesteng.courier.strategy.OFR001Discount;
+import com.everesteng.courier.strategy.OFR002Discount;
+import com.everesteng.courier.strategy.OFR003Discount;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchCostCodecTest {
+
+    private static final List<Package> SAMPLE = List.of(
+            new Package("PKG1", 5, 5, "OFR001"),
+            new Package("PKG2", 15, 5, "OFR002"),
+            new Package("PKG3", 10, 100, "OFR003"),
+            new Package("Päckchen-4", 12, 80, "OFR003"),
+            new Package("PKG5", 155, 95, "")
+    );
+
+    /**
+     * Test case: Request round trip.
+     * Expected: Base cost and every column are decoded in request order;
+     * the offer dictionary holds each distinct code once.
+     */
+    @Test
+    void decodeRequest_ShouldReadEncodedRequest() throws CourierServiceException {
+        byte[] body = BatchCostCodec.encodeRequest(100, SAMPLE);
+
+        BatchCostCodec.Request request = BatchCostCodec.decodeRequest(ByteBuffer.wrap(body));
+        PackageBatch batch = request.packages();
+
+        assertEquals(100, request.baseCost());
+        assertEquals(5, batch.size());
+        assertEquals(4, batch.offerCodeCount());
+        for (int row = 0; row < SAMPLE.size(); row++) {
+            assertEquals(SAMPLE.get(row).getId(), batch.getId(row));
+            assertEquals(SAMPLE.get(row).getWeight(), batch.getWeight(row));
+            assertEquals(SAMPLE.get(row).getDistance(), batch.getDistance(row));
+            assertEquals(SAMPLE.get(row).getOfferCode(), batch.getOfferCode(row));
+        }
+        // 12 header bytes + dictionary + ids + 10 bytes of columns per package
+        assertTrue(body.length < 12 + 40 + 4 + 60 + 5 * 10);
+    }
+
+    /**
+     * Test case: Response round trip.
+     * Expected: Discounts and final costs come back unchanged.
+     */
+    @Test
+    void decodeResponse_ShouldReadEncodedResponse() throws CourierServiceException {
+        int[] discounts = {0, 0, 35, 0};
+        int[] finalCosts = {175, 275, 665, 9};
+
+        byte[] body = BatchCostCodec.encodeResponse(3, discounts, finalCosts);
+        BatchCostCodec.Response response = BatchCostCodec.decodeResponse(ByteBuffer.wrap(body));
+
+        assertEquals(8 + 3 * 8, body.length);
+        assertArrayEquals(new int[]{0, 0, 35}, response.discounts());
+        assertArrayEquals(new int[]{175, 275, 665}, response.finalCosts());
+    }
+
+    /**
+     * Test case: Random batch priced through the binary request.
+     * Expected: Same discount and final cost as CourierService.calculateFinalCost per package.
+     */
+    @Test
+    void decodedBatch_ShouldPriceLikeSinglePackages() throws CourierServiceException {
+        CourierService courierService = new CourierService(new DiscountService(List.of(
+                new OFR001Discount(), new OFR002Discount(), new OFR003Discount(), new NoDiscount())),
+                new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+        String[] codes = {"OFR001", "OFR002", "OFR003", "NA", "OFFR0008", ""};
+        Random random = new Random(3);
+        List<Package> packages = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            packages.add(new Package("PKG" + i, random.nextInt(250), random.nextInt(250),
+                    codes[random.nextInt(codes.length)]));
+        }
+
+        PackageBatch batch = BatchCostCodec.decodeRequest(
+                ByteBuffer.wrap(BatchCostCodec.encodeRequest(100, packages))).packages();
+        int[] discounts = new int[batch.size()];
+        int[] finalCosts = new int[batch.size()];
+        courierService.calculateFinalCosts(batch, 100, discounts, finalCosts);
+
+        for (int i = 0; i < packages.size(); i++) {
+            Package pkg = packages.get(i);
+            int finalCost = courierService.calculateFinalCost(pkg, 100);
+            assertEquals(finalCost, finalCosts[i], pkg.getId());
+            assertEquals(100 + pkg.getWeight() * 10 + pkg.getDistance() * 5 - finalCost, discounts[i], pkg.getId());
+        }
+    }
+
+    /**
+     * Test case: Malformed requests.
+     * Expected: Wrong magic, truncated bodies, bad ordinals, a wrong ID block
+     * length and invalid package values throw CourierServiceException.
+     */
+    @Test
+    void decodeRequest_ShouldRejectMalformedBodies() {
+        byte[] body = BatchCostCodec.encodeRequest(100, SAMPLE);
+
+        byte[] badMagic = body.clone();
+        badMagic[0] = 'X';
+        assertThrows(CourierServiceException.class, () -> BatchCostCodec.decodeRequest(ByteBuffer.wrap(badMagic)));
+
+        byte[] truncated = Arrays.copyOf(body, body.length - 1);
+        assertThrows(CourierServiceException.class, () -> BatchCostCodec.decodeRequest(ByteBuffer.wrap(truncated)));
+
+        // Last ordinal points past the 4-entry dictionary
+        byte[] badOrdinal = body.clone();
+        badOrdinal[body.length - 1] = 9;
+        assertThrows(CourierServiceException.class, () -> BatchCostCodec.decodeRequest(ByteBuffer.wrap(badOrdinal)));
+
+        // Package count larger than the body can hold
+        ByteBuffer hugeCount = ByteBuffer.wrap(body.clone());
+        hugeCount.putInt(8, Integer.MAX_VALUE);
+        assertThrows(CourierServiceException.class, () -> BatchCostCodec.decodeRequest(hugeCount));
+
+        byte[] negativeWeight = BatchCostCodec.encodeRequest(100, List.of(new Package("PKG1", 5, 5, "NA")));
+        ByteBuffer.wrap(negativeWeight).putInt(negativeWeight.length - 10, -5);
+        CourierServiceException e = assertThrows(CourierServiceException.class,
+                () -> BatchCostCodec.decodeRequest(ByteBuffer.wrap(negativeWeight)));
+        assertEquals("Weight cannot be negative", e.getMessage());
+    }
+
+    /**
+     * Test case: ID block length that does not match the IDs.
+     * Expected: CourierServiceException is thrown.
+     */
+    @Test
+    void decodeRequest_ShouldRejectWrongIdBlockLength() {
+        byte[] body = BatchCostCodec.encodeRequest(100, List.of(new Package("PKG1", 5, 5, "NA")));
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        // magic, base cost, count, u16 dictionary size, "NA" (2 + 2 bytes) → ID block length
+        int lengthOffset = 4 + 4 + 4 + 2 + 4;
+        buffer.putInt(lengthOffset, buffer.getInt(lengthOffset) + 1);
+
+        assertThrows(CourierServiceException.class, () -> BatchCostCodec.decodeRequest(ByteBuffer.wrap(body)));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for ManifestReader.
+ *
+ * - Reads a manifest into a PackageBatch and checks header and fleet values.
+ * - Uses a tiny mapping window so rows cross window boundaries.
+ * - Ensures malformed rows are reported with line and column.
+ */
+
+package com.everesteng.courier.io;
+
+import com.everesteng.courier.exception.ManifestFormatException;
+import com.everesteng.courier.model.PackageBatch;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ManifestReaderTest {
+
+    private static final String SAMPLE = "100 5\n" +
+            "PKG1 50 30 OFR001\n" +
+            "PKG2 75 125 OFFR0008\r\n" +
+            "PKG3 175 100 OFFR003\n" +
+            "PKG4 110 60 OFR002\n" +
+            "PKG5 155 95 NA\n" +
+            "\n" +
+            "2 70 200";
+
+    /**
+     * Test case: Sample manifest with a fleet line.
+     * Expected: All rows, header and fleet values are read.
+     */
+    @Test
+    void readBatch_ShouldReadRowsHeaderAndFleet() throws Exception {
+        ManifestReader reader = new ManifestReader(write(SAMPLE));
+
+        PackageBatch batch = reader.readBatch();
+
+        assertEquals(100, reader.getBaseCost());
+        assertEquals(5, batch.size());
+        assertEquals("PKG2", batch.getId(1));
+        assertEquals("OFFR0008", batch.getOfferCode(1));
+        assertEquals(155, batch.getWeight(4));
+        assertEquals(95, batch.getDistance(4));
+        assertTrue(reader.hasFleet());
+        assertEquals(2, reader.getNumVehicles());
+        assertEquals(70, reader.getMaxSpeed());
+        assertEquals(200, reader.getMaxCarriableWeight());
+    }
+
+    /**
+     * Test case: Mapping window smaller than the file.
+     * Expected: Same rows as with the default window.
+     */
+    @Test
+    void read_ShouldHandleRowsAcrossWindows() throws Exception {
+        ManifestReader reader = new ManifestReader(write(SAMPLE), 24);
+        StringBuilder ids = new StringBuilder();
+        int[] totalWeight = new int[1];
+
+        reader.read(row -> {
+            ids.append(row.getId()).append(',');
+            totalWeight[0] += row.getWeight();
+        });
+
+        assertEquals("PKG1,PKG2,PKG3,PKG4,PKG5,", ids.toString());
+        assertEquals(565, totalWeight[0]);
+        assertTrue(reader.hasFleet());
+    }
+
+    /**
+     * Test case: Row with a missing offer code and a row with a bad distance.
+     * Expected: ManifestFormatException with the line and column of the problem.
+     */
+    @Test
+    void read_ShouldReportLineAndColumn_WhenRowIsMalformed() throws Exception {
+        ManifestReader missing = new ManifestReader(write("100 2\nPKG1 50 30 OFR001\nPKG2 75 125\n"));
+        ManifestFormatException e = assertThrows(ManifestFormatException.class, () -> missing.read(row -> { }));
+        assertEquals(3, e.getLine());
+        assertEquals(12, e.getColumn());
+
+        ManifestReader invalid = new ManifestReader(write("100 1\n  PKG1 50 3O OFR001\n"), 24);
+        e = assertThrows(ManifestFormatException.class, () -> invalid.read(row -> { }));
+        assertEquals(2, e.getLine());
+        assertEquals(11, e.getColumn());
+    }
+
+    // Helper: writes content to a temporary manifest file
+    private static Path write(String content) throws IOException {
+        Path file = Files.createTempFile("manifest", ".txt");
+        file.toFile().deleteOnExit();
+        return Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for StreamingCostEstimator.
+ *
+ * - Validates that the streamed results match the interactive cost mode output.
+ * - Ensures malformed lines are reported with line and column.
+ * - Uses real services (no mocks) so the full pricing path is exercised.
+ */
+
+package com.everesteng.courier.io;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.exception.ManifestFormatException;
+import com.everesteng.courier.service.*;
+import com.everesteng.courier.strategy.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingCostEstimatorTest {
+
+    private StreamingCostEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        DiscountService discountService = new DiscountService(List.of(
+                new OFR001Discount(), new OFR002Discount(), new OFR003Discount(), new NoDiscount()));
+        CourierService courierService = new CourierService(discountService,
+                new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+        estimator = new StreamingCostEstimator(courierService);
+    }
+
+    /**
+     * Test case: Sample input from the problem statement.
+     * Expected: Same bytes as the interactive cost mode result section.
+     */
+    @Test
+    void estimate_ShouldMatchInteractiveOutput() throws Exception {
+        String input = "100 3\n" +
+                "PKG1 5 5 OFR001\n" +
+                "PKG2 15 5 OFR002\r\n" +
+                "  PKG3   10 100 OFR003";
+
+        String output = run(input);
+
+        String n = System.lineSeparator();
+        assertEquals("=== Delivery Cost Estimation Results ===" + n +
+                "PKG1 0 175" + n +
+                "PKG2 0 275" + n +
+                "PKG3 35 665" + n, output);
+    }
+
+    /**
+     * Test case: A package line with a non-numeric weight.
+     * Expected: ManifestFormatException pointing at line 3, column 6.
+     */
+    @Test
+    void estimate_ShouldReportLineAndColumn_WhenLineIsMalformed() {
+        String input = "100 2\nPKG1 5 5 OFR001\nPKG2 1x 5 OFR002\n";
+
+        ManifestFormatException e = assertThrows(ManifestFormatException.class, () -> run(input));
+
+        assertEquals(3, e.getLine());
+        assertEquals(6, e.getColumn());
+    }
+
+    /**
+     * Test case: Input ends before the announced number of packages.
+     * Expected: ManifestFormatException after the rows that were present.
+     */
+    @Test
+    void estimate_ShouldThrow_WhenInputIsTruncated() {
+        assertThrows(ManifestFormatException.class, () -> run("100 3\nPKG1 5 5 OFR001\n"));
+    }
+
+    // Helper: runs the estimator on a string and returns the output as a string
+    private String run(String input) throws IOException, CourierServiceException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        estimator.estimate(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for PlanningJobService and PlanningJob.
+ *
+ * - A job streams packed, one event per shipment in dispatch order, then completed.
+ * - A full event buffer pauses planning until the client reads (backpressure).
+ * - A client that stops reading fails the job after the consumer timeout.
+ * - Cancelled jobs stop (queued ones at once), and jobs beyond the queue
+ *   capacity are rejected.
+ *
+ * Uses the sample from the problem statement: 2 vehicles, speed 70, max 200 kg.
+ */
+
+package com.everesteng.courier.job;
+
+import com.everesteng.courier.dto.JobEvent;
+import com.everesteng.courier.dto.PackageEstimate;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.DiscountService;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import com.everesteng.courier.strategy.NoDiscount;
+import com.everesteng.courier.strategy.OFR001Discount;
+import com.everesteng.courier.strategy.OFR002Discount;
+import com.everesteng.courier.strategy.OFR003Discount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlanningJobServiceTest {
+
+    private final CourierService courierService = new CourierService(
+            new DiscountService(List.of(new OFR001Discount(), new OFR002Discount(),
+                    new OFR003Discount(), new NoDiscount())),
+            new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+
+    private PlanningJobService jobService;
+
+    @AfterEach
+    void tearDown() {
+        if (jobService != null) {
+            jobService.close();
+        }
+    }
+
+    // Sample packages from the problem statement
+    private static List<Package> samplePackages() {
+        return List.of(
+                new Package("PKG1", 50, 30, "OFR001"),
+                new Package("PKG2", 75, 125, "OFFR0008"),
+                new Package("PKG3", 175, 100, "OFFR003"),
+                new Package("PKG4", 110, 60, "OFR002"),
+                new Package("PKG5", 155, 95, "NA")
+        );
+    }
+
+    private PlanningJob submitSample() {
+        return jobService.submit(samplePackages(), 100, 200, 70, 2, null);
+    }
+
+    // Reads events until the final one
+    private static List<JobEvent> drain(PlanningJob job) throws InterruptedException {
+        List<JobEvent> events = new ArrayList<>();
+        while (true) {
+            JobEvent event = job.nextEvent(5, TimeUnit.SECONDS);
+            assertNotNull(event, "Job stopped sending events");
+            events.add(event);
+            if (JobEvent.COMPLETED.equals(event.type()) || JobEvent.FAILED.equals(event.type())) {
+                return events;
+            }
+        }
+    }
+
+    private static void awaitFinished(PlanningJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!job.isFinished()) {
+            assertTrue(System.nanoTime() < deadline, "Job did not finish");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * ✅ Events arrive as packed, one shipment per event in dispatch order, completed.
+     */
+    @Test
+    void testJobStreamsShipmentsInOrder() throws InterruptedException {
+        jobService = new PlanningJobService(courierService, 1, 4, 16, 5, 60);
+        PlanningJob job = submitSample();
+
+        List<JobEvent> events = drain(job);
+
+        assertEquals(6, events.size());
+        assertEquals(JobEvent.packed(4), events.get(0));
+        assertEquals(JobEvent.completed(4), events.get(5));
+
+        Set<String> ids = new HashSet<>();
+        for (int i = 1; i <= 4; i++) {
+            JobEvent shipment = events.get(i);
+            assertEquals(JobEvent.SHIPMENT, shipment.type());
+            assertEquals(i - 1, (int) shipment.index());
+            for (PackageEstimate estimate : shipment.packages()) {
+                assertTrue(ids.add(estimate.id()));
+                if (estimate.id().equals("PKG4")) {
+                    // OFR002: 7% of 100 + 110 * 10 + 60 * 5
+                    assertEquals(105, estimate.discount());
+                    assertEquals(1395, estimate.finalCost());
+                    assertEquals(0.85f, estimate.deliveryTime(), 0.001);
+                }
+            }
+        }
+        assertEquals(Set.of("PKG1", "PKG2", "PKG3", "PKG4", "PKG5"), ids);
+
+        awaitFinished(job);
+        assertEquals(PlanningJob.Status.COMPLETED, job.getStatus());
+        assertEquals(4, job.getShipmentsSent());
+        assertEquals(4, (int) job.toResponse().shipments());
+    }
+
+    /**
+     * ✅ Planning waits while the event buffer is full, and resumes when the client reads.
+     */
+    @Test
+    void testFullBufferPausesPlanning() throws InterruptedException {
+        jobService = new PlanningJobService(courierService, 1, 4, 1, 5, 60);
+        PlanningJob job = submitSample();
+
+        Thread.sleep(200);
+        assertFalse(job.isFinished());
+        assertEquals(PlanningJob.Status.RUNNING, job.getStatus());
+        assertEquals(0, job.getShipmentsSent());   // packed is buffered, shipment 0 waits
+
+        List<JobEvent> events = drain(job);
+        assertEquals(6, events.size());
+        awaitFinished(job);
+        assertEquals(PlanningJob.Status.COMPLETED, job.getStatus());
+    }
+
+    /**
+     * ❌ A client that never reads fails the job after the consumer timeout.
+     */
+    @Test
+    void testUnreadJobFailsAfterConsumerTimeout() throws InterruptedException {
+        jobService = new PlanningJobService(courierService, 1, 4, 1, 0, 60);
+        PlanningJob job = submitSample();
+
+        awaitFinished(job);
+        assertEquals(PlanningJob.Status.FAILED, job.getStatus());
+        assertTrue(job.getError().startsWith("No client read the job events"));
+        assertEquals(JobEvent.PACKED, job.nextEvent(1, TimeUnit.SECONDS).type());
+    }
+
+    /**
+     * ❌ A cancelled job stops while waiting for the client.
+     */
+    @Test
+    void testCancelStopsJob() throws InterruptedException {
+        jobService = new PlanningJobService(courierService, 1, 4, 1, 60, 60);
+        PlanningJob job = submitSample();
+        assertSame(job, jobService.find(job.getId()));
+
+        Thread.sleep(100);
+        job.cancel();
+
+        awaitFinished(job);
+        assertEquals(PlanningJob.Status.CANCELLED, job.getStatus());
+        assertEquals("Planning job was cancelled", job.getError());
+
+        jobService.remove(job.getId());
+        assertNull(jobService.find(job.getId()));
+    }
+
+    /**
+     * ❌ A job cancelled while still queued finishes at once, although its planning task never runs.
+     */
+    @Test
+    void testCancelQueuedJob() throws InterruptedException {
+        jobService = new PlanningJobService(courierService, 1, 4, 1, 60, 60);
+        PlanningJob running = submitSample();     // blocks on its full buffer
+        PlanningJob queued = submitSample();      // waits for the planning thread
+
+        queued.cancel();
+
+        assertTrue(queued.isFinished());
+        assertEquals(PlanningJob.Status.CANCELLED, queued.getStatus());
+        JobEvent last = queued.nextEvent(1, TimeUnit.SECONDS);
+        assertEquals(JobEvent.FAILED, last.type());
+        assertEquals("Planning job was cancelled", last.message());
+
+        running.cancel();
+        awaitFinished(running);
+        assertEquals(PlanningJob.Status.CANCELLED, running.getStatus());
+    }
+
+    /**
+     * ❌ Jobs beyond the planning threads and the queue capacity are rejected.
+     */
+    @Test
+    void testOverloadIsRejected() {
+        jobService = new PlanningJobService(courierService, 1, 1, 1, 60, 60);
+        PlanningJob running = submitSample();     // blocks on its full buffer
+        PlanningJob queued = submitSample();      // waits for the planning thread
+
+        assertThrows(RejectedExecutionException.class, this::submitSample);
+        assertNotNull(jobService.find(running.getId()));
+        assertNotNull(jobService.find(queued.getId()));
+    }
+
+    /**
+     * ❌ Invalid pool settings are rejected.
+     */
+    @Test
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PlanningJobService(courierService, 0, 1, 1, 60, 60));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PlanningJobService(courierService, 1, 1, 0, 60, 60));
+    }
+}
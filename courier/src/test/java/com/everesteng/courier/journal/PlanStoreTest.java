@@ -0,0 +1,189 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for the plan journal and plan snapshots.
+ *
+ * - Journal entries of every type survive a write/replay round trip.
+ * - A torn or corrupt tail ends the replay and is cut off on reopen.
+ * - Snapshots round-trip the full plan state and reject damaged files.
+ * - A checkpoint replaces the snapshot and empties the journal.
+ */
+
+package com.everesteng.courier.journal;
+
+import com.everesteng.courier.model.Package;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlanStoreTest {
+
+    private Path dir;
+    private Path journalFile;
+    private Path snapshotFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("plan");
+        journalFile = dir.resolve(PlanStore.JOURNAL_FILE);
+        snapshotFile = dir.resolve(PlanStore.SNAPSHOT_FILE);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(journalFile);
+        Files.deleteIfExists(snapshotFile);
+        Files.deleteIfExists(dir.resolve(PlanStore.SNAPSHOT_FILE + ".tmp"));
+        Files.deleteIfExists(dir);
+    }
+
+    // Small plan: vehicle 0 carries [PKG1, PKG2] (departed), vehicle 1 carries [PKG3]
+    private static PlanState samplePlan(long sequence) {
+        Package p1 = new Package("PKG1", 50, 30, "OFR001");
+        Package p2 = new Package("PKG2", 75, 125, "NA");
+        Package p3 = new Package("PKG3", 175, 100, "NA");
+        p1.setDeliveryTimeHundredths(42);
+        p2.setDeliveryTimeHundredths(178);
+        p3.setDeliveryTimeHundredths(142);
+        return new PlanState(sequence, 200, 70, 2, 100, List.of(
+                new PlanState.TripState(0, 0, 356, true, List.of(p1, p2)),
+                new PlanState.TripState(1, 0, 284, false, List.of(p3))),
+                new int[] {1});
+    }
+
+    private static List<JournalRecord> replayAll(Path file, long after) throws Exception {
+        List<JournalRecord> records = new ArrayList<>();
+        PlanJournal.replay(file, after, records::add);
+        return records;
+    }
+
+    /**
+     * ✅ Every entry type is read back exactly; entries up to a sequence can be skipped.
+     */
+    @Test
+    void testJournalRoundTrip() throws Exception {
+        List<JournalRecord> written = List.of(
+                JournalRecord.add(1, new Package("PKG6", 20, 50, "OFR003"), 1, 0),
+                JournalRecord.update(2, new Package("PKG6", 25, 60, ""), 0, 356),
+                JournalRecord.cancel(3, "PKG1"),
+                JournalRecord.advance(4, 150));
+
+        try (PlanJournal journal = PlanJournal.open(journalFile, 0, 2)) {
+            for (JournalRecord record : written) {
+                journal.append(record);
+            }
+        }
+
+        assertEquals(written, replayAll(journalFile, 0));
+        assertEquals(written.subList(2, 4), replayAll(journalFile, 2));
+    }
+
+    /**
+     * ✅ A crash in the middle of an entry loses only that entry; the torn
+     * bytes are cut off when the journal is reopened, so appends continue cleanly.
+     */
+    @Test
+    void testTornTailIsDropped() throws Exception {
+        try (PlanJournal journal = PlanJournal.open(journalFile, 0, 1)) {
+            journal.append(JournalRecord.cancel(1, "PKG1"));
+            journal.append(JournalRecord.cancel(2, "PKG2"));
+        }
+        long size = Files.size(journalFile);
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 3);
+        }
+
+        long validLength = PlanJournal.replay(journalFile, 0, record -> { });
+        assertEquals(1, replayAll(journalFile, 0).size());
+
+        try (PlanJournal journal = PlanJournal.open(journalFile, validLength, 1)) {
+            journal.append(JournalRecord.cancel(2, "PKG3"));
+        }
+        List<JournalRecord> records = replayAll(journalFile, 0);
+        assertEquals(2, records.size());
+        assertEquals("PKG3", records.get(1).packageId());
+    }
+
+    /**
+     * ❌ An entry with a bad checksum ends the replay.
+     */
+    @Test
+    void testCorruptEntryEndsReplay() throws Exception {
+        try (PlanJournal journal = PlanJournal.open(journalFile, 0, 1)) {
+            journal.append(JournalRecord.advance(1, 10));
+            journal.append(JournalRecord.advance(2, 20));
+        }
+        byte[] bytes = Files.readAllBytes(journalFile);
+        bytes[bytes.length - 6] ^= 1; // inside the second entry's body
+        Files.write(journalFile, bytes);
+
+        assertEquals(List.of(JournalRecord.advance(1, 10)), replayAll(journalFile, 0));
+    }
+
+    /**
+     * ✅ A snapshot restores trips, packages, delivery times and the spare order.
+     */
+    @Test
+    void testSnapshotRoundTrip() throws IOException {
+        PlanSnapshot.write(snapshotFile, samplePlan(7));
+
+        PlanState state = PlanSnapshot.read(snapshotFile);
+
+        assertEquals(7, state.sequence());
+        assertEquals(200, state.maxWeight());
+        assertEquals(70, state.speed());
+        assertEquals(2, state.numVehicles());
+        assertEquals(100, state.now());
+        assertEquals(2, state.trips().size());
+        PlanState.TripState first = state.trips().get(0);
+        assertTrue(first.departed());
+        assertEquals(356, first.time());
+        assertEquals("PKG2", first.packages().get(1).getId());
+        assertEquals("NA", first.packages().get(1).getOfferCode());
+        assertEquals(178, first.packages().get(1).getDeliveryTimeHundredths());
+        assertArrayEquals(new int[] {1}, state.spareOrder());
+        assertFalse(Files.exists(dir.resolve(PlanStore.SNAPSHOT_FILE + ".tmp")));
+    }
+
+    /**
+     * ❌ A damaged snapshot is rejected instead of being half-loaded.
+     */
+    @Test
+    void testCorruptSnapshotRejected() throws IOException {
+        PlanSnapshot.write(snapshotFile, samplePlan(1));
+        byte[] bytes = Files.readAllBytes(snapshotFile);
+        bytes[40] ^= 1;
+        Files.write(snapshotFile, bytes);
+
+        assertThrows(IOException.class, () -> PlanSnapshot.read(snapshotFile));
+    }
+
+    /**
+     * ✅ The store snapshots every snapshotEvery events; a checkpoint empties the journal.
+     */
+    @Test
+    void testCheckpointEmptiesJournal() throws Exception {
+        try (PlanStore store = new PlanStore(dir, 1, 2)) {
+            store.start(samplePlan(0));
+            store.append(JournalRecord.advance(1, 110));
+            assertFalse(store.isSnapshotDue());
+            store.append(JournalRecord.advance(2, 120));
+            assertTrue(store.isSnapshotDue());
+
+            store.checkpoint(samplePlan(2));
+
+            assertFalse(store.isSnapshotDue());
+            assertEquals(0, Files.size(journalFile));
+            assertEquals(2, store.readSnapshot().sequence());
+        }
+    }
+}
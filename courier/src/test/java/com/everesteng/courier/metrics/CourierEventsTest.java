@@ -0,0 +1,147 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for the courier JFR events.
+ *
+ * - Events are disabled unless a recording enables them.
+ * - Events are registered with Flight Recorder once a recording is created.
+ * - A recording with the events enabled gets one planning run, one packing
+ *   pass, one assignment per shipment and one discount evaluation per package,
+ *   carrying the package counts, weights and wait times of the plan.
+ *
+ * Uses the sample from the problem statement: 2 vehicles, speed 70, max 200 kg.
+ */
+
+package com.everesteng.courier.metrics;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.DiscountService;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import com.everesteng.courier.strategy.NoDiscount;
+import com.everesteng.courier.strategy.OFR001Discount;
+import com.everesteng.courier.strategy.OFR002Discount;
+import com.everesteng.courier.strategy.OFR003Discount;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourierEventsTest {
+
+    private CourierService courierService;
+
+    @BeforeEach
+    void setUp() {
+        DiscountService discountService = new DiscountService(List.of(
+                new OFR001Discount(), new OFR002Discount(), new OFR003Discount(), new NoDiscount()));
+        courierService = new CourierService(discountService,
+                new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+    }
+
+    private static List<Package> samplePackages() {
+        return List.of(
+                new Package("PKG1", 50, 30, "OFR001"),
+                new Package("PKG2", 75, 125, "OFFR0008"),
+                new Package("PKG3", 175, 100, "OFFR003"),
+                new Package("PKG4", 110, 60, "OFR002"),
+                new Package("PKG5", 155, 95, "NA")
+        );
+    }
+
+    // Events of one type from a recording
+    private static List<RecordedEvent> eventsOf(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+    }
+
+    /**
+     * ✅ Without a recording that enables them, the events are off.
+     */
+    @Test
+    void testEventsDisabledByDefault() {
+        assertFalse(new PlanningRunEvent().isEnabled());
+        assertFalse(new ShipmentPackingEvent().isEnabled());
+        assertFalse(new VehicleAssignmentEvent().isEnabled());
+        assertFalse(new DiscountEvaluationEvent().isEnabled());
+    }
+
+    /**
+     * ✅ The events are registered lazily: a recording created after a
+     * CourierService initializes Flight Recorder and sees all event types.
+     */
+    @Test
+    void testEventsRegisteredWithRecorder() {
+        try (Recording recording = new Recording()) {
+            List<String> names = FlightRecorder.getFlightRecorder().getEventTypes().stream()
+                    .map(EventType::getName).toList();
+            assertTrue(names.contains("com.everesteng.courier.PlanningRun"));
+            assertTrue(names.contains("com.everesteng.courier.ShipmentPacking"));
+            assertTrue(names.contains("com.everesteng.courier.VehicleAssignment"));
+            assertTrue(names.contains("com.everesteng.courier.DiscountEvaluation"));
+        }
+    }
+
+    /**
+     * ✅ A recording sees the whole planning run.
+     * Expectation:
+     * - 1 run and 1 packing pass of 5 packages (565 kg) into 4 shipments.
+     * - 4 assignments; the third shipment [PKG5] waits for vehicle 2 until 2.84.
+     * - 1 discount evaluation per final cost (PKG3 gets 35 with OFR003).
+     */
+    @Test
+    void testRecordingCapturesPlanningRun() throws CourierServiceException, IOException {
+        Path file = Files.createTempFile("courier", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PlanningRunEvent.class);
+            recording.enable(ShipmentPackingEvent.class);
+            recording.enable(VehicleAssignmentEvent.class);
+            recording.enable(DiscountEvaluationEvent.class);
+            recording.start();
+
+            courierService.processDeliveries(samplePackages(), 100, 200, 70, 2);
+            courierService.calculateFinalCost(new Package("PKG3", 10, 100, "OFR003"), 100);
+
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        List<RecordedEvent> runs = eventsOf(events, "com.everesteng.courier.PlanningRun");
+        assertEquals(1, runs.size());
+        assertEquals(5, runs.get(0).getInt("packageCount"));
+        assertEquals(565, runs.get(0).getLong("totalWeight"));
+        assertEquals(4, runs.get(0).getInt("shipmentCount"));
+        assertEquals(2, runs.get(0).getInt("vehicleCount"));
+        assertEquals("GREEDY", runs.get(0).getString("packingMode"));
+
+        List<RecordedEvent> packing = eventsOf(events, "com.everesteng.courier.ShipmentPacking");
+        assertEquals(1, packing.size());
+        assertEquals(4, packing.get(0).getInt("shipmentCount"));
+
+        List<RecordedEvent> assignments = eventsOf(events, "com.everesteng.courier.VehicleAssignment");
+        assertEquals(4, assignments.size());
+        RecordedEvent third = assignments.stream()
+                .filter(e -> e.getInt("shipmentIndex") == 2).findFirst().orElseThrow();
+        assertEquals(2, third.getInt("vehicleId"));
+        assertEquals(155, third.getInt("shipmentWeight"));
+        assertEquals(2.84f, third.getFloat("waitTime"), 0.001);
+
+        List<RecordedEvent> discounts = eventsOf(events, "com.everesteng.courier.DiscountEvaluation");
+        assertEquals(1, discounts.size());
+        assertEquals("OFR003", discounts.get(0).getString("offerCode"));
+        assertEquals(35, discounts.get(0).getInt("discount"));
+    }
+}
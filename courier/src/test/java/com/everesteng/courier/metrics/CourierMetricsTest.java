@@ -0,0 +1,204 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for CourierMetrics and the CourierService instrumentation.
+ *
+ * - Every stage of processDeliveries is timed once per run.
+ * - Shipment statistics (packages per shipment, shipments per run,
+ *   utilisation) are recorded for the list and batch paths.
+ * - Discount evaluations and hits are counted per offer code, with a
+ *   bounded number of offer tags, also when found by offer ordinal.
+ * - Single cost quotes are timed by sampling.
+ */
+
+package com.everesteng.courier.metrics;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.metrics.CourierMetrics.Stage;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
+import com.everesteng.courier.offer.OfferRuleTable;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.DiscountService;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import com.everesteng.courier.strategy.NoDiscount;
+import com.everesteng.courier.strategy.OFR001Discount;
+import com.everesteng.courier.strategy.OFR002Discount;
+import com.everesteng.courier.strategy.OFR003Discount;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourierMetricsTest {
+
+    private MeterRegistry registry;
+    private CourierMetrics metrics;
+    private CourierService courierService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        // Every cost quote is timed, so the counts below are exact
+        metrics = new CourierMetrics(registry, 1);
+        DiscountService discountService = new DiscountService(List.of(
+                new OFR001Discount(), new OFR002Discount(), new OFR003Discount(), new NoDiscount()));
+        courierService = new CourierService(discountService,
+                new ShipmentService(), new DeliveryTimeService(), new VehicleService(), metrics);
+    }
+
+    // Sample packages from the problem statement (2 vehicles, speed 70, max 200 kg)
+    private static List<Package> samplePackages() {
+        return List.of(
+                new Package("PKG1", 50, 30, "OFR001"),
+                new Package("PKG2", 75, 125, "OFFR0008"),
+                new Package("PKG3", 175, 100, "OFFR003"),
+                new Package("PKG4", 110, 60, "OFR002"),
+                new Package("PKG5", 155, 95, "NA")
+        );
+    }
+
+    private long stageCount(Stage stage) {
+        return registry.get("courier.stage.duration").tag("stage", stage.getTag()).timer().count();
+    }
+
+    private double discountCount(String name, String offer) {
+        return registry.get(name).tag("offer", offer).counter().count();
+    }
+
+    /**
+     * ✅ One processDeliveries run times each stage once and records the run shape.
+     * Expectation: 4 shipments of 2, 1, 1, 1 packages.
+     */
+    @Test
+    void testProcessDeliveriesRecordsStages() throws CourierServiceException {
+        courierService.processDeliveries(samplePackages(), 100, 200, 70, 2);
+
+        assertEquals(1, stageCount(Stage.CREATE_SHIPMENTS));
+        assertEquals(1, stageCount(Stage.CALCULATE_PACKAGE_TIMES));
+        assertEquals(1, stageCount(Stage.CALCULATE_SHIPMENT_TIMES));
+        assertEquals(1, stageCount(Stage.ASSIGN_VEHICLES));
+
+        DistributionSummary runs = registry.get("courier.run.shipments").summary();
+        assertEquals(1, runs.count());
+        assertEquals(4, runs.totalAmount(), 0.001);
+
+        DistributionSummary packages = registry.get("courier.shipment.packages").summary();
+        assertEquals(4, packages.count());
+        assertEquals(5, packages.totalAmount(), 0.001);
+        assertEquals(2, packages.max(), 0.001);
+
+        // [PKG2, PKG4] carries 185 of 200 kg
+        DistributionSummary utilisation = registry.get("courier.vehicle.utilisation").summary();
+        assertEquals(0.925, utilisation.max(), 0.001);
+    }
+
+    /**
+     * ✅ Each final cost calculation is timed and counted against its offer code.
+     * Expectation: OFR003 applies to PKG3 (10 kg, 100 km); OFR001 does not apply to PKG1.
+     */
+    @Test
+    void testFinalCostRecordsDiscountHitRate() {
+        courierService.calculateFinalCost(new Package("PKG1", 5, 5, "OFR001"), 100);
+        courierService.calculateFinalCost(new Package("PKG3", 10, 100, "OFR003"), 100);
+        courierService.calculateFinalCost("OFR003", 10, 100, 100);
+
+        assertEquals(3, stageCount(Stage.CALCULATE_FINAL_COST));
+        assertEquals(1, discountCount("courier.discount.evaluations", "OFR001"));
+        assertEquals(0, discountCount("courier.discount.applied", "OFR001"));
+        assertEquals(2, discountCount("courier.discount.evaluations", "OFR003"));
+        assertEquals(2, discountCount("courier.discount.applied", "OFR003"));
+    }
+
+    /**
+     * ✅ The batch path records the same per-offer counts with one timer sample.
+     */
+    @Test
+    void testBatchFinalCostsRecordPerOffer() {
+        PackageBatch batch = new PackageBatch();
+        batch.add("PKG1", 5, 5, "OFR001");
+        batch.add("PKG2", 15, 5, "OFR002");
+        batch.add("PKG3", 10, 100, "OFR003");
+        batch.add("PKG4", 12, 80, "OFR003");
+        int[] discounts = new int[batch.size()];
+        int[] finalCosts = new int[batch.size()];
+
+        courierService.calculateFinalCosts(batch, 100, discounts, finalCosts);
+
+        assertEquals(1, stageCount(Stage.CALCULATE_FINAL_COST));
+        assertEquals(2, discountCount("courier.discount.evaluations", "OFR003"));
+        assertEquals(2, discountCount("courier.discount.applied", "OFR003"));
+        assertEquals(1, discountCount("courier.discount.evaluations", "OFR002"));
+        assertEquals(0, discountCount("courier.discount.applied", "OFR002"));
+    }
+
+    /**
+     * ✅ Offer codes come from user input, so the number of offer tags is capped.
+     * Expectation: codes beyond MAX_OFFER_TAGS are counted under "other";
+     * missing codes are counted under "none".
+     */
+    @Test
+    void testOfferTagsAreBounded() {
+        for (int i = 0; i < CourierMetrics.MAX_OFFER_TAGS + 10; i++) {
+            metrics.recordDiscount("CODE" + i, false);
+        }
+        metrics.recordDiscount(null, false);
+
+        assertEquals(1, discountCount("courier.discount.evaluations", "CODE0"));
+        assertEquals(11, discountCount("courier.discount.evaluations", CourierMetrics.OTHER_OFFER));
+        assertThrows(RuntimeException.class,
+                () -> registry.get("courier.discount.evaluations").tag("offer", "none").counter());
+    }
+
+    /**
+     * ✅ Known codes are counted by ordinal under their own tag; unknown codes
+     * share the NO_OFFER ordinal but keep their own tags.
+     */
+    @Test
+    void testDiscountsByOrdinal() {
+        metrics.recordDiscount(1, "OFR001", true);
+        metrics.recordDiscount(1, "OFR001", false);
+        metrics.recordDiscount(CourierMetrics.MAX_CACHED_ORDINALS + 1, "OFR999", true);
+        metrics.recordDiscount(OfferRuleTable.NO_OFFER, "BOGUS1", false);
+        metrics.recordDiscount(OfferRuleTable.NO_OFFER, "BOGUS2", false);
+
+        assertEquals(2, discountCount("courier.discount.evaluations", "OFR001"));
+        assertEquals(1, discountCount("courier.discount.applied", "OFR001"));
+        assertEquals(1, discountCount("courier.discount.applied", "OFR999"));
+        assertEquals(1, discountCount("courier.discount.evaluations", "BOGUS1"));
+        assertEquals(1, discountCount("courier.discount.evaluations", "BOGUS2"));
+    }
+
+    /**
+     * ✅ By default one single cost quote in COST_SAMPLE_RATE is timed.
+     * Expectation: about 100 samples for 100 * COST_SAMPLE_RATE quotes.
+     */
+    @Test
+    void testFinalCostTimerIsSampled() {
+        CourierMetrics sampled = new CourierMetrics(registry);
+        for (int i = 0; i < 100 * CourierMetrics.COST_SAMPLE_RATE; i++) {
+            sampled.stop(Stage.CALCULATE_FINAL_COST, sampled.startSampled());
+        }
+        long samples = stageCount(Stage.CALCULATE_FINAL_COST);
+        assertTrue(samples > 30 && samples < 300, "samples: " + samples);
+    }
+
+    /**
+     * ❌ Metrics need a registry; noop() gives metrics that record nothing.
+     */
+    @Test
+    void testNoopAndNullRegistry() {
+        assertThrows(IllegalArgumentException.class, () -> new CourierMetrics(null));
+        assertThrows(IllegalArgumentException.class, () -> new CourierMetrics(new SimpleMeterRegistry(), 3));
+
+        CourierMetrics noop = CourierMetrics.noop();
+        noop.stop(Stage.CREATE_SHIPMENTS, noop.start());
+        noop.recordDiscount("OFR001", true);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for DeliveryPlan and CourierService.planDeliveries.
+ *
+ * - Checks that planning gives the same times as processDeliveries while
+ *   leaving the caller's packages untouched.
+ * - Verifies the per-index lookups, also when a package is listed twice.
+ * - Ensures every list handed out is read-only.
+ */
+
+package com.everesteng.courier.model;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.DiscountService;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import com.everesteng.courier.strategy.NoDiscount;
+import com.everesteng.courier.strategy.OFR001Discount;
+import com.everesteng.courier.strategy.OFR002Discount;
+import com.everesteng.courier.strategy.OFR003Discount;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveryPlanTest {
+
+    private final CourierService courierService = new CourierService(
+            new DiscountService(List.of(new OFR001Discount(), new OFR002Discount(),
+                    new OFR003Discount(), new NoDiscount())),
+            new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+
+    /**
+     * ✅ Planning matches processDeliveries and leaves the packages unchanged.
+     * Expectation: 3.98 h for PKG1 and 4.19 h for PKG5 (problem statement sample).
+     */
+    @Test
+    void planDeliveries_ShouldNotModifyPackages() throws CourierServiceException {
+        List<Package> packages = samplePackages();
+        List<Package> processed = samplePackages();
+        List<Shipment> shipments = courierService.processDeliveries(processed, 100, 200, 70, 2);
+
+        DeliveryPlan plan = courierService.planDeliveries(packages, 100, 200, 70, 2);
+
+        assertEquals(packages.size(), plan.size());
+        for (int i = 0; i < packages.size(); i++) {
+            assertEquals(processed.get(i).getDeliveryTimeHundredths(), plan.getDeliveryTimeHundredths(i));
+            assertEquals(0, packages.get(i).getDeliveryTimeHundredths());
+            assertSame(packages.get(i), plan.getPackage(i));
+            assertTrue(plan.getTripOf(i).packages().contains(packages.get(i)));
+        }
+        assertEquals(3.98f, plan.getDeliveryTime(0));
+        assertEquals(4.19f, plan.getDeliveryTime(4));
+        assertEquals(shipments.size(), plan.getTrips().size());
+        for (int t = 0; t < shipments.size(); t++) {
+            assertEquals(shipments.get(t).getVehicle(), plan.getTrips().get(t).vehicle());
+            assertEquals(shipments.get(t).getTimeHundredths(), plan.getTrips().get(t).timeHundredths());
+        }
+    }
+
+    /**
+     * ✅ The same Package object listed twice is planned as two packages, by index.
+     */
+    @Test
+    void planDeliveries_ShouldKeyByIndex() throws CourierServiceException {
+        Package pkg = new Package("PKG1", 50, 30, "OFR001");
+
+        DeliveryPlan plan = courierService.planDeliveries(List.of(pkg, pkg), 100, 200, 70, 1);
+
+        assertEquals(2, plan.size());
+        assertEquals(1, plan.getTrips().size());
+        assertEquals(List.of(pkg, pkg), plan.getTrips().get(0).packages());
+        assertEquals(plan.getDeliveryTimeHundredths(0), plan.getDeliveryTimeHundredths(1));
+        assertEquals(0, pkg.getDeliveryTimeHundredths());
+    }
+
+    /**
+     * ✅ Trips, packages and the plan cannot be modified through what they hand out.
+     */
+    @Test
+    void plan_ShouldBeReadOnly() throws CourierServiceException {
+        List<Package> packages = new ArrayList<>(samplePackages());
+        DeliveryPlan plan = courierService.planDeliveries(packages, 100, 200, 70, 2);
+
+        packages.clear();
+
+        assertEquals(5, plan.size());
+        assertSame(plan.getTrips(), plan.getTrips());
+        assertThrows(UnsupportedOperationException.class, () -> plan.getTrips().get(0).packages().clear());
+        assertThrows(UnsupportedOperationException.class, () -> plan.getTrips().clear());
+        assertThrows(UnsupportedOperationException.class, () -> plan.getPackages().clear());
+
+        List<Package> carried = new ArrayList<>(List.of(plan.getPackage(0)));
+        DeliveryPlan.Trip trip = new DeliveryPlan.Trip(1, 86, 50, carried);
+        carried.clear();
+        assertEquals(1, trip.packages().size());
+        assertEquals(0.86f, trip.time());
+    }
+
+    /**
+     * ❌ Missing packages, overweight packages and mismatched batches are rejected.
+     */
+    @Test
+    void planDeliveries_ShouldThrow_WhenInvalidArgs() throws CourierServiceException {
+        assertThrows(CourierServiceException.class,
+                () -> courierService.planDeliveries(null, 100, 200, 70, 2));
+        assertThrows(CourierServiceException.class,
+                () -> courierService.planDeliveries(Arrays.asList(samplePackages().get(0), null), 100, 200, 70, 2));
+        assertThrows(CourierServiceException.class,
+                () -> courierService.planDeliveries(samplePackages(), 100, 100, 70, 2));
+
+        BatchShipments shipments = courierService.processDeliveries(
+                PackageBatch.of(samplePackages()), 100, 200, 70, 2);
+        assertThrows(IllegalArgumentException.class, () -> DeliveryPlan.of(List.of(), shipments));
+        assertThrows(IllegalArgumentException.class, () -> new DeliveryPlan.Trip(-1, 100, 50, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new DeliveryPlan.Trip(1, 100, 50, null));
+    }
+
+    // Sample packages from the problem statement (2 vehicles, speed 70, max 200 kg)
+    private static List<Package> samplePackages() {
+        return List.of(
+                new Package("PKG1", 50, 30, "OFR001"),
+                new Package("PKG2", 75, 125, "OFFR0008"),
+                new Package("PKG3", 175, 100, "OFFR003"),
+                new Package("PKG4", 110, 60, "OFR002"),
+                new Package("PKG5", 155, 95, "NA")
+        );
+    }
+}
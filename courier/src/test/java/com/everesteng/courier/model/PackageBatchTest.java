@@ -0,0 +1,108 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for the PackageBatch model class.
+ *
+ * - Validates row input validation (ID, weight, distance, delivery time).
+ * - Ensures offer codes are interned into per-batch ordinals.
+ * - Checks that rows survive internal array growth.
+ */
+
+package com.everesteng.courier.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackageBatchTest {
+
+    /**
+     * Test row validation.
+     * - Should throw IllegalArgumentException for invalid IDs, weights and distances.
+     */
+    @Test
+    void add_ShouldThrow_WhenRowIsInvalid() {
+        PackageBatch batch = new PackageBatch();
+
+        assertThrows(IllegalArgumentException.class, () -> batch.add(null, 10, 20, "OFR001"));
+        assertThrows(IllegalArgumentException.class, () -> batch.add("  ", 10, 20, "OFR001"));
+        assertThrows(IllegalArgumentException.class, () -> batch.add("PKG1", -1, 20, "OFR001"));
+        assertThrows(IllegalArgumentException.class, () -> batch.add("PKG1", 10, -1, "OFR001"));
+        assertEquals(0, batch.size());
+    }
+
+    /**
+     * Test offer code interning.
+     * - Equal offer codes share one ordinal; null becomes the empty code.
+     */
+    @Test
+    void add_ShouldInternOfferCodes() {
+        PackageBatch batch = new PackageBatch(1);
+        batch.add("PKG1", 10, 20, "OFR001");
+        batch.add("PKG2", 15, 25, "NA");
+        batch.add("PKG3", 20, 30, "OFR001");
+        batch.add("PKG4", 25, 35, null);
+
+        assertEquals(3, batch.offerCodeCount());
+        assertEquals(batch.getOfferOrdinal(0), batch.getOfferOrdinal(2));
+        assertEquals("OFR001", batch.getOfferCode(2));
+        assertEquals("", batch.getOfferCode(3));
+        assertEquals(4, batch.size());
+        assertEquals(25, batch.getWeight(3));
+    }
+
+    /**
+     * Test rows added by offer ordinal.
+     * - Registered codes are shared with add(..., String); unknown ordinals are rejected.
+     */
+    @Test
+    void add_ShouldAcceptRegisteredOfferOrdinals() {
+        PackageBatch batch = new PackageBatch();
+        int ofr001 = batch.addOfferCode(" OFR001 ");
+        batch.add("PKG1", 10, 20, ofr001);
+        batch.add("PKG2", 15, 25, "OFR001");
+
+        assertEquals(ofr001, batch.addOfferCode("OFR001"));
+        assertEquals(1, batch.offerCodeCount());
+        assertEquals("OFR001", batch.getOfferCode(0));
+        assertEquals(batch.getOfferOrdinal(0), batch.getOfferOrdinal(1));
+        assertThrows(IllegalArgumentException.class, () -> batch.add("PKG3", 10, 20, 1));
+        assertThrows(IllegalArgumentException.class, () -> batch.add("PKG3", 10, 20, -1));
+        assertEquals(2, batch.size());
+    }
+
+    /**
+     * Test conversion from and to Package objects.
+     * - Columns must match the original package fields.
+     */
+    @Test
+    void of_ShouldCopyPackages() {
+        Package pkg = new Package("PKG1", 50, 30, "OFR001");
+        pkg.setDeliveryTime(1.5f);
+
+        PackageBatch batch = PackageBatch.of(List.of(pkg));
+
+        assertEquals(1, batch.size());
+        assertEquals(pkg, batch.toPackage(0));
+        assertEquals(1.5f, batch.getDeliveryTime(0));
+        assertThrows(IllegalArgumentException.class, () -> batch.setDeliveryTime(0, -1f));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getWeight(1));
+    }
+
+    /**
+     * Test column access for batch kernels.
+     * - Columns are the backing arrays (no copy); the first size() entries are the rows.
+     */
+    @Test
+    void columns_ShouldExposeRowsWithoutCopying() {
+        PackageBatch batch = new PackageBatch(4);
+        batch.add("PKG1", 10, 20, "OFR001");
+        batch.add("PKG2", 15, 25, "OFR002");
+
+        assertSame(batch.weightColumn(), batch.weightColumn());
+        assertTrue(batch.weightColumn().length >= batch.size());
+        assertEquals(15, batch.weightColumn()[1]);
+        assertEquals(25, batch.distanceColumn()[1]);
+    }
+}
@@ -4,6 +4,7 @@
  *
  * - Verifies constructor input validation (packages, weight, time).
  * - Ensures addPackages correctly updates package list and total weight.
+ * - Checks that getPackages returns the same read-only view on every call.
  * - Validates setter methods for time and vehicle ID.
  */
 
@@ -48,6 +49,25 @@ class ShipmentTest {
         assertEquals(1, shipment.getPackages().size()); // Package count updated
     }
 
+    /**
+     * Test getPackages() view.
+     * - Returns the same list on every call (no copy) that follows addPackages.
+     * - The view cannot be modified.
+     */
+    @Test
+    void getPackages_ShouldReturnReadOnlyView() {
+        Shipment shipment = new Shipment(List.of(new Package("PKG1", 10, 20, "OFR001")), 10, 1.0f, 1);
+        List<Package> view = shipment.getPackages();
+
+        shipment.addPackages(new Package("PKG2", 5, 20, "NA"), 5);
+
+        assertSame(view, shipment.getPackages());
+        assertEquals(2, view.size());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(new Package("PKG3", 1, 1, "NA")));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        assertThrows(IllegalArgumentException.class, () -> shipment.setPackages(null));
+    }
+
     /**
      * Test setter validations for time and vehicle.
      * - setTime() should throw if time is negative.
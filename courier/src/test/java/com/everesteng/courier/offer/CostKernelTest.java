@@ -0,0 +1,147 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for CostKernel.
+ *
+ * - The preferred kernel (vector when the incubator module is loaded) must
+ *   give exactly the scalar results, including .5 rounding and tail rows.
+ * - Kernel selection follows the presence of jdk.incubator.vector.
+ * - Uses JUnit 5 for structured testing.
+ */
+
+package com.everesteng.courier.offer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CostKernelTest {
+
+    private final OfferRuleTable table = OfferRuleTable.compile(List.of(
+            new OfferRule("OFR001", 0, 199, 70, 200, 10),
+            new OfferRule("OFR002", 50, 150, 100, 250, 7),
+            new OfferRule("OFR003", 50, 250, 10, 150, 5),
+            new OfferRule("HALF", 0, 1000, 0, 1000, 50)
+    ), List.of("CUSTOM"));
+
+    private final CostKernel scalar = new ScalarCostKernel();
+    private final CostKernel preferred = CostKernel.preferred();
+
+    /**
+     * ✅ Test: The vector kernel is used exactly when the incubator module is loaded.
+     */
+    @Test
+    void testPreferredFollowsModule() {
+        boolean vectorModule = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+                && !"false".equals(System.getProperty("courier.vector.enabled"));
+
+        assertEquals(vectorModule ? "vector" : "scalar", preferred.name());
+    }
+
+    /**
+     * ✅ Test: Preferred and scalar kernels agree on random batches of every tail length.
+     */
+    @Test
+    void testPreferredMatchesScalar() {
+        Random random = new Random(42);
+        for (int length = 0; length <= 67; length++) {
+            int[] ordinals = new int[length];
+            int[] weights = new int[length];
+            int[] distances = new int[length];
+            for (int i = 0; i < length; i++) {
+                ordinals[i] = random.nextInt(table.size());
+                weights[i] = random.nextInt(260);
+                distances[i] = random.nextInt(260);
+            }
+            int baseCost = random.nextInt(400) - 100;
+
+            assertArrayEquals(totals(scalar, baseCost, weights, distances),
+                    totals(preferred, baseCost, weights, distances), "totals, length " + length);
+
+            int[] totals = totals(scalar, baseCost, weights, distances);
+            assertArrayEquals(discounts(scalar, ordinals, weights, distances, totals),
+                    discounts(preferred, ordinals, weights, distances, totals), "discounts, length " + length);
+        }
+    }
+
+    /**
+     * ✅ Test: Halves round like Math.round (up for positive, toward zero for negative totals).
+     * Expectation: 50% of odd totals lands exactly on .5.
+     */
+    @Test
+    void testHalfRounding() {
+        int n = 40;
+        int[] ordinals = new int[n];
+        int[] weights = new int[n];
+        int[] distances = new int[n];
+        int[] totals = new int[n];
+        Arrays.fill(ordinals, table.ordinalOf("HALF"));
+        for (int i = 0; i < n; i++) {
+            totals[i] = i - 20;
+        }
+
+        int[] out = discounts(preferred, ordinals, weights, distances, totals);
+
+        for (int i = 0; i < n; i++) {
+            assertEquals((int) Math.round(totals[i] * 0.5), out[i], "total " + totals[i]);
+        }
+        assertEquals(2, out[23]);   // 1.5 → 2
+        assertEquals(-1, out[17]);  // -1.5 → -1
+    }
+
+    /**
+     * ✅ Test: The table's batch method gives the per-row discount.
+     */
+    @Test
+    void testTableDelegatesToKernel() {
+        int[] ordinals = {table.ordinalOf("OFR001"), table.ordinalOf("OFR003"), table.ordinalOf("CUSTOM"),
+                OfferRuleTable.NO_OFFER, table.ordinalOf("OFR002"), table.ordinalOf("OFR001"),
+                table.ordinalOf("OFR003"), table.ordinalOf("OFR002"), table.ordinalOf("HALF")};
+        int[] weights = {100, 10, 100, 100, 110, 69, 150, 100, 5};
+        int[] distances = {100, 100, 100, 100, 60, 100, 250, 150, 5};
+        int[] totals = totals(scalar, 100, weights, distances);
+        int[] out = new int[ordinals.length];
+
+        table.discounts(ordinals, weights, distances, totals, out);
+
+        for (int i = 0; i < out.length; i++) {
+            assertEquals(table.discount(ordinals[i], weights[i], distances[i], totals[i]), out[i]);
+        }
+        assertEquals(160, out[0]);   // OFR001, 10% of 1600
+    }
+
+    /**
+     * ❌ Test: Short inputs, negative lengths and ordinals outside the table are rejected.
+     */
+    @Test
+    void testInvalidInputRejected() {
+        for (CostKernel kernel : List.of(scalar, preferred)) {
+            assertThrows(IllegalArgumentException.class, () ->
+                    kernel.totals(100, new int[1], new int[2], new int[2], 2));
+            assertThrows(IllegalArgumentException.class, () ->
+                    kernel.totals(100, new int[2], new int[2], new int[2], -1));
+            assertThrows(IllegalArgumentException.class, () ->
+                    kernel.discounts(table, new int[2], new int[2], new int[2], new int[1], new int[2], 2));
+
+            int[] ordinals = new int[64];
+            ordinals[5] = table.size();
+            assertThrows(IndexOutOfBoundsException.class, () ->
+                    kernel.discounts(table, ordinals, new int[64], new int[64], new int[64], new int[64], 64));
+        }
+    }
+
+    private static int[] totals(CostKernel kernel, int baseCost, int[] weights, int[] distances) {
+        int[] out = new int[weights.length];
+        kernel.totals(baseCost, weights, distances, out, out.length);
+        return out;
+    }
+
+    private int[] discounts(CostKernel kernel, int[] ordinals, int[] weights, int[] distances, int[] totals) {
+        int[] out = new int[ordinals.length];
+        kernel.discounts(table, ordinals, weights, distances, totals, out, out.length);
+        return out;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for OfferCatalogue and OfferFileWatcher.
+ *
+ * - Verifies parsing of the offer file, including errors with line numbers.
+ * - Verifies that file offers override the base rules and respect validity windows.
+ * - Verifies reloads swap snapshots, keep ordinals stable and survive bad files.
+ * - Uses JUnit 5 for structured testing.
+ */
+
+package com.everesteng.courier.offer;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OfferCatalogueTest {
+
+    private static final List<OfferRule> BASE = List.of(
+            new OfferRule("OFR001", 0, 199, 70, 200, 10),
+            new OfferRule("OFR002", 50, 150, 100, 250, 7));
+
+    private Path dir;
+    private Path file;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("offers");
+        file = dir.resolve("offers.txt");
+        clock = new MutableClock(Instant.parse("2026-03-15T10:00:00Z"));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(dir.resolve("offers.tmp"));
+        Files.deleteIfExists(dir);
+    }
+
+    /**
+     * ✅ Test: Lines are parsed with comments, blank lines and open dates.
+     */
+    @Test
+    void testParse() throws Exception {
+        write("# code dmin dmax wmin wmax percent from until",
+                "",
+                "OFR004 0 500 0 50 15 2026-01-01 2026-03-31",
+                "OFR005 10 20 30 40 2.5 - 2026-12-31  # no start date",
+                "OFR006 1 2 3 4 50");
+
+        List<OfferRule> rules = OfferCatalogue.parse(file);
+
+        assertEquals(3, rules.size());
+        assertEquals(LocalDate.of(2026, 3, 31), rules.get(0).getValidUntil());
+        assertNull(rules.get(1).getValidFrom());
+        assertEquals(2.5, rules.get(1).getPercent());
+        assertNull(rules.get(2).getValidUntil());
+    }
+
+    /**
+     * ❌ Test: Malformed lines and duplicate codes are rejected with their line number.
+     */
+    @Test
+    void testParseErrors() throws Exception {
+        write("OFR004 0 500 0 50");
+        assertTrue(assertThrows(CourierServiceException.class, () -> OfferCatalogue.parse(file))
+                .getMessage().contains("line 1"));
+
+        write("OFR004 0 500 0 50 15", "OFR004 0 10 0 10 5");
+        assertTrue(assertThrows(CourierServiceException.class, () -> OfferCatalogue.parse(file))
+                .getMessage().contains("line 2"));
+
+        write("OFR004 0 500 0 50 15 2026-13-01");
+        assertThrows(CourierServiceException.class, () -> OfferCatalogue.parse(file));
+
+        write("OFR004 0 500 0 50 150");
+        assertThrows(CourierServiceException.class, () -> OfferCatalogue.parse(file));
+    }
+
+    /**
+     * ✅ Test: File offers override base offers and add new codes;
+     *          other base offers still apply.
+     */
+    @Test
+    void testFileOverridesBase() throws Exception {
+        write("OFR001 0 100 0 100 20", "OFR004 0 500 0 50 15");
+        OfferCatalogue catalogue = new OfferCatalogue(BASE, List.of(), file, clock);
+        OfferRuleTable table = catalogue.current().getTable();
+
+        assertEquals(200, table.discount(table.ordinalOf("OFR001"), 50, 50, 1000));
+        assertEquals(150, table.discount(table.ordinalOf("OFR004"), 50, 50, 1000));
+        assertEquals(70, table.discount(table.ordinalOf("OFR002"), 150, 100, 1000));
+    }
+
+    /**
+     * ✅ Test: Offers outside their validity window do not apply,
+     *          and rollOver() moves the snapshot across midnight
+     *          (current() itself never reads the clock).
+     */
+    @Test
+    void testValidityWindow() throws Exception {
+        write("OFR001 0 199 70 200 10 - 2026-03-15", "OFR004 0 500 0 50 15 2026-03-16");
+        OfferCatalogue catalogue = new OfferCatalogue(BASE, List.of(), file, clock);
+
+        OfferRuleTable today = catalogue.current().getTable();
+        assertEquals(100, today.discount(today.ordinalOf("OFR001"), 100, 100, 1000));
+        assertEquals(0, today.discount(today.ordinalOf("OFR004"), 10, 10, 1000));
+
+        OfferSnapshot before = catalogue.current();
+        assertSame(before, catalogue.rollOver());
+        assertEquals(14 * 3_600_000L, catalogue.millisUntilRollover());
+
+        clock.set(Instant.parse("2026-03-16T00:00:00Z"));
+        assertSame(before, catalogue.current());
+        assertEquals(0, catalogue.millisUntilRollover());
+        assertNotSame(before, catalogue.rollOver());
+        OfferRuleTable tomorrow = catalogue.current().getTable();
+        // Expired file offer is not replaced by the base OFR001
+        assertEquals(0, tomorrow.discount(tomorrow.ordinalOf("OFR001"), 100, 100, 1000));
+        assertEquals(150, tomorrow.discount(tomorrow.ordinalOf("OFR004"), 10, 10, 1000));
+        assertEquals(LocalDate.of(2026, 3, 16), catalogue.current().getDate());
+    }
+
+    /**
+     * ✅ Test: Reload publishes a new snapshot; old snapshots stay unchanged
+     *          and ordinals keep their meaning.
+     */
+    @Test
+    void testReload() throws Exception {
+        write("OFR004 0 500 0 50 15");
+        OfferCatalogue catalogue = new OfferCatalogue(BASE, List.of(), file, clock);
+        OfferSnapshot before = catalogue.current();
+        int ofr004 = before.getTable().ordinalOf("OFR004");
+
+        write("OFR005 0 500 0 50 30");
+        OfferSnapshot after = catalogue.reload();
+
+        assertSame(after, catalogue.current());
+        assertEquals(before.getVersion() + 1, after.getVersion());
+        assertEquals(150, before.getTable().discount(ofr004, 10, 10, 1000));
+        assertEquals(ofr004, after.getTable().ordinalOf("OFR004"));
+        assertEquals(0, after.getTable().discount(ofr004, 10, 10, 1000));
+        assertEquals(300, after.getTable().discount(after.getTable().ordinalOf("OFR005"), 10, 10, 1000));
+    }
+
+    /**
+     * ❌ Test: A malformed file on reload keeps the current snapshot.
+     */
+    @Test
+    void testFailedReloadKeepsSnapshot() throws Exception {
+        write("OFR004 0 500 0 50 15");
+        OfferCatalogue catalogue = new OfferCatalogue(BASE, List.of(), file, clock);
+        OfferSnapshot before = catalogue.current();
+
+        write("OFR004 zero 500 0 50 15");
+
+        assertThrows(CourierServiceException.class, catalogue::reload);
+        assertSame(before, catalogue.current());
+    }
+
+    /**
+     * ✅ Test: The watcher reloads the catalogue after the file is replaced.
+     */
+    @Test
+    void testWatcherReloadsOnChange() throws Exception {
+        write("OFR004 0 500 0 50 15");
+        OfferCatalogue catalogue = new OfferCatalogue(BASE, List.of(), file, Clock.systemUTC());
+        long version = catalogue.current().getVersion();
+
+        try (OfferFileWatcher ignored = OfferFileWatcher.start(catalogue)) {
+            Path tmp = dir.resolve("offers.tmp");
+            Files.write(tmp, List.of("OFR004 0 500 0 50 40"));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (catalogue.current().getVersion() == version && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+        }
+
+        OfferRuleTable table = catalogue.current().getTable();
+        assertEquals(400, table.discount(table.ordinalOf("OFR004"), 10, 10, 1000));
+    }
+
+    /**
+     * ✅ Test: The watcher rolls the catalogue over once the day has ended.
+     */
+    @Test
+    void testWatcherRollsOverAtMidnight() throws Exception {
+        write("OFR004 0 500 0 50 15 2026-03-16");
+        OfferCatalogue catalogue = new OfferCatalogue(BASE, List.of(), file, clock);
+
+        try (OfferFileWatcher ignored = OfferFileWatcher.start(catalogue)) {
+            clock.set(Instant.parse("2026-03-16T00:00:01Z"));
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (catalogue.current().getDate().getDayOfMonth() == 15 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+        }
+
+        OfferRuleTable table = catalogue.current().getTable();
+        assertEquals(LocalDate.of(2026, 3, 16), catalogue.current().getDate());
+        assertEquals(150, table.discount(table.ordinalOf("OFR004"), 10, 10, 1000));
+    }
+
+    private void write(String... lines) throws IOException {
+        Files.write(file, List.of(lines));
+    }
+
+    // Clock whose time can be moved by the test
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) { this.now = now; }
+
+        void set(Instant now) { this.now = now; }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { throw new UnsupportedOperationException(); }
+        @Override public Instant instant() { return now; }
+    }
+}
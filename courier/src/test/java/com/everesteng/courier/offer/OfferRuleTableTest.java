@@ -0,0 +1,106 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for OfferRuleTable.
+ *
+ * - Verifies ordinal interning and that unknown codes never match.
+ * - Verifies range boundaries, rounding and external codes.
+ * - Uses JUnit 5 for structured testing.
+ */
+
+package com.everesteng.courier.offer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OfferRuleTableTest {
+
+    private final OfferRuleTable table = OfferRuleTable.compile(List.of(
+            new OfferRule("OFR001", 0, 199, 70, 200, 10),
+            new OfferRule("OFR002", 50, 150, 100, 250, 7)
+    ), List.of("CUSTOM"));
+
+    /**
+     * ✅ Test: Known codes get distinct ordinals, unknown and null codes get NO_OFFER.
+     */
+    @Test
+    void testOrdinals() {
+        int ofr001 = table.ordinalOf("OFR001");
+        int ofr002 = table.ordinalOf("OFR002");
+
+        assertNotEquals(OfferRuleTable.NO_OFFER, ofr001);
+        assertNotEquals(ofr001, ofr002);
+        assertEquals("OFR002", table.codeOf(ofr002));
+        assertEquals(OfferRuleTable.NO_OFFER, table.ordinalOf("INVALID"));
+        assertEquals(OfferRuleTable.NO_OFFER, table.ordinalOf(null));
+        assertEquals(4, table.size());
+    }
+
+    /**
+     * ✅ Test: Range limits are inclusive and the discount is rounded.
+     */
+    @Test
+    void testBoundariesAndRounding() {
+        int ofr001 = table.ordinalOf("OFR001");
+
+        assertEquals(100, table.discount(ofr001, 70, 199, 1000));
+        assertEquals(100, table.discount(ofr001, 200, 0, 1000));
+        assertEquals(0, table.discount(ofr001, 69, 100, 1000));
+        assertEquals(0, table.discount(ofr001, 100, 200, 1000));
+        assertEquals(7, table.discount(table.ordinalOf("OFR002"), 100, 50, 95)); // 6.65 → 7
+        assertEquals(0, table.discount(OfferRuleTable.NO_OFFER, 100, 100, 1000));
+    }
+
+    /**
+     * ✅ Test: External codes have an ordinal but no discount from the table.
+     */
+    @Test
+    void testExternalCodes() {
+        int custom = table.ordinalOf("CUSTOM");
+
+        assertTrue(table.hasExternalCodes());
+        assertTrue(table.isExternal(custom));
+        assertFalse(table.isExternal(table.ordinalOf("OFR001")));
+        assertEquals(0, table.discount(custom, 100, 100, 1000));
+        assertFalse(OfferRuleTable.compile(List.of(), Collections.emptyList()).hasExternalCodes());
+    }
+
+    /**
+     * ✅ Test: Batch evaluation matches the per-rule calculation.
+     */
+    @Test
+    void testBatchMatchesRules() {
+        OfferRule rule = new OfferRule("OFR001", 0, 199, 70, 200, 10);
+        int ordinal = table.ordinalOf("OFR001");
+        int n = 400;
+        int[] codes = new int[n];
+        int[] weights = new int[n];
+        int[] distances = new int[n];
+        int[] totals = new int[n];
+        for (int i = 0; i < n; i++) {
+            codes[i] = ordinal;
+            weights[i] = i;
+            distances[i] = 399 - i;
+            totals[i] = 100 + i * 37;
+        }
+        int[] out = new int[n];
+
+        table.discounts(codes, weights, distances, totals, out);
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(rule.calculate(weights[i], distances[i], totals[i]), out[i]);
+        }
+    }
+
+    /**
+     * ❌ Test: Input arrays shorter than the output are rejected.
+     */
+    @Test
+    void testShortInputRejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                table.discounts(new int[1], new int[2], new int[2], new int[2], new int[2]));
+    }
+}
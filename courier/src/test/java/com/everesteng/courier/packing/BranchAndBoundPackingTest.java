@@ -0,0 +1,187 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for BranchAndBoundPacking.
+ *
+ * - Verifies that trips match OptimalPacking (most packages, then heaviest,
+ *   then shortest delivery) on the sample and on random manifests.
+ * - Verifies that a tight budget still returns a complete plan and reports
+ *   its optimality gap, including capacities too large for the knapsack DP.
+ * - Uses JUnit 5 testing framework.
+ */
+
+package com.everesteng.courier.packing;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BranchAndBoundPackingTest {
+
+    private BranchAndBoundPacking packing;
+
+    @BeforeEach
+    void setUp() {
+        packing = new BranchAndBoundPacking();
+    }
+
+    /**
+     * ✅ Test case: Sample input from the problem statement.
+     * Expectation:
+     * - Same trips as OptimalPacking: PKG2 + PKG4, then single trips; proven optimal.
+     */
+    @Test
+    void testSampleInputMatchesOptimalPacking() throws CourierServiceException {
+        List<Package> packages = List.of(
+                new Package("PKG1", 50, 30, "OFR001"),
+                new Package("PKG2", 75, 125, "OFFR0008"),
+                new Package("PKG3", 175, 100, "OFFR003"),
+                new Package("PKG4", 110, 60, "OFR002"),
+                new Package("PKG5", 155, 95, "NA")
+        );
+
+        PackingResult result = packing.search(packages, 200);
+
+        assertTrue(result.isOptimal());
+        assertEquals(0.0, result.gap());
+        assertEquals(List.of(List.of("PKG4", "PKG2"), List.of("PKG3"), List.of("PKG5"), List.of("PKG1")),
+                result.shipments().stream().map(BranchAndBoundPackingTest::ids).toList());
+        assertEquals(new OptimalPacking().pack(packages, 200).stream().map(BranchAndBoundPackingTest::ids).toList(),
+                result.shipments().stream().map(BranchAndBoundPackingTest::ids).toList());
+    }
+
+    /**
+     * ✅ Test case: Most packages first, then the heavier trip.
+     * Expectation:
+     * - 35 + 35 + 30 (three packages) goes before 60 + 35, then 50 + 50
+     *   (nearest first) before 60 alone.
+     */
+    @Test
+    void testTieBreakers() {
+        List<Package> packages = List.of(
+                new Package("PKG1", 60, 10, "NA"),
+                new Package("PKG2", 35, 20, "NA"),
+                new Package("PKG3", 35, 30, "NA"),
+                new Package("PKG4", 30, 40, "NA"),
+                new Package("PKG5", 50, 200, "NA"),
+                new Package("PKG6", 50, 5, "NA")
+        );
+
+        List<Shipment> shipments = packing.pack(packages, 100);
+
+        assertEquals(List.of("PKG2", "PKG3", "PKG4"), ids(shipments.get(0)));
+        assertEquals(List.of("PKG6", "PKG5"), ids(shipments.get(1)));
+        assertEquals(List.of("PKG1"), ids(shipments.get(2)));
+    }
+
+    /**
+     * ✅ Test case: Random manifests with many equal weights.
+     * Expectation:
+     * - Every trip has the same package count, weight and maximum distance
+     *   as the knapsack DP of OptimalPacking, and the search proves it.
+     */
+    @Test
+    void testRandomManifestsMatchOptimalFirstTrip() throws CourierServiceException {
+        Random random = new Random(42);
+        OptimalPacking optimal = new OptimalPacking();
+        for (int round = 0; round < 200; round++) {
+            int capacity = 50 + random.nextInt(250);
+            List<Package> packages = randomPackages(random, 1 + random.nextInt(40), capacity);
+
+            PackingResult result = packing.search(packages, capacity);
+            List<Shipment> expected = optimal.pack(packages, capacity);
+
+            assertTrue(result.isOptimal(), "round " + round);
+            assertEquals(key(expected.get(0)), key(result.shipments().get(0)), "round " + round);
+            assertValidPlan(packages, result.shipments(), capacity);
+        }
+    }
+
+    /**
+     * ✅ Test case: Truck capacities far beyond what the knapsack DP can allocate.
+     * Expectation:
+     * - A one-node budget still returns a complete plan (the greedy first dive),
+     *   with unproven trips and a gap between 0 and 1.
+     * - A larger budget explores more nodes and never gives a lighter first trip.
+     */
+    @Test
+    void testBudgetReturnsBestPlanWithGap() {
+        Random random = new Random(7);
+        int capacity = 40_000;
+        List<Package> packages = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            packages.add(new Package("PKG" + i, 500 + random.nextInt(4_000), 1 + random.nextInt(300), "NA"));
+        }
+
+        PackingResult quick = packing.search(packages, capacity, Duration.ofSeconds(10), 1);
+        PackingResult full = packing.search(packages, capacity, Duration.ofSeconds(2), 2_000_000);
+
+        assertValidPlan(packages, quick.shipments(), capacity);
+        assertValidPlan(packages, full.shipments(), capacity);
+        assertFalse(quick.isOptimal());
+        assertTrue(quick.gap() >= 0.0 && quick.gap() < 1.0);
+        assertTrue(full.gap() >= 0.0 && full.gap() < 1.0);
+        assertTrue(full.nodes() > quick.nodes());
+        // Same package count on every first trip: the count is always exact
+        assertEquals(quick.shipments().get(0).getPackages().size(), full.shipments().get(0).getPackages().size());
+        assertTrue(full.shipments().get(0).getTotalWeight() >= quick.shipments().get(0).getTotalWeight());
+    }
+
+    /**
+     * ❌ Test case: Budgets must be positive.
+     */
+    @Test
+    void testInvalidBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new BranchAndBoundPacking(Duration.ZERO, 10));
+        assertThrows(IllegalArgumentException.class, () -> new BranchAndBoundPacking(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> new BranchAndBoundPacking(Duration.ofSeconds(1), 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> packing.search(List.of(new Package("PKG1", 1, 1, "NA")), 10, Duration.ofSeconds(-1), 10));
+    }
+
+    // Helper: random packages with a few distinct weights, all within capacity
+    private static List<Package> randomPackages(Random random, int count, int capacity) {
+        int[] weights = {5, 10, 10, 25, 40, 40, 50};
+        List<Package> packages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int weight = random.nextBoolean()
+                    ? weights[random.nextInt(weights.length)]
+                    : 1 + random.nextInt(capacity);
+            packages.add(new Package("PKG" + i, Math.min(weight, capacity), 1 + random.nextInt(100), "NA"));
+        }
+        return packages;
+    }
+
+    // Helper: every package shipped exactly once, no trip over capacity
+    private static void assertValidPlan(List<Package> packages, List<Shipment> shipments, int capacity) {
+        Set<String> shipped = new HashSet<>();
+        for (Shipment shipment : shipments) {
+            assertTrue(shipment.getTotalWeight() <= capacity);
+            for (Package pkg : shipment.getPackages()) {
+                assertTrue(shipped.add(pkg.getId()));
+            }
+        }
+        assertEquals(packages.size(), shipped.size());
+    }
+
+    // Helper: (count, weight, max distance) of a trip
+    private static List<Integer> key(Shipment shipment) {
+        int maxDistance = shipment.getPackages().stream().mapToInt(Package::getDistance).max().orElse(0);
+        return List.of(shipment.getPackages().size(), shipment.getTotalWeight(), maxDistance);
+    }
+
+    // Helper: package IDs of a shipment, in packing order
+    private static List<String> ids(Shipment shipment) {
+        return shipment.getPackages().stream().map(Package::getId).toList();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for OptimalPacking.
+ *
+ * - Verifies that each trip carries the most packages possible.
+ * - Verifies the tie-breakers: heavier shipment first, then shorter delivery.
+ * - Uses JUnit 5 testing framework.
+ */
+
+package com.everesteng.courier.packing;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimalPackingTest {
+
+    private OptimalPacking packing;
+
+    @BeforeEach
+    void setUp() {
+        packing = new OptimalPacking();
+    }
+
+    /**
+     * ✅ Test case: Greedy would take the heaviest package first.
+     * Expectation:
+     * - The first trip carries three packages (35 + 35 + 30) instead of two.
+     */
+    @Test
+    void testFirstTripCarriesMostPackages() throws CourierServiceException {
+        List<Package> packages = List.of(
+                new Package("PKG1", 60, 10, "NA"),
+                new Package("PKG2", 35, 20, "NA"),
+                new Package("PKG3", 35, 30, "NA"),
+                new Package("PKG4", 30, 40, "NA")
+        );
+
+        List<Shipment> shipments = packing.pack(packages, 100);
+
+        assertEquals(2, shipments.size());
+        assertEquals(List.of("PKG2", "PKG3", "PKG4"), ids(shipments.get(0)));
+        assertEquals(List.of("PKG1"), ids(shipments.get(1)));
+    }
+
+    /**
+     * ✅ Test case: Sample input from the problem statement.
+     * Expectation:
+     * - PKG2 + PKG4 is the heaviest pair that fits, followed by single trips.
+     */
+    @Test
+    void testSampleInputPrefersHeavierShipment() throws CourierServiceException {
+        List<Package> packages = List.of(
+                new Package("PKG1", 50, 30, "OFR001"),
+                new Package("PKG2", 75, 125, "OFFR0008"),
+                new Package("PKG3", 175, 100, "OFFR003"),
+                new Package("PKG4", 110, 60, "OFR002"),
+                new Package("PKG5", 155, 95, "NA")
+        );
+
+        List<Shipment> shipments = packing.pack(packages, 200);
+
+        assertEquals(4, shipments.size());
+        assertEquals(List.of("PKG4", "PKG2"), ids(shipments.get(0)));
+        assertEquals(List.of("PKG3"), ids(shipments.get(1)));
+        assertEquals(List.of("PKG5"), ids(shipments.get(2)));
+        assertEquals(List.of("PKG1"), ids(shipments.get(3)));
+    }
+
+    /**
+     * ✅ Test case: Same count and weight, different distances.
+     * Expectation:
+     * - The shipment that can be delivered first goes out first.
+     */
+    @Test
+    void testTieBreaksOnShorterDelivery() throws CourierServiceException {
+        List<Package> packages = List.of(
+                new Package("PKG1", 50, 200, "NA"),
+                new Package("PKG2", 50, 10, "NA")
+        );
+
+        List<Shipment> shipments = packing.pack(packages, 50);
+
+        assertEquals(List.of("PKG2"), ids(shipments.get(0)));
+        assertEquals(List.of("PKG1"), ids(shipments.get(1)));
+    }
+
+    // Helper: package IDs of a shipment, in packing order
+    private static List<String> ids(Shipment shipment) {
+        return shipment.getPackages().stream().map(Package::getId).toList();
+    }
+}
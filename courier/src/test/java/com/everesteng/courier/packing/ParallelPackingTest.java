@@ -0,0 +1,136 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for ParallelPacking.
+ *
+ * - Verifies that small manifests are packed exactly like GREEDY mode.
+ * - Verifies that large manifests are packed completely and within capacity.
+ * - Verifies that deterministic mode does not depend on the pool size.
+ * - Uses JUnit 5 testing framework.
+ */
+
+package com.everesteng.courier.packing;
+
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelPackingTest {
+
+    private static final int MAX_WEIGHT = 200;
+
+    /**
+     * ✅ Test case: Manifest smaller than one band.
+     * Expectation:
+     * - Same shipments in the same order as GreedyPacking.
+     */
+    @Test
+    void testSmallManifestMatchesGreedy() {
+        List<Package> packages = randomPackages(1000, 1);
+
+        List<Shipment> parallel = new ParallelPacking().pack(packages, MAX_WEIGHT);
+        List<Shipment> greedy = new GreedyPacking().pack(packages, MAX_WEIGHT);
+
+        assertEquals(ids(greedy), ids(parallel));
+    }
+
+    /**
+     * ✅ Test case: Large manifest split into bands, by distance and by weight.
+     * Expectation:
+     * - Every package is shipped exactly once.
+     * - No shipment exceeds the capacity.
+     * - Shipments are ordered heaviest first.
+     */
+    @Test
+    void testLargeManifestIsPackedCompletely() {
+        List<Package> packages = randomPackages(100_000, 2);
+
+        for (PartitionKey key : PartitionKey.values()) {
+            List<Shipment> shipments = new ParallelPacking(ForkJoinPool.commonPool(), key, true)
+                    .pack(packages, MAX_WEIGHT);
+
+            Set<String> shipped = new HashSet<>();
+            int previousWeight = Integer.MAX_VALUE;
+            for (Shipment shipment : shipments) {
+                assertTrue(shipment.getTotalWeight() <= MAX_WEIGHT);
+                assertTrue(shipment.getTotalWeight() <= previousWeight);
+                previousWeight = shipment.getTotalWeight();
+                for (Package pkg : shipment.getPackages()) {
+                    assertTrue(shipped.add(pkg.getId()));
+                }
+            }
+            assertEquals(packages.size(), shipped.size());
+        }
+    }
+
+    /**
+     * ✅ Test case: Deterministic mode on pools of different sizes.
+     * Expectation:
+     * - Identical shipments in identical order.
+     */
+    @Test
+    void testDeterministicAcrossPoolSizes() {
+        List<Package> packages = randomPackages(60_000, 3);
+        ForkJoinPool small = new ForkJoinPool(2);
+        ForkJoinPool large = new ForkJoinPool(8);
+        try {
+            List<Shipment> first = new ParallelPacking(small, PartitionKey.DISTANCE_BAND, true)
+                    .pack(packages, MAX_WEIGHT);
+            List<Shipment> second = new ParallelPacking(large, PartitionKey.DISTANCE_BAND, true)
+                    .pack(packages, MAX_WEIGHT);
+
+            assertEquals(ids(first), ids(second));
+        } finally {
+            small.shutdown();
+            large.shutdown();
+        }
+    }
+
+    /**
+     * ✅ Test case: Band count.
+     * Expectation:
+     * - Deterministic mode depends only on the manifest size.
+     * - Otherwise there is at most one band per pool thread.
+     */
+    @Test
+    void testBandCount() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelPacking deterministic = new ParallelPacking(pool, PartitionKey.DISTANCE_BAND, true);
+            ParallelPacking adaptive = new ParallelPacking(pool, PartitionKey.DISTANCE_BAND, false);
+
+            assertEquals(1, deterministic.bandCount(100));
+            assertEquals(10, deterministic.bandCount(10 * ParallelPacking.MIN_BAND_SIZE));
+            assertEquals(ParallelPacking.DETERMINISTIC_BANDS, deterministic.bandCount(10_000_000));
+            assertEquals(4, adaptive.bandCount(10_000_000));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<Package> randomPackages(int count, long seed) {
+        Random random = new Random(seed);
+        List<Package> packages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            packages.add(new Package("PKG" + i, 1 + random.nextInt(MAX_WEIGHT), 1 + random.nextInt(250), "NA"));
+        }
+        return packages;
+    }
+
+    // Package IDs shipment by shipment, for comparing groupings and order
+    private static List<List<String>> ids(List<Shipment> shipments) {
+        List<List<String>> ids = new ArrayList<>();
+        for (Shipment shipment : shipments) {
+            ids.add(shipment.getPackages().stream().map(Package::getId).toList());
+        }
+        return ids;
+    }
+}
@@ -10,8 +10,11 @@
 package com.everesteng.courier.service;
 
 import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.BatchShipments;
 import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
 import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.packing.PackingMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -60,7 +63,7 @@ class CourierServiceTest {
         Package pkg = new Package("PKG1", 10, 20, "OFR001");
 
         // Mocking discount service to return a fixed discount
-        when(discountService.calculateDiscount(any(), anyInt())).thenReturn(50);
+        when(discountService.calculateDiscount(anyInt(), any(Package.class), anyInt())).thenReturn(50);
 
         // Calculate final cost
         int result = courierService.calculateFinalCost(pkg, 100);
@@ -96,4 +99,45 @@ class CourierServiceTest {
         // Assert that a shipment was returned
         assertEquals(1, result.size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test case: Ensures the requested packing mode is passed
+     * through to ShipmentService.
+     */
+    @Test
+    void processDeliveries_ShouldUseRequestedPackingMode() throws CourierServiceException {
+        Package pkg = new Package("PKG1", 10, 20, "OFR001");
+        Shipment shipment = new Shipment(List.of(pkg), 10, 0, 0);
+
+        when(shipmentService.createShipments(anyList(), anyInt(), eq(PackingMode.OPTIMAL)))
+                .thenReturn(List.of(shipment));
+
+        List<Shipment> result = courierService.processDeliveries(
+                List.of(pkg), 100, 50, 60, 2, PackingMode.OPTIMAL);
+
+        verify(shipmentService).createShipments(anyList(), eq(50), eq(PackingMode.OPTIMAL));
+        verify(vehicleService).assignVehicles(anyList(), eq(2));
+        assertEquals(1, result.size());
+    }
+
+    /**
+     * Test case: Ensures the batch pipeline delegates to the
+     * batch overloads of the dependent services.
+     */
+    @Test
+    void processDeliveries_Batch_ShouldCallBatchDependencies() throws CourierServiceException {
+        PackageBatch batch = new PackageBatch();
+        batch.add("PKG1", 10, 20, "OFR001");
+        BatchShipments shipments = new BatchShipments(batch, new int[]{0, 1}, new int[]{0});
+
+        when(shipmentService.createShipments(any(PackageBatch.class), anyInt())).thenReturn(shipments);
+
+        BatchShipments result = courierService.processDeliveries(batch, 100, 50, 60, 2);
+
+        verify(shipmentService).createShipments(batch, 50);
+        verify(deliveryTimeService).calculatePackageTimes(batch, 60);
+        verify(deliveryTimeService).calculateShipmentTimes(shipments, 60);
+        verify(vehicleService).assignVehicles(shipments, 2);
+        assertEquals(1, result.count());
+    }
+}
@@ -3,7 +3,7 @@
  * Purpose: Unit tests for DeliveryTimeService.
  *
  * - Verifies that shipment and package delivery times are calculated correctly.
- * - Ensures validation (speed must be positive).
+ * - Ensures validation (speed must be positive, times must fit in range).
  * - Uses JUnit 5 for structured testing.
  */
 
@@ -89,4 +89,43 @@ class DeliveryTimeServiceTest {
         assertEquals(2.0f, p1.getDeliveryTime());
         assertEquals(1.5f, p2.getDeliveryTime());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test case: Times are exact hundredths of an hour.
+     * 21 km at 5 km/h is exactly 4.20 h; truncating the float 4.2f * 100
+     * (= 419.99997) would give 4.19.
+     */
+    @Test
+    void calculatePackageTimes_ShouldTruncateExactly() throws CourierServiceException {
+        Package pkg = new Package("PKG1", 10, 21, "NA");
+        Shipment shipment = new Shipment(List.of(pkg), 10, 0, 0);
+
+        service.calculatePackageTimes(List.of(shipment), 5);
+        service.calculateShipmentTimes(List.of(shipment), 5);
+
+        assertEquals(420, pkg.getDeliveryTimeHundredths());
+        assertEquals(4.2f, pkg.getDeliveryTime());
+        assertEquals(840, shipment.getTimeHundredths());
+    }
+
+    /**
+     * Test case: Times that do not fit in hundredths of an hour are rejected
+     * instead of wrapping to a negative time.
+     * Example: 20,000,000 km at 1 km/h is 2,000,000,000 hundredths one way
+     *          (fits), but the round trip does not; 30,000,000 km does not fit one way.
+     */
+    @Test
+    void calculateTimes_ShouldThrow_WhenTimeOutOfRange() throws CourierServiceException {
+        Package pkg = new Package("PKG1", 10, 20_000_000, "NA");
+        Shipment shipment = new Shipment(List.of(pkg), 10, 0, 0);
+
+        service.calculatePackageTimes(List.of(shipment), 1);
+        assertEquals(2_000_000_000, pkg.getDeliveryTimeHundredths());
+        assertThrows(CourierServiceException.class,
+                () -> service.calculateShipmentTimes(List.of(shipment), 1));
+
+        Shipment far = new Shipment(List.of(new Package("PKG2", 10, 30_000_000, "NA")), 10, 0, 0);
+        assertThrows(CourierServiceException.class,
+                () -> service.calculatePackageTimes(List.of(far), 1));
+    }
+}
@@ -10,11 +10,15 @@
 package com.everesteng.courier.service;
 
 import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
 import com.everesteng.courier.strategy.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -95,4 +99,119 @@ class DiscountServiceTest {
         int discount = discountService.calculateDiscount(pkg, 1000);
         assertEquals(0, discount);
     }
-}
\ No newline at end of file
+
+    /**
+     * Test case: Batch discounts for mixed offer codes.
+     * Expected: Same discounts as the per-package API, row by row.
+     */
+    @Test
+    void testBatchDiscountsMatchPerPackage() {
+        PackageBatch batch = new PackageBatch();
+        batch.add("PKG1", 100, 150, "OFR001");
+        batch.add("PKG2", 150, 100, "OFR002");
+        batch.add("PKG3", 100, 200, "OFR003");
+        batch.add("PKG4", 80, 120, "INVALID");
+        batch.add("PKG5", 100, 150, "OFR001");
+        int[] totals = {1000, 1000, 1000, 1000, 1500};
+        int[] discounts = new int[batch.size()];
+
+        discountService.calculateDiscounts(batch, totals, discounts);
+
+        assertArrayEquals(new int[]{100, 70, 50, 0, 150}, discounts);
+    }
+
+    /**
+     * Test case: Array batch API with interned offer ordinals.
+     * Expected: Eligible rows get their offer's discount; unknown codes and
+     *           out-of-range rows get 0.
+     */
+    @Test
+    void testArrayBatchDiscounts() {
+        int[] codes = {
+                discountService.offerOrdinal("OFR001"),
+                discountService.offerOrdinal("OFR002"),
+                discountService.offerOrdinal("OFR003"),
+                discountService.offerOrdinal("INVALID"),
+                discountService.offerOrdinal("OFR001")
+        };
+        int[] weights = {100, 150, 100, 80, 250};
+        int[] distances = {150, 100, 200, 120, 150};
+        int[] totals = {1000, 1000, 1000, 1000, 1000};
+        int[] out = new int[codes.length];
+
+        discountService.calculateDiscount(codes, weights, distances, totals, out);
+
+        assertArrayEquals(new int[]{100, 70, 50, 0, 0}, out);
+    }
+
+    /**
+     * Test case: Strategies that are not range rules are still applied
+     *            by the array batch API.
+     * Expected: Custom strategy result for its code.
+     */
+    @Test
+    void testArrayBatchUsesCustomStrategy() {
+        DiscountService service = new DiscountService(Arrays.asList(
+                new OFR001Discount(),
+                new FlatDiscount()
+        ));
+        int[] codes = {service.offerOrdinal("Flat"), service.offerOrdinal("OFR001")};
+        int[] out = new int[2];
+
+        service.calculateDiscount(codes, new int[]{5, 100}, new int[]{5, 150},
+                new int[]{1000, 1000}, out);
+
+        assertArrayEquals(new int[]{42, 100}, out);
+    }
+
+    /**
+     * Test case: PackageBatch discounts with a custom strategy, written into
+     *            an output array longer than the batch.
+     * Expected: Custom and range results per row; entries past the batch untouched.
+     */
+    @Test
+    void testBatchDiscountsWriteInPlace() {
+        DiscountService service = new DiscountService(Arrays.asList(
+                new OFR001Discount(),
+                new FlatDiscount()
+        ));
+        PackageBatch batch = new PackageBatch();
+        batch.add("PKG1", 5, 5, "Flat");
+        batch.add("PKG2", 100, 150, "OFR001");
+        batch.add("PKG3", 100, 150, "INVALID");
+        int[] discounts = {-1, -1, -1, -1};
+
+        service.calculateDiscounts(batch, new int[]{1000, 1000, 1000}, discounts);
+
+        assertArrayEquals(new int[]{42, 100, 0, -1}, discounts);
+    }
+
+    // Custom strategy without ranges, registered as offer code "Flat"
+    private static class FlatDiscount implements DiscountStrategy {
+        @Override
+        public int calculate(int weight, int distance, int totalCost) {
+            return 42;
+        }
+    }
+
+    /**
+     * Test case: Offers loaded from an offer file.
+     * Expected: File offers override strategy beans with the same code and add
+     *           new codes; codes not in the file still use the beans.
+     */
+    @Test
+    void testOfferFileOverridesStrategies() throws Exception {
+        Path file = Files.createTempFile("offers", ".txt");
+        Files.write(file, List.of("OFR001 0 100 0 100 20", "OFR004 0 500 0 50 15"));
+
+        try (DiscountService service = new DiscountService(
+                Arrays.asList(new OFR001Discount(), new OFR002Discount(), new NoDiscount()),
+                file.toString())) {
+            assertEquals(200, service.calculateDiscount(new Package("PKG1", 50, 50, "OFR001"), 1000));
+            assertEquals(150, service.calculateDiscount("OFR004", 10, 10, 1000));
+            assertEquals(70, service.calculateDiscount(new Package("PKG2", 150, 100, "OFR002"), 1000));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
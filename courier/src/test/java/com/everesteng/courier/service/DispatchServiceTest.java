@@ -0,0 +1,193 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for DispatchService (mixed-fleet dispatch simulation).
+ *
+ * - Verifies trips, departures and delivery times for vehicles with
+ *   different speeds, capacities and shifts.
+ * - Checks that vehicles are updated in place and retire at the end of
+ *   their shift or when nothing left fits them.
+ * - Covers the event heap ordering used by the simulator.
+ */
+
+package com.everesteng.courier.service;
+
+import com.everesteng.courier.builder.VehicleBuilder;
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.DispatchResult;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Vehicle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchServiceTest {
+
+    private DispatchService dispatchService;
+
+    @BeforeEach
+    void setUp() {
+        dispatchService = new DispatchService();
+    }
+
+    // Builds a vehicle of a mixed fleet
+    private static Vehicle vehicle(int id, String vehicleClass, int speed, int capacity,
+                                   float shiftStart, float shiftEnd) {
+        return new VehicleBuilder()
+                .setVehicleId(id)
+                .setVehicleClass(vehicleClass)
+                .setSpeed(speed)
+                .setCapacity(capacity)
+                .setShift(shiftStart, shiftEnd)
+                .build();
+    }
+
+    /**
+     * ✅ A bike (fast, small) and a van (slow, large, starts at 2h).
+     * Expectation:
+     * - The bike takes the light packages on two trips, the van the heavy one.
+     * - Delivery time = departure + distance / own speed.
+     * - Vehicles end at their final return time.
+     */
+    @Test
+    void testDispatchHeterogeneousFleet() throws CourierServiceException {
+        Package p1 = new Package("PKG1", 80, 50, "NA");
+        Package p2 = new Package("PKG2", 15, 25, "NA");
+        Package p3 = new Package("PKG3", 10, 100, "NA");
+        Vehicle bike = vehicle(1, "bike", 50, 20, 0, 10);
+        Vehicle van = vehicle(2, "van", 25, 100, 2, 10);
+
+        DispatchResult result = dispatchService.dispatch(List.of(p1, p2, p3), List.of(bike, van));
+
+        assertEquals(3, result.getShipmentCount());
+        assertEquals(List.of(p2), result.getShipment(0).getPackages());
+        assertEquals(List.of(p3), result.getShipment(1).getPackages());
+        assertEquals(List.of(p1), result.getShipment(2).getPackages());
+        assertEquals(1, result.getShipment(1).getVehicle());
+        assertEquals(2, result.getShipment(2).getVehicle());
+
+        assertEquals(0.0f, result.getDeparture(0));
+        assertEquals(1.0f, result.getDeparture(1));
+        assertEquals(2.0f, result.getDeparture(2));
+
+        assertEquals(0.5f, p2.getDeliveryTime(), 0.001);
+        assertEquals(3.0f, p3.getDeliveryTime(), 0.001);
+        assertEquals(4.0f, p1.getDeliveryTime(), 0.001);
+
+        assertEquals(5.0f, bike.getAvailability(), 0.001);
+        assertEquals(6.0f, van.getAvailability(), 0.001);
+        assertEquals(6.0f, result.getCompletionTime(), 0.001);
+        assertTrue(result.getUnassigned().isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> result.getShipments().clear());
+    }
+
+    /**
+     * ✅ No trip may exceed the capacity of the vehicle that runs it.
+     */
+    @Test
+    void testDispatchRespectsCapacity() throws CourierServiceException {
+        List<Package> packages = List.of(
+                new Package("PKG1", 40, 10, "NA"),
+                new Package("PKG2", 35, 20, "NA"),
+                new Package("PKG3", 30, 30, "NA"),
+                new Package("PKG4", 25, 40, "NA"),
+                new Package("PKG5", 5, 50, "NA")
+        );
+        List<Vehicle> fleet = List.of(vehicle(1, "bike", 60, 30, 0, 24), vehicle(2, "van", 40, 70, 0, 24));
+
+        DispatchResult result = dispatchService.dispatch(packages, fleet);
+
+        int delivered = 0;
+        for (int trip = 0; trip < result.getShipmentCount(); trip++) {
+            int vehicleId = result.getShipment(trip).getVehicle();
+            int capacity = fleet.get(vehicleId - 1).getCapacity();
+            assertTrue(result.getShipment(trip).getTotalWeight() <= capacity);
+            delivered += result.getShipment(trip).getPackages().size();
+        }
+        assertEquals(packages.size(), delivered);
+    }
+
+    /**
+     * ✅ A vehicle does not depart before its shift starts.
+     */
+    @Test
+    void testDispatchWaitsForShiftStart() throws CourierServiceException {
+        Package pkg = new Package("PKG1", 10, 20, "NA");
+
+        DispatchResult result = dispatchService.dispatch(List.of(pkg), List.of(vehicle(1, "van", 10, 50, 3, 8)));
+
+        assertEquals(3.0f, result.getDeparture(0));
+        assertEquals(5.0f, pkg.getDeliveryTime(), 0.001);
+    }
+
+    /**
+     * ❌ Once the shift has ended the vehicle retires; the rest stays unassigned.
+     * (The last trip departs within the shift and may return after it.)
+     */
+    @Test
+    void testDispatchStopsAtShiftEnd() throws CourierServiceException {
+        Package first = new Package("PKG1", 10, 10, "NA");
+        Package second = new Package("PKG2", 10, 10, "NA");
+        Vehicle van = vehicle(1, "van", 10, 10, 0, 1);
+
+        DispatchResult result = dispatchService.dispatch(List.of(first, second), List.of(van));
+
+        assertEquals(1, result.getShipmentCount());
+        assertEquals(List.of(second), result.getUnassigned());
+        assertEquals(2.0f, van.getAvailability(), 0.001);
+    }
+
+    /**
+     * ❌ A package heavier than every vehicle is reported as unassigned.
+     */
+    @Test
+    void testDispatchReportsTooHeavyPackages() throws CourierServiceException {
+        Package light = new Package("PKG1", 10, 10, "NA");
+        Package heavy = new Package("PKG2", 500, 10, "NA");
+
+        DispatchResult result = dispatchService.dispatch(List.of(light, heavy),
+                List.of(vehicle(1, "bike", 10, 20, 0, 24), vehicle(2, "van", 10, 100, 0, 24)));
+
+        assertEquals(1, result.getShipmentCount());
+        assertEquals(List.of(heavy), result.getUnassigned());
+    }
+
+    /**
+     * ❌ Invalid input: empty packages, empty fleet, or a vehicle without speed/capacity.
+     */
+    @Test
+    void testDispatchInvalidInput() {
+        List<Package> packages = List.of(new Package("PKG1", 10, 10, "NA"));
+
+        assertThrows(CourierServiceException.class,
+                () -> dispatchService.dispatch(List.of(), List.of(vehicle(1, "van", 10, 10, 0, 1))));
+        assertThrows(CourierServiceException.class,
+                () -> dispatchService.dispatch(packages, List.of()));
+        assertThrows(CourierServiceException.class,
+                () -> dispatchService.dispatch(packages, List.of(new Vehicle(1, 0))));
+    }
+
+    /**
+     * ✅ Event heap: earliest time first, ties by lower index, re-keyed in place.
+     */
+    @Test
+    void testVehicleEventHeapOrder() {
+        VehicleEventHeap events = new VehicleEventHeap(4);
+        events.add(2, 100);
+        events.add(0, 300);
+        events.add(1, 100);
+        events.add(3, 50);
+
+        events.update(3, 500);    // moved later
+        events.update(0, 25);     // moved earlier
+
+        assertEquals(0, events.poll());
+        assertEquals(1, events.poll());
+        assertEquals(2, events.poll());
+        assertEquals(3, events.poll());
+        assertTrue(events.isEmpty());
+        assertThrows(IllegalStateException.class, () -> events.update(3, 100));
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for PlannerSession (incremental re-planning).
+ *
+ * - The initial plan matches the delivery times of processDeliveries.
+ * - Added, cancelled and updated packages only change the affected trips
+ *   and the later trips of the same vehicle.
+ * - Departed trips are frozen once the session clock has passed them.
+ * - A durable session is recovered from its snapshot and journal with the
+ *   same plan, and keeps making the same decisions afterwards.
+ *
+ * Uses the sample from the problem statement: 2 vehicles, speed 70, max 200 kg.
+ * Initial trips: v1 [PKG4, PKG2] at 0 then [PKG1] at 3.56,
+ *                v2 [PKG3] at 0 then [PKG5] at 2.84.
+ */
+
+package com.everesteng.courier.service;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.journal.PlanStore;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.strategy.NoDiscount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlannerSessionTest {
+
+    private List<Package> packages;
+    private PlannerSession session;
+
+    @BeforeEach
+    void setUp() throws CourierServiceException {
+        packages = List.of(
+                new Package("PKG1", 50, 30, "OFR001"),
+                new Package("PKG2", 75, 125, "OFFR0008"),
+                new Package("PKG3", 175, 100, "OFFR003"),
+                new Package("PKG4", 110, 60, "OFR002"),
+                new Package("PKG5", 155, 95, "NA")
+        );
+        session = new PlannerSession(new ShipmentService(), packages, 200, 70, 2);
+    }
+
+    private float timeOf(int index) {
+        return packages.get(index).getDeliveryTime();
+    }
+
+    /**
+     * ✅ The initial plan gives the same delivery times as the full planner.
+     */
+    @Test
+    void testInitialPlanMatchesProcessDeliveries() {
+        assertEquals(3.98f, timeOf(0), 0.001);
+        assertEquals(1.78f, timeOf(1), 0.001);
+        assertEquals(1.42f, timeOf(2), 0.001);
+        assertEquals(0.85f, timeOf(3), 0.001);
+        assertEquals(4.19f, timeOf(4), 0.001);
+        assertEquals(4, session.getShipments().size());
+        assertEquals(5, session.size());
+    }
+
+    /**
+     * ✅ A new package joins the pending trip with the least spare capacity
+     * that fits it; nothing else moves when the trip's distance is unchanged.
+     */
+    @Test
+    void testAddJoinsBestFittingTrip() throws CourierServiceException {
+        Package pkg = new Package("PKG6", 20, 50, "NA");
+        List<Shipment> before = session.getShipments();
+        assertSame(before, session.getShipments());   // unchanged plan, same snapshot
+
+        session.add(pkg);
+
+        assertNotSame(before, session.getShipments());
+        assertEquals(4, session.getShipments().size());
+        assertEquals(195, session.getShipmentOf("PKG6").getTotalWeight()); // joined [PKG3]
+        assertEquals(0.71f, pkg.getDeliveryTime(), 0.001);
+        assertEquals(4.19f, timeOf(4), 0.001);
+    }
+
+    /**
+     * ✅ A longer trip delays the later trips of the same vehicle only.
+     */
+    @Test
+    void testAddRetimesLaterTripsOfSameVehicle() throws CourierServiceException {
+        session.add(new Package("PKG6", 20, 140, "NA"));
+
+        assertEquals(5.35f, timeOf(4), 0.001);   // PKG5 now departs at 4.00
+        assertEquals(3.98f, timeOf(0), 0.001);   // other vehicle unchanged
+    }
+
+    /**
+     * ✅ A package that fits no pending trip starts a new trip on the vehicle free first.
+     */
+    @Test
+    void testAddStartsNewTrip() throws CourierServiceException {
+        Package pkg = new Package("PKG6", 190, 70, "NA");
+
+        session.add(pkg);
+
+        assertEquals(5, session.getShipments().size());
+        assertEquals(4.40f, session.getDeparture("PKG6"), 0.001);
+        assertEquals(5.40f, pkg.getDeliveryTime(), 0.001);
+    }
+
+    /**
+     * ✅ Cancelling shortens the trip; an emptied trip is dropped.
+     */
+    @Test
+    void testCancel() throws CourierServiceException {
+        session.cancel("PKG2");
+        assertEquals(2.12f, timeOf(0), 0.001);   // PKG1 departs at 1.70 instead of 3.56
+        assertEquals(0.85f, timeOf(3), 0.001);
+
+        session.cancel("PKG1");
+        assertEquals(3, session.getShipments().size());
+        assertNull(session.getShipmentOf("PKG1"));
+        assertEquals(3, session.size());
+    }
+
+    /**
+     * ✅ Updating a package moves it to wherever the new version fits.
+     */
+    @Test
+    void testUpdate() throws CourierServiceException {
+        Package changed = new Package("PKG5", 155, 35, "NA");
+
+        session.update(changed);
+
+        assertEquals(4, session.getShipments().size());
+        assertEquals(2.84f, session.getDeparture("PKG5"), 0.001);
+        assertEquals(3.34f, changed.getDeliveryTime(), 0.001);
+    }
+
+    /**
+     * ❌ Departed trips are frozen and the clock cannot go back.
+     */
+    @Test
+    void testDepartedTripsAreFrozen() throws CourierServiceException {
+        session.advanceTo(1.0f);
+
+        assertThrows(CourierServiceException.class, () -> session.cancel("PKG4"));
+        assertThrows(CourierServiceException.class, () -> session.advanceTo(0.5f));
+
+        // Still pending, and new trips cannot depart in the past
+        session.cancel("PKG1");
+        session.add(new Package("PKG6", 190, 70, "NA"));
+        assertTrue(session.getDeparture("PKG6") >= 1.0f);
+    }
+
+    /**
+     * ❌ Invalid events are rejected without changing the plan.
+     */
+    @Test
+    void testInvalidEvents() {
+        assertThrows(CourierServiceException.class, () -> session.add(new Package("PKG1", 10, 10, "NA")));
+        assertThrows(CourierServiceException.class, () -> session.add(new Package("PKG6", 201, 10, "NA")));
+        assertThrows(CourierServiceException.class, () -> session.add(new Package("PKG6", 10, Integer.MAX_VALUE, "NA")));
+        assertThrows(CourierServiceException.class, () -> session.cancel("PKG9"));
+        assertThrows(CourierServiceException.class, () -> session.update(new Package("PKG9", 10, 10, "NA")));
+        assertEquals(5, session.size());
+    }
+
+    /**
+     * ✅ A durable session that stops without closing its store (a crash)
+     * is recovered with the same trips, departures and delivery times.
+     */
+    @Test
+    void testRecoverAfterCrash() throws Exception {
+        Path dir = Files.createTempDirectory("plan");
+        try {
+            CourierService courierService = new CourierService(new DiscountService(List.of(new NoDiscount())),
+                    new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+            PlannerSession durable = courierService.openSession(packages, 200, 70, 2, new PlanStore(dir));
+            durable.add(new Package("PKG6", 20, 140, "NA"));
+            durable.advanceTo(1.0f);
+            durable.cancel("PKG1");
+            durable.update(new Package("PKG5", 155, 35, "NA"));
+
+            try (PlanStore store = new PlanStore(dir)) {
+                PlannerSession recovered = courierService.recoverSession(store);
+
+                assertEquals(describe(durable), describe(recovered));
+                assertEquals(1.0f, recovered.getNow());
+                assertEquals(durable.getShipmentOf("PKG5").getPackages().get(0).getDeliveryTime(),
+                        recovered.getShipmentOf("PKG5").getPackages().get(0).getDeliveryTime());
+
+                // The recovered session keeps the departed trips frozen and plans like the original
+                assertThrows(CourierServiceException.class, () -> recovered.cancel("PKG4"));
+                durable.add(new Package("PKG7", 30, 80, "NA"));
+                recovered.add(new Package("PKG7", 30, 80, "NA"));
+                assertEquals(describe(durable), describe(recovered));
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    /**
+     * ✅ After a checkpoint the journal is empty and recovery reads the snapshot only.
+     */
+    @Test
+    void testRecoverFromCheckpoint() throws Exception {
+        Path dir = Files.createTempDirectory("plan");
+        try {
+            CourierService courierService = new CourierService(new DiscountService(List.of(new NoDiscount())),
+                    new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+            try (PlanStore store = new PlanStore(dir, 1, 2)) {
+                PlannerSession durable = courierService.openSession(packages, 200, 70, 2, store);
+                durable.add(new Package("PKG6", 20, 50, "NA"));
+                durable.add(new Package("PKG7", 190, 70, "NA"));    // second event → automatic snapshot
+                assertEquals(0, Files.size(dir.resolve("plan.journal")));
+                durable.cancel("PKG2");
+
+                try (PlanStore reopened = new PlanStore(dir)) {
+                    assertEquals(describe(durable), describe(courierService.recoverSession(reopened)));
+                }
+            }
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    /**
+     * ❌ Recovery needs a snapshot, and a session without a store cannot checkpoint.
+     */
+    @Test
+    void testRecoverWithoutSnapshot() throws IOException {
+        Path dir = Files.createTempDirectory("plan");
+        try {
+            CourierService courierService = new CourierService(new DiscountService(List.of(new NoDiscount())),
+                    new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+
+            assertThrows(CourierServiceException.class, () -> courierService.recoverSession(new PlanStore(dir)));
+            assertThrows(CourierServiceException.class, () -> session.checkpoint());
+        } finally {
+            deleteRecursively(dir);
+        }
+    }
+
+    // Trips as "vehicle@[id=deliveryTime, ...]", for comparing whole plans
+    private static List<String> describe(PlannerSession session) {
+        return session.getShipments().stream()
+                .map(shipment -> shipment.getVehicle() + "@" + shipment.getPackages().stream()
+                        .map(pkg -> pkg.getId() + "=" + pkg.getDeliveryTimeHundredths())
+                        .sorted()
+                        .toList())
+                .toList();
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
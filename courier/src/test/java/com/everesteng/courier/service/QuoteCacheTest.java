@@ -0,0 +1,150 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for QuoteCache and the cached quote path of CourierService.
+ *
+ * - Stored quotes are hits only for the same key and offer catalogue version,
+ *   and a store from an older version never overwrites a newer quote.
+ * - The cache stays within its capacity and reports evictions.
+ * - Reloading the offer file invalidates cached quotes, and hits and misses
+ *   are counted in CourierMetrics.
+ */
+
+package com.everesteng.courier.service;
+
+import com.everesteng.courier.metrics.CourierMetrics;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.strategy.NoDiscount;
+import com.everesteng.courier.strategy.OFR001Discount;
+import com.everesteng.courier.strategy.OFR002Discount;
+import com.everesteng.courier.strategy.OFR003Discount;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuoteCacheTest {
+
+    /**
+     * ✅ A stored quote is returned for the same key and version only.
+     */
+    @Test
+    void testHitRequiresSameKeyAndVersion() {
+        QuoteCache cache = new QuoteCache(1024);
+        assertEquals(QuoteCache.MISS, cache.get(100, 50, 30, 1, 1));
+
+        cache.put(100, 50, 30, 1, 1, 35);
+
+        assertEquals(35, cache.get(100, 50, 30, 1, 1));
+        assertEquals(QuoteCache.MISS, cache.get(100, 30, 50, 1, 1));   // weight and distance swapped
+        assertEquals(QuoteCache.MISS, cache.get(-100, 50, 30, 1, 1));  // other base cost
+        assertEquals(QuoteCache.MISS, cache.get(100, 50, 30, 2, 1));   // other offer
+        assertEquals(QuoteCache.MISS, cache.get(100, 50, 30, 1, 2));   // newer offers
+    }
+
+    /**
+     * ✅ Storing a key again replaces its discount without evicting anything.
+     */
+    @Test
+    void testPutReplacesSameKey() {
+        QuoteCache cache = new QuoteCache(64);
+        assertFalse(cache.put(100, 50, 30, 1, 1, 35));
+        assertFalse(cache.put(100, 50, 30, 1, 1, 40));
+        assertEquals(40, cache.get(100, 50, 30, 1, 1));
+    }
+
+    /**
+     * ✅ A quote of a newer version replaces the older one; a late store of
+     * the older version is dropped instead of overwriting it.
+     */
+    @Test
+    void testOlderGenerationNeverOverwritesNewer() {
+        QuoteCache cache = new QuoteCache(64);
+        assertFalse(cache.put(100, 50, 30, 1, 1, 35));
+        assertFalse(cache.put(100, 50, 30, 1, 2, 40));
+        assertEquals(QuoteCache.MISS, cache.get(100, 50, 30, 1, 1));
+
+        assertFalse(cache.put(100, 50, 30, 1, 1, 35));
+        assertEquals(40, cache.get(100, 50, 30, 1, 2));
+        assertEquals(QuoteCache.MISS, cache.get(100, 50, 30, 1, 1));
+    }
+
+    /**
+     * ✅ The cache never holds more quotes than its capacity.
+     */
+    @Test
+    void testCapacityIsBounded() {
+        QuoteCache cache = new QuoteCache(100);
+        int capacity = cache.getCapacity();
+        assertTrue(capacity >= 100);
+
+        int evictions = 0;
+        for (int weight = 0; weight < 10 * capacity; weight++) {
+            if (cache.put(100, weight, 10, 0, 1, weight)) {
+                evictions++;
+            }
+        }
+
+        int hits = 0;
+        for (int weight = 0; weight < 10 * capacity; weight++) {
+            int discount = cache.get(100, weight, 10, 0, 1);
+            if (discount != QuoteCache.MISS) {
+                assertEquals(weight, discount);
+                hits++;
+            }
+        }
+        assertTrue(hits <= capacity);
+        assertEquals(10 * capacity - hits, evictions);
+    }
+
+    /**
+     * ✅ A cache of size 0 is disabled.
+     */
+    @Test
+    void testDisabledCache() {
+        QuoteCache cache = QuoteCache.disabled();
+        assertFalse(cache.isEnabled());
+        assertEquals(0, cache.getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new QuoteCache(-1));
+    }
+
+    /**
+     * ✅ Repeated quotes are served from the cache until the offers are reloaded.
+     */
+    @Test
+    void testReloadInvalidatesQuotes() throws Exception {
+        Path file = Files.createTempFile("offers", ".txt");
+        Files.write(file, List.of("OFR001 0 100 0 100 20"));
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        try (DiscountService discountService = new DiscountService(List.of(new OFR001Discount(),
+                new OFR002Discount(), new OFR003Discount(), new NoDiscount()), file.toString())) {
+            CourierService courierService = new CourierService(discountService, new ShipmentService(),
+                    new DeliveryTimeService(), new VehicleService(), new CourierMetrics(registry),
+                    new QuoteCache(1024));
+            Package pkg = new Package("PKG1", 50, 50, "OFR001");
+
+            // 100 + 50 * 10 + 50 * 5 = 850, 20% off
+            assertEquals(680, courierService.calculateFinalCost(pkg, 100));
+            assertEquals(680, courierService.calculateFinalCost("OFR001", 50, 50, 100));
+            assertEquals(1, quotes(registry, "hit"));
+            assertEquals(1, quotes(registry, "miss"));
+
+            // 10% off after the reload; the cached 20% quote must not be used
+            Files.write(file, List.of("OFR001 0 100 0 100 10"));
+            discountService.getCatalogue().reload();
+            assertEquals(765, courierService.calculateFinalCost(pkg, 100));
+            assertEquals(2, quotes(registry, "miss"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static double quotes(MeterRegistry registry, String result) {
+        return registry.get("courier.quote.cache").tag("result", result).counter().count();
+    }
+}
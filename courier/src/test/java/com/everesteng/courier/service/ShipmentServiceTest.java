@@ -13,9 +13,12 @@ package com.everesteng.courier.service;
 import com.everesteng.courier.exception.CourierServiceException;
 import com.everesteng.courier.model.Package;
 import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.packing.PackingMode;
+import com.everesteng.courier.packing.PackingResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -91,4 +94,134 @@ class ShipmentServiceTest {
         assertThrows(CourierServiceException.class,
                 () -> shipmentService.createShipments(packages, -50));
     }
-}
\ No newline at end of file
+
+    /**
+     * ✅ Test case: Sample input from the problem statement.
+     * Expectation:
+     * - Heaviest-first packing groups PKG4 + PKG2, then PKG3, PKG5 and PKG1 alone.
+     * - Shipments are ordered by total weight (heaviest first).
+     */
+    @Test
+    void testCreateShipmentsMatchesSampleGrouping() throws CourierServiceException {
+        List<Package> sample = List.of(
+                new Package("PKG1", 50, 30, "OFR001"),
+                new Package("PKG2", 75, 125, "OFFR0008"),
+                new Package("PKG3", 175, 100, "OFFR003"),
+                new Package("PKG4", 110, 60, "OFR002"),
+                new Package("PKG5", 155, 95, "NA")
+        );
+
+        List<Shipment> shipments = shipmentService.createShipments(sample, 200);
+
+        assertEquals(4, shipments.size());
+        assertEquals(List.of("PKG4", "PKG2"), ids(shipments.get(0)));
+        assertEquals(List.of("PKG3"), ids(shipments.get(1)));
+        assertEquals(List.of("PKG5"), ids(shipments.get(2)));
+        assertEquals(List.of("PKG1"), ids(shipments.get(3)));
+        assertEquals(185, shipments.get(0).getTotalWeight());
+    }
+
+    /**
+     * ✅ Test case: Packages with equal weights.
+     * Expectation:
+     * - Every package is assigned exactly once, even when weights repeat.
+     * - Equal weights are taken in input order.
+     */
+    @Test
+    void testCreateShipmentsWithRepeatedWeights() throws CourierServiceException {
+        List<Package> repeated = List.of(
+                new Package("PKG1", 60, 10, "NA"),
+                new Package("PKG2", 60, 20, "NA"),
+                new Package("PKG3", 60, 30, "NA"),
+                new Package("PKG4", 30, 40, "NA")
+        );
+
+        List<Shipment> shipments = shipmentService.createShipments(repeated, 130);
+
+        assertEquals(2, shipments.size());
+        assertEquals(List.of("PKG1", "PKG2"), ids(shipments.get(0)));
+        assertEquals(List.of("PKG3", "PKG4"), ids(shipments.get(1)));
+        assertEquals(4, shipments.stream().mapToInt(s -> s.getPackages().size()).sum());
+    }
+
+    /**
+     * ✅ Test case: Optimal packing mode selected explicitly.
+     * Expectation:
+     * - The first trip carries three packages where greedy would carry two.
+     */
+    @Test
+    void testCreateShipmentsWithOptimalMode() throws CourierServiceException {
+        List<Package> mixed = List.of(
+                new Package("PKG1", 60, 10, "NA"),
+                new Package("PKG2", 35, 20, "NA"),
+                new Package("PKG3", 35, 30, "NA"),
+                new Package("PKG4", 30, 40, "NA")
+        );
+
+        List<Shipment> greedy = shipmentService.createShipments(mixed, 100, PackingMode.GREEDY);
+        List<Shipment> optimal = shipmentService.createShipments(mixed, 100, PackingMode.OPTIMAL);
+
+        assertEquals(2, greedy.get(0).getPackages().size());
+        assertEquals(3, optimal.get(0).getPackages().size());
+    }
+
+    /**
+     * ✅ Test case: Optimal mode with a package over the weight limit.
+     * Expectation:
+     * - Validation is shared by all modes, so CourierServiceException is thrown.
+     */
+    @Test
+    void testOptimalModeRejectsOverweightPackage() {
+        List<Package> tooHeavy = List.of(
+                new Package("PKG9", 500, 20, "NA")
+        );
+
+        assertThrows(CourierServiceException.class,
+                () -> shipmentService.createShipments(tooHeavy, 100, PackingMode.OPTIMAL));
+    }
+
+    /**
+     * ✅ Test case: Branch-and-bound mode, by mode and with an explicit budget.
+     * Expectation:
+     * - Same trips as the optimal mode, proven optimal (gap 0).
+     */
+    @Test
+    void testCreateShipmentsWithBranchAndBound() throws CourierServiceException {
+        List<Package> mixed = List.of(
+                new Package("PKG1", 60, 10, "NA"),
+                new Package("PKG2", 35, 20, "NA"),
+                new Package("PKG3", 35, 30, "NA"),
+                new Package("PKG4", 30, 40, "NA")
+        );
+
+        List<Shipment> byMode = shipmentService.createShipments(mixed, 100, PackingMode.BRANCH_AND_BOUND);
+        PackingResult budgeted = shipmentService.createShipments(mixed, 100, Duration.ofMillis(100), 1_000);
+
+        assertEquals(List.of("PKG2", "PKG3", "PKG4"), ids(byMode.get(0)));
+        assertEquals(List.of("PKG1"), ids(byMode.get(1)));
+        assertEquals(byMode.stream().map(ShipmentServiceTest::ids).toList(),
+                budgeted.shipments().stream().map(ShipmentServiceTest::ids).toList());
+        assertTrue(budgeted.isOptimal());
+        assertEquals(0.0, budgeted.gap());
+    }
+
+    /**
+     * ❌ Test case: Budgeted packing with an invalid budget or an overweight package.
+     * Expectation:
+     * - CourierServiceException is thrown.
+     */
+    @Test
+    void testBranchAndBoundRejectsInvalidInput() {
+        assertThrows(CourierServiceException.class,
+                () -> shipmentService.createShipments(packages, 200, Duration.ZERO, 1_000));
+        assertThrows(CourierServiceException.class,
+                () -> shipmentService.createShipments(packages, 200, Duration.ofSeconds(1), 0));
+        assertThrows(CourierServiceException.class,
+                () -> shipmentService.createShipments(packages, 100, Duration.ofSeconds(1), 1_000));
+    }
+
+    // Helper: package IDs of a shipment, in packing order
+    private static List<String> ids(Shipment shipment) {
+        return shipment.getPackages().stream().map(Package::getId).toList();
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for VehiclePool and the shared-fleet path of VehicleService.
+ *
+ * - Without contention claims come out in availability order, and a pool
+ *   plans the sample input like a private fleet.
+ * - Claims and releases are validated.
+ * - Under many threads no vehicle is handed out twice and no trip is lost.
+ * - awaitClaim() blocks while every vehicle is claimed and wakes on release.
+ */
+
+package com.everesteng.courier.service;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VehiclePoolTest {
+
+    /**
+     * ✅ Claims return the earliest vehicle across stripes; ties go to the lower ID.
+     */
+    @Test
+    void testClaimsEarliestVehicle() {
+        VehiclePool pool = new VehiclePool(4, 3);
+        assertEquals(3, pool.getStripeCount());
+
+        long first = pool.claim();
+        assertEquals(1, VehiclePool.vehicleId(first));
+        assertEquals(0, VehiclePool.availability(first));
+        assertEquals(2, VehiclePool.vehicleId(pool.claim()));
+        assertEquals(3, VehiclePool.vehicleId(pool.claim()));
+        assertEquals(4, VehiclePool.vehicleId(pool.claim()));
+        assertEquals(VehiclePool.NONE, pool.claim());
+
+        pool.release(3, 500);
+        pool.release(1, 200);
+        pool.release(4, 200);
+        pool.release(2, 100);
+
+        assertEquals(2, VehiclePool.vehicleId(pool.claim()));
+        long next = pool.claim();
+        assertEquals(1, VehiclePool.vehicleId(next));
+        assertEquals(200, VehiclePool.availability(next));
+        assertEquals(4, VehiclePool.vehicleId(pool.claim()));
+        assertEquals(500, VehiclePool.availability(pool.claim()));
+    }
+
+    /**
+     * ✅ Planning the sample input on a pool gives the same times as a private fleet.
+     */
+    @Test
+    void testPoolMatchesPrivateFleet() throws CourierServiceException {
+        ShipmentService shipmentService = new ShipmentService();
+        DeliveryTimeService deliveryTimeService = new DeliveryTimeService();
+        VehicleService vehicleService = new VehicleService();
+
+        List<Package> privateFleet = samplePackages();
+        List<Shipment> expected = shipmentService.createShipments(privateFleet, 200);
+        deliveryTimeService.calculatePackageTimes(expected, 70);
+        deliveryTimeService.calculateShipmentTimes(expected, 70);
+        vehicleService.assignVehicles(expected, 2);
+
+        List<Package> shared = samplePackages();
+        List<Shipment> actual = shipmentService.createShipments(shared, 200);
+        deliveryTimeService.calculatePackageTimes(actual, 70);
+        deliveryTimeService.calculateShipmentTimes(actual, 70);
+        List<Integer> order = new ArrayList<>();
+        vehicleService.assignVehicles(actual, new VehiclePool(2), (index, shipment) -> order.add(index));
+
+        for (int i = 0; i < privateFleet.size(); i++) {
+            assertEquals(privateFleet.get(i).getDeliveryTimeHundredths(), shared.get(i).getDeliveryTimeHundredths());
+        }
+        assertEquals(3.98f, shared.get(0).getDeliveryTime());
+        assertEquals(List.of(0, 1, 2, 3), order);
+    }
+
+    /**
+     * ❌ Invalid fleets, unknown vehicles and releases without a claim are rejected.
+     */
+    @Test
+    void testInvalidUseRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new VehiclePool(0));
+        assertThrows(IllegalArgumentException.class, () -> new VehiclePool(4, 0));
+        assertEquals(2, new VehiclePool(2, 8).getStripeCount());
+
+        VehiclePool pool = new VehiclePool(2);
+        assertThrows(IllegalStateException.class, () -> pool.release(1, 10));
+        assertThrows(IllegalArgumentException.class, () -> pool.release(3, 10));
+
+        int vehicle = VehiclePool.vehicleId(pool.claim());
+        assertThrows(IllegalArgumentException.class, () -> pool.release(vehicle, -1));
+        pool.release(vehicle, 10);
+        assertThrows(IllegalStateException.class, () -> pool.release(vehicle, 10));
+
+        assertThrows(CourierServiceException.class,
+                () -> new VehicleService().assignVehicles(List.of(), null, null));
+    }
+
+    /**
+     * ✅ Many threads claiming and releasing never share a vehicle or lose a trip.
+     * Expectation: every trip adds 1 to some vehicle, so availabilities sum to the trip count.
+     */
+    @Test
+    void testConcurrentClaimsAreExclusive() throws Exception {
+        int vehicles = 16;
+        int threads = 8;
+        int tripsPerThread = 20_000;
+        VehiclePool pool = new VehiclePool(vehicles, 4);
+        AtomicIntegerArray holder = new AtomicIntegerArray(vehicles + 1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 1; t <= threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int trip = 0; trip < tripsPerThread; trip++) {
+                        long claim;
+                        while ((claim = pool.claim()) == VehiclePool.NONE) {
+                            Thread.onSpinWait();
+                        }
+                        int vehicle = VehiclePool.vehicleId(claim);
+                        assertTrue(holder.compareAndSet(vehicle, 0, thread), "vehicle " + vehicle + " claimed twice");
+                        holder.set(vehicle, 0);
+                        pool.release(vehicle, VehiclePool.availability(claim) + 1);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long total = 0;
+        boolean[] seen = new boolean[vehicles + 1];
+        for (int i = 0; i < vehicles; i++) {
+            long claim = pool.claim();
+            assertNotEquals(VehiclePool.NONE, claim);
+            assertFalse(seen[VehiclePool.vehicleId(claim)]);
+            seen[VehiclePool.vehicleId(claim)] = true;
+            total += VehiclePool.availability(claim);
+        }
+        assertEquals(VehiclePool.NONE, pool.claim());
+        assertEquals((long) threads * tripsPerThread, total);
+    }
+
+    /**
+     * ✅ awaitClaim() waits while the only vehicle is claimed and returns it once released.
+     */
+    @Test
+    void testAwaitClaimWaitsForRelease() throws Exception {
+        VehiclePool pool = new VehiclePool(1, 1);
+        long held = pool.claim();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> waiting = executor.submit(pool::awaitClaim);
+            assertThrows(TimeoutException.class, () -> waiting.get(100, TimeUnit.MILLISECONDS));
+
+            pool.release(VehiclePool.vehicleId(held), 250);
+            long claim = waiting.get(5, TimeUnit.SECONDS);
+            assertEquals(1, VehiclePool.vehicleId(claim));
+            assertEquals(250, VehiclePool.availability(claim));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * ✅ More planner threads than vehicles: awaitClaim() blocks and wakes without losing trips.
+     * Expectation: availabilities sum to the trip count, no vehicle is claimed twice.
+     */
+    @Test
+    void testAwaitClaimUnderContention() throws Exception {
+        int vehicles = 2;
+        int threads = 8;
+        int tripsPerThread = 2_000;
+        VehiclePool pool = new VehiclePool(vehicles, 2);
+        AtomicIntegerArray holder = new AtomicIntegerArray(vehicles + 1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 1; t <= threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int trip = 0; trip < tripsPerThread; trip++) {
+                        long claim = pool.awaitClaim();
+                        int vehicle = VehiclePool.vehicleId(claim);
+                        assertTrue(holder.compareAndSet(vehicle, 0, thread), "vehicle " + vehicle + " claimed twice");
+                        Thread.yield();
+                        holder.set(vehicle, 0);
+                        pool.release(vehicle, VehiclePool.availability(claim) + 1);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long total = VehiclePool.availability(pool.claim()) + VehiclePool.availability(pool.claim());
+        assertEquals(VehiclePool.NONE, pool.claim());
+        assertEquals((long) threads * tripsPerThread, total);
+    }
+
+    // Sample packages from the problem statement (2 vehicles, speed 70, max 200 kg)
+    private static List<Package> samplePackages() {
+        return List.of(
+                new Package("PKG1", 50, 30, "OFR001"),
+                new Package("PKG2", 75, 125, "OFFR0008"),
+                new Package("PKG3", 175, 100, "OFFR003"),
+                new Package("PKG4", 110, 60, "OFR002"),
+                new Package("PKG5", 155, 95, "NA")
+        );
+    }
+}
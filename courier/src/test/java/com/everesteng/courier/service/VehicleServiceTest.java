@@ -12,11 +12,14 @@
 package com.everesteng.courier.service;
 
 import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.BatchShipments;
 import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.PackageBatch;
 import com.everesteng.courier.model.Shipment;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -84,4 +87,101 @@ class VehicleServiceTest {
         // Ensure delivery times are non-negative and updated
         assertTrue(shipments.get(0).getPackages().get(0).getDeliveryTime() >= 0);
     }
-}
\ No newline at end of file
+
+    /**
+     * ✅ Test case: Batch pipeline on the sample input from the problem statement.
+     * Expectation:
+     * - Vehicles and delivery times match the object-based pipeline exactly.
+     */
+    @Test
+    void testBatchAssignmentMatchesObjectAssignment() throws CourierServiceException {
+        DeliveryTimeService deliveryTimeService = new DeliveryTimeService();
+        List<Package> sample = List.of(
+                new Package("PKG1", 50, 30, "OFR001"),
+                new Package("PKG2", 75, 125, "OFFR0008"),
+                new Package("PKG3", 175, 100, "OFFR003"),
+                new Package("PKG4", 110, 60, "OFR002"),
+                new Package("PKG5", 155, 95, "NA")
+        );
+        PackageBatch batch = PackageBatch.of(sample);
+
+        List<Shipment> shipments = shipmentService.createShipments(sample, 200);
+        deliveryTimeService.calculatePackageTimes(shipments, 70);
+        deliveryTimeService.calculateShipmentTimes(shipments, 70);
+        vehicleService.assignVehicles(shipments, 2);
+
+        BatchShipments batchShipments = shipmentService.createShipments(batch, 200);
+        deliveryTimeService.calculatePackageTimes(batch, 70);
+        deliveryTimeService.calculateShipmentTimes(batchShipments, 70);
+        vehicleService.assignVehicles(batchShipments, 2);
+
+        assertEquals(shipments.size(), batchShipments.count());
+        for (int s = 0; s < shipments.size(); s++) {
+            assertEquals(shipments.get(s).getVehicle(), batchShipments.getVehicle(s));
+            assertEquals(shipments.get(s).getTime(), batchShipments.getTime(s));
+        }
+        for (int row = 0; row < sample.size(); row++) {
+            assertEquals(sample.get(row).getDeliveryTime(), batch.getDeliveryTime(row));
+        }
+        assertEquals(3.98f, batch.getDeliveryTime(0));
+        assertEquals(4.19f, batch.getDeliveryTime(4));
+    }
+
+    /**
+     * ✅ Test case: Batch assignment with invalid vehicle count (0).
+     * Expectation:
+     * - CourierServiceException should be thrown since no vehicles are available.
+     */
+    @Test
+    void testBatchAssignVehiclesInvalidCount() throws CourierServiceException {
+        BatchShipments shipments = shipmentService.createShipments(PackageBatch.of(packages), 200);
+
+        assertThrows(CourierServiceException.class,
+                () -> vehicleService.assignVehicles(shipments, 0));
+    }
+
+    /**
+     * ✅ Test case: Availability does not drift over a long shift.
+     * Expectation:
+     * - After 1000 trips of 0.07 h, one vehicle departs at exactly 70.00 h
+     *   (summing the floats would give 69.99974).
+     */
+    @Test
+    void testAssignVehiclesDoesNotDrift() throws CourierServiceException {
+        List<Shipment> shipments = new ArrayList<>();
+        for (int i = 0; i <= 1000; i++) {
+            shipments.add(new Shipment(List.of(new Package("PKG" + i, 1, 7, "NA")), 1, 0.07f, 0));
+        }
+
+        vehicleService.assignVehicles(shipments, 1);
+
+        Package last = shipments.get(1000).getPackages().get(0);
+        assertEquals(7000, last.getDeliveryTimeHundredths());
+        assertEquals(70.0f, last.getDeliveryTime());
+    }
+
+    /**
+     * ❌ Test case: A departure plus trip time beyond the int range of hundredths.
+     * Expectation:
+     * - CourierServiceException instead of a time wrapping to a negative value,
+     *   for a private fleet and for a shared pool.
+     * - The pool gets its vehicle back at the old availability.
+     */
+    @Test
+    void testAssignVehiclesRejectsOverflowingTimes() throws CourierServiceException {
+        List<Shipment> shipments = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Shipment shipment = new Shipment(List.of(new Package("PKG" + i, 1, 7, "NA")), 1, 0f, 0);
+            shipment.setTimeHundredths(1_200_000_000);
+            shipments.add(shipment);
+        }
+
+        assertThrows(CourierServiceException.class, () -> vehicleService.assignVehicles(shipments, 1));
+
+        VehiclePool pool = new VehiclePool(1, 1);
+        pool.release(VehiclePool.vehicleId(pool.claim()), 1_200_000_000);
+        assertThrows(CourierServiceException.class,
+                () -> vehicleService.assignVehicles(List.of(shipments.get(0)), pool, null));
+        assertEquals(1_200_000_000, VehiclePool.availability(pool.claim()));
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Name: Sayantika Kandar
+ * Purpose: Unit tests for sharded planning (ShardCoordinator and ShardServer).
+ *
+ * - Runs two shards in-process on loopback ports.
+ * - Each region is planned by one shard exactly like a single-node plan of
+ *   that region, with vehicle IDs unique across shards.
+ * - Regions are balanced over the shards and the fleet is split by weight.
+ * - Shard errors reach the caller, and the coordinator keeps working afterwards.
+ */
+
+package com.everesteng.courier.shard;
+
+import com.everesteng.courier.exception.CourierServiceException;
+import com.everesteng.courier.model.Package;
+import com.everesteng.courier.model.Shipment;
+import com.everesteng.courier.packing.PackingMode;
+import com.everesteng.courier.service.CourierService;
+import com.everesteng.courier.service.DeliveryTimeService;
+import com.everesteng.courier.service.DiscountService;
+import com.everesteng.courier.service.ShipmentService;
+import com.everesteng.courier.service.VehicleService;
+import com.everesteng.courier.strategy.NoDiscount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardCoordinatorTest {
+
+    private final CourierService courierService = new CourierService(
+            new DiscountService(List.of(new NoDiscount())),
+            new ShipmentService(), new DeliveryTimeService(), new VehicleService());
+
+    private ShardServer first;
+    private ShardServer second;
+    private ShardCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        first = ShardServer.start(courierService, 0);
+        second = ShardServer.start(courierService, 0);
+        coordinator = new ShardCoordinator(List.of(first.getAddress(), second.getAddress()),
+                RegionKey.idPrefix('-'));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        coordinator.close();
+        first.close();
+        second.close();
+    }
+
+    // Sample packages from the problem statement, in one region
+    private static List<Package> sample(String region) {
+        return List.of(
+                new Package(region + "-PKG1", 50, 30, "OFR001"),
+                new Package(region + "-PKG2", 75, 125, "OFFR0008"),
+                new Package(region + "-PKG3", 175, 100, "OFFR003"),
+                new Package(region + "-PKG4", 110, 60, "OFR002"),
+                new Package(region + "-PKG5", 155, 95, "NA")
+        );
+    }
+
+    private static List<Package> regionSizes(int... sizes) {
+        List<Package> packages = new ArrayList<>();
+        for (int r = 0; r < sizes.length; r++) {
+            for (int i = 0; i < sizes[r]; i++) {
+                packages.add(new Package("R" + r + "-PKG" + i, 10, 10, "NA"));
+            }
+        }
+        return packages;
+    }
+
+    /**
+     * ✅ Two regions on two shards give the single-node sample times for each region.
+     */
+    @Test
+    void testRegionsPlannedLikeSingleNode() throws CourierServiceException {
+        List<Package> north = sample("N");
+        List<Package> south = sample("S");
+        List<Package> packages = new ArrayList<>(north);
+        packages.addAll(south);
+
+        List<Shipment> shipments = coordinator.plan(packages, 200, 70, 4, PackingMode.GREEDY);
+
+        float[] expected = {3.98f, 1.78f, 1.42f, 0.85f, 4.19f};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], north.get(i).getDeliveryTime(), 0.001);
+            assertEquals(expected[i], south.get(i).getDeliveryTime(), 0.001);
+        }
+
+        // 4 trips per region; N (first by name) uses vehicles 1-2, S uses 3-4
+        assertEquals(8, shipments.size());
+        Set<String> seen = new HashSet<>();
+        for (Shipment shipment : shipments) {
+            String region = shipment.getPackages().get(0).getId().substring(0, 1);
+            assertTrue(region.equals("N") ? shipment.getVehicle() <= 2 : shipment.getVehicle() >= 3);
+            for (Package pkg : shipment.getPackages()) {
+                assertTrue(pkg.getId().startsWith(region + "-"), "Trip mixes regions");
+                assertTrue(seen.add(pkg.getId()));
+            }
+        }
+        assertEquals(10, seen.size());
+    }
+
+    /**
+     * ✅ Whole regions are dealt largest first to the shard with the fewest packages.
+     */
+    @Test
+    void testPartitionBalancesRegions() {
+        List<List<Package>> parts = ShardCoordinator.partition(regionSizes(2, 5, 3, 2),
+                RegionKey.idPrefix('-'), 2);
+
+        // R1 (5) → part 0, R2 (3) → part 1, R0 (2) → part 1, R3 (2) → part 0 (tie)
+        assertEquals(2, parts.size());
+        assertEquals(7, parts.get(0).size());
+        assertEquals(5, parts.get(1).size());
+        assertTrue(parts.get(1).stream().noneMatch(p -> p.getId().startsWith("R1-")));
+
+        // One region cannot be split, so only one part is used
+        assertEquals(1, ShardCoordinator.partition(regionSizes(6), RegionKey.idPrefix('-'), 2).size());
+    }
+
+    /**
+     * ✅ The fleet is split by weight, with at least one vehicle per shard.
+     */
+    @Test
+    void testFleetSplitByWeight() {
+        List<List<Package>> parts = List.of(
+                List.of(new Package("A", 300, 1, "NA")),
+                List.of(new Package("B", 100, 1, "NA")));
+
+        assertArrayEquals(new int[]{7, 3}, ShardCoordinator.splitFleet(parts, 10));
+        assertArrayEquals(new int[]{1, 1}, ShardCoordinator.splitFleet(parts, 2));
+        assertArrayEquals(new int[]{2, 1}, ShardCoordinator.splitFleet(parts, 3));
+    }
+
+    /**
+     * ✅ With a single vehicle all regions go to one shard.
+     */
+    @Test
+    void testSingleVehicleUsesOneShard() throws CourierServiceException {
+        List<Package> packages = new ArrayList<>(sample("N"));
+        packages.addAll(sample("S"));
+
+        List<Shipment> shipments = coordinator.plan(packages, 200, 70, 1, PackingMode.GREEDY);
+
+        assertTrue(shipments.stream().allMatch(s -> s.getVehicle() == 1));
+    }
+
+    /**
+     * ❌ A shard error reaches the caller; the next plan still works.
+     */
+    @Test
+    void testShardErrorIsReported() throws CourierServiceException {
+        List<Package> packages = List.of(new Package("N-HEAVY", 500, 10, "NA"));
+
+        CourierServiceException e = assertThrows(CourierServiceException.class,
+                () -> coordinator.plan(packages, 200, 70, 2, PackingMode.GREEDY));
+        assertTrue(e.getMessage().startsWith("Shard "));
+
+        assertEquals(4, coordinator.plan(sample("N"), 200, 70, 2, PackingMode.GREEDY).size());
+    }
+
+    /**
+     * ❌ An unreachable shard fails the plan.
+     */
+    @Test
+    void testUnreachableShard() throws IOException {
+        InetSocketAddress address = first.getAddress();
+        first.close();
+        try (ShardCoordinator lonely = new ShardCoordinator(List.of(address), RegionKey.idPrefix('-'))) {
+            assertThrows(CourierServiceException.class,
+                    () -> lonely.plan(sample("N"), 200, 70, 2, PackingMode.GREEDY));
+        }
+    }
+
+    /**
+     * ❌ Invalid fleets are rejected before contacting the shards.
+     */
+    @Test
+    void testInvalidFleet() {
+        assertThrows(CourierServiceException.class,
+                () -> coordinator.plan(sample("N"), 200, 70, 0, PackingMode.GREEDY));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ShardCoordinator(List.of(), RegionKey.idPrefix('-')));
+    }
+}